@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main entry point for the Comment Service application.
@@ -20,6 +21,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  * <ul>
  *     <li>Enables caching for efficient data retrieval and performance optimization.</li>
  *     <li>Allows the use of Feign clients to interact with external services.</li>
+ *     <li>Enables scheduling for the relay that publishes the transactional outbox to Kafka.</li>
  *     <li>Bootstraps the Spring Boot application by calling {@link SpringApplication#run}.</li>
  * </ul>
  *
@@ -29,6 +31,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableCaching
 @EnableFeignClients
+@EnableScheduling
 public class CommentServiceApplication {
 
 	/**
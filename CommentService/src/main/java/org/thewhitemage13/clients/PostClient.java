@@ -3,7 +3,9 @@ package org.thewhitemage13.clients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
 
 /**
  * Feign client for interacting with the Post Service API.
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestParam;
  * <ul>
  *     <li>Defines the base path and service name for connecting to the Post Service.</li>
  *     <li>Includes a method for verifying posts by their unique identifier.</li>
+ *     <li>Includes a method for retrieving the owner of a post.</li>
  * </ul>
  *
  * <h2>Usage:</h2>
@@ -45,4 +48,28 @@ public interface PostClient {
      */
     @GetMapping("/post-verification")
     ResponseEntity<Boolean> postVerification(@RequestParam("postId") Long postId) ;
+
+    /**
+     * Retrieves the existence filter over all post IDs.
+     * <p>
+     * This method sends a GET request to the "/posts/existence-filter" endpoint of the Post Service.
+     * The result is kept as a local replica to reject unknown posts without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
+
+    /**
+     * Retrieves the user ID associated with a specific post by its ID.
+     * <p>
+     * This method sends a GET request to the "/posts/{postId}/user" endpoint of the Post Service.
+     * </p>
+     *
+     * @param postId the unique identifier of the post
+     * @return a {@link ResponseEntity} containing the ID of the user who owns the post
+     */
+    @GetMapping("/{postId}/user")
+    ResponseEntity<Long> getUserIdByPostId(@PathVariable("postId") Long postId);
 }
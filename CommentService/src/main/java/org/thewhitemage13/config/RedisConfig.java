@@ -1,16 +1,24 @@
 package org.thewhitemage13.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.thewhitemage13.cache.NearCacheSpec;
+import org.thewhitemage13.cache.TwoLevelCacheManager;
+import org.thewhitemage13.concurrent.SingleFlight;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Configuration class for Redis caching.
@@ -20,15 +28,21 @@ import java.time.Duration;
  * It enables integration of Redis as a caching mechanism in the application, improving performance
  * by reducing database calls for frequently accessed data.
  * </p>
+ * <p>
+ * Redis is fronted by a small in-process cache, so hot keys are served without a network round trip.
+ * Instances keep their local copies coherent by publishing invalidations on a Redis channel.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Custom serialization for cache keys and values.</li>
  *     <li>Default TTL for cache entries set to 10 minutes.</li>
+ *     <li>Bounded in-process cache in front of Redis, invalidated across instances over pub/sub.</li>
  *     <li>Integration with Spring's {@link CacheManager} interface for transparent caching support.</li>
  * </ul>
  *
  * @see CacheManager
+ * @see TwoLevelCacheManager
  * @see RedisCacheManager
  * @see RedisCacheConfiguration
  * @see RedisConnectionFactory
@@ -42,22 +56,37 @@ import java.time.Duration;
 public class RedisConfig {
 
     /**
-     * Configures and returns a {@link CacheManager} backed by Redis.
+     * Configures and returns a two-level {@link CacheManager} backed by Redis.
      * <p>
-     * This method creates a {@link RedisCacheManager} with the following settings:
+     * This method creates a {@link RedisCacheManager} with the following settings
+     * and wraps it in a {@link TwoLevelCacheManager}:
      * <ul>
      *     <li>Default TTL for cache entries: 10 minutes.</li>
+     *     <li>TTL of the post owner cache, in Redis and in-process: {@code owner-cache.ttl-minutes}.</li>
      *     <li>Key serialization using {@link StringRedisSerializer}.</li>
      *     <li>Value serialization using {@link GenericJackson2JsonRedisSerializer}.</li>
+     *     <li>In-process entries: {@code cache.near.ttl-seconds} and {@code cache.near.maximum-size} per cache.</li>
      * </ul>
      * These settings ensure that cached data is efficiently stored and easily retrievable.
      *
      * @param redisConnectionFactory the factory for creating Redis connections
-     * @return a configured {@link CacheManager} instance
+     * @param stringRedisTemplate the template used to publish cache invalidations
+     * @param applicationName the service name, used to build the invalidation channel and to publish load metrics
+     * @param nearTtlSeconds the TTL of the in-process entries, in seconds
+     * @param nearMaximumSize the maximum number of in-process entries per cache
+     * @param ownerTtlMinutes the TTL of the post owner cache, in minutes
+     * @param ownerMaximumSize the maximum number of in-process post owners
+     * @return a configured {@link TwoLevelCacheManager} instance
      */
     @Bean
-    public CacheManager cacheManager(
-            RedisConnectionFactory redisConnectionFactory
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${spring.application.name}") String applicationName,
+            @Value("${cache.near.ttl-seconds:30}") long nearTtlSeconds,
+            @Value("${cache.near.maximum-size:10000}") long nearMaximumSize,
+            @Value("${owner-cache.ttl-minutes:1440}") long ownerTtlMinutes,
+            @Value("${owner-cache.maximum-size:100000}") long ownerMaximumSize
     ) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -71,8 +100,40 @@ public class RedisConfig {
                                 .fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        Duration ownerTtl = Duration.ofMinutes(ownerTtlMinutes);
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
+                .withCacheConfiguration("postOwners", redisCacheConfiguration.entryTtl(ownerTtl))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager
+                (
+                        redisCacheManager,
+                        stringRedisTemplate,
+                        "cache-invalidation:" + applicationName,
+                        new NearCacheSpec(Duration.ofSeconds(nearTtlSeconds), nearMaximumSize),
+                        Map.of("postOwners", new NearCacheSpec(ownerTtl, ownerMaximumSize)),
+                        SingleFlight.registered(applicationName, "cacheLoads")
+                );
+    }
+
+    /**
+     * Subscribes the {@link TwoLevelCacheManager} to the invalidations published by the other instances.
+     *
+     * @param redisConnectionFactory the factory for creating Redis connections
+     * @param cacheManager the cache manager whose in-process entries are invalidated
+     * @return the listener container
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+        return container;
     }
 }
\ No newline at end of file
@@ -9,16 +9,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.thewhitemage13.dto.CommentCreateDto;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+import org.thewhitemage13.service.ExistenceFilterServiceImpl;
 import org.thewhitemage13.service.CommentServiceImpl;
 
+import java.util.List;
+import java.util.Map;
+
 @Tag(name = "Comment Controller", description = "Operations related to managing comments")
 @RestController
 @RequestMapping("/comments")
 public class CommentController {
     private final CommentServiceImpl commentServiceImpl;
+    private final ExistenceFilterServiceImpl existenceFilterServiceImpl;
 
-    public CommentController(CommentServiceImpl commentServiceImpl) {
+    public CommentController(CommentServiceImpl commentServiceImpl, ExistenceFilterServiceImpl existenceFilterServiceImpl) {
         this.commentServiceImpl = commentServiceImpl;
+        this.existenceFilterServiceImpl = existenceFilterServiceImpl;
     }
 
     @Operation(summary = "Get comment count by post ID", description = "Retrieves the count of comments for a specific post.")
@@ -35,6 +42,20 @@ public class CommentController {
         }
     }
 
+    @Operation(summary = "Get comment counts by post IDs", description = "Retrieves the count of comments for each of the given posts in a single request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comment counts retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/posts/count")
+    public ResponseEntity<Map<Long, Long>> getCommentCountsByPostIds(@RequestParam("postIds") List<Long> postIds) {
+        try {
+            return ResponseEntity.ok(commentServiceImpl.getCountOfCommentsByPostIds(postIds));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Get user ID by comment ID", description = "Retrieves the user ID associated with a specific comment.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User ID retrieved successfully"),
@@ -63,6 +84,20 @@ public class CommentController {
         }
     }
 
+    @Operation(summary = "Get comment existence filter", description = "Returns a Bloom filter over all comment IDs, used by other services to reject unknown comments without a verification request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Existence filter returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/existence-filter")
+    public ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter() {
+        try {
+            return ResponseEntity.ok(existenceFilterServiceImpl.buildSnapshot());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Add a comment", description = "Adds a new comment to the system.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Comment added successfully"),
@@ -0,0 +1,44 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.CommentServiceImpl;
+
+/**
+ * Handles chunks of posts removed by a bulk deletion.
+ * <p>
+ * This component listens for {@link BatchDeletedEvent} messages on the "post.deleted.batch"
+ * topic and deletes the comments on all posts of the chunk in chunks of its own.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.deleted.batch")
+public class PostBatchDeletedEventHandler {
+    private final CommentServiceImpl commentServiceImpl;
+
+    /**
+     * Constructs a new {@code PostBatchDeletedEventHandler} with the specified comment service.
+     *
+     * @param commentServiceImpl the comment service used to handle comment deletions
+     */
+    @Autowired
+    public PostBatchDeletedEventHandler(CommentServiceImpl commentServiceImpl) {
+        this.commentServiceImpl = commentServiceImpl;
+    }
+
+    /**
+     * Handles a chunk of deleted posts.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted posts
+     */
+    @KafkaHandler
+    public void postsDeleted(BatchDeletedEvent batchDeletedEvent) {
+        commentServiceImpl.deleteAllByPostIds(batchDeletedEvent.getUserId(), batchDeletedEvent.getIds());
+    }
+}
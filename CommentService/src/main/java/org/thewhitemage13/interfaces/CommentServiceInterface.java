@@ -5,6 +5,7 @@ import org.thewhitemage13.entity.Comment;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CommentServiceInterface {
     boolean commentVerification(Long commentId);
@@ -15,5 +16,7 @@ public interface CommentServiceInterface {
     Long getUserIdByCommentId(Long commentId);
     void deleteAllByPostId(Long postId) throws CommentNotFoundException;
     Long getCountOfCommentsByPostId(Long postId);
+    Map<Long, Long> getCountOfCommentsByPostIds(List<Long> postIds);
     void deleteAllByUserId(Long userId) throws CommentNotFoundException;
+    long deleteAllByPostIds(Long userId, List<Long> postIds);
 }
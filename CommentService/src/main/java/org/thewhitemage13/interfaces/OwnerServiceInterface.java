@@ -0,0 +1,37 @@
+package org.thewhitemage13.interfaces;
+
+/**
+ * Interface that defines the contract for resolving the owners of commented posts.
+ * <p>
+ * The owner is published with each new comment, so consumers can notify the owner without
+ * asking the Post Service themselves.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Resolve the owner of a post.</li>
+ *     <li>Record owners taken from create events, so later lookups need no remote call.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OwnerServiceInterface {
+
+    /**
+     * Retrieves the ID of the user who owns a post.
+     *
+     * @param postId the ID of the post
+     * @return the ID of the post's owner
+     */
+    Long getPostOwnerId(Long postId);
+
+    /**
+     * Records the owner of a newly created post.
+     *
+     * @param postId  the ID of the post
+     * @param ownerId the ID of the post's owner
+     * @return the recorded owner ID
+     */
+    Long rememberPostOwner(Long postId, Long ownerId);
+}
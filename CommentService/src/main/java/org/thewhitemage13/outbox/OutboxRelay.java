@@ -0,0 +1,58 @@
+package org.thewhitemage13.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.service.OutboxServiceImpl;
+
+/**
+ * Periodically drains the transactional outbox to Kafka.
+ * <p>
+ * Each pass runs relay batches back to back, one transaction each, until a batch comes back
+ * smaller than the batch size, so a backlog is cleared without waiting for the next tick.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxServiceImpl outboxServiceImpl;
+    private final int batchSize;
+
+    /**
+     * Constructs a new {@code OutboxRelay}.
+     *
+     * @param outboxServiceImpl the service that publishes the pending events
+     * @param batchSize         the maximum number of events published per relay batch
+     */
+    @Autowired
+    public OutboxRelay
+            (
+                    OutboxServiceImpl outboxServiceImpl,
+                    @Value("${outbox.relay.batch-size:500}") int batchSize
+            ) {
+        this.outboxServiceImpl = outboxServiceImpl;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Publishes all pending events.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = outboxServiceImpl.relay();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            LOGGER.error("Outbox relay pass failed", e);
+        }
+    }
+}
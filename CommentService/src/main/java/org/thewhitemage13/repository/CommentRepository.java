@@ -1,9 +1,13 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.thewhitemage13.entity.Comment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,7 @@ import java.util.Optional;
  * <ul>
  *     <li>Find all comments by post ID.</li>
  *     <li>Count the number of comments for a specific post.</li>
+ *     <li>Count the comments of several posts in a single grouped query.</li>
  *     <li>Delete all comments by user ID.</li>
  *     <li>Delete all comments by post ID.</li>
  *     <li>Find all comments by post ID.</li>
@@ -67,6 +72,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Long countByPostId(Long id);
 
+    /**
+     * Counts the comments of several posts in a single grouped query.
+     * <p>
+     * Each element of the returned list is a {@code [postId, count]} pair. Posts
+     * without comments are not present in the result.
+     * </p>
+     *
+     * @param postIds the IDs of the posts for which the comment counts are to be retrieved
+     * @return a list of {@code [postId, count]} pairs
+     */
+    @Query("SELECT c.postId, COUNT(c) FROM Comment c WHERE c.postId IN :postIds GROUP BY c.postId")
+    List<Object[]> countAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * Deletes all comments made by a specific user ID.
      * <p>
@@ -114,4 +132,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return the list of comments made by the user
      */
     List<Comment> findByUserId(Long userId);
+
+    /**
+     * Retrieves the next chunk of comments made by a specific user.
+     * <p>
+     * Used by bulk deletion: every chunk is deleted before the next one is read, so the first
+     * page always holds the remaining comments with the lowest IDs.
+     * </p>
+     *
+     * @param userId   the ID of the user for which comments are to be fetched
+     * @param pageable the size of the chunk
+     * @return at most {@code pageable.getPageSize()} comments of the user, ordered by ID
+     */
+    @Query("SELECT c FROM Comment c WHERE c.userId = :userId ORDER BY c.commentId")
+    List<Comment> findChunkByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Retrieves the next chunk of comments on any of the given posts.
+     *
+     * @param postIds  the IDs of the posts for which comments are to be fetched
+     * @param pageable the size of the chunk
+     * @return at most {@code pageable.getPageSize()} comments on the posts, ordered by ID
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId IN :postIds ORDER BY c.commentId")
+    List<Comment> findChunkByPostIdIn(@Param("postIds") Collection<Long> postIds, Pageable pageable);
+
+    /**
+     * Retrieves the next page of comment IDs greater than the given one, in ascending order.
+     *
+     * @param afterId  the last ID of the previous page, or 0 for the first page
+     * @param pageable the size of the page
+     * @return the next page of comment IDs
+     */
+    @Query("SELECT c.commentId FROM Comment c WHERE c.commentId > :afterId ORDER BY c.commentId")
+    List<Long> findCommentIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,12 +1,17 @@
 package org.thewhitemage13.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.dto.CommentCreateDto;
 import org.thewhitemage13.entity.Comment;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
@@ -14,7 +19,10 @@ import org.thewhitemage13.interfaces.CommentServiceInterface;
 import org.thewhitemage13.repository.CommentRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the {@link CommentServiceInterface} that provides services related to handling comments.
@@ -30,7 +38,10 @@ import java.util.List;
  *     <li>Creates, updates, and deletes comments, while synchronizing with Kafka for event-driven architecture.</li>
  *     <li>Caches comment data to reduce database load.</li>
  *     <li>Performs validation of posts and users before adding or updating comments.</li>
+ *     <li>Publishes the owner of the post with each new comment, resolved from a local cache.</li>
  *     <li>Deletes all comments related to a specific user or post.</li>
+ *     <li>Deletes the comments of a deleted user, or on their posts, in chunks with one
+ *     {@link BatchDeletedEvent} per chunk.</li>
  *     <li>Handles comment existence verification.</li>
  * </ul>
  *
@@ -40,26 +51,36 @@ import java.util.List;
 @Service
 @Transactional
 public class CommentServiceImpl implements CommentServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommentServiceImpl.class);
+
     private final CommentRepository commentRepository;
     private final ValidationServiceImpl validationServiceImpl;
-    private final KafkaTemplate<Long, Object> kafkaTemplate;
+    private final OutboxServiceImpl outboxServiceImpl;
+    private final OwnerServiceImpl ownerServiceImpl;
+    private final ChunkedDeletion chunkedDeletion;
 
     /**
      * Constructs a new {@code CommentServiceImpl} with the specified dependencies.
      *
      * @param commentRepository the repository used to interact with the comments database
      * @param validationServiceImpl the service used for validating posts and users
-     * @param kafkaTemplate the Kafka template used for sending events
+     * @param outboxServiceImpl the outbox that publishes events once the transaction commits
+     * @param ownerServiceImpl resolves the owners of commented posts
+     * @param chunkedDeletion runs bulk deletions one chunk and one transaction at a time
      */
     public CommentServiceImpl
             (
                     CommentRepository commentRepository,
                     ValidationServiceImpl validationServiceImpl,
-                    KafkaTemplate<Long, Object> kafkaTemplate
+                    OutboxServiceImpl outboxServiceImpl,
+                    OwnerServiceImpl ownerServiceImpl,
+                    ChunkedDeletion chunkedDeletion
             ) {
         this.commentRepository = commentRepository;
         this.validationServiceImpl = validationServiceImpl;
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxServiceImpl = outboxServiceImpl;
+        this.ownerServiceImpl = ownerServiceImpl;
+        this.chunkedDeletion = chunkedDeletion;
     }
 
     /**
@@ -72,7 +93,7 @@ public class CommentServiceImpl implements CommentServiceInterface {
      * @return the user ID associated with the given comment ID
      */
     @Override
-    @Cacheable(value = "comments", key = "#commentId")
+    @Cacheable(value = "comments", key = "#commentId", sync = true)
     public Long getUserIdByCommentId(Long commentId) {
         return commentRepository.findById(commentId).get().getUserId();
     }
@@ -109,31 +130,102 @@ public class CommentServiceImpl implements CommentServiceInterface {
      * @return the number of comments for the specified post ID
      */
     @Override
-    @Cacheable(value = "commentsCount", key = "#postId")
+    @Cacheable(value = "commentsCount", key = "#postId", sync = true)
     public Long getCountOfCommentsByPostId(Long postId) {
         return commentRepository.countByPostId(postId);
     }
 
+    /**
+     * Retrieves the comment counts of several posts with a single grouped query.
+     * <p>
+     * Posts without comments are mapped to {@code 0}, so every requested post ID is present in the result.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose comment counts are to be retrieved
+     * @return a map of post ID to comment count, in the order of the requested IDs
+     */
+    @Override
+    public Map<Long, Long> getCountOfCommentsByPostIds(List<Long> postIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+        for (Long postId : postIds) {
+            counts.put(postId, 0L);
+        }
+        for (Object[] row : commentRepository.countAllByPostIdIn(counts.keySet())) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     /**
      * Deletes all comments associated with a specific user ID.
      * <p>
-     * This method retrieves all comments for the given user and deletes them one by one, using the {@link #deleteComment(Long)} method.
+     * The comments are removed in chunks, each in its own transaction and with a single set-based
+     * delete. Instead of one event per comment, every chunk publishes one {@link BatchDeletedEvent}
+     * on {@code comment.deleted.batch}, keyed by the user ID, with the post of each comment as its
+     * parent ID.
      * </p>
      * <p>
      * This method evicts the cache to ensure that the comment data is refreshed after the deletion.
      * </p>
      *
      * @param userId the ID of the user whose comments are to be deleted
-     * @throws CommentNotFoundException if no comments are found for the specified user ID
      */
     @Override
-    @CacheEvict(value = "comments", allEntries = true)
-    public void deleteAllByUserId(Long userId) throws CommentNotFoundException {
-        List<Comment> deleteAll = commentRepository.findByUserId(userId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"comments", "commentsCount"}, allEntries = true)
+    public void deleteAllByUserId(Long userId) {
+        chunkedDeletion.run("comments of user " + userId, (chunk, chunkSize) ->
+                deleteChunk(userId, chunk, commentRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize))));
+    }
 
-        for (Comment comment : deleteAll) {
-            deleteComment(comment.getCommentId());
+    /**
+     * Deletes all comments on the given posts in chunks.
+     * <p>
+     * Called for every chunk of posts removed by the bulk deletion of their author. Each chunk of
+     * comments publishes one {@link BatchDeletedEvent} on {@code comment.deleted.batch}.
+     * </p>
+     *
+     * @param userId  the ID of the user whose deletion removed the posts
+     * @param postIds the IDs of the deleted posts
+     * @return the number of deleted comments
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"comments", "commentsCount"}, allEntries = true)
+    public long deleteAllByPostIds(Long userId, List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+        return chunkedDeletion.run("comments on %d posts of user %d".formatted(postIds.size(), userId), (chunk, chunkSize) ->
+                deleteChunk(userId, chunk, commentRepository.findChunkByPostIdIn(postIds, PageRequest.of(0, chunkSize))));
+    }
+
+    /**
+     * Deletes one chunk of comments with a single statement and publishes its batch event.
+     *
+     * @param userId   the ID of the user whose deletion started the cascade
+     * @param chunk    the number of the chunk
+     * @param comments the comments of the chunk
+     * @return the number of deleted comments
+     */
+    private int deleteChunk(Long userId, int chunk, List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return 0;
+        }
+        List<Long> commentIds = new ArrayList<>(comments.size());
+        List<Long> postIds = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            commentIds.add(comment.getCommentId());
+            postIds.add(comment.getPostId());
         }
+        commentRepository.deleteAllByIdInBatch(commentIds);
+
+        outboxServiceImpl.enqueue("comment.deleted.batch", userId,
+                new BatchDeletedEvent(userId, chunk, commentIds, postIds, null, LocalDateTime.now()));
+        return comments.size();
     }
 
     /**
@@ -154,7 +246,8 @@ public class CommentServiceImpl implements CommentServiceInterface {
      * Adds a new comment to the system.
      * <p>
      * This method validates the post and user before creating a new comment. The comment is then saved to the database
-     * and an event is sent to Kafka indicating that a comment has been created.
+     * and an event is sent to Kafka indicating that a comment has been created. The event names the owner of the
+     * post, or none if the owner cannot be resolved; the comment itself never fails because of it.
      * </p>
      * <p>
      * This method evicts the cache to ensure that the comment data is refreshed.
@@ -185,14 +278,10 @@ public class CommentServiceImpl implements CommentServiceInterface {
                         comment.getUserId(),
                         comment.getContent(),
                         comment.getCreatedAt(),
-                        comment.getUpdatedAt()
+                        comment.getUpdatedAt(),
+                        postOwnerOrNull(comment.getPostId())
                 );
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("comment.created", comment.getCommentId(), commentEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("comment.created", comment.getCommentId(), commentEvent);
+        outboxServiceImpl.enqueue("comment.created", comment.getCommentId(), commentEvent);
     }
 
     /**
@@ -229,12 +318,7 @@ public class CommentServiceImpl implements CommentServiceInterface {
                         update.getCreatedAt(),
                         update.getUpdatedAt()
                 );
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("comment.updated", update.getCommentId(), commentEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("comment.updated", update.getCommentId(), commentEvent);
+        outboxServiceImpl.enqueue("comment.updated", update.getCommentId(), commentEvent);
     }
 
     /**
@@ -265,12 +349,7 @@ public class CommentServiceImpl implements CommentServiceInterface {
                         deleteComment.getCreatedAt(),
                         deleteComment.getUpdatedAt()
                 );
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("comment.deleted", deleteComment.getCommentId(), commentEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("comment.deleted", deleteComment.getCommentId(), commentEvent);
+        outboxServiceImpl.enqueue("comment.deleted", deleteComment.getCommentId(), commentEvent);
     }
 
     /**
@@ -287,10 +366,19 @@ public class CommentServiceImpl implements CommentServiceInterface {
      * @throws CommentNotFoundException if no comments are found for the specified post ID
      */
     @Override
-    @Cacheable(value = "comments", key = "#postId")
+    @Cacheable(value = "comments", key = "#postId", sync = true)
     public List<Comment> getAllByPostId(Long postId) throws CommentNotFoundException {
         return commentRepository.findAllByPostId(postId)
                 .orElseThrow(() -> new CommentNotFoundException("Comment with post id = %s not found"
                         .formatted(postId)));
     }
+
+    private Long postOwnerOrNull(Long postId) {
+        try {
+            return ownerServiceImpl.getPostOwnerId(postId);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not resolve the owner of post {}, publishing the comment without it: {}", postId, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package org.thewhitemage13.service;
+
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.thewhitemage13.clients.PostClient;
+import org.thewhitemage13.interfaces.OwnerServiceInterface;
+
+/**
+ * Service implementation for resolving the owners of commented posts.
+ * <p>
+ * Owners never change, so they are kept in the {@code postOwners} cache for much longer than
+ * other entries (see {@code owner-cache.*}). The cache is filled from the {@code post.created}
+ * events as they are consumed, and only posts created before that fall back to the {@link PostClient}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class OwnerServiceImpl implements OwnerServiceInterface {
+    private final PostClient postClient;
+
+    /**
+     * Constructs a new {@code OwnerServiceImpl} with the specified client.
+     *
+     * @param postClient the client used to fetch the owner of a post
+     */
+    public OwnerServiceImpl(PostClient postClient) {
+        this.postClient = postClient;
+    }
+
+    /**
+     * Retrieves the ID of the user who owns a post, from the cache or else from the Post Service.
+     *
+     * @param postId the ID of the post
+     * @return the ID of the post's owner
+     */
+    @Override
+    @Cacheable(value = "postOwners", key = "#postId", sync = true)
+    public Long getPostOwnerId(Long postId) {
+        return postClient.getUserIdByPostId(postId).getBody();
+    }
+
+    /**
+     * Puts the owner of a newly created post into the cache.
+     *
+     * @param postId  the ID of the post
+     * @param ownerId the ID of the post's owner
+     * @return the recorded owner ID
+     */
+    @Override
+    @CachePut(value = "postOwners", key = "#postId")
+    public Long rememberPostOwner(Long postId, Long ownerId) {
+        return ownerId;
+    }
+}
@@ -1,12 +1,12 @@
 package org.thewhitemage13.service;
 
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.PostClient;
 import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.dto.CommentCreateDto;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.interfaces.ValidationServiceInterface;
 
 /**
@@ -15,7 +15,8 @@ import org.thewhitemage13.interfaces.ValidationServiceInterface;
  * <p>
  * This service ensures that the user associated with a comment exists and that the post to which
  * the comment is being made is valid. If either the user or the post does not exist, appropriate
- * exceptions are thrown.
+ * exceptions are thrown. The local {@link ExistenceFilters} are consulted first, so an ID that definitely
+ * does not exist is rejected without a remote call.
  * </p>
  *
  * <h2>Key Features:</h2>
@@ -32,6 +33,7 @@ import org.thewhitemage13.interfaces.ValidationServiceInterface;
 public class ValidationServiceImpl implements ValidationServiceInterface {
     private final PostClient postClient;
     private final UserClient userClient;
+    private final ExistenceFilters existenceFilters;
 
     /**
      * Constructs a new {@code ValidationServiceImpl} with the specified {@code PostClient}
@@ -39,10 +41,12 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
      *
      * @param postClient the client used to verify the existence of posts
      * @param userClient the client used to verify the existence of users
+     * @param existenceFilters the local replicas of the user and post existence filters
      */
-    public ValidationServiceImpl(PostClient postClient, UserClient userClient) {
+    public ValidationServiceImpl(PostClient postClient, UserClient userClient, ExistenceFilters existenceFilters) {
         this.postClient = postClient;
         this.userClient = userClient;
+        this.existenceFilters = existenceFilters;
     }
 
     /**
@@ -59,8 +63,9 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     public void validateUser(CommentCreateDto commentCreateDto) {
         Boolean status;
 
-        ResponseEntity<Boolean> userIsCreate = userClient.verifyUserExistence(commentCreateDto.getUserId());
-        status = userIsCreate.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.USERS, commentCreateDto.getUserId())
+                ? userClient.verifyUserExistence(commentCreateDto.getUserId()).getBody()
+                : Boolean.FALSE;
 
         if (Boolean.FALSE.equals(status)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(commentCreateDto.getUserId()));
@@ -81,8 +86,9 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     public void validatePost(CommentCreateDto commentCreateDto) {
         Boolean status;
 
-        ResponseEntity<Boolean> postIsCreate = postClient.postVerification(commentCreateDto.getPostId());
-        status = postIsCreate.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.POSTS, commentCreateDto.getPostId())
+                ? postClient.postVerification(commentCreateDto.getPostId()).getBody()
+                : Boolean.FALSE;
 
         if (Boolean.FALSE.equals(status)) {
             throw new PostNotFoundException("Post with id = %s not found".formatted(commentCreateDto.getPostId()));
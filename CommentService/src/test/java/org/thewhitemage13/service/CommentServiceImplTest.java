@@ -6,17 +6,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.thewhitemage13.CommentEvent;
 import org.thewhitemage13.dto.CommentCreateDto;
 import org.thewhitemage13.entity.Comment;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
 import org.thewhitemage13.repository.CommentRepository;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceImplTest {
@@ -25,10 +30,41 @@ class CommentServiceImplTest {
     @Mock
     private ValidationServiceImpl validationServiceImpl;
     @Mock
-    private KafkaTemplate<Long, Object> kafkaTemplate;
+    private OutboxServiceImpl outboxServiceImpl;
+    @Mock
+    private OwnerServiceImpl ownerServiceImpl;
     @InjectMocks
     private CommentServiceImpl commentServiceImpl;
 
+    @Test
+    void addComment_PublishesPostOwner() {
+        // given
+        CommentCreateDto commentCreateDto = new CommentCreateDto(7L, 1L, "Nice post");
+        Mockito.when(ownerServiceImpl.getPostOwnerId(7L)).thenReturn(9L);
+
+        // when
+        commentServiceImpl.addComment(commentCreateDto);
+
+        // then
+        Mockito.verify(commentRepository).save(any(Comment.class));
+        Mockito.verify(outboxServiceImpl).enqueue(eq("comment.created"), any(),
+                argThat(event -> ((CommentEvent) event).getPostOwnerId().equals(9L)));
+    }
+
+    @Test
+    void addComment_OwnerLookupFails_PublishesWithoutOwner() {
+        // given
+        CommentCreateDto commentCreateDto = new CommentCreateDto(7L, 1L, "Nice post");
+        Mockito.when(ownerServiceImpl.getPostOwnerId(7L)).thenThrow(new RuntimeException("post-service unavailable"));
+
+        // when
+        commentServiceImpl.addComment(commentCreateDto);
+
+        // then
+        Mockito.verify(outboxServiceImpl).enqueue(eq("comment.created"), any(),
+                argThat(event -> ((CommentEvent) event).getPostOwnerId() == null));
+    }
+
     @Test
     void getUserIdByCommentId_ReturnsUserId() {
         // given
@@ -55,6 +91,20 @@ class CommentServiceImplTest {
         assertThrows(NoSuchElementException.class, () -> commentServiceImpl.getUserIdByCommentId(commentId));
     }
 
+    @Test
+    void getCountOfCommentsByPostIds_FillsMissingPostsWithZero() {
+        // given
+        List<Object[]> rows = Collections.singletonList(new Object[]{1L, 3L});
+        Mockito.when(commentRepository.countAllByPostIdIn(Mockito.any())).thenReturn(rows);
+
+        // when
+        Map<Long, Long> counts = commentServiceImpl.getCountOfCommentsByPostIds(List.of(1L, 2L));
+
+        // then
+        assertEquals(3L, counts.get(1L));
+        assertEquals(0L, counts.get(2L));
+    }
+
     @Test
     void deleteComment_ThrowsExceptionWhenCommentNotFound() {
         // given
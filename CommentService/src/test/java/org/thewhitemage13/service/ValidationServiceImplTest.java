@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.PostClient;
@@ -12,6 +13,7 @@ import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.dto.CommentCreateDto;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,6 +23,8 @@ class ValidationServiceImplTest {
     private PostClient postClient;
     @Mock
     private UserClient userClient;
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
     @InjectMocks
     private ValidationServiceImpl validationServiceImpl;
 
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main entry point for the LikeService application.
@@ -25,6 +26,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  *     <li>Launches the Spring Boot application.</li>
  *     <li>Enables caching for optimized data retrieval.</li>
  *     <li>Enables Feign clients for simplified HTTP communication with external services.</li>
+ *     <li>Enables scheduling for the relay that publishes the transactional outbox to Kafka.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -33,6 +35,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableCaching
 @EnableFeignClients
+@EnableScheduling
 public class LikeServiceApplication {
 
 	/**
@@ -4,6 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
 
 /**
  * Feign client for interacting with the Comment Service.
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
  * <ul>
  *     <li>Declarative communication with the Comment Service via Feign Client.</li>
  *     <li>Endpoint for verifying the existence or validity of a specific comment.</li>
+ *     <li>Endpoint for retrieving the author of a specific comment.</li>
  * </ul>
  *
  * <h2>Usage:</h2>
@@ -45,4 +47,28 @@ public interface CommentClient {
      */
     @GetMapping("/{commentId}/verify")
     ResponseEntity<Boolean> commentVerification(@PathVariable("commentId") Long commentId) ;
+
+    /**
+     * Retrieves the existence filter over all comment IDs.
+     * <p>
+     * This method sends a GET request to the "/comments/existence-filter" endpoint of the Comment Service.
+     * The result is kept as a local replica to reject unknown comments without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
+
+    /**
+     * Retrieves the user ID associated with a specific comment by its ID.
+     * <p>
+     * This method sends a GET request to the "/comments/{commentId}/user" endpoint of the Comment Service.
+     * </p>
+     *
+     * @param commentId the unique identifier of the comment
+     * @return a {@link ResponseEntity} containing the ID of the user who wrote the comment
+     */
+    @GetMapping("/{commentId}/user")
+    ResponseEntity<Long> getCommentUserIdByCommentId(@PathVariable("commentId") Long commentId);
 }
@@ -4,6 +4,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+
+import java.util.List;
 
 /**
  * Feign client for interacting with the User Service.
@@ -44,4 +48,29 @@ public interface UserClient {
      */
     @GetMapping("/{userId}/verify")
     ResponseEntity<Boolean> verifyUserExistence(@PathVariable Long userId);
+
+    /**
+     * Verifies the existence of several users in a single request.
+     * <p>
+     * This method sends a GET request to the "/users/verify" endpoint of the User Service.
+     * It backs the batched user verification, which merges concurrent single-user checks into one request.
+     * </p>
+     *
+     * @param ids the unique identifiers of the users to verify
+     * @return a {@link ResponseEntity} containing the identifiers of the users that exist
+     */
+    @GetMapping("/verify")
+    ResponseEntity<List<Long>> verifyUsersExistence(@RequestParam("ids") List<Long> ids);
+
+    /**
+     * Retrieves the existence filter over all user IDs.
+     * <p>
+     * This method sends a GET request to the "/users/existence-filter" endpoint of the User Service.
+     * The result is kept as a local replica to reject unknown users without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
 }
@@ -0,0 +1,40 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.deletion.ChunkedDeletion;
+
+/**
+ * Configuration class for bulk deletion.
+ * <p>
+ * This class provides the {@link ChunkedDeletion} used when all likes of a user, a set of posts
+ * or a set of comments are removed. Each chunk runs in its own transaction and its size is read
+ * from the {@code bulk-deletion.chunk-size} property.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class BulkDeletionConfig {
+    @Autowired
+    Environment environment;
+
+    /**
+     * Configures chunked deletion with one transaction per chunk.
+     *
+     * @param transactionTemplate the template that opens the transaction of each chunk
+     * @return a {@code ChunkedDeletion} instance
+     */
+    @Bean
+    ChunkedDeletion chunkedDeletion(TransactionTemplate transactionTemplate) {
+        return new ChunkedDeletion
+                (
+                        environment.getProperty("bulk-deletion.chunk-size", Integer.class, 500),
+                        work -> transactionTemplate.execute(status -> work.get())
+                );
+    }
+}
@@ -0,0 +1,41 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.clients.CommentClient;
+import org.thewhitemage13.clients.PostClient;
+import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.filter.ExistenceFilters;
+
+/**
+ * Configuration class for the local existence filters.
+ * <p>
+ * This class registers a replica of the user, post and comment existence filters, fetched from the owning
+ * services through their Feign clients. Validation consults the replicas before calling the
+ * verification endpoints and only makes the remote call when a replica answers "maybe".
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class ExistenceFilterConfig {
+
+    /**
+     * Configures the existence filter replicas.
+     *
+     * @param userClient    the client of the user service
+     * @param postClient    the client of the post service
+     * @param commentClient the client of the comment service
+     * @param safetyMargin  the number of IDs below a snapshot's highest ID that are checked remotely
+     * @return an {@code ExistenceFilters} instance, empty until the first refresh
+     */
+    @Bean
+    ExistenceFilters existenceFilters(UserClient userClient, PostClient postClient, CommentClient commentClient, @Value("${existence-filter.safety-margin:1000}") long safetyMargin) {
+        return new ExistenceFilters(safetyMargin)
+                .register(ExistenceFilters.USERS, () -> userClient.getExistenceFilter().getBody())
+                .register(ExistenceFilters.POSTS, () -> postClient.getExistenceFilter().getBody())
+                .register(ExistenceFilters.COMMENTS, () -> commentClient.getExistenceFilter().getBody());
+    }
+}
@@ -0,0 +1,114 @@
+package org.thewhitemage13.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.interfaces.OutboxServiceInterface;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Creates the partial unique indexes that allow a user to like a post or comment only once.
+ * <p>
+ * JPA cannot declare partial indexes, so they are created here once the schema has been updated
+ * by Hibernate, before the application starts serving requests. Duplicate likes left from before
+ * the indexes existed are removed first, keeping the oldest like of every user and target;
+ * otherwise the index could not be built. A like deleted event is recorded in the outbox for
+ * every removed like, so the like counters kept by other services drop by the same amount.
+ * </p>
+ * <p>
+ * The work runs in one transaction holding a database advisory lock. Instances starting at the
+ * same time wait for each other, and the later ones find the indexes already in place.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code uq_likes_user_post} on {@code (user_id, post_id) WHERE post_id IS NOT NULL}.</li>
+ *     <li>{@code uq_likes_user_comment} on {@code (user_id, comment_id) WHERE comment_id IS NOT NULL}.</li>
+ * </ul>
+ * <p>
+ * Both are the conflict targets of the {@code INSERT ... ON CONFLICT DO NOTHING} statements in
+ * {@link org.thewhitemage13.repository.LikeRepository}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class LikeIndexInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LikeIndexInitializer.class);
+    private static final long INDEX_LOCK_ID = 0x6C696B6573L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxServiceInterface outboxServiceImpl;
+
+    /**
+     * Constructs a new {@code LikeIndexInitializer}.
+     *
+     * @param jdbcTemplate        the template used to run the DDL
+     * @param transactionTemplate the template running the initialization in one transaction
+     * @param outboxServiceImpl   the outbox recording the deleted events of removed duplicates
+     */
+    public LikeIndexInitializer
+            (
+                    JdbcTemplate jdbcTemplate,
+                    TransactionTemplate transactionTemplate,
+                    OutboxServiceInterface outboxServiceImpl
+            ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxServiceImpl = outboxServiceImpl;
+    }
+
+    /**
+     * Removes duplicate likes and creates the unique indexes if they do not exist yet.
+     */
+    @PostConstruct
+    void createIndexes() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(%d)".formatted(INDEX_LOCK_ID));
+            createIndex("post_id", "uq_likes_user_post", "post.like.deleted");
+            createIndex("comment_id", "uq_likes_user_comment", "comment.like.deleted");
+        });
+    }
+
+    private void createIndex(String targetColumn, String indexName, String deletedTopic) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, indexName);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        List<LikeEvent> removed = jdbcTemplate.query("""
+                DELETE FROM likes duplicate
+                USING likes original
+                WHERE duplicate.user_id = original.user_id
+                  AND duplicate.%1$s = original.%1$s
+                  AND duplicate.like_id > original.like_id
+                RETURNING duplicate.like_id, duplicate.user_id, duplicate.post_id, duplicate.comment_id, duplicate.created_at
+                """.formatted(targetColumn), (resultSet, rowNum) -> new LikeEvent
+                (
+                        resultSet.getLong("like_id"),
+                        resultSet.getLong("user_id"),
+                        resultSet.getObject("post_id", Long.class),
+                        resultSet.getObject("comment_id", Long.class),
+                        resultSet.getObject("created_at", LocalDateTime.class)
+                ));
+        for (LikeEvent likeEvent : removed) {
+            Long key = likeEvent.getPostId() == null ? likeEvent.getCommentId() : likeEvent.getLikeId();
+            outboxServiceImpl.enqueue(deletedTopic, key, likeEvent);
+        }
+        if (!removed.isEmpty()) {
+            LOGGER.warn("Removed {} duplicate likes on {} before creating {}", removed.size(), targetColumn, indexName);
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS %s ON likes (user_id, %s) WHERE %s IS NOT NULL"
+                .formatted(indexName, targetColumn, targetColumn));
+        LOGGER.info("Created unique index {}", indexName);
+    }
+}
@@ -9,9 +9,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
+import org.thewhitemage13.dto.LikeStateDTO;
+import org.thewhitemage13.exceptions.CommentNotFoundException;
 import org.thewhitemage13.exceptions.LikeNotFoundException;
+import org.thewhitemage13.exceptions.PostNotFoundException;
+import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.service.LikeServiceImpl;
 
+import java.util.List;
+import java.util.Map;
+
 @Tag(name = "Like Controller", description = "Operations related to likes management for posts and comments")
 @RestController
 @RequestMapping("/likes")
@@ -36,6 +43,20 @@ public class LikeController {
         }
     }
 
+    @Operation(summary = "Get like counts for several posts", description = "Retrieves the number of likes for each of the given posts in a single request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like counts retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/posts/count")
+    public ResponseEntity<Map<Long, Long>> getPostLikeCounts(@RequestParam("postIds") List<Long> postIds) {
+        try {
+            return ResponseEntity.ok(likeServiceImpl.getPostLikeCounts(postIds));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Like a post", description = "Registers a like for a specific post.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Post like successful"),
@@ -66,6 +87,68 @@ public class LikeController {
         }
     }
 
+    @Operation(summary = "Set a post like", description = "Likes a post on behalf of a user. Repeating the request has no further effect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like state and count returned"),
+            @ApiResponse(responseCode = "404", description = "Post or user not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/posts/{postId}/likes/{userId}")
+    public ResponseEntity<LikeStateDTO> likePost(@PathVariable("postId") Long postId, @PathVariable("userId") Long userId) {
+        try {
+            return ResponseEntity.ok(likeServiceImpl.likePost(new CreateLikePost(userId, postId)));
+        } catch (PostNotFoundException | UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Remove a post like", description = "Removes the like of a user from a post. Repeating the request has no further effect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like state and count returned"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping("/posts/{postId}/likes/{userId}")
+    public ResponseEntity<LikeStateDTO> unlikePost(@PathVariable("postId") Long postId, @PathVariable("userId") Long userId) {
+        try {
+            return ResponseEntity.ok(likeServiceImpl.unlikePost(userId, postId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Set a comment like", description = "Likes a comment on behalf of a user. Repeating the request has no further effect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like state and count returned"),
+            @ApiResponse(responseCode = "404", description = "Comment or user not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/comments/{commentId}/likes/{userId}")
+    public ResponseEntity<LikeStateDTO> likeComment(@PathVariable("commentId") Long commentId, @PathVariable("userId") Long userId) {
+        try {
+            return ResponseEntity.ok(likeServiceImpl.likeComment(new CreateLikeComment(userId, commentId)));
+        } catch (CommentNotFoundException | UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Remove a comment like", description = "Removes the like of a user from a comment. Repeating the request has no further effect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like state and count returned"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping("/comments/{commentId}/likes/{userId}")
+    public ResponseEntity<LikeStateDTO> unlikeComment(@PathVariable("commentId") Long commentId, @PathVariable("userId") Long userId) {
+        try {
+            return ResponseEntity.ok(likeServiceImpl.unlikeComment(userId, commentId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Delete a like", description = "Deletes a like by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Like deleted successfully"),
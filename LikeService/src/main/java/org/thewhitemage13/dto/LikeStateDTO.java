@@ -0,0 +1,41 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) describing the like state of a post or comment for one user.
+ * <p>
+ * It is returned by the idempotent like and unlike operations, so a client learns the
+ * resulting state and the current like count of the target from the same request.
+ * </p>
+ *
+ * <h2>Annotations:</h2>
+ * <ul>
+ *     <li>{@link lombok.AllArgsConstructor}: Generates a constructor with parameters for all fields.</li>
+ *     <li>{@link lombok.NoArgsConstructor}: Generates a default no-argument constructor.</li>
+ *     <li>{@link lombok.Getter}: Generates getter methods for all fields.</li>
+ *     <li>{@link lombok.Setter}: Generates setter methods for all fields.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class LikeStateDTO {
+
+    /**
+     * Whether the user likes the target after the operation.
+     */
+    private boolean liked;
+
+    /**
+     * The number of likes of the target after the operation.
+     */
+    private Long likeCount;
+}
@@ -20,6 +20,8 @@ import java.time.LocalDateTime;
  * <ul>
  *     <li>Supports likes on both posts and comments via {@code postId} and {@code commentId} fields.</li>
  *     <li>Tracks the creation timestamp of the like action.</li>
+ *     <li>At most one like per user and target, enforced by the partial unique indexes created by
+ *     {@link org.thewhitemage13.config.LikeIndexInitializer}.</li>
  *     <li>Uses JPA annotations for ORM mapping.</li>
  *     <li>Reduces boilerplate code with Lombok annotations for getters, setters, and constructors.</li>
  * </ul>
@@ -27,7 +29,8 @@ import java.time.LocalDateTime;
  * <h2>Annotations:</h2>
  * <ul>
  *     <li>{@link Entity}: Marks this class as a JPA entity.</li>
- *     <li>{@link Table}: Maps the entity to the "likes" table in the database.</li>
+ *     <li>{@link Table}: Maps the entity to the "likes" table in the database and indexes the liked
+ *     post and comment, so like counts are served by index-only scans.</li>
  *     <li>{@link Id}: Specifies the primary key of the entity.</li>
  *     <li>{@link GeneratedValue}: Configures auto-generation of the primary key value.</li>
  *     <li>{@link Column}: Maps fields to database columns and defines constraints.</li>
@@ -42,7 +45,13 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "likes")
+@Table(
+        name = "likes",
+        indexes = {
+                @Index(name = "idx_likes_post_id", columnList = "post_id"),
+                @Index(name = "idx_likes_comment_id", columnList = "comment_id")
+        }
+)
 @Entity
 public class Like {
 
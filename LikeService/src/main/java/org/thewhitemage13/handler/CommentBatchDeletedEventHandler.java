@@ -0,0 +1,47 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.LikeServiceImpl;
+
+/**
+ * Event handler for chunks of comments removed by a bulk deletion.
+ * <p>
+ * This component listens for {@link BatchDeletedEvent} messages on the {@code comment.deleted.batch}
+ * topic and deletes the likes on all comments of the chunk in chunks of its own.
+ * </p>
+ *
+ * @see BatchDeletedEvent
+ * @see LikeServiceImpl
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "comment.deleted.batch")
+public class CommentBatchDeletedEventHandler {
+    private final LikeServiceImpl likeServiceImpl;
+
+    /**
+     * Constructs a new {@code CommentBatchDeletedEventHandler} with the specified {@link LikeServiceImpl}.
+     *
+     * @param likeServiceImpl the {@code LikeServiceImpl} used for deleting likes associated with comments
+     */
+    @Autowired
+    public CommentBatchDeletedEventHandler(LikeServiceImpl likeServiceImpl) {
+        this.likeServiceImpl = likeServiceImpl;
+    }
+
+    /**
+     * Handles a chunk of deleted comments.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted comments
+     */
+    @KafkaHandler
+    public void commentsDeleted(BatchDeletedEvent batchDeletedEvent) {
+        likeServiceImpl.deleteAllByCommentIds(batchDeletedEvent.getUserId(), batchDeletedEvent.getIds());
+    }
+}
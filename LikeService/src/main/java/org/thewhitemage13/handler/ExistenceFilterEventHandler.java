@@ -0,0 +1,93 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.UserEvent;
+import org.thewhitemage13.filter.ExistenceFilters;
+import org.thewhitemage13.service.OwnerServiceImpl;
+
+/**
+ * Event handler that keeps the existence filter replicas current between reloads.
+ * <p>
+ * The owners of created posts and comments are recorded as well, so the owner published with
+ * a like of new content is resolved without a remote call.
+ * </p>
+ * <p>
+ * Every instance keeps its own replicas, so this listener uses a consumer group of its own
+ * instead of the service's group and starts at the end of the topics: everything older is
+ * covered by the snapshot.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>{@code user.created}: adds the user ID to the user replica.</li>
+ *     <li>{@code user.updated}: adds the user ID to the user replica; registrations are published on this topic.</li>
+ *     <li>{@code post.created}: adds the post ID to the post replica and records the post's owner.</li>
+ *     <li>{@code comment.created}: adds the comment ID to the comment replica and records the comment's author.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(
+        topics = {"user.created", "user.updated", "post.created", "comment.created"},
+        groupId = "${spring.application.name}-existence-${random.uuid}",
+        properties = "auto.offset.reset=latest"
+)
+public class ExistenceFilterEventHandler {
+    private final ExistenceFilters existenceFilters;
+    private final OwnerServiceImpl ownerServiceImpl;
+
+    /**
+     * Constructs a new {@code ExistenceFilterEventHandler}.
+     *
+     * @param existenceFilters the replicas to update
+     * @param ownerServiceImpl the cache of post and comment owners to fill
+     */
+    @Autowired
+    public ExistenceFilterEventHandler(ExistenceFilters existenceFilters, OwnerServiceImpl ownerServiceImpl) {
+        this.existenceFilters = existenceFilters;
+        this.ownerServiceImpl = ownerServiceImpl;
+    }
+
+    /**
+     * Adds the ID of a created user to the user replica.
+     *
+     * @param userEvent the event of the created user
+     */
+    @KafkaHandler
+    public void userCreated(UserEvent userEvent) {
+        existenceFilters.add(ExistenceFilters.USERS, userEvent.getUserId());
+    }
+
+    /**
+     * Adds the ID of a created post to the post replica and records its owner.
+     *
+     * @param postEvent the event of the created post
+     */
+    @KafkaHandler
+    public void postCreated(PostEvent postEvent) {
+        existenceFilters.add(ExistenceFilters.POSTS, postEvent.getPostId());
+        if (postEvent.getUserId() != null) {
+            ownerServiceImpl.rememberPostOwner(postEvent.getPostId(), postEvent.getUserId());
+        }
+    }
+
+    /**
+     * Adds the ID of a created comment to the comment replica and records its author.
+     *
+     * @param commentEvent the event of the created comment
+     */
+    @KafkaHandler
+    public void commentCreated(CommentEvent commentEvent) {
+        existenceFilters.add(ExistenceFilters.COMMENTS, commentEvent.getCommentId());
+        if (commentEvent.getUserId() != null) {
+            ownerServiceImpl.rememberCommentOwner(commentEvent.getCommentId(), commentEvent.getUserId());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.LikeServiceImpl;
+
+/**
+ * Event handler for chunks of posts removed by a bulk deletion.
+ * <p>
+ * This component listens for {@link BatchDeletedEvent} messages on the {@code post.deleted.batch}
+ * topic and deletes the likes on all posts of the chunk in chunks of its own.
+ * </p>
+ *
+ * @see BatchDeletedEvent
+ * @see LikeServiceImpl
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.deleted.batch")
+public class PostBatchDeletedEventHandler {
+    private final LikeServiceImpl likeServiceImpl;
+
+    /**
+     * Constructs a new {@code PostBatchDeletedEventHandler} with the specified {@link LikeServiceImpl}.
+     *
+     * @param likeServiceImpl the {@code LikeServiceImpl} used for deleting likes associated with posts
+     */
+    @Autowired
+    public PostBatchDeletedEventHandler(LikeServiceImpl likeServiceImpl) {
+        this.likeServiceImpl = likeServiceImpl;
+    }
+
+    /**
+     * Handles a chunk of deleted posts.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted posts
+     */
+    @KafkaHandler
+    public void postsDeleted(BatchDeletedEvent batchDeletedEvent) {
+        likeServiceImpl.deleteAllByPostIds(batchDeletedEvent.getUserId(), batchDeletedEvent.getIds());
+    }
+}
@@ -2,8 +2,12 @@ package org.thewhitemage13.interfaces;
 
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
+import org.thewhitemage13.dto.LikeStateDTO;
 import org.thewhitemage13.exceptions.LikeNotFoundException;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface that defines the contract for the like service operations.
  * <p>
@@ -56,6 +60,17 @@ public interface LikeServiceInterface {
       */
      Long getPostLikeCount(Long postId);
 
+     /**
+      * Retrieves the number of likes for several posts at once.
+      * <p>
+      * Every requested post ID is present in the returned map; posts without likes are mapped to {@code 0}.
+      * </p>
+      *
+      * @param postIds the IDs of the posts for which the like counts will be retrieved
+      * @return a map of post ID to like count
+      */
+     Map<Long, Long> getPostLikeCounts(List<Long> postIds);
+
      /**
       * Deletes all likes associated with a specific post.
       * <p>
@@ -78,6 +93,30 @@ public interface LikeServiceInterface {
       */
      void deleteAllByUserId(Long userId) throws LikeNotFoundException;
 
+     /**
+      * Deletes all likes on the given posts in chunks.
+      * <p>
+      * Used when the posts were removed by the bulk deletion of their author.
+      * </p>
+      *
+      * @param userId  the ID of the user whose deletion removed the posts
+      * @param postIds the IDs of the deleted posts
+      * @return the number of deleted likes
+      */
+     long deleteAllByPostIds(Long userId, List<Long> postIds);
+
+     /**
+      * Deletes all likes on the given comments in chunks.
+      * <p>
+      * Used when the comments were removed by the bulk deletion of their author.
+      * </p>
+      *
+      * @param userId     the ID of the user whose deletion removed the comments
+      * @param commentIds the IDs of the deleted comments
+      * @return the number of deleted likes
+      */
+     long deleteAllByCommentIds(Long userId, List<Long> commentIds);
+
      /**
       * Adds a like for a specific post.
       * <p>
@@ -98,6 +137,40 @@ public interface LikeServiceInterface {
       */
      void commentLike(CreateLikeComment createLikeComment);
 
+     /**
+      * Likes a post unless the user already likes it.
+      *
+      * @param createLikePost the {@link CreateLikePost} object containing the user and post information
+      * @return the resulting like state and the like count of the post
+      */
+     LikeStateDTO likePost(CreateLikePost createLikePost);
+
+     /**
+      * Removes the like of a user from a post, if there is one.
+      *
+      * @param userId the ID of the user
+      * @param postId the ID of the post
+      * @return the resulting like state and the like count of the post
+      */
+     LikeStateDTO unlikePost(Long userId, Long postId);
+
+     /**
+      * Likes a comment unless the user already likes it.
+      *
+      * @param createLikeComment the {@link CreateLikeComment} object containing the user and comment information
+      * @return the resulting like state and the like count of the comment
+      */
+     LikeStateDTO likeComment(CreateLikeComment createLikeComment);
+
+     /**
+      * Removes the like of a user from a comment, if there is one.
+      *
+      * @param userId    the ID of the user
+      * @param commentId the ID of the comment
+      * @return the resulting like state and the like count of the comment
+      */
+     LikeStateDTO unlikeComment(Long userId, Long commentId);
+
      /**
       * Deletes a specific like by its ID.
       * <p>
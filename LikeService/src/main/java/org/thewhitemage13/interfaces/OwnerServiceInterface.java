@@ -0,0 +1,54 @@
+package org.thewhitemage13.interfaces;
+
+/**
+ * Interface that defines the contract for resolving the owners of liked posts and comments.
+ * <p>
+ * The owner is published with each new like, so consumers can notify the owner without
+ * asking the Post or Comment Service themselves.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Resolve the owner of a post or a comment.</li>
+ *     <li>Record owners taken from create events, so later lookups need no remote call.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OwnerServiceInterface {
+
+    /**
+     * Retrieves the ID of the user who owns a post.
+     *
+     * @param postId the ID of the post
+     * @return the ID of the post's owner
+     */
+    Long getPostOwnerId(Long postId);
+
+    /**
+     * Retrieves the ID of the user who wrote a comment.
+     *
+     * @param commentId the ID of the comment
+     * @return the ID of the comment's author
+     */
+    Long getCommentOwnerId(Long commentId);
+
+    /**
+     * Records the owner of a newly created post.
+     *
+     * @param postId  the ID of the post
+     * @param ownerId the ID of the post's owner
+     * @return the recorded owner ID
+     */
+    Long rememberPostOwner(Long postId, Long ownerId);
+
+    /**
+     * Records the author of a newly created comment.
+     *
+     * @param commentId the ID of the comment
+     * @param ownerId   the ID of the comment's author
+     * @return the recorded owner ID
+     */
+    Long rememberCommentOwner(Long commentId, Long ownerId);
+}
@@ -1,9 +1,15 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.Like;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,9 +27,12 @@ import java.util.List;
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Find all likes by a specific post ID or comment ID.</li>
- *     <li>Count the number of likes on a specific post.</li>
+ *     <li>Count the number of likes on a specific post or comment.</li>
+ *     <li>Idempotently like and unlike a post or comment and read its new count in one statement.</li>
+ *     <li>Count the likes of several posts in a single grouped query.</li>
  *     <li>Delete likes by user ID, post ID, or comment ID.</li>
  *     <li>Find all likes for a specific user.</li>
+ *     <li>Page through the likes of a user, of several posts or of several comments in chunks for bulk deletion.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
@@ -79,6 +88,27 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     Long countAllByPostId(Long postId);
 
+    /**
+     * Counts the number of likes associated with a specific comment.
+     *
+     * @param commentId the ID of the comment to count likes for
+     * @return the number of likes for the given comment
+     */
+    Long countAllByCommentId(Long commentId);
+
+    /**
+     * Counts the likes of several posts in a single grouped query.
+     * <p>
+     * Each element of the returned list is a {@code [postId, count]} pair. Posts without any
+     * likes are not present in the result.
+     * </p>
+     *
+     * @param postIds the IDs of the posts to count likes for
+     * @return a list of {@code [postId, count]} pairs
+     */
+    @Query("SELECT l.postId, COUNT(l) FROM Like l WHERE l.postId IN :postIds GROUP BY l.postId")
+    List<Object[]> countAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * Deletes all likes associated with a specific user.
      * <p>
@@ -123,4 +153,140 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      * @return a list of {@link Like} entities associated with the given user
      */
     List<Like> findAllByUserId(Long userId);
+
+    /**
+     * Finds the next chunk of likes created by a specific user.
+     * <p>
+     * Used by bulk deletion: every chunk is deleted before the next one is read, so the first
+     * page always holds the remaining likes with the lowest IDs.
+     * </p>
+     *
+     * @param userId   the ID of the user to find likes for
+     * @param pageable the size of the chunk
+     * @return at most {@code pageable.getPageSize()} likes of the user, ordered by ID
+     */
+    @Query("SELECT l FROM Like l WHERE l.userId = :userId ORDER BY l.likeId")
+    List<Like> findChunkByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds the next chunk of likes on any of the given posts.
+     *
+     * @param postIds  the IDs of the posts to find likes for
+     * @param pageable the size of the chunk
+     * @return at most {@code pageable.getPageSize()} likes on the posts, ordered by ID
+     */
+    @Query("SELECT l FROM Like l WHERE l.postId IN :postIds ORDER BY l.likeId")
+    List<Like> findChunkByPostIdIn(@Param("postIds") Collection<Long> postIds, Pageable pageable);
+
+    /**
+     * Finds the next chunk of likes on any of the given comments.
+     *
+     * @param commentIds the IDs of the comments to find likes for
+     * @param pageable   the size of the chunk
+     * @return at most {@code pageable.getPageSize()} likes on the comments, ordered by ID
+     */
+    @Query("SELECT l FROM Like l WHERE l.commentId IN :commentIds ORDER BY l.likeId")
+    List<Like> findChunkByCommentIdIn(@Param("commentIds") Collection<Long> commentIds, Pageable pageable);
+
+    /**
+     * Likes a post unless the user already likes it, and counts its likes.
+     * <p>
+     * The insert and the count run in one statement. A like that already exists is left
+     * untouched by {@code ON CONFLICT DO NOTHING}, in which case no like ID is returned. The
+     * count does not see the row inserted by the same statement, so it is added explicitly.
+     * The statement returns a row, so it runs as a query rather than as a modifying query, in a
+     * read-write transaction.
+     * </p>
+     *
+     * @param userId    the ID of the user
+     * @param postId    the ID of the post
+     * @param createdAt the creation time of a new like
+     * @return the ID of the new like, or {@code null} if it already existed, and the like count
+     */
+    @Transactional
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO likes (user_id, post_id, created_at)
+                VALUES (:userId, :postId, :createdAt)
+                ON CONFLICT (user_id, post_id) WHERE post_id IS NOT NULL DO NOTHING
+                RETURNING like_id
+            )
+            SELECT (SELECT like_id FROM inserted) AS likeId,
+                   (SELECT count(*) FROM likes WHERE post_id = :postId) + (SELECT count(*) FROM inserted) AS likeCount
+            """, nativeQuery = true)
+    ToggleResult likePost(@Param("userId") Long userId, @Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Removes the like of a user from a post, if any, and counts the remaining likes.
+     *
+     * @param userId the ID of the user
+     * @param postId the ID of the post
+     * @return the ID of the removed like, or {@code null} if there was none, and the like count
+     */
+    @Transactional
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM likes WHERE user_id = :userId AND post_id = :postId
+                RETURNING like_id
+            )
+            SELECT (SELECT min(like_id) FROM deleted) AS likeId,
+                   (SELECT count(*) FROM likes WHERE post_id = :postId) - (SELECT count(*) FROM deleted) AS likeCount
+            """, nativeQuery = true)
+    ToggleResult unlikePost(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * Likes a comment unless the user already likes it, and counts its likes.
+     *
+     * @param userId    the ID of the user
+     * @param commentId the ID of the comment
+     * @param createdAt the creation time of a new like
+     * @return the ID of the new like, or {@code null} if it already existed, and the like count
+     * @see #likePost(Long, Long, LocalDateTime)
+     */
+    @Transactional
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO likes (user_id, comment_id, created_at)
+                VALUES (:userId, :commentId, :createdAt)
+                ON CONFLICT (user_id, comment_id) WHERE comment_id IS NOT NULL DO NOTHING
+                RETURNING like_id
+            )
+            SELECT (SELECT like_id FROM inserted) AS likeId,
+                   (SELECT count(*) FROM likes WHERE comment_id = :commentId) + (SELECT count(*) FROM inserted) AS likeCount
+            """, nativeQuery = true)
+    ToggleResult likeComment(@Param("userId") Long userId, @Param("commentId") Long commentId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Removes the like of a user from a comment, if any, and counts the remaining likes.
+     *
+     * @param userId    the ID of the user
+     * @param commentId the ID of the comment
+     * @return the ID of the removed like, or {@code null} if there was none, and the like count
+     */
+    @Transactional
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM likes WHERE user_id = :userId AND comment_id = :commentId
+                RETURNING like_id
+            )
+            SELECT (SELECT min(like_id) FROM deleted) AS likeId,
+                   (SELECT count(*) FROM likes WHERE comment_id = :commentId) - (SELECT count(*) FROM deleted) AS likeCount
+            """, nativeQuery = true)
+    ToggleResult unlikeComment(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    /**
+     * Result of a like or unlike statement.
+     */
+    interface ToggleResult {
+
+        /**
+         * @return the ID of the inserted or removed like, or {@code null} if nothing changed
+         */
+        Long getLikeId();
+
+        /**
+         * @return the number of likes of the target after the statement
+         */
+        Long getLikeCount();
+    }
 }
@@ -1,20 +1,31 @@
 package org.thewhitemage13.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
+import org.thewhitemage13.dto.LikeStateDTO;
 import org.thewhitemage13.entity.Like;
 import org.thewhitemage13.exceptions.LikeNotFoundException;
 import org.thewhitemage13.interfaces.LikeServiceInterface;
 import org.thewhitemage13.repository.LikeRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Service implementation for managing likes on posts and comments.
@@ -29,9 +40,13 @@ import java.util.List;
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Supports liking of posts and comments.</li>
+ *     <li>Idempotent like and unlike keyed by user and target, returning the resulting state and count.</li>
  *     <li>Enables cache eviction for like-related queries.</li>
  *     <li>Uses Kafka for publishing events on like creation and deletion.</li>
+ *     <li>Publishes the owner of the liked post or comment with each new like, resolved from a local cache.</li>
  *     <li>Handles batch deletion of likes by post, comment, or user.</li>
+ *     <li>Deletes the likes of a deleted user, or of their posts and comments, in chunks with one
+ *     {@link BatchDeletedEvent} per chunk.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -40,21 +55,36 @@ import java.util.List;
 @Service
 @Transactional
 public class LikeServiceImpl implements LikeServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LikeServiceImpl.class);
+
     private final LikeRepository likeRepository;
     private final ValidationServiceImpl validationServiceImpl;
-    private final KafkaTemplate<Long, Object> kafkaTemplate;
+    private final OutboxServiceImpl outboxServiceImpl;
+    private final OwnerServiceImpl ownerServiceImpl;
+    private final ChunkedDeletion chunkedDeletion;
 
     /**
      * Constructs a new {@code LikeServiceImpl} with the specified dependencies.
      *
      * @param likeRepository      the repository for managing likes in the database
      * @param validationServiceImpl the validation service for validating like requests
-     * @param kafkaTemplate       the Kafka template for sending like-related events
+     * @param outboxServiceImpl   the outbox that publishes events once the transaction commits
+     * @param ownerServiceImpl    resolves the owners of liked posts and comments
+     * @param chunkedDeletion     runs bulk deletions one chunk and one transaction at a time
      */
-    public LikeServiceImpl(LikeRepository likeRepository, ValidationServiceImpl validationServiceImpl, KafkaTemplate<Long, Object> kafkaTemplate) {
+    public LikeServiceImpl
+            (
+                    LikeRepository likeRepository,
+                    ValidationServiceImpl validationServiceImpl,
+                    OutboxServiceImpl outboxServiceImpl,
+                    OwnerServiceImpl ownerServiceImpl,
+                    ChunkedDeletion chunkedDeletion
+            ) {
         this.likeRepository = likeRepository;
         this.validationServiceImpl = validationServiceImpl;
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxServiceImpl = outboxServiceImpl;
+        this.ownerServiceImpl = ownerServiceImpl;
+        this.chunkedDeletion = chunkedDeletion;
     }
 
     /**
@@ -83,11 +113,35 @@ public class LikeServiceImpl implements LikeServiceInterface {
      * @return the total number of likes for the post
      */
     @Override
-    @Cacheable(value = "postLikes", key = "#postId")
+    @Cacheable(value = "postLikes", key = "#postId", sync = true)
     public Long getPostLikeCount(Long postId) {
         return likeRepository.countAllByPostId(postId);
     }
 
+    /**
+     * Retrieves the like counts of several posts with a single grouped query.
+     * <p>
+     * Posts that have no likes are mapped to {@code 0}, so the caller receives an entry for every requested ID.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose like counts are to be retrieved
+     * @return a map of post ID to like count, in the order of the requested IDs
+     */
+    @Override
+    public Map<Long, Long> getPostLikeCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+        for (Long postId : postIds) {
+            counts.put(postId, 0L);
+        }
+        for (Object[] row : likeRepository.countAllByPostIdIn(counts.keySet())) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     /**
      * Deletes all likes associated with a given post.
      * <p>
@@ -110,111 +164,286 @@ public class LikeServiceImpl implements LikeServiceInterface {
     /**
      * Deletes all likes associated with a given user.
      * <p>
-     * This method retrieves all likes for the specified user and deletes each one, triggering cache eviction
-     * for all entries related to "postLikes".
+     * The likes are removed in chunks, each in its own transaction and with a single set-based
+     * delete. Instead of one event per like, every chunk publishes one {@link BatchDeletedEvent} on
+     * {@code post.like.deleted.batch} and one on {@code comment.like.deleted.batch}, keyed by the
+     * user ID. All like counters are evicted from the cache once the deletion is complete.
      * </p>
      *
      * @param userId the ID of the user whose likes are to be deleted
-     * @throws LikeNotFoundException if no likes are found for the given user
      */
     @Override
-    @CacheEvict(value = "postLikes", allEntries = true)
-    public void deleteAllByUserId(Long userId) throws LikeNotFoundException {
-        List<Like> deleteLike = likeRepository.findAllByUserId(userId);
-        for (Like like : deleteLike) {
-            deleteLike(like.getLikeId());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"postLikes", "postLikeSum", "commentLikeSum"}, allEntries = true)
+    public void deleteAllByUserId(Long userId) {
+        chunkedDeletion.run("likes of user " + userId, (chunk, chunkSize) ->
+                deleteChunk(userId, chunk, likeRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize))));
+    }
+
+    /**
+     * Deletes all likes on the given posts in chunks.
+     * <p>
+     * Called for every chunk of posts removed by the bulk deletion of their author. Each chunk of
+     * likes publishes one {@link BatchDeletedEvent} on {@code post.like.deleted.batch}.
+     * </p>
+     *
+     * @param userId  the ID of the user whose deletion removed the posts
+     * @param postIds the IDs of the deleted posts
+     * @return the number of deleted likes
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"postLikes", "postLikeSum", "commentLikeSum"}, allEntries = true)
+    public long deleteAllByPostIds(Long userId, List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+        return chunkedDeletion.run("likes on %d posts of user %d".formatted(postIds.size(), userId), (chunk, chunkSize) ->
+                deleteChunk(userId, chunk, likeRepository.findChunkByPostIdIn(postIds, PageRequest.of(0, chunkSize))));
+    }
+
+    /**
+     * Deletes all likes on the given comments in chunks.
+     * <p>
+     * Called for every chunk of comments removed by the bulk deletion of their author. Each chunk of
+     * likes publishes one {@link BatchDeletedEvent} on {@code comment.like.deleted.batch}.
+     * </p>
+     *
+     * @param userId     the ID of the user whose deletion removed the comments
+     * @param commentIds the IDs of the deleted comments
+     * @return the number of deleted likes
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"postLikes", "postLikeSum", "commentLikeSum"}, allEntries = true)
+    public long deleteAllByCommentIds(Long userId, List<Long> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) {
+            return 0;
         }
+        return chunkedDeletion.run("likes on %d comments of user %d".formatted(commentIds.size(), userId), (chunk, chunkSize) ->
+                deleteChunk(userId, chunk, likeRepository.findChunkByCommentIdIn(commentIds, PageRequest.of(0, chunkSize))));
+    }
+
+    /**
+     * Deletes one chunk of likes with a single statement and publishes its batch events.
+     * <p>
+     * Post likes and comment likes go to separate topics, with the liked post or comment as the
+     * parent ID of each like.
+     * </p>
+     *
+     * @param userId the ID of the user whose deletion started the cascade
+     * @param chunk  the number of the chunk
+     * @param likes  the likes of the chunk
+     * @return the number of deleted likes
+     */
+    private int deleteChunk(Long userId, int chunk, List<Like> likes) {
+        if (likes.isEmpty()) {
+            return 0;
+        }
+        List<Long> likeIds = new ArrayList<>(likes.size());
+        List<Long> postLikeIds = new ArrayList<>();
+        List<Long> postIds = new ArrayList<>();
+        List<Long> commentLikeIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        for (Like like : likes) {
+            likeIds.add(like.getLikeId());
+            if (like.getPostId() == null) {
+                commentLikeIds.add(like.getLikeId());
+                commentIds.add(like.getCommentId());
+            }
+            else {
+                postLikeIds.add(like.getLikeId());
+                postIds.add(like.getPostId());
+            }
+        }
+        likeRepository.deleteAllByIdInBatch(likeIds);
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        if (!postLikeIds.isEmpty()) {
+            outboxServiceImpl.enqueue("post.like.deleted.batch", userId,
+                    new BatchDeletedEvent(userId, chunk, postLikeIds, postIds, null, deletedAt));
+        }
+        if (!commentLikeIds.isEmpty()) {
+            outboxServiceImpl.enqueue("comment.like.deleted.batch", userId,
+                    new BatchDeletedEvent(userId, chunk, commentLikeIds, commentIds, null, deletedAt));
+        }
+        return likes.size();
     }
 
     /**
      * Posts a like for a given post, validating the like and publishing an event.
      * <p>
-     * This method validates the like request, saves the like entity, and then sends a Kafka event notifying that a like was created.
-     * It also triggers cache eviction for the related post's like count.
+     * This method validates the like request and likes the post through {@link #likePost(CreateLikePost)},
+     * so a repeated request does not create a second like.
+     * It also triggers cache eviction for the related post's like count. The evictions are
+     * repeated here because the self-invocation does not go through the cache proxy.
      * </p>
      *
      * @param createLikePost the data required to create a new like for a post
      */
     @Override
-    @CacheEvict(value = "postLikes", key = "#createLikePost.postId", condition = "#createLikePost.postId != null")
+    @Caching(evict = {
+            @CacheEvict(value = "postLikes", key = "#createLikePost.postId", condition = "#createLikePost.postId != null"),
+            @CacheEvict(value = "postLikeSum", key = "#createLikePost.postId", condition = "#createLikePost.postId != null")
+    })
     public void postLike(CreateLikePost createLikePost) {
-        validationServiceImpl.validatePostLike(createLikePost);
-
-        Like like = new Like();
+        likePost(createLikePost);
+    }
 
-        like.setPostId(createLikePost.getPostId());
-        like.setUserId(createLikePost.getUserId());
-        like.setCreatedAt(LocalDateTime.now());
+    /**
+     * Posts a like for a given comment, validating the like and publishing an event.
+     * <p>
+     * This method validates the like request and likes the comment through {@link #likeComment(CreateLikeComment)},
+     * so a repeated request does not create a second like.
+     * It also triggers cache eviction for the related comment's like count. The evictions are
+     * repeated here because the self-invocation does not go through the cache proxy.
+     * </p>
+     *
+     * @param createLikeComment the data required to create a new like for a comment
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = "postLikes", key = "#createLikeComment.commentId", condition = "#createLikeComment.commentId != null"),
+            @CacheEvict(value = "commentLikeSum", key = "#createLikeComment.commentId", condition = "#createLikeComment.commentId != null")
+    })
+    public void commentLike(CreateLikeComment createLikeComment) {
+        likeComment(createLikeComment);
+    }
 
-        likeRepository.save(like);
+    /**
+     * Likes a post unless the user already likes it.
+     * <p>
+     * The like is inserted with {@code ON CONFLICT DO NOTHING} against the unique index on
+     * {@code (user_id, post_id)}, and the like count is read by the same statement. The
+     * "post.like.created" event is only published when a like was actually inserted, so repeating
+     * the request changes nothing. The event names the owner of the post, or none if the owner
+     * cannot be resolved; the like itself never fails because of it.
+     * </p>
+     *
+     * @param createLikePost the user and the post
+     * @return the resulting state, always liked, and the like count of the post
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = "postLikes", key = "#createLikePost.postId"),
+            @CacheEvict(value = "postLikeSum", key = "#createLikePost.postId")
+    })
+    public LikeStateDTO likePost(CreateLikePost createLikePost) {
+        validationServiceImpl.validatePostLike(createLikePost);
 
-        LikeEvent likeEvent = new LikeEvent
-                (
-                        like.getLikeId(),
-                        like.getUserId(),
-                        like.getPostId(),
-                        like.getCommentId(),
-                        like.getCreatedAt()
-                );
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("post.like.created",likeEvent.getLikeId(), likeEvent);
-//            return null;
-//        });
+        LocalDateTime createdAt = LocalDateTime.now();
+        LikeRepository.ToggleResult result = likeRepository.likePost(createLikePost.getUserId(), createLikePost.getPostId(), createdAt);
 
-        kafkaTemplate.send("post.like.created",likeEvent.getLikeId(), likeEvent);
+        if (result.getLikeId() != null) {
+            LikeEvent likeEvent = new LikeEvent
+                    (
+                            result.getLikeId(),
+                            createLikePost.getUserId(),
+                            createLikePost.getPostId(),
+                            null,
+                            createdAt,
+                            ownerOrNull(() -> ownerServiceImpl.getPostOwnerId(createLikePost.getPostId()), "post " + createLikePost.getPostId())
+                    );
+            outboxServiceImpl.enqueue("post.like.created", likeEvent.getLikeId(), likeEvent);
+        }
+        return new LikeStateDTO(true, result.getLikeCount());
     }
 
     /**
-     * Posts a like for a given comment, validating the like and publishing an event.
+     * Removes the like of a user from a post, if there is one.
      * <p>
-     * This method validates the like request, saves the like entity, and then sends a Kafka event notifying that a like was created.
-     * It also triggers cache eviction for the related comment's like count.
+     * The "post.like.deleted" event is only published when a like was actually removed, so
+     * repeating the request changes nothing.
      * </p>
      *
-     * @param createLikeComment the data required to create a new like for a comment
+     * @param userId the ID of the user
+     * @param postId the ID of the post
+     * @return the resulting state, always not liked, and the like count of the post
      */
     @Override
-    @CacheEvict(value = "postLikes", key = "#createLikeComment.commentId", condition = "#createLikeComment.commentId != null")
-    public void commentLike(CreateLikeComment createLikeComment) {
-        validationServiceImpl.validateCommentLike(createLikeComment);
+    @Caching(evict = {
+            @CacheEvict(value = "postLikes", key = "#postId"),
+            @CacheEvict(value = "postLikeSum", key = "#postId")
+    })
+    public LikeStateDTO unlikePost(Long userId, Long postId) {
+        LikeRepository.ToggleResult result = likeRepository.unlikePost(userId, postId);
 
-        Like like = new Like();
+        if (result.getLikeId() != null) {
+            LikeEvent likeEvent = new LikeEvent(result.getLikeId(), userId, postId, null, LocalDateTime.now());
+            outboxServiceImpl.enqueue("post.like.deleted", likeEvent.getLikeId(), likeEvent);
+        }
+        return new LikeStateDTO(false, result.getLikeCount());
+    }
 
-        like.setCommentId(createLikeComment.getCommentId());
-        like.setUserId(createLikeComment.getUserId());
-        like.setCreatedAt(LocalDateTime.now());
+    /**
+     * Likes a comment unless the user already likes it.
+     * <p>
+     * Works like {@link #likePost(CreateLikePost)} against the unique index on
+     * {@code (user_id, comment_id)}, publishing "comment.like.created" with the comment's author
+     * only for a new like.
+     * </p>
+     *
+     * @param createLikeComment the user and the comment
+     * @return the resulting state, always liked, and the like count of the comment
+     */
+    @Override
+    @CacheEvict(value = "commentLikeSum", key = "#createLikeComment.commentId")
+    public LikeStateDTO likeComment(CreateLikeComment createLikeComment) {
+        validationServiceImpl.validateCommentLike(createLikeComment);
 
-        likeRepository.save(like);
+        LocalDateTime createdAt = LocalDateTime.now();
+        LikeRepository.ToggleResult result = likeRepository.likeComment(createLikeComment.getUserId(), createLikeComment.getCommentId(), createdAt);
 
-        LikeEvent likeEvent = new LikeEvent
-                (
-                        like.getLikeId(),
-                        like.getUserId(),
-                        like.getPostId(),
-                        like.getCommentId(),
-                        like.getCreatedAt()
-                );
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("comment.like.created",likeEvent.getLikeId(), likeEvent);
-//            return null;
-//        });
+        if (result.getLikeId() != null) {
+            LikeEvent likeEvent = new LikeEvent
+                    (
+                            result.getLikeId(),
+                            createLikeComment.getUserId(),
+                            null,
+                            createLikeComment.getCommentId(),
+                            createdAt,
+                            ownerOrNull(() -> ownerServiceImpl.getCommentOwnerId(createLikeComment.getCommentId()), "comment " + createLikeComment.getCommentId())
+                    );
+            outboxServiceImpl.enqueue("comment.like.created", likeEvent.getLikeId(), likeEvent);
+        }
+        return new LikeStateDTO(true, result.getLikeCount());
+    }
 
-        kafkaTemplate.send("comment.like.created",likeEvent.getLikeId(), likeEvent);
+    /**
+     * Removes the like of a user from a comment, if there is one.
+     * <p>
+     * The "comment.like.deleted" event is only published when a like was actually removed.
+     * </p>
+     *
+     * @param userId    the ID of the user
+     * @param commentId the ID of the comment
+     * @return the resulting state, always not liked, and the like count of the comment
+     */
+    @Override
+    @CacheEvict(value = "commentLikeSum", key = "#commentId")
+    public LikeStateDTO unlikeComment(Long userId, Long commentId) {
+        LikeRepository.ToggleResult result = likeRepository.unlikeComment(userId, commentId);
 
+        if (result.getLikeId() != null) {
+            LikeEvent likeEvent = new LikeEvent(result.getLikeId(), userId, null, commentId, LocalDateTime.now());
+            outboxServiceImpl.enqueue("comment.like.deleted", commentId, likeEvent);
+        }
+        return new LikeStateDTO(false, result.getLikeCount());
     }
 
     /**
      * Deletes a like by its ID and sends a Kafka event notifying that the like was deleted.
      * <p>
      * This method removes the like entity from the repository and publishes an event to Kafka indicating the like's deletion.
-     * It triggers cache eviction for the associated like.
+     * The post or comment is only known after the like is loaded, so all like count caches are
+     * cleared, as the bulk deletions do.
      * </p>
      *
      * @param likeId the ID of the like to be deleted
      * @throws LikeNotFoundException if no like is found for the given ID
      */
     @Override
-    @CacheEvict(value = "postLikes", key = "#likeId")
+    @CacheEvict(value = {"postLikes", "postLikeSum", "commentLikeSum"}, allEntries = true)
     public void deleteLike(Long likeId) throws LikeNotFoundException {
         Like deleteLike = likeRepository.findById(likeId).orElseThrow(() -> new LikeNotFoundException("Like with id = %s not found".formatted(likeId)));
         likeRepository.delete(deleteLike);
@@ -230,52 +459,51 @@ public class LikeServiceImpl implements LikeServiceInterface {
 
         if (deleteLike.getPostId() == null)
         {
-//            kafkaTemplate.executeInTransaction(operations -> {
-//                operations.send("comment.like.deleted", deleteLike.getCommentId(), likeEvent);
-//                return null;
-//            });
-
-            kafkaTemplate.send("comment.like.deleted", deleteLike.getCommentId(), likeEvent);
+            outboxServiceImpl.enqueue("comment.like.deleted", deleteLike.getCommentId(), likeEvent);
         }
         else {
-//            kafkaTemplate.executeInTransaction(operations -> {
-//                operations.send("post.like.deleted", deleteLike.getCommentId(), likeEvent);
-//                return null;
-//            });
-
-            kafkaTemplate.send("post.like.deleted", deleteLike.getCommentId(), likeEvent);
+            outboxServiceImpl.enqueue("post.like.deleted", deleteLike.getLikeId(), likeEvent);
         }
     }
 
     /**
      * Retrieves the sum of likes for a given post.
      * <p>
-     * This method counts the total number of likes for a specified post using caching.
+     * This method counts the total number of likes for a specified post using caching. The count
+     * is served by the index on {@code post_id} without loading any like.
      * </p>
      *
      * @param postId the ID of the post whose like sum is to be retrieved
      * @return the total number of likes for the post
      */
     @Override
-    @Cacheable(value = "postLikeSum", key = "#postId")
+    @Cacheable(value = "postLikeSum", key = "#postId", sync = true)
     public Long showPostLikeSum(Long postId) {
-        List<Like> postLike = likeRepository.findAllByPostId(postId);
-        return (long) postLike.size();
+        return likeRepository.countAllByPostId(postId);
     }
 
     /**
      * Retrieves the sum of likes for a given comment.
      * <p>
-     * This method counts the total number of likes for a specified comment using caching.
+     * This method counts the total number of likes for a specified comment using caching. The
+     * count is served by the index on {@code comment_id} without loading any like.
      * </p>
      *
      * @param commentId the ID of the comment whose like sum is to be retrieved
      * @return the total number of likes for the comment
      */
     @Override
-    @Cacheable(value = "commentLikeSum", key = "#commentId")
+    @Cacheable(value = "commentLikeSum", key = "#commentId", sync = true)
     public Long showCommentLikeSum(Long commentId) {
-        List<Like> commentLike = likeRepository.findAllByCommentId(commentId);
-        return (long) commentLike.size();
+        return likeRepository.countAllByCommentId(commentId);
+    }
+
+    private Long ownerOrNull(Supplier<Long> lookup, String target) {
+        try {
+            return lookup.get();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not resolve the owner of {}, publishing the like without it: {}", target, e.getMessage());
+            return null;
+        }
     }
 }
@@ -0,0 +1,127 @@
+package org.thewhitemage13.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.entity.OutboxDeadLetter;
+import org.thewhitemage13.entity.OutboxEvent;
+import org.thewhitemage13.interfaces.OutboxServiceInterface;
+import org.thewhitemage13.outbox.OutboxBatchRelay;
+import org.thewhitemage13.repository.OutboxDeadLetterRepository;
+import org.thewhitemage13.repository.OutboxEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the {@link OutboxServiceInterface}.
+ * <p>
+ * A relay pass takes a database advisory lock, reads the oldest pending events and publishes
+ * them with an {@link OutboxBatchRelay}: different keys share request batches, while the events
+ * of one key are sent one after another and stop at the first failure, so consumers never see
+ * a key's events out of order or get a later event again because an earlier one failed.
+ * Acknowledged rows are deleted; the others stay in the outbox and are sent again by a later
+ * pass, so delivery is at least once.
+ * </p>
+ * <p>
+ * An event that cannot be read back or is rejected by the producer counts an attempt and is
+ * moved to {@link OutboxDeadLetter} after {@code outbox.relay.max-attempts}, so it does not hold
+ * back its key for good. The advisory lock is held while the pass sends, which is why
+ * {@code outbox.relay.send-timeout-ms} is kept in the range of a few seconds.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class OutboxServiceImpl implements OutboxServiceInterface {
+    private static final long RELAY_LOCK_ID = 0x6F7574626F78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final KafkaTemplate<Long, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final OutboxBatchRelay outboxBatchRelay;
+
+    /**
+     * Constructs a new {@code OutboxServiceImpl} with the specified dependencies.
+     *
+     * @param outboxEventRepository      the repository for pending events
+     * @param outboxDeadLetterRepository the repository for events the relay gave up on
+     * @param kafkaTemplate              the Kafka template used by the relay
+     * @param objectMapper               the mapper used to store event payloads
+     * @param batchSize                  the maximum number of events published per relay pass
+     * @param sendTimeoutMs              how long a relay pass may take to send the batch and receive the acknowledgements
+     * @param maxAttempts                how many failed attempts to read back or send an event are made before it is dead-lettered
+     */
+    @Autowired
+    public OutboxServiceImpl
+            (
+                    OutboxEventRepository outboxEventRepository,
+                    OutboxDeadLetterRepository outboxDeadLetterRepository,
+                    KafkaTemplate<Long, Object> kafkaTemplate,
+                    ObjectMapper objectMapper,
+                    @Value("${outbox.relay.batch-size:500}") int batchSize,
+                    @Value("${outbox.relay.send-timeout-ms:5000}") long sendTimeoutMs,
+                    @Value("${outbox.relay.max-attempts:5}") int maxAttempts
+            ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.outboxBatchRelay = new OutboxBatchRelay(Duration.ofMillis(sendTimeoutMs), maxAttempts);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, Long key, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event for topic %s cannot be serialized".formatted(topic), e);
+        }
+        outboxEventRepository.save(new OutboxEvent(topic, key, event.getClass().getName(), payload, LocalDateTime.now()));
+    }
+
+    @Override
+    public int relay() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_ID)) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        OutboxBatchRelay.Result<OutboxEvent> result = outboxBatchRelay.relay(batch, this::read,
+                (outboxEvent, event) -> kafkaTemplate.send(outboxEvent.getTopic(), outboxEvent.getAggregateKey(), event));
+
+        outboxEventRepository.deleteAllByIdInBatch(result.acknowledged().stream().map(OutboxEvent::getId).toList());
+        if (!result.retried().isEmpty()) {
+            outboxEventRepository.incrementAttempts(result.retried().stream().map(OutboxEvent::getId).toList());
+        }
+        if (!result.deadLettered().isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            outboxDeadLetterRepository.saveAll(result.deadLettered().stream()
+                    .map(failure -> new OutboxDeadLetter(failure.row(), failure.attempts(), failure.error().toString(), now))
+                    .toList());
+            outboxEventRepository.deleteAllByIdInBatch(result.deadLettered().stream().map(failure -> failure.row().getId()).toList());
+        }
+        return result.acknowledged().size();
+    }
+
+    private Object read(OutboxEvent outboxEvent) throws JsonProcessingException, ClassNotFoundException {
+        return objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+    }
+}
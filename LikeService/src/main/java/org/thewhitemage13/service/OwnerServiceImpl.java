@@ -0,0 +1,87 @@
+package org.thewhitemage13.service;
+
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.thewhitemage13.clients.CommentClient;
+import org.thewhitemage13.clients.PostClient;
+import org.thewhitemage13.interfaces.OwnerServiceInterface;
+
+/**
+ * Service implementation for resolving the owners of liked posts and comments.
+ * <p>
+ * Owners never change, so they are kept in the {@code postOwners} and {@code commentOwners}
+ * caches for much longer than other entries (see {@code owner-cache.*}). The caches are filled
+ * from the {@code post.created} and {@code comment.created} events as they are consumed, and only
+ * content created before that falls back to the {@link PostClient} or {@link CommentClient}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class OwnerServiceImpl implements OwnerServiceInterface {
+    private final PostClient postClient;
+    private final CommentClient commentClient;
+
+    /**
+     * Constructs a new {@code OwnerServiceImpl} with the specified clients.
+     *
+     * @param postClient    the client used to fetch the owner of a post
+     * @param commentClient the client used to fetch the author of a comment
+     */
+    public OwnerServiceImpl(PostClient postClient, CommentClient commentClient) {
+        this.postClient = postClient;
+        this.commentClient = commentClient;
+    }
+
+    /**
+     * Retrieves the ID of the user who owns a post, from the cache or else from the Post Service.
+     *
+     * @param postId the ID of the post
+     * @return the ID of the post's owner
+     */
+    @Override
+    @Cacheable(value = "postOwners", key = "#postId", sync = true)
+    public Long getPostOwnerId(Long postId) {
+        return postClient.getUserIdByPostId(postId).getBody();
+    }
+
+    /**
+     * Retrieves the ID of the user who wrote a comment, from the cache or else from the Comment Service.
+     *
+     * @param commentId the ID of the comment
+     * @return the ID of the comment's author
+     */
+    @Override
+    @Cacheable(value = "commentOwners", key = "#commentId", sync = true)
+    public Long getCommentOwnerId(Long commentId) {
+        return commentClient.getCommentUserIdByCommentId(commentId).getBody();
+    }
+
+    /**
+     * Puts the owner of a newly created post into the cache.
+     *
+     * @param postId  the ID of the post
+     * @param ownerId the ID of the post's owner
+     * @return the recorded owner ID
+     */
+    @Override
+    @CachePut(value = "postOwners", key = "#postId")
+    public Long rememberPostOwner(Long postId, Long ownerId) {
+        return ownerId;
+    }
+
+    /**
+     * Puts the author of a newly created comment into the cache.
+     *
+     * @param commentId the ID of the comment
+     * @param ownerId   the ID of the comment's author
+     * @return the recorded owner ID
+     */
+    @Override
+    @CachePut(value = "commentOwners", key = "#commentId")
+    public Long rememberCommentOwner(Long commentId, Long ownerId) {
+        return ownerId;
+    }
+}
@@ -1,23 +1,26 @@
 package org.thewhitemage13.service;
 
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.CommentClient;
 import org.thewhitemage13.clients.PostClient;
-import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.BatchLoader;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.interfaces.ValidationServiceInterface;
 
 /**
  * Service implementation for validating like requests for posts and comments.
  * <p>
  * This service is responsible for validating that the post, comment, and user involved in a like operation exist
- * before proceeding. It interacts with external clients, such as {@link PostClient}, {@link CommentClient}, and {@link UserClient},
+ * before proceeding. It interacts with external clients, such as {@link PostClient} and {@link CommentClient},
  * to verify the existence of the corresponding entities. If any entity does not exist, it throws the appropriate exception.
+ * The local {@link ExistenceFilters} are consulted first, so an ID that definitely does not exist is rejected without
+ * a remote call. Users are verified through a {@link BatchLoader}, which merges the checks of concurrent
+ * requests into one bulk request to the user service.
  * </p>
  *
  * <h2>Key Features:</h2>
@@ -34,25 +37,29 @@ import org.thewhitemage13.interfaces.ValidationServiceInterface;
 public class ValidationServiceImpl implements ValidationServiceInterface {
     private final CommentClient commentClient;
     private final PostClient postClient;
-    private final UserClient userClient;
+    private final BatchLoader<Long, Boolean> userExistenceLoader;
+    private final ExistenceFilters existenceFilters;
 
     /**
      * Constructs a new {@code ValidationServiceImpl} with the specified dependencies.
      *
      * @param commentClient the client for interacting with comments
      * @param postClient the client for interacting with posts
-     * @param userClient the client for interacting with users
+     * @param userExistenceLoader the batched verification of user IDs
+     * @param existenceFilters the local replicas of the user, post and comment existence filters
      */
-    public ValidationServiceImpl(CommentClient commentClient, PostClient postClient, UserClient userClient) {
+    public ValidationServiceImpl(CommentClient commentClient, PostClient postClient, BatchLoader<Long, Boolean> userExistenceLoader, ExistenceFilters existenceFilters) {
         this.commentClient = commentClient;
         this.postClient = postClient;
-        this.userClient = userClient;
+        this.userExistenceLoader = userExistenceLoader;
+        this.existenceFilters = existenceFilters;
     }
 
     /**
      * Validates that the post and user involved in the like operation exist.
      * <p>
-     * This method verifies that the specified post and user IDs exist by calling external services. If any of the entities
+     * This method verifies that the specified post and user IDs exist by consulting the local existence filters and,
+     * unless they rule an ID out, calling external services. If any of the entities
      * do not exist, it throws an appropriate exception.
      * </p>
      *
@@ -64,15 +71,17 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     public void validatePostLike(CreateLikePost createLikePost) {
         Boolean status;
 
-        ResponseEntity<Boolean> isCreatedPost = postClient.postVerification(createLikePost.getPostId());
-        status = isCreatedPost.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.POSTS, createLikePost.getPostId())
+                ? postClient.postVerification(createLikePost.getPostId()).getBody()
+                : Boolean.FALSE;
 
         if(Boolean.FALSE.equals(status)) {
             throw new PostNotFoundException("Post with id = %s not found".formatted(createLikePost.getPostId()));
         }
 
-        ResponseEntity<Boolean> isCreatedUser = userClient.verifyUserExistence(createLikePost.getUserId());
-        status = isCreatedUser.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.USERS, createLikePost.getUserId())
+                ? userExistenceLoader.get(createLikePost.getUserId())
+                : Boolean.FALSE;
 
         if(Boolean.FALSE.equals(status)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(createLikePost.getUserId()));
@@ -83,7 +92,8 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     /**
      * Validates that the comment and user involved in the like operation exist.
      * <p>
-     * This method verifies that the specified comment and user IDs exist by calling external services. If any of the entities
+     * This method verifies that the specified comment and user IDs exist by consulting the local existence filters and,
+     * unless they rule an ID out, calling external services. If any of the entities
      * do not exist, it throws an appropriate exception.
      * </p>
      *
@@ -95,15 +105,17 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     public void validateCommentLike(CreateLikeComment createLikeComment) {
         Boolean status;
 
-        ResponseEntity<Boolean> isCreatedComment = commentClient.commentVerification(createLikeComment.getCommentId());
-        status = isCreatedComment.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.COMMENTS, createLikeComment.getCommentId())
+                ? commentClient.commentVerification(createLikeComment.getCommentId()).getBody()
+                : Boolean.FALSE;
 
         if(Boolean.FALSE.equals(status)) {
             throw new CommentNotFoundException("Comment with id = %s not found".formatted(createLikeComment.getCommentId()));
         }
 
-        ResponseEntity<Boolean> isCreatedUser = userClient.verifyUserExistence(createLikeComment.getUserId());
-        status = isCreatedUser.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.USERS, createLikeComment.getUserId())
+                ? userExistenceLoader.get(createLikeComment.getUserId())
+                : Boolean.FALSE;
 
         if(Boolean.FALSE.equals(status)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(createLikeComment.getUserId()));
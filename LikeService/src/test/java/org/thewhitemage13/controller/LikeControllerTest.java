@@ -9,7 +9,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
+import org.thewhitemage13.dto.LikeStateDTO;
+import org.thewhitemage13.exceptions.CommentNotFoundException;
 import org.thewhitemage13.exceptions.LikeNotFoundException;
+import org.thewhitemage13.exceptions.PostNotFoundException;
+import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.service.LikeServiceImpl;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -196,4 +200,82 @@ class LikeControllerTest {
         assertNotNull(response);
         assertEquals(likeSum, response);
     }
-}
\ No newline at end of file
+
+    // Test likePost
+    @Test
+    void likePost_ReturnsLikeState() {
+        // given
+        when(likeServiceImpl.likePost(any(CreateLikePost.class))).thenReturn(new LikeStateDTO(true, 3L));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likePost(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().isLiked());
+        assertEquals(3L, response.getBody().getLikeCount());
+    }
+
+    @Test
+    void likePost_PostNotFound() {
+        // given
+        when(likeServiceImpl.likePost(any(CreateLikePost.class))).thenThrow(new PostNotFoundException("Post with id = 1 not found"));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likePost(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void likePost_UserNotFound() {
+        // given
+        when(likeServiceImpl.likePost(any(CreateLikePost.class))).thenThrow(new UserNotFoundException("User with id = 2 not found"));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likePost(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void likePost_InternalServerError() {
+        // given
+        when(likeServiceImpl.likePost(any(CreateLikePost.class))).thenThrow(new RuntimeException("Unexpected error"));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likePost(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    // Test likeComment
+    @Test
+    void likeComment_CommentNotFound() {
+        // given
+        when(likeServiceImpl.likeComment(any(CreateLikeComment.class))).thenThrow(new CommentNotFoundException("Comment with id = 1 not found"));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likeComment(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void likeComment_UserNotFound() {
+        // given
+        when(likeServiceImpl.likeComment(any(CreateLikeComment.class))).thenThrow(new UserNotFoundException("User with id = 2 not found"));
+
+        // when
+        ResponseEntity<LikeStateDTO> response = likeController.likeComment(1L, 2L);
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
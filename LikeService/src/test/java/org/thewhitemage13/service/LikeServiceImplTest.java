@@ -4,10 +4,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Pageable;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
+import org.thewhitemage13.dto.LikeStateDTO;
 import org.thewhitemage13.entity.Like;
 import org.thewhitemage13.exceptions.LikeNotFoundException;
 import org.thewhitemage13.repository.LikeRepository;
@@ -16,7 +21,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,7 +35,11 @@ class LikeServiceImplTest {
     @Mock
     private ValidationServiceImpl validationServiceImpl;
     @Mock
-    private KafkaTemplate<Long, Object> kafkaTemplate;
+    private OutboxServiceImpl outboxServiceImpl;
+    @Mock
+    private OwnerServiceImpl ownerServiceImpl;
+    @Spy
+    private ChunkedDeletion chunkedDeletion = new ChunkedDeletion(2, Supplier::get);
     @InjectMocks
     private LikeServiceImpl likeServiceImpl;
 
@@ -59,34 +70,122 @@ class LikeServiceImplTest {
         verify(likeRepository, never()).delete(any());
     }
 
+    @Test
+    void getPostLikeCounts_FillsMissingPostsWithZero() {
+        // given
+        List<Long> postIds = Arrays.asList(1L, 2L);
+        List<Object[]> rows = Collections.singletonList(new Object[]{1L, 5L});
+        when(likeRepository.countAllByPostIdIn(any())).thenReturn(rows);
+
+        // when
+        Map<Long, Long> counts = likeServiceImpl.getPostLikeCounts(postIds);
+
+        // then
+        assertEquals(5L, counts.get(1L));
+        assertEquals(0L, counts.get(2L));
+        verify(likeRepository, times(1)).countAllByPostIdIn(any());
+    }
+
     @Test
     void postLike_ValidatesAndSavesPostLike() {
         // given
         CreateLikePost createLikePost = new CreateLikePost(1L, 1L);
-        Like like = new Like(null, 1L, null, 1L, LocalDateTime.now());
-        when(likeRepository.save(any())).thenReturn(like);
+        when(likeRepository.likePost(eq(1L), eq(1L), any())).thenReturn(toggleResult(5L, 1L));
 
         // when
         likeServiceImpl.postLike(createLikePost);
 
         // then
         verify(validationServiceImpl).validatePostLike(createLikePost);
-        verify(kafkaTemplate).executeInTransaction(any());
+        verify(outboxServiceImpl).enqueue(any(), any(), any());
     }
 
     @Test
     void commentLike_ValidatesAndSavesCommentLike() {
         // given
         CreateLikeComment createLikeComment = new CreateLikeComment(1L, 1L);
-        Like like = new Like(null, null, 1L, 1L, LocalDateTime.now());
-        when(likeRepository.save(any())).thenReturn(like);
+        when(likeRepository.likeComment(eq(1L), eq(1L), any())).thenReturn(toggleResult(5L, 1L));
 
         // when
         likeServiceImpl.commentLike(createLikeComment);
 
         // then
         verify(validationServiceImpl).validateCommentLike(createLikeComment);
-        verify(kafkaTemplate).executeInTransaction(any());
+        verify(outboxServiceImpl).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void likePost_PublishesPostOwner() {
+        // given
+        CreateLikePost createLikePost = new CreateLikePost(1L, 2L);
+        when(likeRepository.likePost(eq(1L), eq(2L), any())).thenReturn(toggleResult(5L, 1L));
+        when(ownerServiceImpl.getPostOwnerId(2L)).thenReturn(9L);
+
+        // when
+        likeServiceImpl.likePost(createLikePost);
+
+        // then
+        verify(outboxServiceImpl).enqueue(eq("post.like.created"), eq(5L),
+                argThat(event -> ((LikeEvent) event).getOwnerId().equals(9L)));
+    }
+
+    @Test
+    void likeComment_OwnerLookupFails_PublishesWithoutOwner() {
+        // given
+        CreateLikeComment createLikeComment = new CreateLikeComment(1L, 3L);
+        when(likeRepository.likeComment(eq(1L), eq(3L), any())).thenReturn(toggleResult(5L, 1L));
+        when(ownerServiceImpl.getCommentOwnerId(3L)).thenThrow(new RuntimeException("comment-service unavailable"));
+
+        // when
+        LikeStateDTO result = likeServiceImpl.likeComment(createLikeComment);
+
+        // then
+        assertTrue(result.isLiked());
+        verify(outboxServiceImpl).enqueue(eq("comment.like.created"), eq(5L),
+                argThat(event -> ((LikeEvent) event).getOwnerId() == null));
+    }
+
+    @Test
+    void likePost_AlreadyLiked_ReturnsStateWithoutEvent() {
+        // given
+        CreateLikePost createLikePost = new CreateLikePost(1L, 1L);
+        when(likeRepository.likePost(eq(1L), eq(1L), any())).thenReturn(toggleResult(null, 3L));
+
+        // when
+        LikeStateDTO result = likeServiceImpl.likePost(createLikePost);
+
+        // then
+        assertTrue(result.isLiked());
+        assertEquals(3L, result.getLikeCount());
+        verify(outboxServiceImpl, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void unlikePost_RemovesLikeAndPublishesEvent() {
+        // given
+        when(likeRepository.unlikePost(1L, 1L)).thenReturn(toggleResult(5L, 2L));
+
+        // when
+        LikeStateDTO result = likeServiceImpl.unlikePost(1L, 1L);
+
+        // then
+        assertFalse(result.isLiked());
+        assertEquals(2L, result.getLikeCount());
+        verify(outboxServiceImpl).enqueue(eq("post.like.deleted"), eq(5L), any());
+    }
+
+    @Test
+    void unlikeComment_NotLiked_ReturnsStateWithoutEvent() {
+        // given
+        when(likeRepository.unlikeComment(1L, 1L)).thenReturn(toggleResult(null, 0L));
+
+        // when
+        LikeStateDTO result = likeServiceImpl.unlikeComment(1L, 1L);
+
+        // then
+        assertFalse(result.isLiked());
+        assertEquals(0L, result.getLikeCount());
+        verify(outboxServiceImpl, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -101,7 +200,7 @@ class LikeServiceImplTest {
 
         // then
         verify(likeRepository).delete(like);
-        verify(kafkaTemplate).executeInTransaction(any());
+        verify(outboxServiceImpl).enqueue(any(), any(), any());
     }
 
     @Test
@@ -119,11 +218,7 @@ class LikeServiceImplTest {
     void showPostLikeSum_ReturnsCorrectSum() {
         // given
         Long postId = 1L;
-        List<Like> likes = Arrays.asList(
-                new Like(1L, postId, null, 1L, LocalDateTime.now()),
-                new Like(2L, postId, null, 2L, LocalDateTime.now())
-        );
-        when(likeRepository.findAllByPostId(postId)).thenReturn(likes);
+        when(likeRepository.countAllByPostId(postId)).thenReturn(2L);
 
         // when
         Long result = likeServiceImpl.showPostLikeSum(postId);
@@ -136,11 +231,7 @@ class LikeServiceImplTest {
     void showCommentLikeSum_ReturnsCorrectSum() {
         // given
         Long commentId = 1L;
-        List<Like> likes = Arrays.asList(
-                new Like(1L, null, commentId, 1L, LocalDateTime.now()),
-                new Like(2L, null, commentId, 2L, LocalDateTime.now())
-        );
-        when(likeRepository.findAllByCommentId(commentId)).thenReturn(likes);
+        when(likeRepository.countAllByCommentId(commentId)).thenReturn(2L);
 
         // when
         Long result = likeServiceImpl.showCommentLikeSum(commentId);
@@ -148,4 +239,40 @@ class LikeServiceImplTest {
         // then
         assertEquals(2, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteAllByUserId_DeletesInChunksWithOneEventPerTopic() {
+        // given
+        Long userId = 1L;
+        Like postLike = new Like(10L, userId, 100L, null, LocalDateTime.now());
+        Like commentLike = new Like(11L, userId, null, 200L, LocalDateTime.now());
+        Like lastLike = new Like(12L, userId, 101L, null, LocalDateTime.now());
+        when(likeRepository.findChunkByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(postLike, commentLike))
+                .thenReturn(Collections.singletonList(lastLike));
+
+        // when
+        likeServiceImpl.deleteAllByUserId(userId);
+
+        // then
+        verify(likeRepository, times(1)).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(likeRepository, times(1)).deleteAllByIdInBatch(List.of(12L));
+        verify(likeRepository, never()).delete(any());
+        verify(outboxServiceImpl, times(2)).enqueue(eq("post.like.deleted.batch"), eq(userId), any(BatchDeletedEvent.class));
+        verify(outboxServiceImpl, times(1)).enqueue(eq("comment.like.deleted.batch"), eq(userId), any(BatchDeletedEvent.class));
+    }
+
+    private static LikeRepository.ToggleResult toggleResult(Long likeId, Long likeCount) {
+        return new LikeRepository.ToggleResult() {
+            @Override
+            public Long getLikeId() {
+                return likeId;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likeCount;
+            }
+        };
+    }
+}
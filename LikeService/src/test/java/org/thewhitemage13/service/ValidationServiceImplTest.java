@@ -4,19 +4,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.CommentClient;
 import org.thewhitemage13.clients.PostClient;
-import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.BatchLoader;
 import org.thewhitemage13.dto.CreateLikeComment;
 import org.thewhitemage13.dto.CreateLikePost;
 import org.thewhitemage13.exceptions.CommentNotFoundException;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.BloomFilter;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+import org.thewhitemage13.filter.ExistenceFilters;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +31,9 @@ class ValidationServiceImplTest {
     @Mock
     private PostClient postClient;
     @Mock
-    private UserClient userClient;
+    private BatchLoader<Long, Boolean> userExistenceLoader;
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
     @InjectMocks
     private ValidationServiceImpl validationServiceImpl;
 
@@ -35,12 +42,12 @@ class ValidationServiceImplTest {
         // given
         CreateLikePost createLikePost = new CreateLikePost(1L, 1L);
         when(postClient.postVerification(1L)).thenReturn(ResponseEntity.ok(true));
-        when(userClient.verifyUserExistence(1L)).thenReturn(ResponseEntity.ok(true));
+        when(userExistenceLoader.get(1L)).thenReturn(true);
 
         // when & then
         assertDoesNotThrow(() -> validationServiceImpl.validatePostLike(createLikePost));
         verify(postClient).postVerification(1L);
-        verify(userClient).verifyUserExistence(1L);
+        verify(userExistenceLoader).get(1L);
     }
 
     @Test
@@ -60,7 +67,7 @@ class ValidationServiceImplTest {
         // given
         CreateLikePost createLikePost = new CreateLikePost(1L, 1L);
         when(postClient.postVerification(1L)).thenReturn(ResponseEntity.ok(true));
-        when(userClient.verifyUserExistence(1L)).thenReturn(ResponseEntity.ok(false));
+        when(userExistenceLoader.get(1L)).thenReturn(false);
 
         // when & then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -73,12 +80,12 @@ class ValidationServiceImplTest {
         // given
         CreateLikeComment createLikeComment = new CreateLikeComment(1L, 1L);
         when(commentClient.commentVerification(1L)).thenReturn(ResponseEntity.ok(true));
-        when(userClient.verifyUserExistence(1L)).thenReturn(ResponseEntity.ok(true));
+        when(userExistenceLoader.get(1L)).thenReturn(true);
 
         // when & then
         assertDoesNotThrow(() -> validationServiceImpl.validateCommentLike(createLikeComment));
         verify(commentClient).commentVerification(1L);
-        verify(userClient).verifyUserExistence(1L);
+        verify(userExistenceLoader).get(1L);
     }
 
     @Test
@@ -98,11 +105,53 @@ class ValidationServiceImplTest {
         // given
         CreateLikeComment createLikeComment = new CreateLikeComment(1L, 1L);
         when(commentClient.commentVerification(1L)).thenReturn(ResponseEntity.ok(true));
-        when(userClient.verifyUserExistence(1L)).thenReturn(ResponseEntity.ok(false));
+        when(userExistenceLoader.get(1L)).thenReturn(false);
 
         // when & then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> validationServiceImpl.validateCommentLike(createLikeComment));
         assertEquals("User with id = 1 not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void validatePostLike_PostRuledOutByExistenceFilter_NoRemoteCall() {
+        // given
+        BloomFilter posts = BloomFilter.create(100, 0.01);
+        posts.add(1L);
+        existenceFilters.register(ExistenceFilters.POSTS, () -> new ExistenceFilterSnapshot(ExistenceFilters.DEFAULT_SAFETY_MARGIN + 10, posts)).refreshAll();
+        CreateLikePost createLikePost = new CreateLikePost(1L, 5L);
+
+        // when & then
+        PostNotFoundException exception = assertThrows(PostNotFoundException.class, () -> validationServiceImpl.validatePostLike(createLikePost));
+        assertEquals("Post with id = 5 not found", exception.getMessage());
+        verifyNoInteractions(postClient);
+    }
+
+    @Test
+    void validatePostLike_PostNewerThanExistenceFilter_FallsBackToRemoteCall() {
+        // given
+        existenceFilters.register(ExistenceFilters.POSTS, () -> new ExistenceFilterSnapshot(10L, BloomFilter.create(100, 0.01))).refreshAll();
+        CreateLikePost createLikePost = new CreateLikePost(1L, 11L);
+        when(postClient.postVerification(11L)).thenReturn(ResponseEntity.ok(true));
+        when(userExistenceLoader.get(1L)).thenReturn(true);
+
+        // when & then
+        assertDoesNotThrow(() -> validationServiceImpl.validatePostLike(createLikePost));
+        verify(postClient).postVerification(11L);
+    }
+
+    @Test
+    void validatePostLike_PostWithinSafetyMarginOfExistenceFilter_FallsBackToRemoteCall() {
+        // given
+        BloomFilter posts = BloomFilter.create(100, 0.01);
+        posts.add(1L);
+        existenceFilters.register(ExistenceFilters.POSTS, () -> new ExistenceFilterSnapshot(10L, posts)).refreshAll();
+        CreateLikePost createLikePost = new CreateLikePost(1L, 5L);
+        when(postClient.postVerification(5L)).thenReturn(ResponseEntity.ok(true));
+        when(userExistenceLoader.get(1L)).thenReturn(true);
+
+        // when & then
+        assertDoesNotThrow(() -> validationServiceImpl.validatePostLike(createLikePost));
+        verify(postClient).postVerification(5L);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
 
 /**
  * Feign client for interacting with the User Service.
@@ -39,4 +40,16 @@ public interface UserClient {
      */
     @GetMapping("/{userId}/verify")
     ResponseEntity<Boolean> verifyUserExistence(@PathVariable Long userId);
+
+    /**
+     * Retrieves the existence filter over all user IDs.
+     * <p>
+     * This method sends a GET request to the "/users/existence-filter" endpoint of the User Service.
+     * The result is kept as a local replica to reject unknown users without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
 }
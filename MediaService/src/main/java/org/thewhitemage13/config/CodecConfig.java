@@ -0,0 +1,30 @@
+package org.thewhitemage13.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.EventSchemas;
+
+/**
+ * Configuration class for the compact binary codec.
+ * <p>
+ * This class provides the {@link BinaryCodec} used by the Kafka serializers, with the schemas of
+ * the core events registered.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class CodecConfig {
+
+    /**
+     * Configures the codec with the core events.
+     *
+     * @return a {@code BinaryCodec} instance
+     */
+    @Bean
+    BinaryCodec binaryCodec() {
+        return EventSchemas.register(new BinaryCodec());
+    }
+}
@@ -3,6 +3,7 @@ package org.thewhitemage13.interfaces;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Interface for processing media files, including uploading, deleting, and generating URLs for files stored in S3.
@@ -47,6 +48,13 @@ public interface MediaProcessorInterface {
      */
     void deleteFileFromS3(String key);
 
+    /**
+     * Deletes several files from S3 storage with as few requests as possible.
+     *
+     * @param keys the unique identifiers (keys) of the files to be deleted
+     */
+    void deleteFilesFromS3(List<String> keys);
+
     /**
      * Generates a publicly accessible URL for a file stored in S3.
      * <p>
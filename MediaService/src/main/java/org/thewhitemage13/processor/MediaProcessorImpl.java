@@ -6,10 +6,15 @@ import org.springframework.web.multipart.MultipartFile;
 import org.thewhitemage13.interfaces.MediaProcessorInterface;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -32,6 +37,8 @@ import java.util.UUID;
  */
 @Component
 public class MediaProcessorImpl implements MediaProcessorInterface {
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final S3Client amazonS3;
     @Value("${aws.s3.bucket.name}")
     private String bucketName;
@@ -84,6 +91,29 @@ public class MediaProcessorImpl implements MediaProcessorInterface {
                 .build());
     }
 
+    /**
+     * Deletes several files from Amazon S3.
+     * <p>
+     * The keys are removed with multi-object delete requests of up to {@value #MAX_KEYS_PER_DELETE}
+     * keys each, the maximum accepted by S3.
+     * </p>
+     *
+     * @param keys the unique keys of the files to be deleted
+     */
+    @Override
+    public void deleteFilesFromS3(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<ObjectIdentifier> objects = new ArrayList<>();
+            for (String key : keys.subList(from, Math.min(keys.size(), from + MAX_KEYS_PER_DELETE))) {
+                objects.add(ObjectIdentifier.builder().key(key).build());
+            }
+            amazonS3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+        }
+    }
+
     /**
      * Generates a publicly accessible URL for a file stored in Amazon S3.
      * <p>
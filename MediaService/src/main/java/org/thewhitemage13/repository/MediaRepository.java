@@ -1,6 +1,9 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.thewhitemage13.entity.Media;
 
@@ -60,4 +63,18 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
      * @return a list of {@link Media} entities associated with the given user ID
      */
     List<Media> findAllByUserId(Long userId);
+
+    /**
+     * Retrieves the next chunk of media files associated with a specific user ID.
+     * <p>
+     * Used by bulk deletion: every chunk is deleted before the next one is read, so the first
+     * page always holds the remaining media files with the lowest IDs.
+     * </p>
+     *
+     * @param userId   the ID of the user whose media files should be retrieved
+     * @param pageable the size of the chunk
+     * @return at most {@code pageable.getPageSize()} media files of the user, ordered by ID
+     */
+    @Query("SELECT m FROM Media m WHERE m.userId = :userId ORDER BY m.mediaId")
+    List<Media> findChunkByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -4,11 +4,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.entity.Media;
 import org.thewhitemage13.exceptions.MediaNotFoundException;
 import org.thewhitemage13.interfaces.MediaServiceInterface;
@@ -18,6 +22,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,6 +40,7 @@ import java.util.List;
  *     <li>Deletes media files both from S3 and the database.</li>
  *     <li>Retrieves media metadata by ID, with caching support.</li>
  *     <li>Triggers Kafka events for media uploads and deletions.</li>
+ *     <li>Deletes the media of a deleted user in chunks with one {@link BatchDeletedEvent} per chunk.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -47,6 +53,7 @@ public class MediaServiceImpl implements MediaServiceInterface {
     private final ValidationServiceImpl validationServiceImpl;
     private final KafkaTemplate<Long, Object> kafkaTemplate;
     private final MediaProcessorImpl mediaProcessorImpl;
+    private final ChunkedDeletion chunkedDeletion;
 
     /**
      * Constructs a new {@code MediaServiceImpl} with the specified dependencies.
@@ -61,6 +68,7 @@ public class MediaServiceImpl implements MediaServiceInterface {
      * @param validationServiceImpl the {@link ValidationServiceImpl} used for user validation
      * @param kafkaTemplate the {@link KafkaTemplate} used for Kafka messaging
      * @param mediaProcessorImpl the {@link MediaProcessorImpl} used for media file handling
+     * @param chunkedDeletion the {@link ChunkedDeletion} that runs bulk deletions one chunk at a time
      */
     @Autowired
     public MediaServiceImpl
@@ -69,12 +77,14 @@ public class MediaServiceImpl implements MediaServiceInterface {
                     MediaRepository mediaRepository,
                     ValidationServiceImpl validationServiceImpl,
                     KafkaTemplate<Long, Object> kafkaTemplate,
-                    MediaProcessorImpl mediaProcessorImpl
+                    MediaProcessorImpl mediaProcessorImpl,
+                    ChunkedDeletion chunkedDeletion
             ) {
         this.mediaRepository = mediaRepository;
         this.validationServiceImpl = validationServiceImpl;
         this.kafkaTemplate = kafkaTemplate;
         this.mediaProcessorImpl = mediaProcessorImpl;
+        this.chunkedDeletion = chunkedDeletion;
     }
 
     /**
@@ -150,22 +160,40 @@ public class MediaServiceImpl implements MediaServiceInterface {
     /**
      * Deletes all media files associated with a specific user.
      * <p>
-     * This method retrieves all media entries for the given user ID and deletes them from the database
-     * as well as from S3. It also triggers Kafka events for each deletion.
+     * The media is removed in chunks, each in its own transaction: the files of the chunk are
+     * deleted from S3 with multi-object requests and the entries with a single statement. Instead of
+     * one "media.deleted" event per file, every chunk sends one {@link BatchDeletedEvent} carrying the
+     * total size of its files to "media.deleted.batch", keyed by the user ID.
      * </p>
      *
      * @param userId the ID of the user whose media files should be deleted
-     * @throws MediaNotFoundException if no media is found for the specified user
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Caching(evict = {
-            @CacheEvict(value = "mediaCache", key = "#id"),
+            @CacheEvict(value = "mediaCache", allEntries = true),
             @CacheEvict(value = "mediaVerificationCache", allEntries = true)
     })
-    public void deleteAllByUserId(Long userId) throws MediaNotFoundException {
-        List<Media> mediaList = mediaRepository.findAllByUserId(userId);
-        for (Media media : mediaList) {
-            deleteMedia(media.getMediaId());
-        }
+    public void deleteAllByUserId(Long userId) {
+        chunkedDeletion.run("media of user " + userId, (chunk, chunkSize) -> {
+            List<Media> mediaList = mediaRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize));
+            if (mediaList.isEmpty()) {
+                return 0;
+            }
+            List<Long> mediaIds = new ArrayList<>(mediaList.size());
+            List<String> keys = new ArrayList<>(mediaList.size());
+            double fileSize = 0;
+            for (Media media : mediaList) {
+                mediaIds.add(media.getMediaId());
+                keys.add("media/" + media.getFileName());
+                fileSize += media.getFileSize() == null ? 0 : media.getFileSize();
+            }
+            mediaProcessorImpl.deleteFilesFromS3(keys);
+            mediaRepository.deleteAllByIdInBatch(mediaIds);
+
+            BatchDeletedEvent batchDeletedEvent = new BatchDeletedEvent(userId, chunk, mediaIds, new ArrayList<>(), fileSize, LocalDateTime.now());
+            kafkaTemplate.send("media.deleted.batch", userId, batchDeletedEvent);
+            return mediaList.size();
+        });
     }
 
     /**
@@ -213,7 +241,7 @@ public class MediaServiceImpl implements MediaServiceInterface {
      * @throws MediaNotFoundException if no media is found for the specified ID
      */
     @Override
-    @Cacheable(value = "mediaCache", key = "#id")
+    @Cacheable(value = "mediaCache", key = "#id", sync = true)
     public Media getMedia(Long id) throws MediaNotFoundException {
         return mediaRepository.findById(id).orElseThrow(() -> new MediaNotFoundException("Media with id = %s not found".formatted(id)));
     }
@@ -1,10 +1,10 @@
 package org.thewhitemage13.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.interfaces.ValidationServiceInterface;
 
 /**
@@ -12,6 +12,8 @@ import org.thewhitemage13.interfaces.ValidationServiceInterface;
  * <p>
  * This service is responsible for checking if a user exists by contacting an external user service
  * via the {@link UserClient}. It throws a {@link UserNotFoundException} if the user cannot be found.
+ * The local user {@link ExistenceFilters existence filter} is consulted first, so an ID that definitely
+ * does not exist is rejected without a remote call.
  * </p>
  *
  * <h2>Key Features:</h2>
@@ -26,6 +28,7 @@ import org.thewhitemage13.interfaces.ValidationServiceInterface;
 @Service
 public class ValidationServiceImpl implements ValidationServiceInterface {
     private final UserClient userClient;
+    private final ExistenceFilters existenceFilters;
 
     /**
      * Constructs a new {@code ValidationServiceImpl} with the specified {@link UserClient}.
@@ -35,10 +38,12 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
      * </p>
      *
      * @param userClient the {@link UserClient} used for verifying user existence
+     * @param existenceFilters the local replica of the user existence filter
      */
     @Autowired
-    public ValidationServiceImpl(UserClient userClient) {
+    public ValidationServiceImpl(UserClient userClient, ExistenceFilters existenceFilters) {
         this.userClient = userClient;
+        this.existenceFilters = existenceFilters;
     }
 
     /**
@@ -53,8 +58,9 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
      */
     @Override
     public void validateUser(Long userId) {
-        ResponseEntity<Boolean> isCreated = userClient.verifyUserExistence(userId);
-        Boolean status = isCreated.getBody();
+        Boolean status = existenceFilters.mightExist(ExistenceFilters.USERS, userId)
+                ? userClient.verifyUserExistence(userId).getBody()
+                : Boolean.FALSE;
 
         if(Boolean.FALSE.equals(status)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(userId));
@@ -5,10 +5,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.*;
 class ValidationServiceImplTest {
     @Mock
     private UserClient userClient;
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
     @InjectMocks
     private ValidationServiceImpl validationServiceImpl;
 
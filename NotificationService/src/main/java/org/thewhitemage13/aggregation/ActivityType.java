@@ -0,0 +1,51 @@
+package org.thewhitemage13.aggregation;
+
+/**
+ * Kinds of activity that are collapsed into one rolling notification.
+ * <p>
+ * Activities of the same type on the same target, addressed to the same recipient, form a
+ * group. While the notification of a group is unread, further activities update it instead of
+ * adding new notifications, and its message names the latest actor and how many others there are.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum ActivityType {
+    POST_LIKE("User with id = %1$s like your post with id = %3$s",
+            "User with id = %1$s and %2$s others like your post with id = %3$s"),
+    COMMENT_LIKE("User with id = %1$s like your comment with id = %3$s",
+            "User with id = %1$s and %2$s others like your comment with id = %3$s"),
+    FOLLOW("New follower = %1$s",
+            "New follower = %1$s and %2$s others");
+
+    private final String singleMessage;
+    private final String collapsedMessage;
+
+    ActivityType(String singleMessage, String collapsedMessage) {
+        this.singleMessage = singleMessage;
+        this.collapsedMessage = collapsedMessage;
+    }
+
+    /**
+     * Builds the key of the group an activity of this type belongs to for one recipient.
+     *
+     * @param targetId the identifier of the post, comment or user the activity is about
+     * @return the group key
+     */
+    public String groupKey(Long targetId) {
+        return name() + ":" + targetId;
+    }
+
+    /**
+     * Builds the message of a notification of this type.
+     *
+     * @param actorId  the identifier of the user behind the latest activity
+     * @param others   the number of other users in the group
+     * @param targetId the identifier of the post, comment or user the activity is about
+     * @return the message of the notification
+     */
+    public String message(Long actorId, int others, Long targetId) {
+        return (others == 0 ? singleMessage : collapsedMessage).formatted(actorId, others, targetId);
+    }
+}
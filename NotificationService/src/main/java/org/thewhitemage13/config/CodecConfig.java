@@ -0,0 +1,61 @@
+package org.thewhitemage13.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.BinaryReader;
+import org.thewhitemage13.codec.BinaryWriter;
+import org.thewhitemage13.codec.EventSchemas;
+import org.thewhitemage13.codec.Schema;
+import org.thewhitemage13.dto.GetNotificationDTO;
+
+/**
+ * Configuration class for the compact binary codec.
+ * <p>
+ * This class provides the {@link BinaryCodec} used by the Kafka serializers and the Redis cache,
+ * with the schemas of the core events and of the cached {@link GetNotificationDTO} registered.
+ * Cached lists of notifications are covered by the same schema.
+ * Field numbers of a registered schema must never be changed or reused.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class CodecConfig {
+    static final int GET_NOTIFICATION_DTO = 100;
+
+    /**
+     * Configures the codec with the core events and the cached DTOs of this service.
+     *
+     * @return a {@code BinaryCodec} instance
+     */
+    @Bean
+    BinaryCodec binaryCodec() {
+        return EventSchemas.register(new BinaryCodec())
+                .register(GET_NOTIFICATION_DTO, GetNotificationDTO.class, Schema.of(CodecConfig::writeNotification, CodecConfig::readNotification));
+    }
+
+    private static void writeNotification(GetNotificationDTO dto, BinaryWriter writer) {
+        writer.writeString(1, dto.getType())
+                .writeString(2, dto.getMessage())
+                .writeBoolean(3, dto.isRead())
+                .writeDateTime(4, dto.getCreatedAt())
+                .writeLong(5, dto.getNotificationId());
+    }
+
+    private static GetNotificationDTO readNotification(BinaryReader reader) {
+        GetNotificationDTO dto = new GetNotificationDTO();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> dto.setType(reader.readString());
+                case 2 -> dto.setMessage(reader.readString());
+                case 3 -> dto.setRead(reader.readBoolean());
+                case 4 -> dto.setCreatedAt(reader.readDateTime());
+                case 5 -> dto.setNotificationId(reader.readLong());
+                default -> reader.skip(tag);
+            }
+        }
+        return dto;
+    }
+}
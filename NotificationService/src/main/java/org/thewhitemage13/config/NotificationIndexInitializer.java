@@ -0,0 +1,98 @@
+package org.thewhitemage13.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates the partial unique index that allows one unread rolling notification per recipient
+ * and activity group.
+ * <p>
+ * JPA cannot declare partial indexes, so it is created here once the schema has been updated
+ * by Hibernate, before the application starts consuming. Before the index existed, concurrent
+ * consumers could create two unread notifications of the same group; all but the newest are
+ * marked read first and taken off the unread counters, otherwise the index could not be built.
+ * Notifications written before the {@code updated_at} column existed get their creation time
+ * as update time in the same step.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code uq_notification_unread_group} on {@code (user_id, group_key) WHERE NOT read}.</li>
+ * </ul>
+ * <p>
+ * It is the conflict target of the rolling notification upsert in
+ * {@link org.thewhitemage13.repository.NotificationBatchRepositoryImpl}. The work runs in one
+ * transaction holding a database advisory lock, so instances starting at the same time wait
+ * for each other.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class NotificationIndexInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationIndexInitializer.class);
+    private static final long INDEX_LOCK_ID = 0x6E6F74696678L;
+    private static final String INDEX_NAME = "uq_notification_unread_group";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new {@code NotificationIndexInitializer}.
+     *
+     * @param jdbcTemplate        the template used to run the DDL
+     * @param transactionTemplate the template running the initialization in one transaction
+     */
+    public NotificationIndexInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Resolves duplicate unread groups and creates the unique index if it does not exist yet.
+     */
+    @PostConstruct
+    void createIndex() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(%d)".formatted(INDEX_LOCK_ID));
+            Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, INDEX_NAME);
+            if (Boolean.TRUE.equals(exists)) {
+                return;
+            }
+            jdbcTemplate.update("UPDATE notification SET updated_at = created_at");
+            Integer resolved = jdbcTemplate.queryForObject("""
+                    WITH duplicates AS (
+                        UPDATE notification duplicate
+                        SET read = true
+                        FROM notification newest
+                        WHERE duplicate.user_id = newest.user_id
+                          AND duplicate.group_key = newest.group_key
+                          AND NOT duplicate.read
+                          AND NOT newest.read
+                          AND duplicate.notification_id < newest.notification_id
+                        RETURNING duplicate.user_id
+                    ), counts AS (
+                        UPDATE notification_counters counter
+                        SET unread_count = counter.unread_count - removed.count,
+                            updated_at = now()
+                        FROM (SELECT user_id, COUNT(*) AS count FROM duplicates GROUP BY user_id) removed
+                        WHERE counter.user_id = removed.user_id
+                    )
+                    SELECT COUNT(*) FROM duplicates
+                    """, Integer.class);
+            if (resolved != null && resolved > 0) {
+                LOGGER.warn("Marked {} duplicate unread rolling notifications as read before creating {}", resolved, INDEX_NAME);
+            }
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS %s ON notification (user_id, group_key) WHERE NOT read"
+                    .formatted(INDEX_NAME));
+            LOGGER.info("Created unique index {}", INDEX_NAME);
+        });
+    }
+}
@@ -9,10 +9,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.thewhitemage13.dto.CreateNotificationDTO;
 import org.thewhitemage13.dto.GetNotificationDTO;
+import org.thewhitemage13.dto.NotificationPageDTO;
 import org.thewhitemage13.exception.NotificationNotFoundException;
 import org.thewhitemage13.service.NotificationService;
 
-import java.util.List;
 
 @Tag(name = "Notification Controller", description = "Operations related to notification management")
 @RestController
@@ -75,20 +75,54 @@ public class NotificationController {
         }
     }
 
-    @Operation(summary = "Get all notifications by user ID", description = "Retrieves all notifications for a specific user.")
+    @Operation(summary = "Get notifications by user ID", description = "Retrieves one page of the notifications of a specific user, newest first, with the user's unread count. Pass the returned cursor to get the next page.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of notifications retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "Notifications not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/user/{userId}/all")
-    public ResponseEntity<List<GetNotificationDTO>> getNotificationsByUserId(@PathVariable("userId") Long userId) {
+    public ResponseEntity<NotificationPageDTO> getNotificationsByUserId(@PathVariable("userId") Long userId,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
         try {
-            return ResponseEntity.ok(notificationService.getNotificationsByUserId(userId));
+            return ResponseEntity.ok(notificationService.getNotificationsByUserId(userId, cursor, size));
         }catch (NotificationNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    @Operation(summary = "Get unread count by user ID", description = "Retrieves the number of unread notifications of a specific user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Unread count retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<Long> getUnreadCount(@PathVariable("userId") Long userId) {
+        try {
+            return ResponseEntity.ok(notificationService.getUnreadCount(userId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Mark all notifications as read", description = "Marks all notifications of a specific user as read.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notifications marked as read"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/user/{userId}/read")
+    public ResponseEntity<String> markAllRead(@PathVariable("userId") Long userId) {
+        try {
+            int updated = notificationService.markAllRead(userId);
+            return ResponseEntity.ok("%s notifications marked as read".formatted(updated));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.thewhitemage13.aggregation.ActivityType;
+
+/**
+ * Data Transfer Object (DTO) for an activity that is notified in a collapsed form.
+ * <p>
+ * Activities such as likes and follows are not stored one notification each; they are
+ * merged into the rolling notification of their {@link ActivityType} group.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+public class ActivityDTO {
+
+    /**
+     * The unique identifier of the user to be notified.
+     */
+    private Long userId;
+
+    /**
+     * The kind of activity.
+     */
+    private ActivityType activityType;
+
+    /**
+     * The unique identifier of the post, comment or user the activity is about.
+     */
+    private Long targetId;
+
+    /**
+     * The unique identifier of the user who performed the activity.
+     */
+    private Long actorId;
+
+    /**
+     * Provides a string representation of the {@code ActivityDTO}.
+     *
+     * @return a string representation of the DTO
+     */
+    @Override
+    public String toString() {
+        return "ActivityDTO{" +
+                "userId=" + userId +
+                ", activityType=" + activityType +
+                ", targetId=" + targetId +
+                ", actorId=" + actorId +
+                '}';
+    }
+}
@@ -10,8 +10,8 @@ import java.time.LocalDateTime;
 /**
  * Data Transfer Object (DTO) for retrieving notification details.
  * <p>
- * This class encapsulates the details of a notification, including its type, message content,
- * read status, and creation timestamp.
+ * This class encapsulates the details of a notification, including its identifier, type,
+ * message content, read status, and creation timestamp.
  * </p>
  *
  * <h2>Key Features:</h2>
@@ -31,6 +31,14 @@ import java.time.LocalDateTime;
 @Setter
 public class GetNotificationDTO {
 
+    /**
+     * The unique identifier of the notification.
+     * <p>
+     * Used by clients to mark a single notification as read.
+     * </p>
+     */
+    private Long notificationId;
+
     /**
      * The type of the notification.
      * <p>
@@ -68,7 +76,7 @@ public class GetNotificationDTO {
     /**
      * Provides a string representation of the {@code GetNotificationDTO}.
      * <p>
-     * This includes the {@code type}, {@code message}, {@code read} status, and {@code createdAt} timestamp.
+     * This includes the {@code notificationId}, {@code type}, {@code message}, {@code read} status, and {@code createdAt} timestamp.
      * </p>
      *
      * @return a string representation of the DTO
@@ -76,7 +84,8 @@ public class GetNotificationDTO {
     @Override
     public String toString() {
         return "GetNotificationDTO{" +
-                "type='" + type + '\'' +
+                "notificationId=" + notificationId +
+                ", type='" + type + '\'' +
                 ", message='" + message + '\'' +
                 ", read=" + read +
                 ", createdAt=" + createdAt +
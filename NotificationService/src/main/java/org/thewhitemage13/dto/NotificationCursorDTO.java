@@ -0,0 +1,35 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decoded form of an inbox cursor.
+ * <p>
+ * A cursor points at the last notification of a page; the next page starts strictly after
+ * the position {@code (updatedAt, notificationId)} in descending order.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCursorDTO {
+
+    /**
+     * The time of the latest activity of the last notification of the previous page.
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * The ID of the last notification of the previous page.
+     */
+    private Long notificationId;
+}
@@ -0,0 +1,40 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a user's inbox.
+ * <p>
+ * Pages are ordered by creation time and notification ID, newest first. The next page is
+ * requested by passing {@link #nextCursor} back unchanged; its content is opaque to clients.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPageDTO {
+
+    /**
+     * The notifications of this page.
+     */
+    private List<GetNotificationDTO> items;
+
+    /**
+     * The cursor of the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * The number of unread notifications of the user.
+     */
+    private Long unreadCount;
+}
@@ -21,7 +21,9 @@ import java.time.LocalDateTime;
  *     <li>Unique identifier for each notification.</li>
  *     <li>Association with a specific user through the user ID.</li>
  *     <li>Tracks the type, content, and read status of the notification.</li>
- *     <li>Records the timestamp when the notification was created.</li>
+ *     <li>Records the timestamp when the notification was created and when it last changed.</li>
+ *     <li>Indexed for keyset-paginated inbox reads per user and for retention by latest activity.</li>
+ *     <li>Optional activity group, for notifications that collapse many likes or follows into one.</li>
  *     <li>Optimized for persistence using JPA annotations.</li>
  * </ul>
  *
@@ -32,7 +34,14 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "notification")
+@Table(
+        name = "notification",
+        indexes = {
+                @Index(name = "idx_notification_user_id_updated_at_id", columnList = "user_id, updated_at, notification_id"),
+                @Index(name = "idx_notification_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_notification_user_id_group_key", columnList = "user_id, group_key")
+        }
+)
 @Entity
 public class Notification {
 
@@ -87,11 +96,36 @@ public class Notification {
      */
     private LocalDateTime createdAt;
 
+    /**
+     * The timestamp of the latest activity collapsed into the notification.
+     * <p>
+     * Equal to {@link #createdAt} for a regular notification. The inbox is ordered by this
+     * time, so a rolling notification moves to the top while its creation time stays fixed.
+     * </p>
+     */
+    @Column(columnDefinition = "timestamp(6) default now()")
+    private LocalDateTime updatedAt;
+
+    /**
+     * The activity group of a rolling notification, e.g. {@code POST_LIKE:42}.
+     * <p>
+     * {@code null} for notifications that are never collapsed.
+     * </p>
+     */
+    private String groupKey;
+
+    /**
+     * The number of activities collapsed into this notification; 1 for a regular notification.
+     */
+    @Column(nullable = false, columnDefinition = "integer default 1")
+    private int actorCount = 1;
+
     /**
      * Provides a string representation of the {@code Notification} entity.
      * <p>
      * This includes the {@code notificationId}, {@code userId}, {@code type}, {@code message},
-     * {@code read} status, and {@code createdAt} timestamp for debugging and logging purposes.
+     * {@code read} status, {@code createdAt} and {@code updatedAt} timestamps, {@code groupKey} and {@code actorCount}
+     * for debugging and logging purposes.
      * </p>
      *
      * @return a string representation of the notification entity
@@ -105,6 +139,9 @@ public class Notification {
                 ", message='" + message + '\'' +
                 ", read=" + read +
                 ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                ", groupKey='" + groupKey + '\'' +
+                ", actorCount=" + actorCount +
                 '}';
     }
 }
@@ -0,0 +1,42 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Unread notification counter of a single user.
+ * <p>
+ * The counter is adjusted whenever a notification is created, marked as read or unread, or
+ * removed, so the unread count of a user is read with one primary key lookup instead of
+ * counting the user's notifications.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_counters")
+@Entity
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
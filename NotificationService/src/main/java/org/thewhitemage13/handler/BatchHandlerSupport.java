@@ -0,0 +1,75 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared logic of the batch event handlers.
+ * <p>
+ * Each event of a batch is converted on its own and the results are written with one bulk
+ * operation. When a record cannot be processed, everything before it is still written and a
+ * {@link BatchListenerFailedException} carrying its index is thrown, so the container commits
+ * the successful prefix and retries, and eventually dead-letters, only the failed record.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+final class BatchHandlerSupport {
+
+    private BatchHandlerSupport() {
+    }
+
+    /**
+     * Converts the events of a batch and writes the results in bulk.
+     * <p>
+     * A {@code null} event is a record that could not be deserialized and is reported as failed.
+     * If the bulk write itself fails, the converted records are written one by one to find the
+     * record responsible.
+     * </p>
+     *
+     * @param events    the events of one poll
+     * @param converter converts one event; may call remote services
+     * @param writer    writes a list of converted events
+     * @param <E>       the event type
+     * @param <T>       the converted type
+     * @throws BatchListenerFailedException if a record cannot be converted or written
+     */
+    static <E, T> void process(List<E> events, Function<E, T> converter, Consumer<List<T>> writer) {
+        List<T> converted = new ArrayList<>(events.size());
+        for (int index = 0; index < events.size(); index++) {
+            E event = events.get(index);
+            try {
+                if (event == null) {
+                    throw new IllegalArgumentException("Record could not be deserialized");
+                }
+                converted.add(converter.apply(event));
+            } catch (RuntimeException e) {
+                write(converted, writer);
+                throw new BatchListenerFailedException("Failed to process record at index " + index, e, index);
+            }
+        }
+        write(converted, writer);
+    }
+
+    private static <T> void write(List<T> converted, Consumer<List<T>> writer) {
+        if (converted.isEmpty()) {
+            return;
+        }
+        try {
+            writer.accept(converted);
+        } catch (RuntimeException bulkFailure) {
+            for (int index = 0; index < converted.size(); index++) {
+                try {
+                    writer.accept(List.of(converted.get(index)));
+                } catch (RuntimeException e) {
+                    throw new BatchListenerFailedException("Failed to write record at index " + index, e, index);
+                }
+            }
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.CommentEvent;
-import org.thewhitemage13.clients.PostClient;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.CommentCreateEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
+import org.thewhitemage13.service.PostOwnerService;
+
+import java.util.List;
 
 
 /**
@@ -16,14 +18,15 @@ import org.thewhitemage13.service.NotificationService;
  * <p>
  * This class listens to the {@code comment.created} Kafka topic and processes
  * incoming comment creation events. Upon receiving a new comment event, it
- * retrieves the associated user from the post and creates a notification for
+ * takes the owner of the post from the event and creates a notification for
  * the user, informing them about the comment.
  * </p>
  *
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listens for {@code comment.created} events from the Kafka topic.</li>
- *     <li>Fetches the user associated with the post via the {@link PostClient}.</li>
+ *     <li>Takes the owner of the post from the event; events without one fall back to the
+ *     {@link PostOwnerService}.</li>
  *     <li>Creates a notification for the user via the {@link NotificationService}.</li>
  * </ul>
  *
@@ -31,41 +34,54 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "comment.created")
-public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerInterface {
+public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerInterface, BatchEventHandlerInterface<CommentEvent> {
     private final NotificationService notificationService;
-    private final PostClient postClient;
+    private final PostOwnerService postOwnerService;
 
     /**
      * Constructs a new {@code CommentCreateEventHandlerImpl} with the specified services.
      *
      * @param notificationService the service used to create notifications
-     * @param postClient          the client used to retrieve post-related data
+     * @param postOwnerService    the service used to resolve the owners of posts
      */
     @Autowired
-    public CommentCreateEventHandlerImpl(NotificationService notificationService, PostClient postClient) {
+    public CommentCreateEventHandlerImpl(NotificationService notificationService, PostOwnerService postOwnerService) {
         this.notificationService = notificationService;
-        this.postClient = postClient;
+        this.postOwnerService = postOwnerService;
     }
 
     /**
      * Handles the {@link CommentEvent} when a new comment is created.
      * <p>
-     * This method fetches the user ID associated with the post from the {@link PostClient}
-     * and creates a notification for that user, informing them about the new comment.
+     * This method creates a notification for the owner of the post, informing them about
+     * the new comment.
      * </p>
      *
      * @param commentEvent the event representing the newly created comment
      */
     @Override
-    @KafkaHandler
     public void commentCreated(CommentEvent commentEvent) {
-        Long user = postClient.getUserIdByPostId(commentEvent.getPostId()).getBody();
+        notificationService.createNotification(toNotification(commentEvent));
+    }
+
+    /**
+     * Handles a batch of {@code comment.created} events with one bulk insert.
+     *
+     * @param commentEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "comment.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<CommentEvent> commentEvents) {
+        BatchHandlerSupport.process(commentEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(CommentEvent commentEvent) {
+        Long user = commentEvent.getPostOwnerId() != null
+                ? commentEvent.getPostOwnerId()
+                : postOwnerService.getOwnerId(commentEvent.getPostId());
 
-        notificationService
-                .createNotification
-                        (new CreateNotificationDTO
-                                (user, "SMS", "User with id = %s left a comment under your post with id = %s"
-                                        .formatted(commentEvent.getUserId(), commentEvent.getPostId())));
+        return new CreateNotificationDTO
+                (user, "SMS", "User with id = %s left a comment under your post with id = %s"
+                        .formatted(commentEvent.getUserId(), commentEvent.getPostId()));
     }
 }
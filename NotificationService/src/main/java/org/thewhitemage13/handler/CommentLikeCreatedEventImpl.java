@@ -1,37 +1,40 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.aggregation.ActivityType;
 import org.thewhitemage13.clients.CommentClient;
-import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.dto.ActivityDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.LikeCommentCreateHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to the creation of likes on comments.
  * <p>
  * This class listens to the {@code comment.like.created} Kafka topic and processes
  * incoming like events on comments. Upon receiving a like event, it retrieves the
- * associated user for the comment and creates a notification to inform the user about
- * the like on their comment.
+ * associated user for the comment and adds the like to the rolling notification that
+ * informs the user about the likes on their comment.
  * </p>
  *
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listens for {@code comment.like.created} events from the Kafka topic.</li>
- *     <li>Fetches the user associated with the comment via the {@link CommentClient}.</li>
- *     <li>Creates a notification for the user via the {@link NotificationService}.</li>
+ *     <li>Takes the author of the comment from the event; events without one fall back to the
+ *     {@link CommentClient}.</li>
+ *     <li>Collapses the likes of a comment into one notification via the {@link NotificationService}.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "comment.like.created")
-public class CommentLikeCreatedEventImpl implements LikeCommentCreateHandlerInterface {
+public class CommentLikeCreatedEventImpl implements LikeCommentCreateHandlerInterface, BatchEventHandlerInterface<LikeEvent> {
     private final NotificationService notificationService;
     private final CommentClient commentClient;
 
@@ -50,19 +53,35 @@ public class CommentLikeCreatedEventImpl implements LikeCommentCreateHandlerInte
     /**
      * Handles the {@link LikeEvent} when a like is created on a comment.
      * <p>
-     * This method fetches the user ID associated with the comment from the {@link CommentClient}
-     * and creates a notification for that user, informing them about the like on their comment.
+     * This method takes the author of the comment from the event, or fetches it from the
+     * {@link CommentClient} for events that do not carry it, and adds the like to the rolling
+     * notification informing that user about the likes on their comment.
      * </p>
      *
      * @param likeEvent the event representing the newly created like on a comment
      */
     @Override
-    @KafkaHandler
     public void likeCommentCreated(LikeEvent likeEvent) {
-        Long user = commentClient.getCommentUserIdByCommentId(likeEvent.getCommentId()).getBody();
+        notificationService.collapseNotifications(List.of(toActivity(likeEvent)));
+    }
+
+    /**
+     * Handles a batch of {@code comment.like.created} events, collapsing the likes of each comment
+     * into one notification update.
+     *
+     * @param likeEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "comment.like.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<LikeEvent> likeEvents) {
+        BatchHandlerSupport.process(likeEvents, this::toActivity, notificationService::collapseNotifications);
+    }
+
+    private ActivityDTO toActivity(LikeEvent likeEvent) {
+        Long user = likeEvent.getOwnerId() != null
+                ? likeEvent.getOwnerId()
+                : commentClient.getCommentUserIdByCommentId(likeEvent.getCommentId()).getBody();
 
-        notificationService.createNotification
-                (new CreateNotificationDTO(user ,"SMS", "User with id = %s like your comment with id = %s"
-                        .formatted(likeEvent.getUserId(), likeEvent.getCommentId())));
+        return new ActivityDTO(user, ActivityType.COMMENT_LIKE, likeEvent.getCommentId(), likeEvent.getUserId());
     }
 }
@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.MediaEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.MediaDeleteEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to the deletion of media files.
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "media.deleted")
-public class MediaDeletedEventHandlerImpl implements MediaDeleteEventHandlerInterface {
+public class MediaDeletedEventHandlerImpl implements MediaDeleteEventHandlerInterface, BatchEventHandlerInterface<MediaEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -51,8 +52,22 @@ public class MediaDeletedEventHandlerImpl implements MediaDeleteEventHandlerInte
      * @param mediaEvent the event representing the deleted media file
      */
     @Override
-    @KafkaHandler
     public void mediaDelete(MediaEvent mediaEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(mediaEvent.getUserId(), "SMS", "Your file = %s deleted".formatted(mediaEvent.getUrl())));
+        notificationService.createNotification(toNotification(mediaEvent));
+    }
+
+    /**
+     * Handles a batch of {@code media.deleted} events with one bulk insert.
+     *
+     * @param mediaEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "media.deleted", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<MediaEvent> mediaEvents) {
+        BatchHandlerSupport.process(mediaEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(MediaEvent mediaEvent) {
+        return new CreateNotificationDTO(mediaEvent.getUserId(), "SMS", "Your file = %s deleted".formatted(mediaEvent.getUrl()));
     }
 }
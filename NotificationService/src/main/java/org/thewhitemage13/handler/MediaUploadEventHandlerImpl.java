@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.MediaEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.MediaUploadEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 
 /**
  * Handles events related to the upload of media files.
@@ -28,8 +30,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "media.upload")
-public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInterface {
+public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInterface, BatchEventHandlerInterface<MediaEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -52,9 +53,22 @@ public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInter
      * @param mediaEvent the event representing the uploaded media file
      */
     @Override
-    @KafkaHandler
     public void mediaUpload(MediaEvent mediaEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(mediaEvent.getUserId(), "SMS", "Your file = %s  is uploaded successfully".formatted(mediaEvent.getUrl())));
+        notificationService.createNotification(toNotification(mediaEvent));
+    }
+
+    /**
+     * Handles a batch of {@code media.upload} events with one bulk insert.
+     *
+     * @param mediaEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "media.upload", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<MediaEvent> mediaEvents) {
+        BatchHandlerSupport.process(mediaEvents, this::toNotification, notificationService::createNotifications);
+    }
 
+    private CreateNotificationDTO toNotification(MediaEvent mediaEvent) {
+        return new CreateNotificationDTO(mediaEvent.getUserId(), "SMS", "Your file = %s  is uploaded successfully".formatted(mediaEvent.getUrl()));
     }
 }
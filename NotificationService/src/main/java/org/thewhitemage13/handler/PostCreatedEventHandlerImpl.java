@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.PostCreateEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to the creation of posts.
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.created")
-public class PostCreatedEventHandlerImpl implements PostCreateEventHandlerInterface {
+public class PostCreatedEventHandlerImpl implements PostCreateEventHandlerInterface, BatchEventHandlerInterface<PostEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -51,8 +52,22 @@ public class PostCreatedEventHandlerImpl implements PostCreateEventHandlerInterf
      * @param postEvent the event representing the created post
      */
     @Override
-    @KafkaHandler
     public void postCreate(PostEvent postEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(postEvent.getUserId(), "SMS", "Your post with id = %s is up".formatted(postEvent.getPostId())));
+        notificationService.createNotification(toNotification(postEvent));
+    }
+
+    /**
+     * Handles a batch of {@code post.created} events with one bulk insert.
+     *
+     * @param postEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<PostEvent> postEvents) {
+        BatchHandlerSupport.process(postEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(PostEvent postEvent) {
+        return new CreateNotificationDTO(postEvent.getUserId(), "SMS", "Your post with id = %s is up".formatted(postEvent.getPostId()));
     }
 }
@@ -1,66 +1,85 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.LikeEvent;
-import org.thewhitemage13.clients.PostClient;
-import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.aggregation.ActivityType;
+import org.thewhitemage13.dto.ActivityDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.LikePostCreateEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
+import org.thewhitemage13.service.PostOwnerService;
+
+import java.util.List;
 
 /**
  * Handles events related to likes on posts.
  * <p>
  * This class listens to the {@code post.like.created} Kafka topic and processes
- * incoming like events. Upon receiving a like event on a post, it creates
- * a notification for the user whose post was liked.
+ * incoming like events. Upon receiving a like event on a post, it adds the like
+ * to the rolling notification of the user whose post was liked.
  * </p>
  *
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listens for {@code post.like.created} events from the Kafka topic.</li>
- *     <li>Creates a notification informing the post owner about the like.</li>
+ *     <li>Takes the post owner from the event; events without one fall back to the
+ *     {@link PostOwnerService} cache.</li>
+ *     <li>Collapses the likes of a post into one notification informing the post owner.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.like.created")
-public class PostLikeCreateEventHandlerImpl implements LikePostCreateEventHandlerInterface {
+public class PostLikeCreateEventHandlerImpl implements LikePostCreateEventHandlerInterface, BatchEventHandlerInterface<LikeEvent> {
     private final NotificationService notificationService;
-    private final PostClient postClient;
+    private final PostOwnerService postOwnerService;
 
     /**
      * Constructs a new {@code PostLikeCreateEventHandlerImpl} with the specified services.
      *
      * @param notificationService the service used to create notifications
-     * @param postClient the client used to fetch post data
+     * @param postOwnerService the service used to resolve the owners of posts
      */
     @Autowired
-    public PostLikeCreateEventHandlerImpl(NotificationService notificationService, PostClient postClient) {
+    public PostLikeCreateEventHandlerImpl(NotificationService notificationService, PostOwnerService postOwnerService) {
         this.notificationService = notificationService;
-        this.postClient = postClient;
+        this.postOwnerService = postOwnerService;
     }
 
     /**
      * Handles the {@link LikeEvent} when a like is created for a post.
      * <p>
-     * This method creates a notification for the post owner informing them that their
-     * post was liked, using the provided post ID and user ID from the event.
+     * This method adds the like to the rolling notification informing the post owner that
+     * their post was liked, using the provided post ID and user ID from the event.
      * </p>
      *
      * @param likeEvent the event representing the like on the post
      */
     @Override
-    @KafkaHandler
     public void likePostCreate(LikeEvent likeEvent) {
-        Long user = postClient.getUserIdByPostId(likeEvent.getPostId()).getBody();
+        notificationService.collapseNotifications(List.of(toActivity(likeEvent)));
+    }
+
+    /**
+     * Handles a batch of {@code post.like.created} events, collapsing the likes of each post into
+     * one notification update.
+     *
+     * @param likeEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.like.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<LikeEvent> likeEvents) {
+        BatchHandlerSupport.process(likeEvents, this::toActivity, notificationService::collapseNotifications);
+    }
+
+    private ActivityDTO toActivity(LikeEvent likeEvent) {
+        Long user = likeEvent.getOwnerId() != null
+                ? likeEvent.getOwnerId()
+                : postOwnerService.getOwnerId(likeEvent.getPostId());
 
-        notificationService.createNotification
-                (new CreateNotificationDTO(user ,"SMS", "User with id = %s like your post with id = %s"
-                        .formatted(likeEvent.getUserId(), likeEvent.getPostId())));
+        return new ActivityDTO(user, ActivityType.POST_LIKE, likeEvent.getPostId(), likeEvent.getUserId());
     }
 }
@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.PostUpdatedEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to updates on posts.
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.updated")
-public class PostUpdatedEventHandlerImpl implements PostUpdatedEventHandlerInterface {
+public class PostUpdatedEventHandlerImpl implements PostUpdatedEventHandlerInterface, BatchEventHandlerInterface<PostEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -51,9 +52,23 @@ public class PostUpdatedEventHandlerImpl implements PostUpdatedEventHandlerInter
      * @param postEvent the event representing the post update
      */
     @Override
-    @KafkaHandler
     public void updatedPost(PostEvent postEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(postEvent.getUserId(), "SMS", "Your post with id = %s is updated".formatted(postEvent.getPostId())));
+        notificationService.createNotification(toNotification(postEvent));
+    }
+
+    /**
+     * Handles a batch of {@code post.updated} events with one bulk insert.
+     *
+     * @param postEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.updated", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<PostEvent> postEvents) {
+        BatchHandlerSupport.process(postEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(PostEvent postEvent) {
+        return new CreateNotificationDTO(postEvent.getUserId(), "SMS", "Your post with id = %s is updated".formatted(postEvent.getPostId()));
     }
 
 }
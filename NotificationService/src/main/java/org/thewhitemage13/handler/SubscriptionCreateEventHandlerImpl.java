@@ -1,34 +1,36 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
-import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.aggregation.ActivityType;
+import org.thewhitemage13.dto.ActivityDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.SubscriptionEvent;
 import org.thewhitemage13.interfaces.SubscriptionCreateEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to the creation of new subscriptions (followers).
  * <p>
  * This class listens to the {@code subscription.created} Kafka topic and processes
  * incoming subscription creation events. Upon receiving a new subscription event,
- * it creates a notification for the user who gained a new follower.
+ * it adds the follower to the rolling notification of the user who gained a new follower.
  * </p>
  *
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listens for {@code subscription.created} events from the Kafka topic.</li>
- *     <li>Creates a notification informing the user about their new follower.</li>
+ *     <li>Collapses new followers into one notification informing the user about them.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "subscription.created")
-public class SubscriptionCreateEventHandlerImpl implements SubscriptionCreateEventHandlerInterface {
+public class SubscriptionCreateEventHandlerImpl implements SubscriptionCreateEventHandlerInterface, BatchEventHandlerInterface<SubscriptionEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -44,15 +46,31 @@ public class SubscriptionCreateEventHandlerImpl implements SubscriptionCreateEve
     /**
      * Handles the {@link SubscriptionEvent} when a new subscription (follower) is created.
      * <p>
-     * This method creates a notification for the user informing them that they have gained a new follower,
-     * using the follower's ID and the following user's ID from the event.
+     * This method adds the follower to the rolling notification informing the user about their new
+     * followers, using the follower's ID and the following user's ID from the event.
      * </p>
      *
      * @param subscriptionEvent the event representing the subscription creation
      */
     @Override
-    @KafkaHandler
     public void subscriptionCreated(SubscriptionEvent subscriptionEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(subscriptionEvent.getFollowingId(), "SMS", "New follower = %s".formatted(subscriptionEvent.getFollowerId())));
+        notificationService.collapseNotifications(List.of(toActivity(subscriptionEvent)));
+    }
+
+    /**
+     * Handles a batch of {@code subscription.created} events, collapsing the followers of each user
+     * into one notification update.
+     *
+     * @param subscriptionEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "subscription.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<SubscriptionEvent> subscriptionEvents) {
+        BatchHandlerSupport.process(subscriptionEvents, this::toActivity, notificationService::collapseNotifications);
+    }
+
+    private ActivityDTO toActivity(SubscriptionEvent subscriptionEvent) {
+        return new ActivityDTO(subscriptionEvent.getFollowingId(), ActivityType.FOLLOW,
+                subscriptionEvent.getFollowingId(), subscriptionEvent.getFollowerId());
     }
 }
@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.SubscriptionEvent;
 import org.thewhitemage13.interfaces.SubscriptionDeletedEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to the deletion of subscriptions (unsubscriptions).
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "subscription.deleted")
-public class SubscriptionDeletedEventHandlerImpl implements SubscriptionDeletedEventHandlerInterface {
+public class SubscriptionDeletedEventHandlerImpl implements SubscriptionDeletedEventHandlerInterface, BatchEventHandlerInterface<SubscriptionEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -51,8 +52,22 @@ public class SubscriptionDeletedEventHandlerImpl implements SubscriptionDeletedE
      * @param subscriptionEvent the event representing the subscription deletion
      */
     @Override
-    @KafkaHandler
     public void subscriptionCreated(SubscriptionEvent subscriptionEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(subscriptionEvent.getFollowingId(), "SMS", "user = %s has unsubscribed ".formatted(subscriptionEvent.getFollowerId())));
+        notificationService.createNotification(toNotification(subscriptionEvent));
+    }
+
+    /**
+     * Handles a batch of {@code subscription.deleted} events with one bulk insert.
+     *
+     * @param subscriptionEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "subscription.deleted", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<SubscriptionEvent> subscriptionEvents) {
+        BatchHandlerSupport.process(subscriptionEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(SubscriptionEvent subscriptionEvent) {
+        return new CreateNotificationDTO(subscriptionEvent.getFollowingId(), "SMS", "user = %s has unsubscribed ".formatted(subscriptionEvent.getFollowerId()));
     }
 }
@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.UserEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.UserCreatedEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to user creation.
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "user.created")
-public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterface {
+public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterface, BatchEventHandlerInterface<UserEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -51,8 +52,22 @@ public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterf
      * @param userEvent the event representing the user creation
      */
     @Override
-    @KafkaHandler
     public void userCreated(UserEvent userEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(userEvent.getUserId(), "SMS", "User created"));
+        notificationService.createNotification(toNotification(userEvent));
+    }
+
+    /**
+     * Handles a batch of {@code user.created} events with one bulk insert.
+     *
+     * @param userEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "user.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<UserEvent> userEvents) {
+        BatchHandlerSupport.process(userEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(UserEvent userEvent) {
+        return new CreateNotificationDTO(userEvent.getUserId(), "SMS", "User created");
     }
 }
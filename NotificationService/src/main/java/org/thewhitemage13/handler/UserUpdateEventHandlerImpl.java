@@ -1,14 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.UserEvent;
 import org.thewhitemage13.dto.CreateNotificationDTO;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.UserUpdatedEventHandlerInterface;
 import org.thewhitemage13.service.NotificationService;
 
+import java.util.List;
+
 /**
  * Handles events related to user updates.
  * <p>
@@ -27,8 +29,7 @@ import org.thewhitemage13.service.NotificationService;
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "user.updated")
-public class UserUpdateEventHandlerImpl implements UserUpdatedEventHandlerInterface {
+public class UserUpdateEventHandlerImpl implements UserUpdatedEventHandlerInterface, BatchEventHandlerInterface<UserEvent> {
     private final NotificationService notificationService;
 
     /**
@@ -50,8 +51,22 @@ public class UserUpdateEventHandlerImpl implements UserUpdatedEventHandlerInterf
      * @param userEvent the event representing the user update
      */
     @Override
-    @KafkaHandler
     public void userUpdated(UserEvent userEvent) {
-        notificationService.createNotification(new CreateNotificationDTO(userEvent.getUserId(), "SMS", "User updated"));
+        notificationService.createNotification(toNotification(userEvent));
+    }
+
+    /**
+     * Handles a batch of {@code user.updated} events with one bulk insert.
+     *
+     * @param userEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "user.updated", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<UserEvent> userEvents) {
+        BatchHandlerSupport.process(userEvents, this::toNotification, notificationService::createNotifications);
+    }
+
+    private CreateNotificationDTO toNotification(UserEvent userEvent) {
+        return new CreateNotificationDTO(userEvent.getUserId(), "SMS", "User updated");
     }
 }
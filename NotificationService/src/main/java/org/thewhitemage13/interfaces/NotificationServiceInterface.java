@@ -1,9 +1,12 @@
 package org.thewhitemage13.interfaces;
 
+import org.thewhitemage13.dto.ActivityDTO;
 import org.thewhitemage13.dto.CreateNotificationDTO;
 import org.thewhitemage13.dto.GetNotificationDTO;
+import org.thewhitemage13.dto.NotificationPageDTO;
 import org.thewhitemage13.exception.NotificationNotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,10 +21,12 @@ import java.util.List;
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Support for creating new notifications.</li>
- *     <li>Ability to update the status of specific notifications.</li>
- *     <li>Retrieve notifications for a specific user.</li>
+ *     <li>Collapse likes and follows into one rolling notification per group.</li>
+ *     <li>Ability to update the status of specific notifications or of all notifications of a user.</li>
+ *     <li>Retrieve the notifications of a specific user page by page, with their unread count.</li>
  *     <li>Delete all notifications for a user.</li>
  *     <li>Retrieve a specific notification by its unique identifier.</li>
+ *     <li>Delete notifications older than the retention period.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -37,6 +42,20 @@ public interface NotificationServiceInterface {
      */
     void createNotification(CreateNotificationDTO createNotificationDTO);
 
+    /**
+     * Creates several notifications at once.
+     *
+     * @param createNotificationDTOs the notifications to create
+     */
+    void createNotifications(List<CreateNotificationDTO> createNotificationDTOs);
+
+    /**
+     * Adds activities to the rolling notifications of their groups.
+     *
+     * @param activities the activities to notify about, oldest first
+     */
+    void collapseNotifications(List<ActivityDTO> activities);
+
     /**
      * Updates the status of a specific notification.
      *
@@ -47,13 +66,31 @@ public interface NotificationServiceInterface {
     void updateStatus(Long notificationId, boolean status) throws NotificationNotFoundException;
 
     /**
-     * Retrieves all notifications associated with a specific user.
+     * Marks all notifications of a user as read.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of notifications that were marked as read
+     */
+    int markAllRead(Long userId);
+
+    /**
+     * Retrieves the number of unread notifications of a user.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of unread notifications
+     */
+    long getUnreadCount(Long userId);
+
+    /**
+     * Retrieves one page of the notifications associated with a specific user, newest first.
      *
      * @param userId the unique identifier of the user whose notifications are to be retrieved.
-     * @return a list of {@link GetNotificationDTO} objects representing the user's notifications.
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the requested page size
+     * @return a {@link NotificationPageDTO} with the notifications of the page and the user's unread count.
      * @throws NotificationNotFoundException if no notifications are found for the specified user.
      */
-    List<GetNotificationDTO> getNotificationsByUserId(Long userId) throws NotificationNotFoundException;
+    NotificationPageDTO getNotificationsByUserId(Long userId, String cursor, int size) throws NotificationNotFoundException;
 
     /**
      * Deletes all notifications associated with a specific user.
@@ -70,4 +107,12 @@ public interface NotificationServiceInterface {
      * @throws NotificationNotFoundException if no notification with the specified ID is found.
      */
     GetNotificationDTO getNotificationById(Long notificationId) throws NotificationNotFoundException;
+
+    /**
+     * Deletes all notifications without activity since the given time.
+     *
+     * @param before the latest activity time before which notifications are deleted
+     * @return the number of deleted notifications
+     */
+    long deleteExpired(LocalDateTime before);
 }
@@ -0,0 +1,95 @@
+package org.thewhitemage13.repository;
+
+import org.thewhitemage13.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository fragment for writing notifications in bulk.
+ * <p>
+ * Notification identifiers are generated by the database, which prevents Hibernate from
+ * batching inserts. This fragment writes the rows with a single JDBC batch instead of one
+ * statement per notification, and adjusts the unread counters of their recipients the same way.
+ * </p>
+ * <p>
+ * Rolling notifications are upserted against the partial unique index on
+ * {@code (user_id, group_key) WHERE NOT read}, so concurrent consumers adding to the same
+ * activity group always end up with one unread notification.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * Inserts all given notifications with one JDBC batch.
+     *
+     * @param notifications the notifications to insert; their identifiers are ignored
+     */
+    void insertAll(List<Notification> notifications);
+
+    /**
+     * Adds each rolling notification to the unread notification of its recipient and activity
+     * group, or inserts it if there is none.
+     * <p>
+     * An existing notification gets the actor count of the given one added and its update time
+     * set; its creation time and message are kept. Callers pass the notifications sorted by
+     * recipient and group, so concurrent upserts lock rows in the same order.
+     * </p>
+     *
+     * @param notifications the notifications to add, at most one per recipient and group
+     * @return the outcome of every upsert, in the order of the notifications
+     */
+    List<GroupUpsert> upsertGroups(List<Notification> notifications);
+
+    /**
+     * Replaces the messages of several notifications with one JDBC batch.
+     *
+     * @param messages the new message, by notification ID
+     */
+    void updateMessages(Map<Long, String> messages);
+
+    /**
+     * Adds deltas to the unread counters of several users with one JDBC batch, creating
+     * counters on first use.
+     *
+     * @param deltas the value added to the unread counter, by user ID
+     */
+    void addUnreadCounts(Map<Long, Long> deltas);
+
+    /**
+     * Deletes the next chunk of notifications without activity since the given time, oldest first.
+     * <p>
+     * Rows locked by a concurrent transaction, such as one marking them read, are skipped and
+     * left for a later chunk. The read status is returned as it was deleted, so it cannot be
+     * changed between reading it and adjusting the unread counter.
+     * </p>
+     *
+     * @param before the latest activity time before which notifications are expired
+     * @param limit  the maximum number of notifications to delete
+     * @return the recipient and read status of every deleted notification
+     */
+    List<DeletedNotification> deleteExpiredChunk(LocalDateTime before, int limit);
+
+    /**
+     * The outcome of upserting one rolling notification.
+     *
+     * @param notificationId the ID of the inserted or updated notification
+     * @param actorCount     the actor count of the notification after the upsert
+     * @param inserted       {@code true} if a new notification was inserted
+     */
+    record GroupUpsert(Long notificationId, int actorCount, boolean inserted) {
+    }
+
+    /**
+     * A deleted notification.
+     *
+     * @param userId the ID of the recipient
+     * @param read   whether the notification was read when it was deleted
+     */
+    record DeletedNotification(Long userId, boolean read) {
+    }
+}
@@ -0,0 +1,152 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.thewhitemage13.entity.Notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC implementation of {@link NotificationBatchRepository}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notification (user_id, type, message, read, created_at, updated_at, group_key, actor_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_GROUP = """
+            INSERT INTO notification (user_id, type, message, read, created_at, updated_at, group_key, actor_count)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?)
+            ON CONFLICT (user_id, group_key) WHERE NOT read DO UPDATE
+            SET actor_count = notification.actor_count + EXCLUDED.actor_count,
+                updated_at = EXCLUDED.updated_at
+            RETURNING notification_id, actor_count, (xmax = 0) AS inserted
+            """;
+    private static final String UPDATE_MESSAGE = "UPDATE notification SET message = ? WHERE notification_id = ?";
+    private static final String ADD_UNREAD = """
+            INSERT INTO notification_counters (user_id, unread_count, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET unread_count = notification_counters.unread_count + EXCLUDED.unread_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM notification
+            WHERE notification_id IN (
+                SELECT notification_id FROM notification
+                WHERE updated_at < ?
+                ORDER BY updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING user_id, read
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code NotificationBatchRepositoryImpl}.
+     *
+     * @param jdbcTemplate the template used to run the batch
+     */
+    public NotificationBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts all given notifications with one JDBC batch.
+     *
+     * @param notifications the notifications to insert; their identifiers are ignored
+     */
+    @Override
+    public void insertAll(List<Notification> notifications) {
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, notifications, notifications.size(), (statement, notification) -> {
+            statement.setLong(1, notification.getUserId());
+            statement.setString(2, notification.getType());
+            statement.setString(3, notification.getMessage());
+            statement.setBoolean(4, notification.isRead());
+            statement.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+            statement.setTimestamp(6, Timestamp.valueOf(notification.getUpdatedAt()));
+            statement.setString(7, notification.getGroupKey());
+            statement.setInt(8, notification.getActorCount());
+        });
+    }
+
+    /**
+     * Upserts the rolling notifications one statement at a time, in the given order.
+     *
+     * @param notifications the notifications to add, at most one per recipient and group
+     * @return the outcome of every upsert, in the order of the notifications
+     */
+    @Override
+    public List<GroupUpsert> upsertGroups(List<Notification> notifications) {
+        List<GroupUpsert> results = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            results.add(jdbcTemplate.queryForObject(UPSERT_GROUP, (resultSet, rowNum) -> new GroupUpsert
+                    (
+                            resultSet.getLong("notification_id"),
+                            resultSet.getInt("actor_count"),
+                            resultSet.getBoolean("inserted")
+                    ),
+                    notification.getUserId(),
+                    notification.getType(),
+                    notification.getMessage(),
+                    Timestamp.valueOf(notification.getCreatedAt()),
+                    Timestamp.valueOf(notification.getUpdatedAt()),
+                    notification.getGroupKey(),
+                    notification.getActorCount()));
+        }
+        return results;
+    }
+
+    /**
+     * Replaces the messages of several notifications with one JDBC batch.
+     *
+     * @param messages the new message, by notification ID
+     */
+    @Override
+    public void updateMessages(Map<Long, String> messages) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(new TreeMap<>(messages).entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_MESSAGE, entries, entries.size(), (statement, entry) -> {
+            statement.setString(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    /**
+     * Adds deltas to the unread counters of several users with one JDBC batch.
+     * <p>
+     * Counters are updated in ascending user ID order, so concurrent batches lock their rows
+     * in the same order and cannot deadlock.
+     * </p>
+     *
+     * @param deltas the value added to the unread counter, by user ID
+     */
+    @Override
+    public void addUnreadCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        jdbcTemplate.batchUpdate(ADD_UNREAD, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getKey());
+            statement.setLong(2, entry.getValue());
+        });
+    }
+
+    /**
+     * Deletes the next chunk of expired notifications with one statement.
+     *
+     * @param before the latest activity time before which notifications are expired
+     * @param limit  the maximum number of notifications to delete
+     * @return the recipient and read status of every deleted notification
+     */
+    @Override
+    public List<DeletedNotification> deleteExpiredChunk(LocalDateTime before, int limit) {
+        return jdbcTemplate.query(DELETE_EXPIRED,
+                (resultSet, rowNum) -> new DeletedNotification(resultSet.getLong("user_id"), resultSet.getBoolean("read")),
+                Timestamp.valueOf(before), limit);
+    }
+}
@@ -0,0 +1,37 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.thewhitemage13.entity.NotificationCounter;
+
+/**
+ * Repository interface for managing {@link NotificationCounter} entities.
+ * <p>
+ * Besides the standard CRUD operations, it provides an atomic upsert that adds a delta to
+ * the unread counter of a user without a read-modify-write cycle.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    /**
+     * Adds the given delta to the unread counter of a user, creating the counter on first use.
+     *
+     * @param userId the ID of the user
+     * @param delta  the value added to the unread counter
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_counters (user_id, unread_count, updated_at)
+            VALUES (:userId, :delta, now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET unread_count = notification_counters.unread_count + EXCLUDED.unread_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int addUnread(@Param("userId") Long userId, @Param("delta") long delta);
+}
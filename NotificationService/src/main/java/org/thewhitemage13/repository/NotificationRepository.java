@@ -1,24 +1,31 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.thewhitemage13.entity.Notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository for accessing and managing notifications in the database.
  * <p>
  * This repository provides methods for performing CRUD operations on the
- * {@link Notification} entity, including finding all notifications for a user
+ * {@link Notification} entity, including reading a user's inbox page by page
  * and deleting all notifications linked to a specific user.
  * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
- *     <li>Retrieve all notifications for a specific user.</li>
+ *     <li>Keyset-paginated inbox reads, newest notifications first.</li>
+ *     <li>Mark all notifications of a user as read with one statement.</li>
+ *     <li>Select and remove expired notifications chunk by chunk.</li>
  *     <li>Delete all notifications associated with a specific user.</li>
+ *     <li>Bulk inserts and rolling notification upserts through {@link NotificationBatchRepository}.</li>
  *     <li>Built-in JPA repository methods for standard operations (e.g., save, delete, find by ID).</li>
  * </ul>
  *
@@ -26,20 +33,66 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
 
     /**
-     * Finds all notifications associated with a specific user.
+     * Deletes all notifications associated with a specific user.
      *
-     * @param userId the unique identifier of the user whose notifications are to be retrieved.
-     * @return an {@link Optional} containing a list of {@link Notification} objects, or an empty Optional if no notifications are found.
+     * @param userId the unique identifier of the user whose notifications are to be deleted.
      */
-    Optional<List<Notification>> findAllByUserId(Long userId);
+    void deleteAllByUserId(Long userId);
 
     /**
-     * Deletes all notifications associated with a specific user.
+     * Retrieves the first page of a user's inbox, newest notifications first.
      *
-     * @param userId the unique identifier of the user whose notifications are to be deleted.
+     * @param userId   the unique identifier of the user
+     * @param pageable the size of the page
+     * @return the first page of the user's notifications
      */
-    void deleteAllByUserId(Long userId);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.updatedAt DESC, n.notificationId DESC")
+    List<Notification> findInboxFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Retrieves the page of a user's inbox following the given position.
+     *
+     * @param userId         the unique identifier of the user
+     * @param updatedAt      the latest activity time of the last notification of the previous page
+     * @param notificationId the ID of the last notification of the previous page
+     * @param pageable       the size of the page
+     * @return the next page of the user's notifications
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+            "AND (n.updatedAt < :updatedAt OR (n.updatedAt = :updatedAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.updatedAt DESC, n.notificationId DESC")
+    List<Notification> findInboxPageAfter(@Param("userId") Long userId,
+                                          @Param("updatedAt") LocalDateTime updatedAt,
+                                          @Param("notificationId") Long notificationId,
+                                          Pageable pageable);
+
+    /**
+     * Sets the read status of a notification if it differs from the given one.
+     * <p>
+     * A rolling notification is not marked unread while its activity group already has another
+     * unread notification, since there can only be one.
+     * </p>
+     *
+     * @param notificationId the ID of the notification
+     * @param read           the new read status
+     * @return 1 if the status changed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = :read WHERE n.notificationId = :notificationId AND n.read <> :read " +
+            "AND (:read = true OR n.groupKey IS NULL OR NOT EXISTS (SELECT o FROM Notification o " +
+            "WHERE o.userId = n.userId AND o.groupKey = n.groupKey AND o.read = false))")
+    int updateRead(@Param("notificationId") Long notificationId, @Param("read") boolean read);
+
+    /**
+     * Marks all unread notifications of a user as read.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of notifications that were unread
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") Long userId);
 }
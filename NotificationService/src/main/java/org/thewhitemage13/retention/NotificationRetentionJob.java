@@ -0,0 +1,54 @@
+package org.thewhitemage13.retention;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.service.NotificationService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically removes notifications without activity during the retention period.
+ * <p>
+ * Inboxes are read newest first, so old notifications are rarely seen but would otherwise
+ * grow the table and its indexes without bound. The retention period is read from the
+ * {@code notification.retention.days} property.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class NotificationRetentionJob {
+    private final NotificationService notificationService;
+    private final Duration retention;
+
+    /**
+     * Constructs a new {@code NotificationRetentionJob}.
+     *
+     * @param notificationService the service that deletes the expired notifications
+     * @param retentionDays       how long notifications are kept, in days
+     */
+    @Autowired
+    public NotificationRetentionJob
+            (
+                    NotificationService notificationService,
+                    @Value("${notification.retention.days:90}") long retentionDays
+            ) {
+        this.notificationService = notificationService;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * Deletes all notifications without activity since the start of the retention period.
+     */
+    @Scheduled(
+            initialDelayString = "${notification.retention.initial-delay-ms:60000}",
+            fixedDelayString = "${notification.retention.interval-ms:3600000}"
+    )
+    public void deleteExpired() {
+        notificationService.deleteExpired(LocalDateTime.now().minus(retention));
+    }
+}
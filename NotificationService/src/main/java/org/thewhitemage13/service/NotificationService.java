@@ -1,36 +1,57 @@
 package org.thewhitemage13.service;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.deletion.ChunkedDeletion;
+import org.thewhitemage13.dto.ActivityDTO;
 import org.thewhitemage13.dto.CreateNotificationDTO;
 import org.thewhitemage13.dto.GetNotificationDTO;
+import org.thewhitemage13.dto.NotificationCursorDTO;
+import org.thewhitemage13.dto.NotificationPageDTO;
 import org.thewhitemage13.entity.Notification;
+import org.thewhitemage13.entity.NotificationCounter;
 import org.thewhitemage13.exception.NotificationNotFoundException;
 import org.thewhitemage13.interfaces.NotificationServiceInterface;
+import org.thewhitemage13.repository.NotificationBatchRepository.DeletedNotification;
+import org.thewhitemage13.repository.NotificationBatchRepository.GroupUpsert;
+import org.thewhitemage13.repository.NotificationCounterRepository;
 import org.thewhitemage13.repository.NotificationRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Service class for managing notification-related operations.
  * <p>
  * This service class provides implementations for creating, retrieving,
- * updating, and deleting notifications. It leverages caching to enhance
- * performance and transactional annotations to ensure data consistency.
+ * updating, and deleting notifications. It uses transactional annotations
+ * to ensure data consistency.
+ * </p>
+ * <p>
+ * Each user has an inbox that is read page by page, newest first, and an unread counter
+ * that is adjusted on every change instead of being computed from the notifications, so
+ * reading an inbox costs the same for a user with ten notifications as for one with a million.
  * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Support for creating new notifications with specified attributes.</li>
- *     <li>Ability to update the read status of notifications.</li>
- *     <li>Retrieve notifications for a specific user with caching support.</li>
+ *     <li>Likes and follows collapsed into one rolling notification per recipient, activity and target.</li>
+ *     <li>Ability to update the read status of notifications, one at a time or all at once.</li>
+ *     <li>Keyset-paginated inbox reads with the unread count of the user.</li>
  *     <li>Delete all notifications linked to a specific user.</li>
  *     <li>Retrieve a specific notification by its unique identifier.</li>
+ *     <li>Removal of notifications older than the retention period, chunk by chunk.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -39,30 +60,45 @@ import java.util.List;
 @Service
 @Transactional
 public class NotificationService implements NotificationServiceInterface {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Comparator<ActivityGroup> GROUP_ORDER =
+            Comparator.comparing(ActivityGroup::userId).thenComparing(ActivityGroup::groupKey);
+
     private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final ChunkedDeletion chunkedDeletion;
 
     /**
-     * Constructs a new {@code NotificationService} with the specified repository.
+     * Constructs a new {@code NotificationService} with the specified repositories.
      *
-     * @param notificationRepository the repository to interact with notification entities.
+     * @param notificationRepository        the repository to interact with notification entities.
+     * @param notificationCounterRepository the repository holding the unread counters of the users.
+     * @param chunkedDeletion               runs the retention cleanup one chunk and one transaction at a time.
      */
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService
+            (
+                    NotificationRepository notificationRepository,
+                    NotificationCounterRepository notificationCounterRepository,
+                    ChunkedDeletion chunkedDeletion
+            ) {
         this.notificationRepository = notificationRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.chunkedDeletion = chunkedDeletion;
     }
 
     /**
-     * Deletes all notifications associated with a specific user.
+     * Deletes all notifications associated with a specific user, together with their unread counter.
      *
      * @param userId the unique identifier of the user whose notifications are to be deleted.
      */
     @Override
-    @CacheEvict(value = "notifications", key = "#userId")
     public void deleteAllByUserId(Long userId) {
         notificationRepository.deleteAllByUserId(userId);
+        notificationCounterRepository.deleteById(userId);
     }
 
     /**
-     * Creates a new notification with the provided details.
+     * Creates a new notification with the provided details and counts it as unread.
      *
      * @param createNotificationDTO the data transfer object containing the details
      *                              of the notification to be created.
@@ -70,76 +106,289 @@ public class NotificationService implements NotificationServiceInterface {
     @Override
     public void createNotification(CreateNotificationDTO createNotificationDTO) {
         Notification notification = new Notification();
+        LocalDateTime now = LocalDateTime.now();
 
         notification.setRead(false);
-        notification.setCreatedAt(LocalDateTime.now());
+        notification.setCreatedAt(now);
+        notification.setUpdatedAt(now);
         notification.setType(createNotificationDTO.getType());
         notification.setMessage(createNotificationDTO.getMessage());
         notification.setUserId(createNotificationDTO.getUserId());
 
         notificationRepository.save(notification);
+        notificationCounterRepository.addUnread(notification.getUserId(), 1L);
+    }
+
+    /**
+     * Creates several notifications with a single JDBC batch insert and adds them to the
+     * unread counters of their recipients with a second batch.
+     *
+     * @param createNotificationDTOs the notifications to create
+     */
+    @Override
+    public void createNotifications(List<CreateNotificationDTO> createNotificationDTOs) {
+        if (createNotificationDTOs.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(createNotificationDTOs.size());
+        Map<Long, Long> unread = new HashMap<>();
+        for (CreateNotificationDTO createNotificationDTO : createNotificationDTOs) {
+            Notification notification = new Notification();
+            notification.setRead(false);
+            notification.setCreatedAt(now);
+            notification.setUpdatedAt(now);
+            notification.setType(createNotificationDTO.getType());
+            notification.setMessage(createNotificationDTO.getMessage());
+            notification.setUserId(createNotificationDTO.getUserId());
+            notifications.add(notification);
+            unread.merge(notification.getUserId(), 1L, Long::sum);
+        }
+
+        notificationRepository.insertAll(notifications);
+        notificationRepository.addUnreadCounts(unread);
+    }
+
+    /**
+     * Adds activities to the rolling notifications of their groups.
+     * <p>
+     * Activities of the same recipient, {@link org.thewhitemage13.aggregation.ActivityType type} and
+     * target are merged first. Each group is then upserted into the recipient's unread notification
+     * of that group, or starts a new notification if there is none; a partial unique index keeps
+     * concurrent consumers from creating two. The notification moves to the top of the inbox by its
+     * update time, keeping its creation time, and names the latest actor and the number of others,
+     * so a post with thousands of likes has one notification instead of thousands. Once it is
+     * read, the next activity of the group starts a new one.
+     * </p>
+     *
+     * @param activities the activities to notify about, oldest first
+     */
+    @Override
+    public void collapseNotifications(List<ActivityDTO> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+
+        Map<ActivityGroup, ActivityDTO> latest = new TreeMap<>(GROUP_ORDER);
+        Map<ActivityGroup, Integer> counts = new HashMap<>();
+        for (ActivityDTO activity : activities) {
+            ActivityGroup group = new ActivityGroup(activity.getUserId(), activity.getActivityType().groupKey(activity.getTargetId()));
+            latest.put(group, activity);
+            counts.merge(group, 1, Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(latest.size());
+        latest.forEach((group, activity) -> {
+            int actorCount = counts.get(group);
+            Notification notification = new Notification();
+            notification.setRead(false);
+            notification.setType("SMS");
+            notification.setUserId(group.userId());
+            notification.setGroupKey(group.groupKey());
+            notification.setActorCount(actorCount);
+            notification.setCreatedAt(now);
+            notification.setUpdatedAt(now);
+            notification.setMessage(activity.getActivityType().message(activity.getActorId(), actorCount - 1, activity.getTargetId()));
+            notifications.add(notification);
+        });
+
+        List<GroupUpsert> results = notificationRepository.upsertGroups(notifications);
+        List<ActivityDTO> groupActivities = new ArrayList<>(latest.values());
+        Map<Long, Long> unread = new HashMap<>();
+        Map<Long, String> messages = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            GroupUpsert result = results.get(i);
+            ActivityDTO activity = groupActivities.get(i);
+            if (result.inserted()) {
+                unread.merge(activity.getUserId(), 1L, Long::sum);
+            } else {
+                messages.put(result.notificationId(), activity.getActivityType().message(activity.getActorId(), result.actorCount() - 1, activity.getTargetId()));
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            notificationRepository.updateMessages(messages);
+        }
+        if (!unread.isEmpty()) {
+            notificationRepository.addUnreadCounts(unread);
+        }
     }
 
     /**
      * Updates the read status of a specific notification.
+     * <p>
+     * The unread counter of the recipient is only adjusted if the status actually changes,
+     * so repeating a request does not count a notification twice.
+     * </p>
      *
      * @param notificationId the unique identifier of the notification to be updated.
      * @param status         the new status of the notification (e.g., read or unread).
      * @throws NotificationNotFoundException if no notification with the specified ID is found.
      */
     @Override
-    @CachePut(value = "notification", key = "#notificationId")
     public void updateStatus(Long notificationId, boolean status) throws NotificationNotFoundException {
         Notification update = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NotificationNotFoundException("Notification with id = %s not found".formatted(notificationId)));
-        update.setRead(status);
-        notificationRepository.save(update);
+        if (notificationRepository.updateRead(notificationId, status) > 0) {
+            notificationCounterRepository.addUnread(update.getUserId(), status ? -1L : 1L);
+        }
     }
 
     /**
-     * Retrieves all notifications associated with a specific user.
+     * Marks all notifications of a user as read and resets the unread counter.
+     * <p>
+     * The counter is decreased by the number of notifications that were updated rather than
+     * set to zero, so notifications created concurrently stay counted as unread.
+     * </p>
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of notifications that were marked as read
+     */
+    @Override
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        if (updated > 0) {
+            notificationCounterRepository.addUnread(userId, -updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Retrieves the number of unread notifications of a user with one primary key lookup.
+     *
+     * @param userId the unique identifier of the user
+     * @return the number of unread notifications
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return notificationCounterRepository.findById(userId)
+                .map(NotificationCounter::getUnreadCount)
+                .orElse(0L);
+    }
+
+    /**
+     * Retrieves one page of a user's inbox, newest notifications first.
+     * <p>
+     * The inbox is keyset-paginated on {@code (updated_at, notification_id)}, so the cost of
+     * a request depends on the page size and not on the number of notifications of the user.
+     * </p>
      *
      * @param userId the unique identifier of the user whose notifications are to be retrieved.
-     * @return a list of {@link GetNotificationDTO} objects representing the user's notifications.
-     * @throws NotificationNotFoundException if no notifications are found for the specified user.
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the requested page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return a page of the user's notifications with the user's unread count
+     * @throws NotificationNotFoundException if the user has no notifications.
+     * @throws IllegalArgumentException      if the cursor is malformed
      */
     @Override
-    @Cacheable(value = "notifications", key = "#userId")
-    public List<GetNotificationDTO> getNotificationsByUserId(Long userId) throws NotificationNotFoundException {
-        List<Notification> notifications =
-                notificationRepository.findAllByUserId(userId)
-                        .orElseThrow(() -> new NotificationNotFoundException("Notifications for user with id = %s is not found".formatted(userId)));
-
-        List<GetNotificationDTO> dtos = new ArrayList<>();
-        for (Notification notification : notifications) {
-            GetNotificationDTO dto = new GetNotificationDTO();
-            dto.setCreatedAt(notification.getCreatedAt());
-            dto.setRead(true);
-            dto.setType(notification.getType());
-            dto.setMessage(notification.getMessage());
-            dtos.add(dto);
+    @Transactional(readOnly = true)
+    public NotificationPageDTO getNotificationsByUserId(Long userId, String cursor, int size) throws NotificationNotFoundException {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Notification> page;
+        if (cursor == null) {
+            page = notificationRepository.findInboxFirstPage(userId, PageRequest.of(0, limit + 1));
+        } else {
+            NotificationCursorDTO position = decodeCursor(cursor);
+            page = notificationRepository.findInboxPageAfter(userId, position.getUpdatedAt(), position.getNotificationId(), PageRequest.of(0, limit + 1));
+        }
+        if (cursor == null && page.isEmpty()) {
+            throw new NotificationNotFoundException("Notifications for user with id = %s is not found".formatted(userId));
+        }
+
+        boolean hasNext = page.size() > limit;
+        List<Notification> items = hasNext ? page.subList(0, limit) : page;
+        List<GetNotificationDTO> dtos = new ArrayList<>(items.size());
+        for (Notification notification : items) {
+            dtos.add(toDTO(notification));
         }
-        return dtos;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new NotificationPageDTO(dtos, nextCursor, getUnreadCount(userId));
     }
 
     /**
      * Retrieves a specific notification by its unique identifier.
+     * <p>
+     * The notification is read by primary key and not cached, since its read status changes
+     * whenever the user marks one or all notifications as read.
+     * </p>
      *
      * @param notificationId the unique identifier of the notification to be retrieved.
      * @return a {@link GetNotificationDTO} object containing the details of the notification.
      * @throws NotificationNotFoundException if no notification with the specified ID is found.
      */
     @Override
-    @Cacheable(value = "notification", key = "#notificationId")
+    @Transactional(readOnly = true)
     public GetNotificationDTO getNotificationById(Long notificationId) throws NotificationNotFoundException {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NotificationNotFoundException("Notification with id = %s not found".formatted(notificationId)));
+        return toDTO(notification);
+    }
 
+    /**
+     * Deletes all notifications without activity since the given time.
+     * <p>
+     * Age is measured by {@code updated_at}, so a rolling notification that still collects
+     * activity is kept however long ago it was created. Expired notifications are removed oldest
+     * first in chunks of {@code bulk-deletion.chunk-size}, each in its own transaction; unread ones
+     * are subtracted from the counters of their recipients in the same transaction.
+     * </p>
+     *
+     * @param before the latest activity time before which notifications are deleted
+     * @return the number of deleted notifications
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deleteExpired(LocalDateTime before) {
+        return chunkedDeletion.run("notifications without activity since " + before,
+                (chunk, chunkSize) -> deleteExpiredChunk(before, chunkSize));
+    }
+
+    private int deleteExpiredChunk(LocalDateTime before, int chunkSize) {
+        List<DeletedNotification> deleted = notificationRepository.deleteExpiredChunk(before, chunkSize);
+        Map<Long, Long> unread = new HashMap<>();
+        for (DeletedNotification notification : deleted) {
+            if (!notification.read()) {
+                unread.merge(notification.userId(), -1L, Long::sum);
+            }
+        }
+        if (!unread.isEmpty()) {
+            notificationRepository.addUnreadCounts(unread);
+        }
+        return deleted.size();
+    }
+
+    private GetNotificationDTO toDTO(Notification notification) {
         GetNotificationDTO dto = new GetNotificationDTO();
+        dto.setNotificationId(notification.getNotificationId());
         dto.setCreatedAt(notification.getCreatedAt());
-        dto.setRead(true);
+        dto.setRead(notification.isRead());
         dto.setType(notification.getType());
         dto.setMessage(notification.getMessage());
         return dto;
     }
+
+    private String encodeCursor(Notification notification) {
+        String position = notification.getUpdatedAt() + "|" + notification.getNotificationId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private NotificationCursorDTO decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            return new NotificationCursorDTO
+                    (
+                            LocalDateTime.parse(position.substring(0, separator)),
+                            Long.parseLong(position.substring(separator + 1))
+                    );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor = %s".formatted(cursor), e);
+        }
+    }
+
+    private record ActivityGroup(Long userId, String groupKey) {
+    }
 }
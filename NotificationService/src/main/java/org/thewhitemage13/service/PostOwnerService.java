@@ -0,0 +1,41 @@
+package org.thewhitemage13.service;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.thewhitemage13.clients.PostClient;
+
+/**
+ * Resolves the owners of posts for the notification handlers.
+ * <p>
+ * The owner of a post never changes, so owners are cached in the {@code postOwners} cache for
+ * much longer than other entries (see {@code notification.post-owner-cache.*}). Every like of a
+ * popular post then resolves its owner in-process instead of with a call to the Post Service.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class PostOwnerService {
+    private final PostClient postClient;
+
+    /**
+     * Constructs a new {@code PostOwnerService}.
+     *
+     * @param postClient the client used to fetch the owner of a post
+     */
+    public PostOwnerService(PostClient postClient) {
+        this.postClient = postClient;
+    }
+
+    /**
+     * Retrieves the unique identifier of the user who owns a post.
+     *
+     * @param postId the unique identifier of the post
+     * @return the unique identifier of the post's owner
+     */
+    @Cacheable(value = "postOwners", key = "#postId", sync = true)
+    public Long getOwnerId(Long postId) {
+        return postClient.getUserIdByPostId(postId).getBody();
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.thewhitemage13.dto.CreateNotificationDTO;
 import org.thewhitemage13.dto.GetNotificationDTO;
+import org.thewhitemage13.dto.NotificationPageDTO;
 import org.thewhitemage13.exception.NotificationNotFoundException;
 import org.thewhitemage13.service.NotificationService;
 
@@ -171,12 +172,12 @@ class NotificationControllerTest {
         notification2.setMessage("Notification 2");
         //notification2.setUserId(userId);
 
-        List<GetNotificationDTO> notifications = List.of(notification1, notification2);
+        NotificationPageDTO notifications = new NotificationPageDTO(List.of(notification1, notification2), null, 2L);
 
-        Mockito.doReturn(notifications).when(notificationService).getNotificationsByUserId(userId);
+        Mockito.doReturn(notifications).when(notificationService).getNotificationsByUserId(userId, null, 20);
 
         // when
-        var response = notificationController.getNotificationsByUserId(userId);
+        var response = notificationController.getNotificationsByUserId(userId, null, 20);
 
         // then
         assertNotNull(response);
@@ -188,10 +189,10 @@ class NotificationControllerTest {
     void handleGetNotificationsByUserId_NotificationNotFound()  throws Exception {
         // given
         Long userId = 1L;
-        Mockito.doThrow(new NotificationNotFoundException("No notifications found")).when(notificationService).getNotificationsByUserId(userId);
+        Mockito.doThrow(new NotificationNotFoundException("No notifications found")).when(notificationService).getNotificationsByUserId(userId, null, 20);
 
         // when
-        var response = notificationController.getNotificationsByUserId(userId);
+        var response = notificationController.getNotificationsByUserId(userId, null, 20);
 
         // then
         assertNotNull(response);
@@ -203,14 +204,55 @@ class NotificationControllerTest {
     void handleGetNotificationsByUserId_InternalServerError() throws Exception {
         // given
         Long userId = 1L;
-        Mockito.doThrow(new RuntimeException("Unexpected error")).when(notificationService).getNotificationsByUserId(userId);
+        Mockito.doThrow(new RuntimeException("Unexpected error")).when(notificationService).getNotificationsByUserId(userId, null, 20);
 
         // when
-        var response = notificationController.getNotificationsByUserId(userId);
+        var response = notificationController.getNotificationsByUserId(userId, null, 20);
 
         // then
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleGetNotificationsByUserId_InvalidCursor() throws Exception {
+        // given
+        Long userId = 1L;
+        Mockito.doThrow(new IllegalArgumentException("Invalid cursor = x")).when(notificationService).getNotificationsByUserId(userId, "x", 20);
+
+        // when
+        var response = notificationController.getNotificationsByUserId(userId, "x", 20);
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void handleGetUnreadCount_ReturnsCount() {
+        // given
+        Long userId = 1L;
+        Mockito.doReturn(3L).when(notificationService).getUnreadCount(userId);
+
+        // when
+        var response = notificationController.getUnreadCount(userId);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Long.valueOf(3L), response.getBody());
+    }
+
+    @Test
+    void handleMarkAllRead_ReturnsValidResponseEntity() {
+        // given
+        Long userId = 1L;
+        Mockito.doReturn(2).when(notificationService).markAllRead(userId);
+
+        // when
+        var response = notificationController.markAllRead(userId);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(notificationService).markAllRead(userId);
+    }
+}
@@ -4,25 +4,42 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.thewhitemage13.deletion.ChunkedDeletion;
+import org.thewhitemage13.aggregation.ActivityType;
+import org.thewhitemage13.dto.ActivityDTO;
 import org.thewhitemage13.dto.CreateNotificationDTO;
 import org.thewhitemage13.dto.GetNotificationDTO;
+import org.thewhitemage13.dto.NotificationPageDTO;
 import org.thewhitemage13.entity.Notification;
 import org.thewhitemage13.exception.NotificationNotFoundException;
+import org.thewhitemage13.entity.NotificationCounter;
+import org.thewhitemage13.repository.NotificationBatchRepository.DeletedNotification;
+import org.thewhitemage13.repository.NotificationBatchRepository.GroupUpsert;
+import org.thewhitemage13.repository.NotificationCounterRepository;
 import org.thewhitemage13.repository.NotificationRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationCounterRepository notificationCounterRepository;
+    @Spy
+    private ChunkedDeletion chunkedDeletion = new ChunkedDeletion(2, Supplier::get);
     @InjectMocks
     private NotificationService notificationService;
 
@@ -42,6 +59,73 @@ class NotificationServiceTest {
 
         // then
         verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(notificationCounterRepository, times(1)).addUnread(1L, 1L);
+    }
+
+    @Test
+    void createNotifications_ShouldInsertAllInOneBatch() {
+        // given
+        List<CreateNotificationDTO> createNotificationDTOs = List.of
+                (
+                        new CreateNotificationDTO(1L, "SMS", "First"),
+                        new CreateNotificationDTO(2L, "SMS", "Second")
+                );
+
+        // when
+        notificationService.createNotifications(createNotificationDTOs);
+
+        // then
+        verify(notificationRepository, times(1)).insertAll(argThat(notifications ->
+                notifications.size() == 2
+                        && notifications.get(0).getUserId().equals(1L)
+                        && !notifications.get(1).isRead()));
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(notificationRepository, times(1)).addUnreadCounts(Map.of(1L, 1L, 2L, 1L));
+    }
+
+    @Test
+    void collapseNotifications_ShouldCreateOneNotificationPerGroup() {
+        // given
+        List<ActivityDTO> activities = List.of
+                (
+                        new ActivityDTO(1L, ActivityType.POST_LIKE, 10L, 100L),
+                        new ActivityDTO(1L, ActivityType.POST_LIKE, 10L, 101L),
+                        new ActivityDTO(1L, ActivityType.POST_LIKE, 10L, 102L),
+                        new ActivityDTO(2L, ActivityType.FOLLOW, 2L, 100L)
+                );
+        when(notificationRepository.upsertGroups(any())).thenReturn(List.of
+                (
+                        new GroupUpsert(20L, 3, true),
+                        new GroupUpsert(21L, 1, true)
+                ));
+
+        // when
+        notificationService.collapseNotifications(activities);
+
+        // then
+        verify(notificationRepository, times(1)).upsertGroups(argThat(notifications ->
+                notifications.size() == 2
+                        && notifications.get(0).getActorCount() == 3
+                        && notifications.get(0).getGroupKey().equals("POST_LIKE:10")
+                        && notifications.get(0).getMessage().equals("User with id = 102 and 2 others like your post with id = 10")
+                        && notifications.get(0).getCreatedAt().equals(notifications.get(0).getUpdatedAt())
+                        && notifications.get(1).getMessage().equals("New follower = 100")));
+        verify(notificationRepository, never()).updateMessages(any());
+        verify(notificationRepository, times(1)).addUnreadCounts(Map.of(1L, 1L, 2L, 1L));
+    }
+
+    @Test
+    void collapseNotifications_ShouldUpdateUnreadNotificationOfGroup() {
+        // given
+        when(notificationRepository.upsertGroups(any())).thenReturn(List.of(new GroupUpsert(5L, 342, false)));
+
+        // when
+        notificationService.collapseNotifications(List.of(new ActivityDTO(1L, ActivityType.POST_LIKE, 10L, 7L)));
+
+        // then
+        verify(notificationRepository, times(1)).updateMessages(Map.of(5L, "User with id = 7 and 341 others like your post with id = 10"));
+        verify(notificationRepository, never()).insertAll(any());
+        verify(notificationRepository, never()).addUnreadCounts(any());
     }
 
     @Test
@@ -49,19 +133,38 @@ class NotificationServiceTest {
         // given
         Long notificationId = 1L;
         Notification existingNotification = new Notification();
-        //existingNotification.setId(notificationId);
+        existingNotification.setNotificationId(notificationId);
+        existingNotification.setUserId(7L);
         existingNotification.setRead(false);
 
         when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(existingNotification));
-        when(notificationRepository.save(any(Notification.class))).thenReturn(existingNotification);
+        when(notificationRepository.updateRead(notificationId, true)).thenReturn(1);
 
         // when
         notificationService.updateStatus(notificationId, true);
 
         // then
         verify(notificationRepository, times(1)).findById(notificationId);
-        verify(notificationRepository, times(1)).save(existingNotification);
-        assertTrue(existingNotification.isRead());
+        verify(notificationRepository, times(1)).updateRead(notificationId, true);
+        verify(notificationCounterRepository, times(1)).addUnread(7L, -1L);
+    }
+
+    @Test
+    void updateStatus_ShouldNotCountUnchangedStatus() throws NotificationNotFoundException {
+        // given
+        Long notificationId = 1L;
+        Notification existingNotification = new Notification();
+        existingNotification.setUserId(7L);
+        existingNotification.setRead(true);
+
+        when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(existingNotification));
+        when(notificationRepository.updateRead(notificationId, true)).thenReturn(0);
+
+        // when
+        notificationService.updateStatus(notificationId, true);
+
+        // then
+        verify(notificationCounterRepository, never()).addUnread(any(), anyLong());
     }
 
     @Test
@@ -76,36 +179,109 @@ class NotificationServiceTest {
     }
 
     @Test
-    void getNotificationsByUserId_ShouldReturnListOfNotifications() throws NotificationNotFoundException {
+    void getNotificationsByUserId_ShouldReturnFirstPage() throws NotificationNotFoundException {
         // given
         Long userId = 1L;
         Notification notification = new Notification();
+        notification.setNotificationId(10L);
         notification.setType("INFO");
         notification.setMessage("Test message");
         notification.setUserId(userId);
         notification.setCreatedAt(LocalDateTime.now());
         notification.setRead(false);
 
-        when(notificationRepository.findAllByUserId(userId)).thenReturn(Optional.of(List.of(notification)));
+        when(notificationRepository.findInboxFirstPage(eq(userId), any(Pageable.class))).thenReturn(List.of(notification));
+        when(notificationCounterRepository.findById(userId)).thenReturn(Optional.of(new NotificationCounter(userId, 1L, LocalDateTime.now())));
+
+        // when
+        NotificationPageDTO page = notificationService.getNotificationsByUserId(userId, null, 20);
+
+        // then
+        assertNotNull(page);
+        assertEquals(1, page.getItems().size());
+        assertEquals(10L, page.getItems().get(0).getNotificationId());
+        assertFalse(page.getItems().get(0).isRead());
+        assertNull(page.getNextCursor());
+        assertEquals(Long.valueOf(1L), page.getUnreadCount());
+        verify(notificationRepository, times(1)).findInboxFirstPage(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    void getNotificationsByUserId_ShouldContinueAfterCursor() throws NotificationNotFoundException {
+        // given
+        Long userId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<Notification> notifications = List.of
+                (
+                        notification(3L, userId, createdAt.plusMinutes(2)),
+                        notification(2L, userId, createdAt.plusMinutes(1)),
+                        notification(1L, userId, createdAt)
+                );
+        when(notificationRepository.findInboxFirstPage(eq(userId), any(Pageable.class))).thenReturn(notifications);
 
         // when
-        List<GetNotificationDTO> notifications = notificationService.getNotificationsByUserId(userId);
+        NotificationPageDTO first = notificationService.getNotificationsByUserId(userId, null, 2);
+        notificationService.getNotificationsByUserId(userId, first.getNextCursor(), 2);
 
         // then
-        assertNotNull(notifications);
-        assertEquals(1, notifications.size());
-        verify(notificationRepository, times(1)).findAllByUserId(userId);
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        verify(notificationRepository, times(1)).findInboxPageAfter(eq(userId), eq(createdAt.plusMinutes(1)), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void getNotificationsByUserId_ShouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> notificationService.getNotificationsByUserId(1L, "not-a-cursor", 20));
     }
 
     @Test
     void getNotificationsByUserId_ShouldThrowNotificationNotFoundException() {
         // given
         Long userId = 1L;
-        when(notificationRepository.findAllByUserId(userId)).thenReturn(Optional.empty());
+        when(notificationRepository.findInboxFirstPage(eq(userId), any(Pageable.class))).thenReturn(List.of());
 
         // when & then
-        assertThrows(NotificationNotFoundException.class, () -> notificationService.getNotificationsByUserId(userId));
-        verify(notificationRepository, times(1)).findAllByUserId(userId);
+        assertThrows(NotificationNotFoundException.class, () -> notificationService.getNotificationsByUserId(userId, null, 20));
+        verify(notificationRepository, times(1)).findInboxFirstPage(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    void markAllRead_ShouldDecreaseUnreadCounter() {
+        // given
+        Long userId = 1L;
+        when(notificationRepository.markAllRead(userId)).thenReturn(3);
+
+        // when
+        int updated = notificationService.markAllRead(userId);
+
+        // then
+        assertEquals(3, updated);
+        verify(notificationCounterRepository, times(1)).addUnread(userId, -3L);
+    }
+
+    @Test
+    void getUnreadCount_ShouldReturnZeroWithoutCounter() {
+        // given
+        when(notificationCounterRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertEquals(0L, notificationService.getUnreadCount(1L));
+    }
+
+    @Test
+    void deleteExpired_ShouldDeleteInChunksAndSubtractUnread() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        when(notificationRepository.deleteExpiredChunk(eq(before), anyInt()))
+                .thenReturn(List.of(new DeletedNotification(5L, false), new DeletedNotification(5L, true)))
+                .thenReturn(List.of());
+
+        // when
+        long deleted = notificationService.deleteExpired(before);
+
+        // then
+        assertEquals(2L, deleted);
+        verify(notificationRepository, times(1)).addUnreadCounts(Map.of(5L, -1L));
     }
 
     @Test
@@ -150,6 +326,18 @@ class NotificationServiceTest {
 
         // then
         verify(notificationRepository, times(1)).deleteAllByUserId(userId);
+        verify(notificationCounterRepository, times(1)).deleteById(userId);
+    }
+
+    private static Notification notification(Long notificationId, Long userId, LocalDateTime createdAt) {
+        Notification notification = new Notification();
+        notification.setNotificationId(notificationId);
+        notification.setUserId(userId);
+        notification.setType("LIKE");
+        notification.setMessage("Test message");
+        notification.setCreatedAt(createdAt);
+        notification.setUpdatedAt(createdAt);
+        return notification;
     }
 
 }
\ No newline at end of file
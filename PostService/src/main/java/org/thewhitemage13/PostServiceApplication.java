@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The entry point of the Post Service application.
@@ -16,6 +17,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  *     <li>{@link SpringBootApplication} - Marks this class as a Spring Boot application, enabling auto-configuration, component scanning, and configuration properties.</li>
  *     <li>{@link EnableCaching} - Enables Spring's caching support, allowing the application to use caching mechanisms to improve performance.</li>
  *     <li>{@link EnableFeignClients} - Enables the use of Feign clients for making HTTP requests to other microservices or external systems.</li>
+ *     <li>{@link EnableScheduling} - Enables scheduled tasks, such as the relay that publishes the transactional outbox to Kafka.</li>
  * </ul>
  *
  * <p>
@@ -28,6 +30,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableCaching
 @EnableFeignClients
+@EnableScheduling
 public class PostServiceApplication {
 
 	/**
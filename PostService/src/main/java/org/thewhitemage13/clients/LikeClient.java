@@ -4,6 +4,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Feign client interface for interacting with the Like Service.
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Retrieves the count of likes for a specific post by its ID.</li>
+ *     <li>Retrieves the counts of likes for several posts in a single request.</li>
  *     <li>Uses Feign for declarative HTTP client creation.</li>
  *     <li>Incorporates Spring Cloud's integration for easy communication with other services.</li>
  * </ul>
@@ -42,4 +47,17 @@ public interface LikeClient {
      */
     @GetMapping("/posts/{postId}/count")
     ResponseEntity<Long> getPostLikeCount(@PathVariable("postId") Long postId);
+
+    /**
+     * Retrieves the counts of likes for several posts in a single request.
+     * <p>
+     * Sends one GET request to the "like-service" instead of one request per post.
+     * Every requested post is present in the returned map.
+     * </p>
+     *
+     * @param postIds the unique identifiers of the posts
+     * @return a {@link ResponseEntity} containing a map of post ID to like count
+     */
+    @GetMapping("/posts/count")
+    ResponseEntity<Map<Long, Long>> getPostLikeCounts(@RequestParam("postIds") List<Long> postIds);
 }
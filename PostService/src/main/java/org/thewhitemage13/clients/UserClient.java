@@ -4,6 +4,11 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Feign client interface for interacting with multiple user-related services.
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.PathVariable;
  * <ul>
  *     <li>Verifies the existence of a user by their ID.</li>
  *     <li>Retrieves the username associated with a specific user ID.</li>
+ *     <li>Retrieves the usernames of several users in a single request.</li>
  *     <li>Uses Feign for declarative HTTP client creation.</li>
  *     <li>Incorporates Spring Cloud's integration for easy communication with other services.</li>
  * </ul>
@@ -57,4 +63,42 @@ public interface UserClient {
      */
     @GetMapping("/{userId}/username")
     ResponseEntity<String> getUserNameById(@PathVariable("userId") Long userId);
+
+    /**
+     * Retrieves the usernames of several users in a single request.
+     * <p>
+     * Sends one GET request to the "user-service" instead of one request per user.
+     * IDs of users that do not exist are omitted from the returned map.
+     * </p>
+     *
+     * @param ids the unique identifiers of the users
+     * @return a {@link ResponseEntity} containing a map of user ID to username
+     */
+    @GetMapping("/usernames")
+    ResponseEntity<Map<Long, String>> getUserNamesByIds(@RequestParam("ids") List<Long> ids);
+
+    /**
+     * Verifies the existence of several users in a single request.
+     * <p>
+     * This method sends a GET request to the "/users/verify" endpoint of the User Service.
+     * It backs the batched user verification, which merges concurrent single-user checks into one request.
+     * </p>
+     *
+     * @param ids the unique identifiers of the users to verify
+     * @return a {@link ResponseEntity} containing the identifiers of the users that exist
+     */
+    @GetMapping("/verify")
+    ResponseEntity<List<Long>> verifyUsersExistence(@RequestParam("ids") List<Long> ids);
+
+    /**
+     * Retrieves the existence filter over all user IDs.
+     * <p>
+     * This method sends a GET request to the "/users/existence-filter" endpoint of the User Service.
+     * The result is kept as a local replica to reject unknown users without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
 }
@@ -0,0 +1,59 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.BatchLoader;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration class for batched remote lookups.
+ * <p>
+ * This class provides the {@link BatchLoader} that merges concurrent user verifications into
+ * one bulk request to the user service. The window, maximum batch size and number of dispatcher
+ * threads are read from the {@code user-batch.*} properties.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class BatchLoaderConfig {
+    @Autowired
+    Environment environment;
+
+    /**
+     * Configures the batched user verification. Every requested ID resolves to {@code true} or
+     * {@code false}; a failed bulk request fails all verifications of its batch.
+     *
+     * @param userClient the client of the user service
+     * @return a {@code BatchLoader} of user ID to existence, shut down together with the context
+     */
+    @Bean(destroyMethod = "close")
+    BatchLoader<Long, Boolean> userExistenceLoader(UserClient userClient) {
+        return BatchLoader.windowed
+                (
+                        "user-existence-batch",
+                        environment.getProperty("user-batch.threads", Integer.class, 2),
+                        Duration.ofMillis(environment.getProperty("user-batch.window-ms", Long.class, 2L)),
+                        environment.getProperty("user-batch.max-size", Integer.class, 64),
+                        ids -> {
+                            List<Long> existing = userClient.verifyUsersExistence(ids).getBody();
+                            Set<Long> existingIds = existing == null ? Set.of() : new HashSet<>(existing);
+                            Map<Long, Boolean> exists = new HashMap<>();
+                            for (Long id : ids) {
+                                exists.put(id, existingIds.contains(id));
+                            }
+                            return exists;
+                        }
+                );
+    }
+}
@@ -0,0 +1,60 @@
+package org.thewhitemage13.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.BinaryReader;
+import org.thewhitemage13.codec.BinaryWriter;
+import org.thewhitemage13.codec.EventSchemas;
+import org.thewhitemage13.codec.Schema;
+import org.thewhitemage13.dto.OpenPostDTO;
+
+/**
+ * Configuration class for the compact binary codec.
+ * <p>
+ * This class provides the {@link BinaryCodec} used by the Kafka serializers and the Redis cache,
+ * with the schemas of the core events and of the cached {@link OpenPostDTO} registered.
+ * Field numbers of a registered schema must never be changed or reused.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class CodecConfig {
+    static final int OPEN_POST_DTO = 100;
+
+    /**
+     * Configures the codec with the core events and the cached DTOs of this service.
+     *
+     * @return a {@code BinaryCodec} instance
+     */
+    @Bean
+    BinaryCodec binaryCodec() {
+        return EventSchemas.register(new BinaryCodec())
+                .register(OPEN_POST_DTO, OpenPostDTO.class, Schema.of(CodecConfig::writeOpenPost, CodecConfig::readOpenPost));
+    }
+
+    private static void writeOpenPost(OpenPostDTO dto, BinaryWriter writer) {
+        writer.writeString(1, dto.getUsername())
+                .writeString(2, dto.getMediaUrl())
+                .writeString(3, dto.getContent())
+                .writeLong(4, dto.getLikes())
+                .writeLong(5, dto.getComments());
+    }
+
+    private static OpenPostDTO readOpenPost(BinaryReader reader) {
+        OpenPostDTO dto = new OpenPostDTO();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> dto.setUsername(reader.readString());
+                case 2 -> dto.setMediaUrl(reader.readString());
+                case 3 -> dto.setContent(reader.readString());
+                case 4 -> dto.setLikes(reader.readLong());
+                case 5 -> dto.setComments(reader.readLong());
+                default -> reader.skip(tag);
+            }
+        }
+        return dto;
+    }
+}
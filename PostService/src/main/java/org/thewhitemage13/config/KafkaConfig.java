@@ -1,9 +1,12 @@
 package org.thewhitemage13.config;
 
+import io.micrometer.observation.Observation;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.LongDeserializer;
 import org.apache.kafka.common.serialization.LongSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,15 +18,25 @@ import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.CompositeProducerListener;
+import org.springframework.kafka.support.LoggingProducerListener;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.backoff.FixedBackOff;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.CompactKafkaDeserializer;
+import org.thewhitemage13.codec.CompactKafkaSerializer;
 import org.thewhitemage13.exceptions.RetryableException;
+import org.thewhitemage13.kafka.ProducerTuning;
+import org.thewhitemage13.kafka.SendMetrics;
 
 import java.awt.geom.NoninvertibleTransformException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configuration class for setting up Kafka components and properties.
@@ -38,6 +51,7 @@ import java.util.Map;
  *     <li>Defines Kafka topics with partitions and replication factors.</li>
  *     <li>Implements error handling strategies using Dead Letter Queues (DLQs).</li>
  *     <li>Supports retries for specific exception types.</li>
+ *     <li>Writes registered events in the compact binary format and reads both it and JSON.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -68,10 +82,11 @@ public class KafkaConfig {
     /**
      * Configures the Kafka consumer factory.
      *
+     * @param binaryCodec the codec for records written by {@link CompactKafkaSerializer}
      * @return a {@link ConsumerFactory} for Kafka consumers
      */
     @Bean
-    ConsumerFactory<Long, Object> consumerFactory() {
+    ConsumerFactory<Long, Object> consumerFactory(BinaryCodec binaryCodec) {
         Map<String, Object> config = new HashMap<>();
 
         config.put
@@ -80,19 +95,21 @@ public class KafkaConfig {
                         environment.getProperty("spring.kafka.consumer.bootstrap-servers")
                 );
 
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, LongDeserializer.class);
-
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-
         config.put(JsonDeserializer.TRUSTED_PACKAGES,
                 environment.getProperty("spring.kafka.consumer.properties.spring.json.trusted.packages"));
 
         config.put(ConsumerConfig.GROUP_ID_CONFIG,
                 environment.getProperty("spring.kafka.consumer.group-id"));
 
-        return new DefaultKafkaConsumerFactory<>(config);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                environment.getProperty("spring.kafka.consumer.max-poll-records", Integer.class, 500));
+
+        return new DefaultKafkaConsumerFactory<>
+                (
+                        config,
+                        LongDeserializer::new,
+                        () -> new ErrorHandlingDeserializer<>(new CompactKafkaDeserializer(binaryCodec, new JsonDeserializer<>()))
+                );
     }
 
     /**
@@ -118,6 +135,8 @@ public class KafkaConfig {
 
         factory.setConsumerFactory(consumerFactory);
 
+        factory.setConcurrency(environment.getProperty("spring.kafka.listener.concurrency", Integer.class, 3));
+
         factory.setCommonErrorHandler(errorHandler);
         return factory;
     }
@@ -126,20 +145,54 @@ public class KafkaConfig {
      * Configures the Kafka template for producing messages.
      *
      * @param producerFactory the producer factory
+     * @param sendMetrics the counters updated from the asynchronous send callbacks
      * @return a {@link KafkaTemplate} instance
      */
     @Bean
-    KafkaTemplate<Long, Object> kafkaTemplate(ProducerFactory<Long, Object> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    KafkaTemplate<Long, Object> kafkaTemplate(ProducerFactory<Long, Object> producerFactory, SendMetrics sendMetrics) {
+        KafkaTemplate<Long, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory) {
+            @Override
+            protected CompletableFuture<SendResult<Long, Object>> doSend(ProducerRecord<Long, Object> producerRecord, Observation observation) {
+                // Every send method of the template ends here; the record timestamp is no start time,
+                // because callers may set it and brokers with LogAppendTime overwrite it.
+                long startedNanos = System.nanoTime();
+                CompletableFuture<SendResult<Long, Object>> future = super.doSend(producerRecord, observation);
+                future.whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        sendMetrics.recordSuccess(System.nanoTime() - startedNanos);
+                    }
+                });
+                return future;
+            }
+        };
+
+        kafkaTemplate.setProducerListener(new CompositeProducerListener<>(new LoggingProducerListener<>(), new ProducerListener<>() {
+            @Override
+            public void onError(ProducerRecord<Long, Object> producerRecord, RecordMetadata recordMetadata, Exception exception) {
+                sendMetrics.recordFailure(producerRecord.topic());
+            }
+        }));
+        return kafkaTemplate;
+    }
+
+    /**
+     * Publishes the producer send counters of this service over JMX.
+     *
+     * @return the {@link SendMetrics} updated by the {@link KafkaTemplate} callbacks
+     */
+    @Bean
+    SendMetrics sendMetrics() {
+        return SendMetrics.registered(environment.getProperty("spring.application.name", "application"));
     }
 
     /**
      * Configures the Kafka producer factory.
      *
+     * @param binaryCodec the codec used when {@code codec.kafka.binary-values} is enabled
      * @return a {@link ProducerFactory} for Kafka producers
      */
     @Bean
-    ProducerFactory<Long, Object> producerFactory() {
+    ProducerFactory<Long, Object> producerFactory(BinaryCodec binaryCodec) {
         Map<String, Object> config = new HashMap<>();
 
         config.put
@@ -152,7 +205,18 @@ public class KafkaConfig {
 
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
-        return new DefaultKafkaProducerFactory<>(config);
+        config.putAll(ProducerTuning.throughputProfile(environment::getProperty));
+
+        if (!environment.getProperty("codec.kafka.binary-values", Boolean.class, false)) {
+            return new DefaultKafkaProducerFactory<>(config);
+        }
+
+        return new DefaultKafkaProducerFactory<>
+                (
+                        config,
+                        LongSerializer::new,
+                        () -> new CompactKafkaSerializer(binaryCodec, new JsonSerializer<>())
+                );
     }
 
     /**
@@ -197,4 +261,17 @@ public class KafkaConfig {
                 .build();
     };
 
+    /**
+     * Creates the "post.deleted.batch" Kafka topic.
+     *
+     * @return a {@link NewTopic} bean
+     */
+    @Bean
+    NewTopic createTopic4() {
+        return TopicBuilder
+                .name("post.deleted.batch")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    };
 }
@@ -1,16 +1,26 @@
 package org.thewhitemage13.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.thewhitemage13.cache.NearCacheSpec;
+import org.thewhitemage13.cache.TwoLevelCacheManager;
+import org.thewhitemage13.concurrent.SingleFlight;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.CompactRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Configuration class for Redis caching.
@@ -20,20 +30,28 @@ import java.time.Duration;
  * It enables integration of Redis as a caching mechanism in the application, improving performance
  * by reducing database calls for frequently accessed data.
  * </p>
+ * <p>
+ * Redis is fronted by a small in-process cache, so hot keys are served without a network round trip.
+ * Instances keep their local copies coherent by publishing invalidations on a Redis channel.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Custom serialization for cache keys and values.</li>
  *     <li>Default TTL for cache entries set to 10 minutes.</li>
+ *     <li>Short, configurable TTL for the paginated feed caches, whose pages shift as posts are created.</li>
+ *     <li>Bounded in-process cache in front of Redis, invalidated across instances over pub/sub.</li>
  *     <li>Integration with Spring's {@link CacheManager} interface for transparent caching support.</li>
  * </ul>
  *
  * @see CacheManager
+ * @see TwoLevelCacheManager
  * @see RedisCacheManager
  * @see RedisCacheConfiguration
  * @see RedisConnectionFactory
  * @see StringRedisSerializer
  * @see GenericJackson2JsonRedisSerializer
+ * @see CompactRedisSerializer
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
@@ -42,22 +60,41 @@ import java.time.Duration;
 public class RedisConfig {
 
     /**
-     * Configures and returns a {@link CacheManager} backed by Redis.
+     * Configures and returns a two-level {@link CacheManager} backed by Redis.
      * <p>
-     * This method creates a {@link RedisCacheManager} with the following settings:
+     * This method creates a {@link RedisCacheManager} with the following settings
+     * and wraps it in a {@link TwoLevelCacheManager}:
      * <ul>
      *     <li>Default TTL for cache entries: 10 minutes.</li>
+     *     <li>TTL for the feed page caches: {@code feed.page-cache-ttl-seconds}, 30 seconds by default.</li>
      *     <li>Key serialization using {@link StringRedisSerializer}.</li>
-     *     <li>Value serialization using {@link GenericJackson2JsonRedisSerializer}.</li>
+     *     <li>Value serialization using {@link CompactRedisSerializer} for the types registered with the
+     *     {@link BinaryCodec}, and {@link GenericJackson2JsonRedisSerializer} for all other values.</li>
+     *     <li>In-process entries: {@code cache.near.ttl-seconds} and {@code cache.near.maximum-size} per cache.</li>
+     *     <li>In-process feed pages: {@code feed.page-near-ttl-seconds}, 5 seconds by default.</li>
      * </ul>
      * These settings ensure that cached data is efficiently stored and easily retrievable.
      *
      * @param redisConnectionFactory the factory for creating Redis connections
-     * @return a configured {@link CacheManager} instance
+     * @param pageCacheTtlSeconds the TTL of the feed page caches, in seconds
+     * @param binaryCodec the codec for the registered cached types
+     * @param stringRedisTemplate the template used to publish cache invalidations
+     * @param applicationName the service name, used to build the invalidation channel and to publish load metrics
+     * @param nearTtlSeconds the TTL of the in-process entries, in seconds
+     * @param nearMaximumSize the maximum number of in-process entries per cache
+     * @param pageNearTtlSeconds the TTL of the in-process feed pages, in seconds
+     * @return a configured {@link TwoLevelCacheManager} instance
      */
     @Bean
-    public CacheManager cacheManager(
-            RedisConnectionFactory redisConnectionFactory
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${feed.page-cache-ttl-seconds:30}") long pageCacheTtlSeconds,
+            BinaryCodec binaryCodec,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${spring.application.name}") String applicationName,
+            @Value("${cache.near.ttl-seconds:30}") long nearTtlSeconds,
+            @Value("${cache.near.maximum-size:10000}") long nearMaximumSize,
+            @Value("${feed.page-near-ttl-seconds:5}") long pageNearTtlSeconds
     ) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -68,11 +105,52 @@ public class RedisConfig {
                 .serializeValuesWith(
                         RedisSerializationContext
                                 .SerializationPair
-                                .fromSerializer(new GenericJackson2JsonRedisSerializer())
+                                .fromSerializer(new CompactRedisSerializer(binaryCodec, new GenericJackson2JsonRedisSerializer()))
                 );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheConfiguration pageCacheConfiguration = redisCacheConfiguration
+                .entryTtl(Duration.ofSeconds(pageCacheTtlSeconds));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
+                .withCacheConfiguration("feedPages", pageCacheConfiguration)
+                .withCacheConfiguration("postsByUserIdPages", pageCacheConfiguration)
+                .withCacheConfiguration("openPostsByUserIdPages", pageCacheConfiguration)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        NearCacheSpec pageNearCacheSpec = new NearCacheSpec(Duration.ofSeconds(pageNearTtlSeconds), nearMaximumSize);
+
+        return new TwoLevelCacheManager
+                (
+                        redisCacheManager,
+                        stringRedisTemplate,
+                        "cache-invalidation:" + applicationName,
+                        new NearCacheSpec(Duration.ofSeconds(nearTtlSeconds), nearMaximumSize),
+                        Map.of(
+                                "feedPages", pageNearCacheSpec,
+                                "postsByUserIdPages", pageNearCacheSpec,
+                                "openPostsByUserIdPages", pageNearCacheSpec
+                        ),
+                        SingleFlight.registered(applicationName, "cacheLoads")
+                );
+    }
+
+    /**
+     * Subscribes the {@link TwoLevelCacheManager} to the invalidations published by the other instances.
+     *
+     * @param redisConnectionFactory the factory for creating Redis connections
+     * @param cacheManager the cache manager whose in-process entries are invalidated
+     * @return the listener container
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+        return container;
     }
 }
\ No newline at end of file
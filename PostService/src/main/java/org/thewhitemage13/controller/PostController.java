@@ -10,8 +10,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.dto.OpenPostDTO;
+import org.thewhitemage13.dto.PostPageDTO;
 import org.thewhitemage13.dto.UpdatePostDTO;
 import org.thewhitemage13.exceptions.PostNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+import org.thewhitemage13.service.ExistenceFilterServiceImpl;
 import org.thewhitemage13.service.PostServiceImpl;
 
 import java.util.List;
@@ -21,9 +24,11 @@ import java.util.List;
 @RequestMapping("/posts")
 public class PostController {
     private final PostServiceImpl postServiceImpl;
+    private final ExistenceFilterServiceImpl existenceFilterServiceImpl;
 
-    public PostController(PostServiceImpl postServiceImpl) {
+    public PostController(PostServiceImpl postServiceImpl, ExistenceFilterServiceImpl existenceFilterServiceImpl) {
         this.postServiceImpl = postServiceImpl;
+        this.existenceFilterServiceImpl = existenceFilterServiceImpl;
     }
 
     @Operation(
@@ -50,13 +55,18 @@ public class PostController {
             tags = {"Post Controller"}
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of posts returned successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of posts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<OpenPostDTO>> findAllByUserId(@PathVariable Long userId) {
+    public ResponseEntity<PostPageDTO<OpenPostDTO>> findAllByUserId(@PathVariable Long userId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
         try {
-            return ResponseEntity.ok(postServiceImpl.openAllPostsByUserId(userId));
+            return ResponseEntity.ok(postServiceImpl.openAllPostsByUserId(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -123,6 +133,20 @@ public class PostController {
         }
     }
 
+    @Operation(summary = "Get post existence filter", description = "Returns a Bloom filter over all post IDs, used by other services to reject unknown posts without a verification request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Existence filter returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/existence-filter")
+    public ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter() {
+        try {
+            return ResponseEntity.ok(existenceFilterServiceImpl.buildSnapshot());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(
             summary = "Create a new post",
             description = "Creates a new post based on the provided post data.",
@@ -194,16 +218,21 @@ public class PostController {
             tags = {"Post Controller"}
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of posts returned successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of posts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "Posts not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @GetMapping("/user/{userId}/posts")
-    public ResponseEntity<List<CreatePostDTO>> getPostById(@PathVariable Long userId) {
+    public ResponseEntity<PostPageDTO<CreatePostDTO>> getPostById(@PathVariable Long userId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
         try {
-            return ResponseEntity.ok(postServiceImpl.getPostsByUserId(userId));
+            return ResponseEntity.ok(postServiceImpl.getPostsByUserId(userId, cursor, size));
         }catch (PostNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -211,17 +240,21 @@ public class PostController {
 
     @Operation(
             summary = "Get all posts",
-            description = "Retrieves all posts in the system.",
+            description = "Retrieves one page of all posts in the system, newest first. Pass the returned cursor to get the next page.",
             tags = {"Post Controller"}
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of posts returned successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of posts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @GetMapping
-    public ResponseEntity<List<CreatePostDTO>> getAllPosts() {
+    public ResponseEntity<PostPageDTO<CreatePostDTO>> getAllPosts(@RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
         try {
-            return ResponseEntity.ok(postServiceImpl.getAllPosts());
+            return ResponseEntity.ok(postServiceImpl.getAllPosts(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e){
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
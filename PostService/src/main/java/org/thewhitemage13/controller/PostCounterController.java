@@ -0,0 +1,41 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+@Tag(name = "Post Counter Controller", description = "Maintenance of the denormalized like and comment counters")
+@RestController
+@RequestMapping("/posts/counters")
+public class PostCounterController {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    public PostCounterController(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    @Operation(
+            summary = "Reconcile post counters",
+            description = "Re-derives the like and comment counters of all posts from the like and comment services.",
+            tags = {"Post Counter Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counters reconciled; the body holds the number of posts processed"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/reconcile")
+    public ResponseEntity<Long> reconcile() {
+        try {
+            return ResponseEntity.ok(postCounterServiceImpl.reconcile());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
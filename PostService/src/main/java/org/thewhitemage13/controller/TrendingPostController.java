@@ -0,0 +1,48 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.thewhitemage13.dto.TrendingPostDTO;
+import org.thewhitemage13.service.TrendingPostServiceImpl;
+
+import java.util.List;
+
+@Tag(name = "Trending Post Controller", description = "Posts ranked by their recent engagement")
+@RestController
+@RequestMapping("/posts/trending")
+public class TrendingPostController {
+    private final TrendingPostServiceImpl trendingPostServiceImpl;
+
+    public TrendingPostController(TrendingPostServiceImpl trendingPostServiceImpl) {
+        this.trendingPostServiceImpl = trendingPostServiceImpl;
+    }
+
+    @Operation(
+            summary = "Get trending posts",
+            description = "Returns the posts with the highest time-decayed engagement, as of the last refresh a few seconds ago.",
+            tags = {"Trending Post Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending posts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping
+    public ResponseEntity<List<TrendingPostDTO>> getTrendingPosts(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(trendingPostServiceImpl.getTrendingPosts(limit));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decoded form of a feed cursor.
+ * <p>
+ * A cursor points at the last post of a page; the next page starts strictly after
+ * the position {@code (createdAt, postId)} in descending order.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedCursorDTO {
+
+    /**
+     * The creation time of the last post of the previous page.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * The ID of the last post of the previous page.
+     */
+    private Long postId;
+}
@@ -1,5 +1,6 @@
 package org.thewhitemage13.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -54,6 +55,13 @@ public class OpenPostDTO {
      */
     private Long comments;
 
+    /**
+     * Whether a remote lookup for this post fell back to an empty value, e.g. a missing
+     * username. A degraded post is returned but never cached. Not serialized.
+     */
+    @JsonIgnore
+    private boolean degraded;
+
     /**
      * Returns a string representation of the OpenPostDTO.
      * <p>
@@ -0,0 +1,37 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated post listing.
+ * <p>
+ * Pages are ordered by creation time and post ID, newest first. The next page is requested
+ * by passing {@link #nextCursor} back unchanged; its content is opaque to clients.
+ * </p>
+ *
+ * @param <T> the type of the post representation
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPageDTO<T> {
+
+    /**
+     * The posts of this page.
+     */
+    private List<T> items;
+
+    /**
+     * The cursor of the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+}
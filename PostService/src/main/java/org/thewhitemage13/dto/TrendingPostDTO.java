@@ -0,0 +1,44 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for a trending post.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingPostDTO {
+
+    /**
+     * The ID of the post.
+     */
+    private Long postId;
+
+    /**
+     * The ID of the user who created the post.
+     */
+    private Long userId;
+
+    /**
+     * The main content of the post.
+     */
+    private String content;
+
+    /**
+     * The URL of the media associated with the post, if any.
+     */
+    private String mediaUrl;
+
+    /**
+     * The decayed engagement score of the post when the trending list was last refreshed.
+     */
+    private double score;
+}
@@ -0,0 +1,36 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The highest Kafka offset applied to the post counters for one topic partition.
+ * <p>
+ * It is updated in the same transaction as the counters, which makes redelivered
+ * records a no-op.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_counter_offsets")
+@Entity
+public class ConsumedOffset {
+
+    @Id
+    @Column(name = "partition_key")
+    private String partitionKey;
+
+    @Column(name = "last_offset", nullable = false)
+    private Long lastOffset;
+}
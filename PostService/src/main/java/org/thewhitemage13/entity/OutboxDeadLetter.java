@@ -0,0 +1,80 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox event the relay gave up on.
+ * <p>
+ * Rows whose payload cannot be turned back into an event, because the event class is unknown
+ * or the JSON does not match it, or that the producer keeps rejecting, are moved here after the
+ * configured number of attempts so they no longer hold back the events recorded after them. They keep the identifier of the
+ * outbox row and can be inspected and re-enqueued by hand.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_dead_letter")
+@Entity
+public class OutboxDeadLetter {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "aggregate_key")
+    private Long aggregateKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(columnDefinition = "text")
+    private String error;
+
+    @Column(name = "dead_lettered_at", nullable = false)
+    private LocalDateTime deadLetteredAt;
+
+    /**
+     * Constructs a dead letter from the outbox row it replaces.
+     *
+     * @param outboxEvent    the outbox row
+     * @param attempts       the number of failed attempts
+     * @param error          the reason of the last failed attempt
+     * @param deadLetteredAt the time the row was moved
+     */
+    public OutboxDeadLetter(OutboxEvent outboxEvent, int attempts, String error, LocalDateTime deadLetteredAt) {
+        this.id = outboxEvent.getId();
+        this.topic = outboxEvent.getTopic();
+        this.aggregateKey = outboxEvent.getAggregateKey();
+        this.eventType = outboxEvent.getEventType();
+        this.payload = outboxEvent.getPayload();
+        this.createdAt = outboxEvent.getCreatedAt();
+        this.attempts = attempts;
+        this.error = error;
+        this.deadLetteredAt = deadLetteredAt;
+    }
+}
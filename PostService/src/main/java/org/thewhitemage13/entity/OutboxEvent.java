@@ -0,0 +1,75 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.thewhitemage13.outbox.OutboxRecord;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event waiting to be published to Kafka.
+ * <p>
+ * Rows are written in the same transaction as the change they describe and deleted once the
+ * broker has acknowledged them. The generated identifier defines the publication order.
+ * Rows that cannot be turned back into an event or are rejected by the producer count their
+ * failed attempts and are moved to {@link OutboxDeadLetter} once the relay gives up on them.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_event")
+@Entity
+public class OutboxEvent implements OutboxRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "aggregate_key")
+    private Long aggregateKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int attempts;
+
+    /**
+     * Constructs a new outbox row that has not been persisted yet.
+     *
+     * @param topic        the destination topic
+     * @param aggregateKey the record key; all events of one aggregate share it and keep their order
+     * @param eventType    the fully qualified class name of the event
+     * @param payload      the event serialized as JSON
+     * @param createdAt    the time the event was recorded
+     */
+    public OutboxEvent(String topic, Long aggregateKey, String eventType, String payload, LocalDateTime createdAt) {
+        this.topic = topic;
+        this.aggregateKey = aggregateKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
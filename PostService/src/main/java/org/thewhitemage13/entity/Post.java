@@ -32,7 +32,13 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_created_at_post_id", columnList = "created_at, post_id"),
+                @Index(name = "idx_posts_user_id_created_at_post_id", columnList = "user_id, created_at, post_id")
+        }
+)
 @Entity
 public class Post {
 
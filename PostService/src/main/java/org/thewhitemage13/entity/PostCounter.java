@@ -0,0 +1,45 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized like and comment counters of a single post.
+ * <p>
+ * The counters are maintained from the like and comment events published by the like and
+ * comment services, so that reading a post does not require a call to either service.
+ * They can be re-derived from the owning services by the reconciliation job.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_counters")
+@Entity
+public class PostCounter {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
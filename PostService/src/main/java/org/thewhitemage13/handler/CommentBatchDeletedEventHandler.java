@@ -0,0 +1,51 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+/**
+ * Handles chunks of comments removed by a bulk deletion.
+ * <p>
+ * This class listens for {@link BatchDeletedEvent} messages from the Kafka topic "comment.deleted.batch"
+ * and decrements the comment counters of the affected posts, once per comment. The whole chunk is applied
+ * under the partition and offset of its record, so a redelivered chunk is not counted twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "comment.deleted.batch")
+public class CommentBatchDeletedEventHandler {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    /**
+     * Constructs a new {@code CommentBatchDeletedEventHandler} with the specified {@link PostCounterServiceImpl}.
+     *
+     * @param postCounterServiceImpl the service that maintains the post counters
+     */
+    @Autowired
+    public CommentBatchDeletedEventHandler(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    /**
+     * Handles a chunk of deleted comments.
+     *
+     * @param batchDeletedEvent the event containing the posts of the deleted comments
+     * @param partition the partition the record was read from
+     * @param offset the offset of the record
+     */
+    @KafkaHandler
+    public void commentsDeleted(BatchDeletedEvent batchDeletedEvent,
+                                @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                @Header(KafkaHeaders.OFFSET) long offset) {
+        postCounterServiceImpl.applyCommentDeltas(batchDeletedEvent.getParentIds(), -1L, "comment.deleted.batch", partition, offset);
+    }
+}
@@ -0,0 +1,51 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+/**
+ * Handles events related to a comment being created.
+ * <p>
+ * This class listens for {@link CommentEvent} messages from the Kafka topic "comment.created"
+ * and increments the comment counter of the affected post. The partition and offset of the record
+ * are passed along so that a redelivered record is not counted twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "comment.created")
+public class CommentCreatedEventHandler {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    /**
+     * Constructs a new {@code CommentCreatedEventHandler} with the specified {@link PostCounterServiceImpl}.
+     *
+     * @param postCounterServiceImpl the service that maintains the post counters
+     */
+    @Autowired
+    public CommentCreatedEventHandler(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    /**
+     * Handles the event when a comment is created.
+     *
+     * @param commentEvent the event containing the comment's information, including the post ID
+     * @param partition the partition the record was read from
+     * @param offset the offset of the record
+     */
+    @KafkaHandler
+    public void commentCreated(CommentEvent commentEvent,
+                               @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                               @Header(KafkaHeaders.OFFSET) long offset) {
+        postCounterServiceImpl.applyCommentDelta(commentEvent.getPostId(), 1L, "comment.created", partition, offset);
+    }
+}
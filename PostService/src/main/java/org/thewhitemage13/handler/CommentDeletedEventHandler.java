@@ -0,0 +1,51 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+/**
+ * Handles events related to a comment being deleted.
+ * <p>
+ * This class listens for {@link CommentEvent} messages from the Kafka topic "comment.deleted"
+ * and decrements the comment counter of the affected post. The partition and offset of the record
+ * are passed along so that a redelivered record is not counted twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "comment.deleted")
+public class CommentDeletedEventHandler {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    /**
+     * Constructs a new {@code CommentDeletedEventHandler} with the specified {@link PostCounterServiceImpl}.
+     *
+     * @param postCounterServiceImpl the service that maintains the post counters
+     */
+    @Autowired
+    public CommentDeletedEventHandler(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    /**
+     * Handles the event when a comment is deleted.
+     *
+     * @param commentEvent the event containing the comment's information, including the post ID
+     * @param partition the partition the record was read from
+     * @param offset the offset of the record
+     */
+    @KafkaHandler
+    public void commentDeleted(CommentEvent commentEvent,
+                               @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                               @Header(KafkaHeaders.OFFSET) long offset) {
+        postCounterServiceImpl.applyCommentDelta(commentEvent.getPostId(), -1L, "comment.deleted", partition, offset);
+    }
+}
@@ -0,0 +1,55 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.UserEvent;
+import org.thewhitemage13.filter.ExistenceFilters;
+
+/**
+ * Event handler that keeps the existence filter replicas current between reloads.
+ * <p>
+ * Every instance keeps its own replicas, so this listener uses a consumer group of its own
+ * instead of the service's group and starts at the end of the topics: everything older is
+ * covered by the snapshot.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>{@code user.created}: adds the user ID to the user replica.</li>
+ *     <li>{@code user.updated}: adds the user ID to the user replica; registrations are published on this topic.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(
+        topics = {"user.created", "user.updated"},
+        groupId = "${spring.application.name}-existence-${random.uuid}",
+        properties = "auto.offset.reset=latest"
+)
+public class ExistenceFilterEventHandler {
+    private final ExistenceFilters existenceFilters;
+
+    /**
+     * Constructs a new {@code ExistenceFilterEventHandler}.
+     *
+     * @param existenceFilters the replicas to update
+     */
+    @Autowired
+    public ExistenceFilterEventHandler(ExistenceFilters existenceFilters) {
+        this.existenceFilters = existenceFilters;
+    }
+
+    /**
+     * Adds the ID of a created user to the user replica.
+     *
+     * @param userEvent the event of the created user
+     */
+    @KafkaHandler
+    public void userCreated(UserEvent userEvent) {
+        existenceFilters.add(ExistenceFilters.USERS, userEvent.getUserId());
+    }
+}
@@ -0,0 +1,51 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+/**
+ * Handles chunks of likes removed by a bulk deletion.
+ * <p>
+ * This class listens for {@link BatchDeletedEvent} messages from the Kafka topic "post.like.deleted.batch"
+ * and decrements the like counters of the affected posts, once per like. The whole chunk is applied
+ * under the partition and offset of its record, so a redelivered chunk is not counted twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.like.deleted.batch")
+public class LikeBatchDeletedEventHandler {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    /**
+     * Constructs a new {@code LikeBatchDeletedEventHandler} with the specified {@link PostCounterServiceImpl}.
+     *
+     * @param postCounterServiceImpl the service that maintains the post counters
+     */
+    @Autowired
+    public LikeBatchDeletedEventHandler(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    /**
+     * Handles a chunk of deleted likes.
+     *
+     * @param batchDeletedEvent the event containing the posts of the deleted likes
+     * @param partition the partition the record was read from
+     * @param offset the offset of the record
+     */
+    @KafkaHandler
+    public void likesDeleted(BatchDeletedEvent batchDeletedEvent,
+                             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                             @Header(KafkaHeaders.OFFSET) long offset) {
+        postCounterServiceImpl.applyLikeDeltas(batchDeletedEvent.getParentIds(), -1L, "post.like.deleted.batch", partition, offset);
+    }
+}
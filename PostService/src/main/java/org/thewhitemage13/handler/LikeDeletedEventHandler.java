@@ -0,0 +1,51 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.service.PostCounterServiceImpl;
+
+/**
+ * Handles events related to a like being deleted.
+ * <p>
+ * This class listens for {@link LikeEvent} messages from the Kafka topic "post.like.deleted"
+ * and decrements the like counter of the affected post. The partition and offset of the record
+ * are passed along so that a redelivered record is not counted twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.like.deleted")
+public class LikeDeletedEventHandler {
+    private final PostCounterServiceImpl postCounterServiceImpl;
+
+    /**
+     * Constructs a new {@code LikeDeletedEventHandler} with the specified {@link PostCounterServiceImpl}.
+     *
+     * @param postCounterServiceImpl the service that maintains the post counters
+     */
+    @Autowired
+    public LikeDeletedEventHandler(PostCounterServiceImpl postCounterServiceImpl) {
+        this.postCounterServiceImpl = postCounterServiceImpl;
+    }
+
+    /**
+     * Handles the event when a like is deleted.
+     *
+     * @param likeEvent the event containing the like's information, including the post ID
+     * @param partition the partition the record was read from
+     * @param offset the offset of the record
+     */
+    @KafkaHandler
+    public void likeDeleted(LikeEvent likeEvent,
+                            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                            @Header(KafkaHeaders.OFFSET) long offset) {
+        postCounterServiceImpl.applyLikeDelta(likeEvent.getPostId(), -1L, "post.like.deleted", partition, offset);
+    }
+}
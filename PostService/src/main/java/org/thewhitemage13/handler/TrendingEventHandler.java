@@ -0,0 +1,114 @@
+package org.thewhitemage13.handler;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.service.TrendingPostServiceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event handler that feeds the trending post scores.
+ * <p>
+ * Every instance ranks all events in memory, so this listener uses a consumer group of its own
+ * instead of the service's group. A new group has no committed offsets; on assignment the
+ * partitions are rewound by {@code trending.warm-up-hours} the first time they are assigned,
+ * so a restarted instance rebuilds its scores from the recent events instead of starting with
+ * an empty ranking. Older events would have decayed to almost nothing anyway. A partition moved
+ * between the listener threads of the instance continues from its committed offset, so no event
+ * is counted twice.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>{@code post.like.created}: adds the weight of a like to the liked post.</li>
+ *     <li>{@code comment.created}: adds the weight of a comment to the commented post.</li>
+ *     <li>{@code post.created}: adds the initial weight of the new post.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(
+        topics = {"post.like.created", "comment.created", "post.created"},
+        groupId = "${spring.application.name}-trending-${random.uuid}",
+        properties = "auto.offset.reset=latest"
+)
+public class TrendingEventHandler extends AbstractConsumerSeekAware {
+    private final TrendingPostServiceImpl trendingPostServiceImpl;
+    private final Duration warmUp;
+    private final Set<TopicPartition> warmedUp = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a new {@code TrendingEventHandler}.
+     *
+     * @param trendingPostServiceImpl the service holding the scores
+     * @param warmUpHours             how far back the partitions are replayed on assignment, in hours
+     */
+    @Autowired
+    public TrendingEventHandler
+            (
+                    TrendingPostServiceImpl trendingPostServiceImpl,
+                    @Value("${trending.warm-up-hours:24}") long warmUpHours
+            ) {
+        this.trendingPostServiceImpl = trendingPostServiceImpl;
+        this.warmUp = Duration.ofHours(warmUpHours);
+    }
+
+    /**
+     * Rewinds partitions assigned for the first time to the start of the warm-up period.
+     *
+     * @param assignments the assigned partitions and their current offsets
+     * @param callback    the callback used to seek
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        List<TopicPartition> fresh = assignments.keySet().stream().filter(warmedUp::add).toList();
+        if (!fresh.isEmpty()) {
+            callback.seekToTimestamp(fresh, System.currentTimeMillis() - warmUp.toMillis());
+        }
+    }
+
+    /**
+     * Adds the engagement of a created like.
+     *
+     * @param likeEvent the event of the created like
+     */
+    @KafkaHandler
+    public void likeCreated(LikeEvent likeEvent) {
+        trendingPostServiceImpl.recordLike(likeEvent.getPostId(), likeEvent.getCreatedAt());
+    }
+
+    /**
+     * Adds the engagement of a created comment.
+     *
+     * @param commentEvent the event of the created comment
+     */
+    @KafkaHandler
+    public void commentCreated(CommentEvent commentEvent) {
+        trendingPostServiceImpl.recordComment(commentEvent.getPostId(), commentEvent.getCreatedAt());
+    }
+
+    /**
+     * Adds the initial engagement of a created post.
+     *
+     * @param postEvent the event of the created post
+     */
+    @KafkaHandler
+    public void postCreated(PostEvent postEvent) {
+        trendingPostServiceImpl.recordPost(postEvent.getPostId(), postEvent.getCreatedAt());
+    }
+}
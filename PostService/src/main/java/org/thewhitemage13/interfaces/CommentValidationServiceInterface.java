@@ -1,5 +1,8 @@
 package org.thewhitemage13.interfaces;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface for validating comments associated with posts.
  * <p>
@@ -25,4 +28,16 @@ public interface CommentValidationServiceInterface {
      * @return the number of validated comments for the given post
      */
     Long countCommentValidation(Long postId);
+
+    /**
+     * Counts the number of validated comments for several posts at once.
+     * <p>
+     * This method retrieves the comment counts of all given posts with a single
+     * remote call. Posts whose count could not be retrieved are mapped to 0.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose comments are being validated
+     * @return a map of post ID to the number of validated comments
+     */
+    Map<Long, Long> countCommentsValidation(List<Long> postIds);
 }
@@ -0,0 +1,23 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+
+/**
+ * Interface for publishing the existence filter of posts.
+ * <p>
+ * Other services keep a local replica of the filter and only call the post verification
+ * endpoint when the replica answers "maybe".
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface ExistenceFilterServiceInterface {
+
+    /**
+     * Builds a snapshot of the existence filter over all post IDs.
+     *
+     * @return the snapshot, covering posts up to its highest ID
+     */
+    ExistenceFilterSnapshot buildSnapshot();
+}
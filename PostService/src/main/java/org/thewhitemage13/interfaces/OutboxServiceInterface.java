@@ -0,0 +1,38 @@
+package org.thewhitemage13.interfaces;
+
+/**
+ * Interface for publishing events through the transactional outbox.
+ * <p>
+ * Events are stored in the database together with the change that produced them and
+ * relayed to Kafka afterwards, so a request never waits for the broker and an event is
+ * never lost when the broker is unavailable.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Record an event inside the caller's transaction.</li>
+ *     <li>Relay pending events to Kafka in batches, in the order they were recorded.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OutboxServiceInterface {
+
+    /**
+     * Records an event to be published once the current transaction commits.
+     *
+     * @param topic the destination topic
+     * @param key   the record key
+     * @param event the event to publish
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void enqueue(String topic, Long key, Object event);
+
+    /**
+     * Publishes the next batch of pending events and removes the acknowledged ones.
+     *
+     * @return the number of events published
+     */
+    int relay();
+}
@@ -0,0 +1,96 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.entity.PostCounter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface for maintaining the denormalized like and comment counters of posts.
+ * <p>
+ * The counters are fed by like and comment events. Every update is tied to the
+ * Kafka record that caused it, so a redelivered record is applied at most once.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface PostCounterServiceInterface {
+
+    /**
+     * Applies a like counter change caused by a Kafka record.
+     *
+     * @param postId    the ID of the liked post
+     * @param delta     {@code 1} for a created like, {@code -1} for a deleted one
+     * @param topic     the topic of the record
+     * @param partition the partition of the record
+     * @param offset    the offset of the record
+     * @return {@code true} if the change was applied, {@code false} if the record was already processed
+     */
+    boolean applyLikeDelta(Long postId, long delta, String topic, int partition, long offset);
+
+    /**
+     * Applies a comment counter change caused by a Kafka record.
+     *
+     * @param postId    the ID of the commented post
+     * @param delta     {@code 1} for a created comment, {@code -1} for a deleted one
+     * @param topic     the topic of the record
+     * @param partition the partition of the record
+     * @param offset    the offset of the record
+     * @return {@code true} if the change was applied, {@code false} if the record was already processed
+     */
+    boolean applyCommentDelta(Long postId, long delta, String topic, int partition, long offset);
+
+    /**
+     * Applies the like counter changes of a batch Kafka record.
+     *
+     * @param postIds   the IDs of the liked posts, once per like
+     * @param delta     the change per like
+     * @param topic     the topic of the record
+     * @param partition the partition of the record
+     * @param offset    the offset of the record
+     * @return {@code true} if the changes were applied, {@code false} if the record was already processed
+     */
+    boolean applyLikeDeltas(List<Long> postIds, long delta, String topic, int partition, long offset);
+
+    /**
+     * Applies the comment counter changes of a batch Kafka record.
+     *
+     * @param postIds   the IDs of the commented posts, once per comment
+     * @param delta     the change per comment
+     * @param topic     the topic of the record
+     * @param partition the partition of the record
+     * @param offset    the offset of the record
+     * @return {@code true} if the changes were applied, {@code false} if the record was already processed
+     */
+    boolean applyCommentDeltas(List<Long> postIds, long delta, String topic, int partition, long offset);
+
+    /**
+     * Retrieves the counters of the given posts.
+     *
+     * @param postIds the IDs of the posts
+     * @return a map of post ID to counter; posts without counters are omitted
+     */
+    Map<Long, PostCounter> getCounters(List<Long> postIds);
+
+    /**
+     * Re-derives the counters of all posts from the like and comment services.
+     *
+     * @return the number of posts whose counters were rewritten
+     */
+    long reconcile();
+
+    /**
+     * Removes the counters of a deleted post.
+     *
+     * @param postId the ID of the deleted post
+     */
+    void deleteCounter(Long postId);
+
+    /**
+     * Removes the counters of several deleted posts with a single statement.
+     *
+     * @param postIds the IDs of the deleted posts
+     */
+    void deleteCounters(List<Long> postIds);
+}
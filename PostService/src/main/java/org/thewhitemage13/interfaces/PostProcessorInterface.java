@@ -2,9 +2,12 @@ package org.thewhitemage13.interfaces;
 
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.dto.CreatePostDTO;
+import org.thewhitemage13.dto.FeedCursorDTO;
+import org.thewhitemage13.dto.OpenPostDTO;
 import org.thewhitemage13.entity.Post;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for processing posts and converting them to different representations.
@@ -46,4 +49,37 @@ public interface PostProcessorInterface {
      * @return a {@link PostEvent} representing the event of deleting the post
      */
     PostEvent getPostEvent(Post deletePost);
+
+    /**
+     * Converts a list of {@link Post} entities into {@link OpenPostDTO} objects.
+     * <p>
+     * The like counts, comment counts and usernames are supplied as maps that were
+     * fetched in bulk beforehand, so the conversion itself performs no remote calls.
+     * Missing counts default to 0.
+     * </p>
+     *
+     * @param posts     the list of {@link Post} entities to be converted
+     * @param likes     a map of post ID to like count
+     * @param comments  a map of post ID to comment count
+     * @param usernames a map of user ID to username
+     * @return a list of {@link OpenPostDTO} objects in the order of the given posts
+     */
+    List<OpenPostDTO> getOpenPostDTOS(List<Post> posts, Map<Long, Long> likes, Map<Long, Long> comments, Map<Long, String> usernames);
+
+    /**
+     * Encodes the position of a post into an opaque feed cursor.
+     *
+     * @param post the last post of a page
+     * @return a URL-safe cursor pointing right after the given post
+     */
+    String encodeCursor(Post post);
+
+    /**
+     * Decodes a feed cursor produced by {@link #encodeCursor(Post)}.
+     *
+     * @param cursor the cursor received from a client
+     * @return the decoded position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    FeedCursorDTO decodeCursor(String cursor);
 }
@@ -1,6 +1,7 @@
 package org.thewhitemage13.interfaces;
 
 import org.thewhitemage13.dto.OpenPostDTO;
+import org.thewhitemage13.dto.PostPageDTO;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.dto.UpdatePostDTO;
 import org.thewhitemage13.exceptions.PostNotFoundException;
@@ -70,29 +71,33 @@ public interface PostServiceInterface {
     void deletePost(Long userId) throws PostNotFoundException;
 
     /**
-     * Retrieves all posts associated with a specific user.
+     * Retrieves one page of the posts associated with a specific user.
      * <p>
-     * This method returns a list of {@link CreatePostDTO} objects representing
-     * the posts of the user with the specified {@code userId}. It throws
-     * a {@link PostNotFoundException} if no posts are found.
+     * This method returns a {@link PostPageDTO} of {@link CreatePostDTO} objects representing
+     * the posts of the user with the specified {@code userId}, newest first. It throws
+     * a {@link PostNotFoundException} if the user has no posts.
      * </p>
      *
      * @param userId the ID of the user whose posts are to be retrieved
-     * @return a list of {@link CreatePostDTO} objects representing the user's posts
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size
+     * @return a page of {@link CreatePostDTO} objects and the cursor of the next page
      * @throws PostNotFoundException if no posts are found for the user
      */
-    List<CreatePostDTO> getPostsByUserId(Long userId) throws PostNotFoundException;
+    PostPageDTO<CreatePostDTO> getPostsByUserId(Long userId, String cursor, int size) throws PostNotFoundException;
 
     /**
-     * Retrieves all posts in the system.
+     * Retrieves one page of all posts in the system.
      * <p>
-     * This method returns a list of {@link CreatePostDTO} objects representing
-     * all posts in the system.
+     * This method returns a {@link PostPageDTO} of {@link CreatePostDTO} objects,
+     * newest first.
      * </p>
      *
-     * @return a list of {@link CreatePostDTO} objects representing all posts
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size
+     * @return a page of {@link CreatePostDTO} objects and the cursor of the next page
      */
-    List<CreatePostDTO> getAllPosts();
+    PostPageDTO<CreatePostDTO> getAllPosts(String cursor, int size);
 
     /**
      * Retrieves the user ID associated with a specific post.
@@ -143,16 +148,18 @@ public interface PostServiceInterface {
     Integer getCountPostByUserId(Long userId);
 
     /**
-     * Retrieves all open posts associated with a specific user.
+     * Retrieves one page of the open posts associated with a specific user.
      * <p>
-     * This method returns a list of {@link OpenPostDTO} objects representing
-     * the posts that are open or visible for the user identified by {@code userId}.
+     * This method returns a {@link PostPageDTO} of {@link OpenPostDTO} objects representing
+     * the posts that are open or visible for the user identified by {@code userId}, newest first.
      * </p>
      *
      * @param userId the ID of the user whose open posts are to be retrieved
-     * @return a list of {@link OpenPostDTO} objects representing the user's open posts
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size
+     * @return a page of {@link OpenPostDTO} objects and the cursor of the next page
      */
-    List<OpenPostDTO> openAllPostsByUserId(Long userId);
+    PostPageDTO<OpenPostDTO> openAllPostsByUserId(Long userId, String cursor, int size);
 
     /**
      * Retrieves a specific open post based on its post ID.
@@ -0,0 +1,57 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.dto.TrendingPostDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface for ranking posts by their recent engagement.
+ * <p>
+ * Likes, comments and the creation of a post add weighted engagement to it. The weight of an
+ * engagement decays exponentially with its age, so the ranking reflects what is popular now
+ * rather than what has been popular overall.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface TrendingPostServiceInterface {
+
+    /**
+     * Adds the engagement of a like.
+     *
+     * @param postId    the ID of the liked post
+     * @param createdAt when the like was created, or {@code null} for now
+     */
+    void recordLike(Long postId, LocalDateTime createdAt);
+
+    /**
+     * Adds the engagement of a comment.
+     *
+     * @param postId    the ID of the commented post
+     * @param createdAt when the comment was created, or {@code null} for now
+     */
+    void recordComment(Long postId, LocalDateTime createdAt);
+
+    /**
+     * Adds the initial engagement of a created post, so that new posts can enter the ranking.
+     *
+     * @param postId    the ID of the created post
+     * @param createdAt when the post was created, or {@code null} for now
+     */
+    void recordPost(Long postId, LocalDateTime createdAt);
+
+    /**
+     * Retrieves the trending posts as of the last refresh.
+     *
+     * @param limit the maximum number of posts to return
+     * @return the posts, highest score first
+     */
+    List<TrendingPostDTO> getTrendingPosts(int limit);
+
+    /**
+     * Rebuilds the trending list from the current scores.
+     */
+    void refresh();
+}
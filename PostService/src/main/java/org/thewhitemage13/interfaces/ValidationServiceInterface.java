@@ -2,6 +2,9 @@ package org.thewhitemage13.interfaces;
 
 import org.thewhitemage13.dto.CreatePostDTO;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface for validating various aspects of post-related data.
  * <p>
@@ -42,6 +45,30 @@ public interface ValidationServiceInterface {
      */
     Long validateLike(Long postId);
 
+    /**
+     * Validates the number of comments associated with several posts at once.
+     * <p>
+     * This method retrieves the comment counts for all given posts in a single
+     * call, avoiding one remote request per post.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose comments are to be validated
+     * @return a map of post ID to the count of validated comments
+     */
+    Map<Long, Long> validateComments(List<Long> postIds);
+
+    /**
+     * Validates the number of likes associated with several posts at once.
+     * <p>
+     * This method retrieves the like counts for all given posts in a single
+     * call, avoiding one remote request per post.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose likes are to be validated
+     * @return a map of post ID to the count of validated likes
+     */
+    Map<Long, Long> validateLikes(List<Long> postIds);
+
     /**
      * Validates the media data provided for post creation.
      * <p>
@@ -3,11 +3,18 @@ package org.thewhitemage13.processor;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.dto.CreatePostDTO;
+import org.thewhitemage13.dto.FeedCursorDTO;
+import org.thewhitemage13.dto.OpenPostDTO;
 import org.thewhitemage13.entity.Post;
 import org.thewhitemage13.interfaces.PostProcessorInterface;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -75,4 +82,63 @@ public class PostProcessor implements PostProcessorInterface {
                         deletePost.getUpdatedAt()
                 );
     }
+
+    /**
+     * Converts a list of {@link Post} entities into {@link OpenPostDTO} objects using
+     * like counts, comment counts and usernames that were fetched in bulk.
+     *
+     * @param posts     the list of {@link Post} entities to be converted
+     * @param likes     a map of post ID to like count
+     * @param comments  a map of post ID to comment count
+     * @param usernames a map of user ID to username
+     * @return a list of {@link OpenPostDTO} objects in the order of the given posts
+     */
+    @Override
+    public List<OpenPostDTO> getOpenPostDTOS(List<Post> posts, Map<Long, Long> likes, Map<Long, Long> comments, Map<Long, String> usernames) {
+        List<OpenPostDTO> openPosts = new ArrayList<>();
+        for (Post post : posts) {
+            OpenPostDTO openPostDTO = new OpenPostDTO();
+            openPostDTO.setMediaUrl(post.getMediaUrl());
+            openPostDTO.setContent(post.getContent());
+            openPostDTO.setUsername(usernames.get(post.getUserId()));
+            openPostDTO.setLikes(likes.getOrDefault(post.getPostId(), 0L));
+            openPostDTO.setComments(comments.getOrDefault(post.getPostId(), 0L));
+            openPosts.add(openPostDTO);
+        }
+        return openPosts;
+    }
+
+    /**
+     * Encodes the creation time and ID of a post as a Base64 URL-safe cursor.
+     *
+     * @param post the last post of a page
+     * @return the opaque cursor
+     */
+    @Override
+    public String encodeCursor(Post post) {
+        String position = post.getCreatedAt() + "|" + post.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(Post)}.
+     *
+     * @param cursor the cursor received from a client
+     * @return the decoded position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Override
+    public FeedCursorDTO decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            return new FeedCursorDTO
+                    (
+                            LocalDateTime.parse(position.substring(0, separator)),
+                            Long.parseLong(position.substring(separator + 1))
+                    );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor = %s".formatted(cursor), e);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.thewhitemage13.entity.ConsumedOffset;
+
+/**
+ * Repository interface for managing {@link ConsumedOffset} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface ConsumedOffsetRepository extends JpaRepository<ConsumedOffset, String> {
+
+    /**
+     * Records the given offset for a topic partition if it is newer than the stored one.
+     * <p>
+     * The returned row count tells the caller whether the record is new ({@code 1})
+     * or has already been applied ({@code 0}).
+     * </p>
+     *
+     * @param partitionKey the topic partition, formatted as {@code topic-partition}
+     * @param offset       the offset of the record being applied
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_counter_offsets (partition_key, last_offset)
+            VALUES (:partitionKey, :offset)
+            ON CONFLICT (partition_key) DO UPDATE
+            SET last_offset = EXCLUDED.last_offset
+            WHERE post_counter_offsets.last_offset < EXCLUDED.last_offset
+            """, nativeQuery = true)
+    int advance(@Param("partitionKey") String partitionKey, @Param("offset") long offset);
+}
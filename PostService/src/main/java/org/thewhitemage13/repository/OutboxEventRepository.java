@@ -0,0 +1,52 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.thewhitemage13.entity.OutboxEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds the oldest pending events.
+     *
+     * @param pageable the maximum number of events to return
+     * @return the events in the order they were recorded
+     */
+    @Query("SELECT o FROM OutboxEvent o ORDER BY o.id")
+    List<OutboxEvent> findNextBatch(Pageable pageable);
+
+    /**
+     * Tries to take the relay lock for the current transaction.
+     * <p>
+     * Only one instance drains the outbox at a time, which keeps the events of an aggregate
+     * in the order they were recorded. The lock is released when the transaction ends.
+     * </p>
+     *
+     * @param lockId the advisory lock identifier
+     * @return {@code true} if the lock was taken, {@code false} if another instance holds it
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockId)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockId") long lockId);
+
+    /**
+     * Records a failed attempt to relay the given events.
+     *
+     * @param ids the IDs of the events
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
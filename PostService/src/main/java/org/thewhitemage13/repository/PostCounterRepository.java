@@ -0,0 +1,71 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.thewhitemage13.entity.PostCounter;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link PostCounter} entities.
+ * <p>
+ * Besides the standard CRUD operations, it provides an atomic upsert that adds
+ * deltas to the counters of a post without a read-modify-write cycle.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface PostCounterRepository extends JpaRepository<PostCounter, Long> {
+
+    /**
+     * Adds the given deltas to the counters of a post.
+     * <p>
+     * The counter row is created on first use. Nothing is written if the post itself does
+     * not exist, so late events for a deleted post do not resurrect its counters.
+     * </p>
+     *
+     * @param postId       the ID of the post
+     * @param likeDelta    the value added to the like counter
+     * @param commentDelta the value added to the comment counter
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_counters (post_id, like_count, comment_count, updated_at)
+            SELECT :postId, :likeDelta, :commentDelta, now()
+            WHERE EXISTS (SELECT 1 FROM posts WHERE post_id = :postId)
+            ON CONFLICT (post_id) DO UPDATE
+            SET like_count = post_counters.like_count + EXCLUDED.like_count,
+                comment_count = post_counters.comment_count + EXCLUDED.comment_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int addDeltas(@Param("postId") Long postId, @Param("likeDelta") long likeDelta, @Param("commentDelta") long commentDelta);
+
+    /**
+     * Creates zeroed counters for the given posts that have none yet. Posts that no longer exist
+     * are skipped.
+     *
+     * @param postIds the IDs of the posts
+     * @return the number of created counter rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_counters (post_id, like_count, comment_count, updated_at)
+            SELECT post_id, 0, 0, now() FROM posts WHERE post_id IN (:postIds)
+            ON CONFLICT (post_id) DO NOTHING
+            """, nativeQuery = true)
+    int createMissing(@Param("postIds") List<Long> postIds);
+
+    /**
+     * Locks the counters of the given posts until the end of the current transaction, in
+     * ascending post ID order. Deltas for these posts wait for the transaction to end.
+     *
+     * @param postIds the IDs of the posts
+     * @return the IDs of the locked counters
+     */
+    @Query(value = "SELECT post_id FROM post_counters WHERE post_id IN (:postIds) ORDER BY post_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAll(@Param("postIds") List<Long> postIds);
+}
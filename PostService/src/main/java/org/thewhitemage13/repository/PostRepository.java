@@ -1,8 +1,12 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.thewhitemage13.entity.Post;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +18,11 @@ import java.util.Optional;
  * methods for querying posts by user ID, checking the existence of posts,
  * counting posts by user ID, and deleting posts associated with a user.
  * </p>
+ * <p>
+ * Listings are keyset-paginated on {@code (created_at, post_id)}, newest first. The first
+ * page has its own query; each following page starts strictly after the last post of the
+ * previous one. Both forms are served by the composite indexes declared on {@link Post}.
+ * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
@@ -67,4 +76,76 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param userId the ID of the user whose posts are to be deleted
      */
     void deleteAllByUserId(Long userId);
+
+    /**
+     * Retrieves the IDs of the posts following the given post ID, in ascending order.
+     * <p>
+     * This method is used to walk over all posts in chunks without offset pagination.
+     * </p>
+     *
+     * @param afterId  the ID after which to start; {@code 0} to start from the beginning
+     * @param pageable the page size
+     * @return the next chunk of post IDs
+     */
+    @Query("SELECT p.postId FROM Post p WHERE p.postId > :afterId ORDER BY p.postId")
+    List<Long> findPostIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the first page of the feed, newest posts first.
+     *
+     * @param pageable the page size
+     * @return the newest posts
+     */
+    @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findFeedFirstPage(Pageable pageable);
+
+    /**
+     * Retrieves the page of the feed following the given position.
+     *
+     * @param createdAt the creation time of the last post of the previous page
+     * @param postId    the ID of the last post of the previous page
+     * @param pageable  the page size
+     * @return the posts following the given position
+     */
+    @Query("SELECT p FROM Post p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findFeedPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * Retrieves the first page of a user's posts, newest posts first.
+     *
+     * @param userId   the ID of the user
+     * @param pageable the page size
+     * @return the user's newest posts
+     */
+    @Query("SELECT p FROM Post p WHERE p.userId = :userId ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findUserFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Retrieves the page of a user's posts following the given position.
+     *
+     * @param userId    the ID of the user
+     * @param createdAt the creation time of the last post of the previous page
+     * @param postId    the ID of the last post of the previous page
+     * @param pageable  the page size
+     * @return the user's posts following the given position
+     */
+    @Query("SELECT p FROM Post p WHERE p.userId = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findUserPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * Retrieves the IDs of the next chunk of a user's posts, in ascending order.
+     * <p>
+     * Used by bulk deletion: every chunk is deleted before the next one is read, so the first
+     * page always holds the remaining posts with the lowest IDs.
+     * </p>
+     *
+     * @param userId   the ID of the user
+     * @param pageable the size of the chunk
+     * @return the IDs of at most {@code pageable.getPageSize()} posts of the user
+     */
+    @Query("SELECT p.postId FROM Post p WHERE p.userId = :userId ORDER BY p.postId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
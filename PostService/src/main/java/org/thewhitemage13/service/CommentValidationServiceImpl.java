@@ -4,6 +4,10 @@ import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.CommentClient;
 import org.thewhitemage13.interfaces.CommentValidationServiceInterface;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service implementation for validating comments related to posts.
  * <p>
@@ -54,4 +58,34 @@ public class CommentValidationServiceImpl implements CommentValidationServiceInt
         }
         return comments;
     }
+
+    /**
+     * Counts the number of comments for several posts with a single remote call.
+     * <p>
+     * This method calls the external comment service via the {@link CommentClient} once for all
+     * given posts. Posts missing from the response, or all posts if the call fails,
+     * are mapped to 0 as a fallback value.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose comments are to be counted
+     * @return a map of post ID to the number of comments
+     */
+    @Override
+    public Map<Long, Long> countCommentsValidation(List<Long> postIds) {
+        Map<Long, Long> comments = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return comments;
+        }
+        Map<Long, Long> response;
+        try {
+            response = commentClient.getCommentCountsByPostIds(postIds).getBody();
+        } catch (Exception e) {
+            response = null;
+        }
+        for (Long postId : postIds) {
+            Long count = response == null ? null : response.get(postId);
+            comments.put(postId, count == null ? 0L : count);
+        }
+        return comments;
+    }
 }
@@ -0,0 +1,64 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+import org.thewhitemage13.interfaces.ExistenceFilterServiceInterface;
+import org.thewhitemage13.repository.PostRepository;
+
+/**
+ * Service implementation for publishing the existence filter of posts.
+ * <p>
+ * The filter is rebuilt from the post IDs on every request, reading them page by page, so it never
+ * holds deleted posts. Replicas request it only every few minutes and keep it current in between
+ * from the post create events.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExistenceFilterServiceImpl implements ExistenceFilterServiceInterface {
+    private final PostRepository postRepository;
+    private final double falsePositiveRate;
+    private final int pageSize;
+
+    /**
+     * Constructs a new {@code ExistenceFilterServiceImpl} with the specified dependencies.
+     *
+     * @param postRepository     the repository the post IDs are read from
+     * @param falsePositiveRate  the false positive rate of the filter
+     * @param pageSize           the number of IDs read per query
+     */
+    @Autowired
+    public ExistenceFilterServiceImpl
+            (
+                    PostRepository postRepository,
+                    @Value("${existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                    @Value("${existence-filter.page-size:10000}") int pageSize
+            ) {
+        this.postRepository = postRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The count and every page are read in one repeatable-read transaction, so the snapshot shows
+     * the rows of one point in time rather than a mix of what each page saw. Rows committed after
+     * that point are covered by the replicas' safety margin and by the create events.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ExistenceFilterSnapshot buildSnapshot() {
+        return ExistenceFilterSnapshot.scan(postRepository.count(), falsePositiveRate,
+                lastId -> postRepository.findPostIdsAfter(lastId, PageRequest.of(0, pageSize)));
+    }
+}
@@ -4,6 +4,10 @@ import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.LikeClient;
 import org.thewhitemage13.interfaces.LikeValidationServiceInterface;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service implementation for validating likes related to posts.
  * <p>
@@ -54,4 +58,34 @@ public class LikeValidationServiceImpl implements LikeValidationServiceInterface
         }
         return likes;
     }
+
+    /**
+     * Counts the number of likes for several posts with a single remote call.
+     * <p>
+     * This method calls the external like service via the {@link LikeClient} once for all
+     * given posts. Posts missing from the response, or all posts if the call fails,
+     * are mapped to 0 as a fallback value.
+     * </p>
+     *
+     * @param postIds the IDs of the posts whose likes are to be counted
+     * @return a map of post ID to the number of likes
+     */
+    @Override
+    public Map<Long, Long> countLikesValidation(List<Long> postIds) {
+        Map<Long, Long> likes = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return likes;
+        }
+        Map<Long, Long> response;
+        try {
+            response = likeClient.getPostLikeCounts(postIds).getBody();
+        } catch (Exception e) {
+            response = null;
+        }
+        for (Long postId : postIds) {
+            Long count = response == null ? null : response.get(postId);
+            likes.put(postId, count == null ? 0L : count);
+        }
+        return likes;
+    }
 }
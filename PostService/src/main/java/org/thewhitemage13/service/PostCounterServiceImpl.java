@@ -0,0 +1,231 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.clients.CommentClient;
+import org.thewhitemage13.clients.LikeClient;
+import org.thewhitemage13.entity.PostCounter;
+import org.thewhitemage13.interfaces.PostCounterServiceInterface;
+import org.thewhitemage13.repository.ConsumedOffsetRepository;
+import org.thewhitemage13.repository.PostCounterRepository;
+import org.thewhitemage13.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of the {@link PostCounterServiceInterface}.
+ * <p>
+ * Counter updates are atomic {@code UPDATE ... SET x = x + delta} upserts. Before a delta is applied,
+ * the offset of the originating record is recorded for its topic partition in the same transaction;
+ * if the offset is not newer than the stored one, the record is a redelivery and is skipped.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Idempotent, offset-aware counter updates.</li>
+ *     <li>Reads served from the local database without calling the like or comment services.</li>
+ *     <li>On-demand reconciliation that rewrites the counters in chunks from the owning services.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class PostCounterServiceImpl implements PostCounterServiceInterface {
+    private final PostCounterRepository postCounterRepository;
+    private final ConsumedOffsetRepository consumedOffsetRepository;
+    private final PostRepository postRepository;
+    private final LikeClient likeClient;
+    private final CommentClient commentClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileChunkSize;
+
+    /**
+     * Constructs a new {@code PostCounterServiceImpl} with the specified dependencies.
+     *
+     * @param postCounterRepository    the repository for the counters
+     * @param consumedOffsetRepository the repository for the applied offsets
+     * @param postRepository           the repository for posts, used to enumerate them during reconciliation
+     * @param likeClient               the client used to re-derive like counts
+     * @param commentClient            the client used to re-derive comment counts
+     * @param transactionTemplate      the template running each reconciled chunk in its own transaction
+     * @param reconcileChunkSize       the number of posts reconciled per request to the like and comment services
+     */
+    @Autowired
+    public PostCounterServiceImpl
+            (
+                    PostCounterRepository postCounterRepository,
+                    ConsumedOffsetRepository consumedOffsetRepository,
+                    PostRepository postRepository,
+                    LikeClient likeClient,
+                    CommentClient commentClient,
+                    TransactionTemplate transactionTemplate,
+                    @Value("${post-counters.reconcile.chunk-size:500}") int reconcileChunkSize
+            ) {
+        this.postCounterRepository = postCounterRepository;
+        this.consumedOffsetRepository = consumedOffsetRepository;
+        this.postRepository = postRepository;
+        this.likeClient = likeClient;
+        this.commentClient = commentClient;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+
+    @Override
+    @CacheEvict(value = "postById", key = "#postId")
+    public boolean applyLikeDelta(Long postId, long delta, String topic, int partition, long offset) {
+        if (postId == null || consumedOffsetRepository.advance(topic + "-" + partition, offset) == 0) {
+            return false;
+        }
+        postCounterRepository.addDeltas(postId, delta, 0L);
+        return true;
+    }
+
+    @Override
+    @CacheEvict(value = "postById", key = "#postId")
+    public boolean applyCommentDelta(Long postId, long delta, String topic, int partition, long offset) {
+        if (postId == null || consumedOffsetRepository.advance(topic + "-" + partition, offset) == 0) {
+            return false;
+        }
+        postCounterRepository.addDeltas(postId, 0L, delta);
+        return true;
+    }
+
+    @Override
+    @CacheEvict(value = "postById", allEntries = true)
+    public boolean applyLikeDeltas(List<Long> postIds, long delta, String topic, int partition, long offset) {
+        if (postIds == null || postIds.isEmpty() || consumedOffsetRepository.advance(topic + "-" + partition, offset) == 0) {
+            return false;
+        }
+        sumByPost(postIds, delta).forEach((postId, sum) -> postCounterRepository.addDeltas(postId, sum, 0L));
+        return true;
+    }
+
+    @Override
+    @CacheEvict(value = "postById", allEntries = true)
+    public boolean applyCommentDeltas(List<Long> postIds, long delta, String topic, int partition, long offset) {
+        if (postIds == null || postIds.isEmpty() || consumedOffsetRepository.advance(topic + "-" + partition, offset) == 0) {
+            return false;
+        }
+        sumByPost(postIds, delta).forEach((postId, sum) -> postCounterRepository.addDeltas(postId, 0L, sum));
+        return true;
+    }
+
+    /**
+     * Folds the per-row changes of a batch record into one change per post.
+     * <p>
+     * The posts are returned in ascending ID order, the order in which {@link #reconcile()}
+     * locks them, so applying a batch never deadlocks with a reconciliation.
+     * </p>
+     *
+     * @param postIds the IDs of the affected posts, once per row
+     * @param delta   the change per row
+     * @return a map of post ID to total change
+     */
+    private Map<Long, Long> sumByPost(List<Long> postIds, long delta) {
+        Map<Long, Long> sums = new TreeMap<>();
+        for (Long postId : postIds) {
+            if (postId != null) {
+                sums.merge(postId, delta, Long::sum);
+            }
+        }
+        return sums;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, PostCounter> getCounters(List<Long> postIds) {
+        Map<Long, PostCounter> counters = new HashMap<>();
+        for (PostCounter counter : postCounterRepository.findAllById(postIds)) {
+            counters.put(counter.getPostId(), counter);
+        }
+        return counters;
+    }
+
+    /**
+     * Re-derives the counters of all posts from the like and comment services.
+     * <p>
+     * Posts are walked in ascending ID order in chunks of {@code post-counters.reconcile.chunk-size}.
+     * Each chunk costs one bulk request to each service. Unlike the read path, a failed request
+     * aborts the reconciliation instead of falling back to zero, so an outage of a downstream
+     * service can never wipe the counters.
+     * </p>
+     * <p>
+     * Each chunk runs in its own transaction that locks the chunk's counter rows before the
+     * counts are requested and writes them before it commits. Deltas consumed for these posts
+     * meanwhile wait for the commit and are applied on top of the written counts, instead of
+     * being overwritten or applied to a value read before them. Events the owning services
+     * recorded before the counts were read but that are consumed only after the commit are
+     * still counted twice, so reconciliation is best
+     * run while the consumer lag of the like and comment topics is zero.
+     * </p>
+     *
+     * @return the number of posts whose counters were rewritten
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"postById", "openPostsByUserIdPages"}, allEntries = true)
+    public long reconcile() {
+        long reconciled = 0;
+        Long afterId = 0L;
+        List<Long> chunk = postRepository.findPostIdsAfter(afterId, PageRequest.of(0, reconcileChunkSize));
+        while (!chunk.isEmpty()) {
+            List<Long> postIds = chunk;
+            Long after = afterId;
+            transactionTemplate.executeWithoutResult(status -> reconcileChunk(postIds, after));
+            reconciled += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+            chunk = postRepository.findPostIdsAfter(afterId, PageRequest.of(0, reconcileChunkSize));
+        }
+        return reconciled;
+    }
+
+    /**
+     * Rewrites the counters of one chunk of posts while holding their row locks.
+     *
+     * @param postIds the IDs of the posts, in ascending order
+     * @param afterId the ID the chunk starts after, used in the error message
+     */
+    private void reconcileChunk(List<Long> postIds, Long afterId) {
+        postCounterRepository.createMissing(postIds);
+        List<Long> locked = postCounterRepository.lockAll(postIds);
+        Map<Long, Long> likes = likeClient.getPostLikeCounts(postIds).getBody();
+        Map<Long, Long> comments = commentClient.getCommentCountsByPostIds(postIds).getBody();
+        if (likes == null || comments == null) {
+            throw new IllegalStateException("Counts for posts after id = %s could not be retrieved".formatted(afterId));
+        }
+        List<PostCounter> counters = new ArrayList<>();
+        for (Long postId : locked) {
+            counters.add(new PostCounter
+                    (
+                            postId,
+                            likes.getOrDefault(postId, 0L),
+                            comments.getOrDefault(postId, 0L),
+                            LocalDateTime.now()
+                    ));
+        }
+        postCounterRepository.saveAll(counters);
+    }
+
+    @Override
+    public void deleteCounter(Long postId) {
+        postCounterRepository.deleteById(postId);
+    }
+
+    @Override
+    public void deleteCounters(List<Long> postIds) {
+        postCounterRepository.deleteAllByIdInBatch(postIds);
+    }
+}
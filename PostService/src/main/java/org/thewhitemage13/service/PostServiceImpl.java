@@ -3,16 +3,24 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.ResponseEntity;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.ScatterGather;
+import org.thewhitemage13.concurrent.SingleFlight;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.dto.CreatePostDTO;
+import org.thewhitemage13.dto.FeedCursorDTO;
 import org.thewhitemage13.dto.OpenPostDTO;
+import org.thewhitemage13.dto.PostPageDTO;
 import org.thewhitemage13.dto.UpdatePostDTO;
 import org.thewhitemage13.entity.Post;
+import org.thewhitemage13.entity.PostCounter;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.interfaces.PostServiceInterface;
@@ -21,7 +29,11 @@ import org.thewhitemage13.repository.PostRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Implementation of the {@link PostServiceInterface}, providing services for managing posts.
@@ -42,40 +54,58 @@ import java.util.List;
 @Service
 @Transactional
 public class PostServiceImpl implements PostServiceInterface {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final ValidationServiceImpl validationServiceImpl;
     private final UserClient userClient;
-    private final KafkaTemplate<Long, Object> kafkaTemplate;
+    private final OutboxServiceImpl outboxServiceImpl;
     private final PostProcessor postProcessor;
+    private final ScatterGather scatterGather;
+    private final SingleFlight remoteLookups;
+    private final PostCounterServiceImpl postCounterServiceImpl;
+    private final ChunkedDeletion chunkedDeletion;
 
     /**
      * Constructs a new {@code PostServiceImpl} with the specified dependencies.
      * <p>
      * The constructor injects the required dependencies such as the repository for posts,
-     * validation services, Kafka template for event publishing, and a processor for handling
+     * validation services, the outbox for event publishing, and a processor for handling
      * post-related logic.
      * </p>
      *
      * @param postRepository the {@link PostRepository} for managing post entities
      * @param validationServiceImpl the service for validating posts
-     * @param kafkaTemplate the {@link KafkaTemplate} for interacting with Kafka
+     * @param outboxServiceImpl the outbox that publishes events once the transaction commits
      * @param userClient the {@link UserClient} for fetching user information
      * @param postProcessor the {@link PostProcessor} for processing post-related data
+     * @param scatterGather the {@link ScatterGather} for querying other services in parallel
+     * @param remoteLookups shares one remote call between concurrent identical lookups
+     * @param postCounterServiceImpl the service holding the denormalized like and comment counters
+     * @param chunkedDeletion runs bulk deletions one chunk and one transaction at a time
      */
     @Autowired
     public PostServiceImpl
             (
                     PostRepository postRepository,
                     ValidationServiceImpl validationServiceImpl,
-                    KafkaTemplate<Long, Object> kafkaTemplate,
+                    OutboxServiceImpl outboxServiceImpl,
                     UserClient userClient,
-                    PostProcessor postProcessor
+                    PostProcessor postProcessor,
+                    ScatterGather scatterGather,
+                    SingleFlight remoteLookups,
+                    PostCounterServiceImpl postCounterServiceImpl,
+                    ChunkedDeletion chunkedDeletion
             ) {
         this.postRepository = postRepository;
         this.validationServiceImpl = validationServiceImpl;
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxServiceImpl = outboxServiceImpl;
         this.userClient = userClient;
         this.postProcessor = postProcessor;
+        this.scatterGather = scatterGather;
+        this.remoteLookups = remoteLookups;
+        this.postCounterServiceImpl = postCounterServiceImpl;
+        this.chunkedDeletion = chunkedDeletion;
     }
 
     /**
@@ -89,7 +119,7 @@ public class PostServiceImpl implements PostServiceInterface {
      * @return the user ID associated with the post
      */
     @Override
-    @Cacheable(value = "postsByUserId", key = "#userId")
+    @Cacheable(value = "postsByUserId", key = "#userId", sync = true)
     public Long getUserIdByPostId(Long postId) {
         return postRepository.findById(postId).get().getUserId();
     }
@@ -97,21 +127,33 @@ public class PostServiceImpl implements PostServiceInterface {
     /**
      * Deletes all posts associated with a given user ID.
      * <p>
-     * This method retrieves all posts by the given user ID and deletes them.
-     * The cache entries related to the posts are evicted for consistency.
+     * The posts are removed in chunks, each in its own transaction: one query selects the IDs of
+     * the chunk, one statement deletes the posts and one their counters. Instead of one
+     * "post.deleted" event per post, every chunk publishes one {@link BatchDeletedEvent} on
+     * "post.deleted.batch", keyed by the user ID. The cache entries related to the posts are
+     * evicted once the deletion is complete.
      * </p>
      *
      * @param userId the ID of the user whose posts need to be deleted
-     * @throws PostNotFoundException if no posts for the user are found
      */
     @Override
-    @CacheEvict(value = {"postsByUserId", "openPostsByUserId", "postCountByUserId", "postUrlsByUserId"}, key = "#userId")
-    public void deleteAllByUserId(Long userId) throws PostNotFoundException {
-        List<Post> deleteAll = postRepository.findAllByUserId(userId)
-                .orElseThrow(() -> new PostNotFoundException("Post with user id = %s not found".formatted(userId)));
-        for (Post post : deleteAll) {
-            deletePost(post.getPostId());
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(value = {"postsByUserId", "postCountByUserId", "postUrlsByUserId"}, key = "#userId"),
+            @CacheEvict(value = {"postById", "feedPages", "postsByUserIdPages", "openPostsByUserIdPages"}, allEntries = true)
+    })
+    public void deleteAllByUserId(Long userId) {
+        chunkedDeletion.run("posts of user " + userId, (chunk, chunkSize) -> {
+            List<Long> postIds = postRepository.findPostIdsByUserId(userId, PageRequest.of(0, chunkSize));
+            if (postIds.isEmpty()) {
+                return 0;
+            }
+            postRepository.deleteAllByIdInBatch(postIds);
+            postCounterServiceImpl.deleteCounters(postIds);
+            outboxServiceImpl.enqueue("post.deleted.batch", userId,
+                    new BatchDeletedEvent(userId, chunk, postIds, new ArrayList<>(), null, LocalDateTime.now()));
+            return postIds.size();
+        });
     }
 
     /**
@@ -126,7 +168,7 @@ public class PostServiceImpl implements PostServiceInterface {
      * @throws UserNotFoundException if the user is not found
      */
     @Override
-    @Cacheable(value = "postUrlsByUserId", key = "#userId")
+    @Cacheable(value = "postUrlsByUserId", key = "#userId", sync = true)
     public List<String> getUrlsByUserId(Long userId) {
         List<Post> get = postRepository.findAllByUserId(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id = %s not found".formatted(userId)));
@@ -148,49 +190,42 @@ public class PostServiceImpl implements PostServiceInterface {
      * @return the count of posts by the user
      */
     @Override
-    @Cacheable(value = "postCountByUserId", key = "#userId")
+    @Cacheable(value = "postCountByUserId", key = "#userId", sync = true)
     public Integer getCountPostByUserId(Long userId) {
         return postRepository.countByUserId(userId);
     }
 
     /**
-     * Retrieves a list of posts made by the given user ID and formats them for display.
+     * Retrieves one page of the posts made by the given user ID and formats them for display.
      * <p>
-     * This method fetches all posts made by the user and processes them into a list
-     * of {@link OpenPostDTO} objects. The result is cached for improved performance.
+     * This method fetches a keyset-paginated page of the user's posts, newest first, and
+     * processes it into {@link OpenPostDTO} objects. Each page is cached for a short time
+     * under its user ID, cursor and size, unless a username lookup fell back.
      * </p>
      *
      * @param userId the ID of the user whose posts are to be retrieved
-     * @return a list of formatted posts made by the user
-     * @throws UserNotFoundException if no posts are found for the user
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return a page of formatted posts made by the user
+     * @throws UserNotFoundException if the user has no posts at all
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
-    @Cacheable(value = "openPostsByUserId", key = "#userId")
-    public List<OpenPostDTO> openAllPostsByUserId(Long userId) {
-        List<Post> openAll = postRepository.findAllByUserId(userId)
-                .orElseThrow(() -> new UserNotFoundException("User with id = %s not found".formatted(userId)));
-        List<OpenPostDTO> openPosts = new ArrayList<>();
-        for (Post post : openAll) {
-            OpenPostDTO openPostDTO = new OpenPostDTO();
-            openPostDTO.setMediaUrl(post.getMediaUrl());
-            Long likes = validationServiceImpl.validateLike(post.getPostId());
-            Long comments = validationServiceImpl.validateComment(post.getPostId());
-            ResponseEntity<String> name = userClient.getUserNameById(post.getUserId());
-            String username = name.getBody();
-            openPostDTO.setUsername(username);
-            openPostDTO.setLikes(likes);
-            openPostDTO.setComments(comments);
-            openPostDTO.setContent(post.getContent());
-            openPosts.add(openPostDTO);
+    @Cacheable(value = "openPostsByUserIdPages", key = "#userId + ':' + (#cursor ?: 'head') + ':' + #size",
+            unless = "!#result.items.?[degraded].isEmpty()")
+    public PostPageDTO<OpenPostDTO> openAllPostsByUserId(Long userId, String cursor, int size) {
+        List<Post> page = findUserPage(userId, cursor, size);
+        if (cursor == null && page.isEmpty()) {
+            throw new UserNotFoundException("User with id = %s not found".formatted(userId));
         }
-        return openPosts;
+        return toPage(page, size, this::openPosts);
     }
 
     /**
      * Retrieves a specific post by its ID and formats it for display.
      * <p>
      * This method fetches a post by its ID and formats it into an {@link OpenPostDTO} object.
-     * The result is cached to improve performance.
+     * The result is cached to improve performance, unless the username lookup fell back.
      * </p>
      *
      * @param postId the ID of the post to retrieve
@@ -198,26 +233,13 @@ public class PostServiceImpl implements PostServiceInterface {
      * @throws PostNotFoundException if the post with the given ID is not found
      */
     @Override
-    @Cacheable(value = "postById", key = "#postId")
+    @Cacheable(value = "postById", key = "#postId", unless = "#result.degraded")
     public OpenPostDTO openPost(Long postId) throws PostNotFoundException {
         Post open = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post with id = %s not found".formatted(postId)));
-        String mediaUrl = open.getMediaUrl();
-        String content = open.getContent();
-        Long likes = validationServiceImpl.validateLike(postId);
-        Long comments = validationServiceImpl.validateComment(postId);
-        ResponseEntity<String> name = userClient.getUserNameById(open.getUserId());
-        String username = name.getBody();
-        OpenPostDTO openPostDTO = new OpenPostDTO();
-        openPostDTO.setMediaUrl(mediaUrl);
-        openPostDTO.setContent(content);
-        openPostDTO.setLikes(likes);
-        openPostDTO.setComments(comments);
-        openPostDTO.setUsername(username);
-        return openPostDTO;
+        return openPosts(List.of(open)).get(0);
     }
 
-
     /**
      * Verifies the existence of a post with the given post ID.
      * <p>
@@ -256,12 +278,7 @@ public class PostServiceImpl implements PostServiceInterface {
                 );
         postRepository.save(post);
         PostEvent postEvent = postProcessor.getPostEvent(post);
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("post.created", post.getPostId(), postEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("post.created", post.getPostId(), postEvent);
+        outboxServiceImpl.enqueue("post.created", post.getPostId(), postEvent);
     }
 
     /**
@@ -285,12 +302,7 @@ public class PostServiceImpl implements PostServiceInterface {
         update.setUpdatedAt(LocalDateTime.now());
         postRepository.save(update);
         PostEvent postEvent = postProcessor.getPostEvent(update);
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("post.updated", update.getPostId(), postEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("post.updated", update.getPostId(), postEvent);
+        outboxServiceImpl.enqueue("post.updated", update.getPostId(), postEvent);
     }
 
     /**
@@ -309,48 +321,141 @@ public class PostServiceImpl implements PostServiceInterface {
         Post deletePost = postRepository.findById(postId)
                 .orElseThrow(()-> new PostNotFoundException("Post with id = %s not found".formatted(postId)));
         postRepository.delete(deletePost);
+        postCounterServiceImpl.deleteCounter(postId);
         PostEvent postEvent = postProcessor.getPostEvent(deletePost);
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("post.deleted", deletePost.getPostId(), postEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("post.deleted", deletePost.getPostId(), postEvent);
+        outboxServiceImpl.enqueue("post.deleted", deletePost.getPostId(), postEvent);
     }
 
     /**
-     * Retrieves a list of posts made by a specific user and formats them for display.
+     * Retrieves one page of the posts made by a specific user.
      * <p>
-     * This method fetches all posts by the user and processes them into a list of DTOs
-     * for easy display. The result is cached to improve performance.
+     * This method fetches a keyset-paginated page of the user's posts, newest first, and
+     * processes it into DTOs. Each page is cached for a short time under its user ID,
+     * cursor and size.
      * </p>
      *
      * @param userId the ID of the user whose posts are to be retrieved
-     * @return a list of formatted posts made by the user
-     * @throws PostNotFoundException if no posts for the user are found
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return a page of posts made by the user
+     * @throws PostNotFoundException if the user has no posts at all
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
-    @Cacheable(value = "postsByUserIdList", key = "#userId")
-    public List<CreatePostDTO> getPostsByUserId(Long userId) throws PostNotFoundException {
-        List<Post> post = postRepository.findAllByUserId(userId)
-                .orElseThrow(() -> new PostNotFoundException("Posts with user id = %s is not found".formatted(userId)));
-        return postProcessor.getPostDTOS(post);
+    @Cacheable(value = "postsByUserIdPages", key = "#userId + ':' + (#cursor ?: 'head') + ':' + #size", sync = true)
+    public PostPageDTO<CreatePostDTO> getPostsByUserId(Long userId, String cursor, int size) throws PostNotFoundException {
+        List<Post> page = findUserPage(userId, cursor, size);
+        if (cursor == null && page.isEmpty()) {
+            throw new PostNotFoundException("Posts with user id = %s is not found".formatted(userId));
+        }
+        return toPage(page, size, postProcessor::getPostDTOS);
     }
 
     /**
-     * Retrieves all posts from the system and formats them for display.
+     * Retrieves one page of the feed of all posts.
      * <p>
-     * This method retrieves all posts and processes them into a list of DTOs for
-     * easy display. The result is cached to improve performance.
+     * The feed is keyset-paginated on {@code (created_at, post_id)}, newest first, so the cost
+     * of a request depends on the page size and not on the size of the posts table. Each page
+     * is cached for a short time under its cursor and size.
      * </p>
      *
-     * @return a list of all posts in the system
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return a page of the feed
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Override
-    @Cacheable(value = "allPosts")
-    public List<CreatePostDTO> getAllPosts() {
-        List<Post> posts = postRepository.findAll();
-        System.out.println(posts);
-        return postProcessor.getPostDTOS(posts);
+    @Cacheable(value = "feedPages", key = "(#cursor ?: 'head') + ':' + #size", sync = true)
+    public PostPageDTO<CreatePostDTO> getAllPosts(String cursor, int size) {
+        int limit = pageSize(size);
+        List<Post> page;
+        if (cursor == null) {
+            page = postRepository.findFeedFirstPage(PageRequest.of(0, limit + 1));
+        } else {
+            FeedCursorDTO position = postProcessor.decodeCursor(cursor);
+            page = postRepository.findFeedPageAfter(position.getCreatedAt(), position.getPostId(), PageRequest.of(0, limit + 1));
+        }
+        return toPage(page, size, postProcessor::getPostDTOS);
+    }
+
+    /**
+     * Fetches one page of a user's posts plus one look-ahead row.
+     *
+     * @param userId the ID of the user
+     * @param cursor the cursor of the previous page, or {@code null} for the first page
+     * @param size the requested page size
+     * @return up to {@code size + 1} posts
+     */
+    private List<Post> findUserPage(Long userId, String cursor, int size) {
+        int limit = pageSize(size);
+        if (cursor == null) {
+            return postRepository.findUserFirstPage(userId, PageRequest.of(0, limit + 1));
+        }
+        FeedCursorDTO position = postProcessor.decodeCursor(cursor);
+        return postRepository.findUserPageAfter(userId, position.getCreatedAt(), position.getPostId(), PageRequest.of(0, limit + 1));
+    }
+
+    /**
+     * Builds a page from posts fetched with one look-ahead row.
+     * <p>
+     * The look-ahead row only signals that another page exists; it is not returned.
+     * </p>
+     *
+     * @param posts the fetched posts, at most {@code size + 1}
+     * @param size the requested page size
+     * @param mapper the conversion applied to the posts of the page
+     * @return the page with the cursor of the next page, if any
+     */
+    private <T> PostPageDTO<T> toPage(List<Post> posts, int size, Function<List<Post>, List<T>> mapper) {
+        int limit = pageSize(size);
+        boolean hasNext = posts.size() > limit;
+        List<Post> items = hasNext ? posts.subList(0, limit) : posts;
+        String nextCursor = hasNext ? postProcessor.encodeCursor(items.get(items.size() - 1)) : null;
+        return new PostPageDTO<>(mapper.apply(items), nextCursor);
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Formats the given posts into {@link OpenPostDTO} objects.
+     * <p>
+     * Like and comment counts are read from the local denormalized counters, so they
+     * never require a call to the like or comment services. Usernames are retrieved
+     * with a single bulk request, shared with concurrent requests for the same authors
+     * such as simultaneous reads of one feed page; if it fails, times out or is rejected by a
+     * saturated pool, the usernames are left empty instead of failing the whole response and
+     * the posts are marked {@link OpenPostDTO#isDegraded() degraded} so they are not cached.
+     * </p>
+     *
+     * @param posts the posts to format
+     * @return the formatted posts, in the order of the given list
+     */
+    private List<OpenPostDTO> openPosts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> postIds = posts.stream().map(Post::getPostId).toList();
+        List<Long> userIds = posts.stream().map(Post::getUserId).distinct().toList();
+        CompletableFuture<Map<Long, String>> usernames = scatterGather.fork(() -> {
+            Map<Long, String> names = remoteLookups.execute(List.of("getUserNamesByIds", userIds),
+                    () -> userClient.getUserNamesByIds(userIds).getBody());
+            return names == null ? Map.<Long, String>of() : names;
+        }, null);
+        Map<Long, Long> likes = new HashMap<>();
+        Map<Long, Long> comments = new HashMap<>();
+        for (PostCounter counter : postCounterServiceImpl.getCounters(postIds).values()) {
+            // a counter is briefly negative when a delete is consumed before its create
+            likes.put(counter.getPostId(), Math.max(counter.getLikeCount(), 0L));
+            comments.put(counter.getPostId(), Math.max(counter.getCommentCount(), 0L));
+        }
+        scatterGather.await(usernames);
+        Map<Long, String> names = usernames.join();
+        List<OpenPostDTO> openPosts = postProcessor.getOpenPostDTOS(posts, likes, comments, names == null ? Map.of() : names);
+        if (names == null) {
+            openPosts.forEach(openPost -> openPost.setDegraded(true));
+        }
+        return openPosts;
     }
 }
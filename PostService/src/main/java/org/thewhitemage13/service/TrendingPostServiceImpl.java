@@ -0,0 +1,154 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.dto.TrendingPostDTO;
+import org.thewhitemage13.entity.Post;
+import org.thewhitemage13.interfaces.TrendingPostServiceInterface;
+import org.thewhitemage13.repository.PostRepository;
+import org.thewhitemage13.trending.DecayedTopK;
+import org.thewhitemage13.trending.TrendingScore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link TrendingPostServiceInterface}.
+ * <p>
+ * Scores are kept in memory in a {@link DecayedTopK} and updated by every consumed like,
+ * comment and post event, so nothing is recomputed from the like and comment counts. Every
+ * {@code trending.refresh-interval-ms} the highest scores are read, the posts are loaded with
+ * one primary-key query and the result replaces the cached list that requests are served from.
+ * Posts that no longer exist are dropped from the ranking during the refresh.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Engagement weights and half-life configurable under {@code trending.*}.</li>
+ *     <li>Requests never touch the database or the scores, only the last refreshed list.</li>
+ *     <li>Every instance ranks all events; see {@code TrendingEventHandler}.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class TrendingPostServiceImpl implements TrendingPostServiceInterface {
+    private final PostRepository postRepository;
+    private final DecayedTopK topK;
+    private final int size;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double postWeight;
+    private volatile List<TrendingPostDTO> trending = List.of();
+
+    /**
+     * Constructs a new {@code TrendingPostServiceImpl}.
+     *
+     * @param postRepository    the repository used to load the trending posts
+     * @param capacity          the number of posts whose scores are tracked exactly
+     * @param size              the number of posts in the cached trending list
+     * @param halfLifeMinutes   the time in which the weight of an engagement halves, in minutes
+     * @param sketchWidth       the number of counters per row of the sketch of all other posts
+     * @param sketchDepth       the number of rows of the sketch of all other posts
+     * @param likeWeight        the weight of a like
+     * @param commentWeight     the weight of a comment
+     * @param postWeight        the initial weight of a created post
+     */
+    @Autowired
+    public TrendingPostServiceImpl
+            (
+                    PostRepository postRepository,
+                    @Value("${trending.capacity:1000}") int capacity,
+                    @Value("${trending.size:100}") int size,
+                    @Value("${trending.half-life-minutes:360}") long halfLifeMinutes,
+                    @Value("${trending.sketch.width:4096}") int sketchWidth,
+                    @Value("${trending.sketch.depth:4}") int sketchDepth,
+                    @Value("${trending.weight.like:1}") double likeWeight,
+                    @Value("${trending.weight.comment:3}") double commentWeight,
+                    @Value("${trending.weight.post:1}") double postWeight
+            ) {
+        this.postRepository = postRepository;
+        this.topK = new DecayedTopK(capacity, Duration.ofMinutes(halfLifeMinutes), sketchWidth, sketchDepth, System.currentTimeMillis());
+        this.size = size;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.postWeight = postWeight;
+    }
+
+    @Override
+    public void recordLike(Long postId, LocalDateTime createdAt) {
+        record(postId, likeWeight, createdAt);
+    }
+
+    @Override
+    public void recordComment(Long postId, LocalDateTime createdAt) {
+        record(postId, commentWeight, createdAt);
+    }
+
+    @Override
+    public void recordPost(Long postId, LocalDateTime createdAt) {
+        record(postId, postWeight, createdAt);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    @Override
+    public List<TrendingPostDTO> getTrendingPosts(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit = %s".formatted(limit));
+        }
+        List<TrendingPostDTO> current = trending;
+        return current.size() > limit ? current.subList(0, limit) : current;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs on a fixed delay.
+     * </p>
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${trending.refresh-interval-ms:5000}",
+            fixedDelayString = "${trending.refresh-interval-ms:5000}"
+    )
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<TrendingScore> scores = topK.top(size, System.currentTimeMillis());
+        Map<Long, Post> posts = postRepository.findAllById(scores.stream().map(TrendingScore::postId).toList()).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        List<TrendingPostDTO> refreshed = new ArrayList<>(scores.size());
+        for (TrendingScore score : scores) {
+            Post post = posts.get(score.postId());
+            if (post == null) {
+                topK.remove(score.postId());
+            } else {
+                refreshed.add(new TrendingPostDTO(post.getPostId(), post.getUserId(), post.getContent(), post.getMediaUrl(), score.score()));
+            }
+        }
+        trending = List.copyOf(refreshed);
+    }
+
+    private void record(Long postId, double weight, LocalDateTime occurredAt) {
+        if (postId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long time = occurredAt == null ? now : occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // a clock ahead of ours must not boost a post
+        topK.add(postId, weight, Math.min(time, now));
+    }
+}
@@ -1,18 +1,21 @@
 package org.thewhitemage13.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.BatchLoader;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.interfaces.UserValidationServiceInterface;
 
 /**
  * Implementation of the {@link UserValidationServiceInterface}, providing user validation services.
  * <p>
- * This service validates whether a user exists by calling an external service via the {@link UserClient}.
+ * This service validates whether a user exists by calling the user service through a {@link BatchLoader},
+ * which merges the checks of concurrent requests into one bulk request.
  * It is used to ensure that a post is associated with an existing user before performing further operations.
+ * The local user {@link ExistenceFilters existence filter} is consulted first, so an ID that definitely does not
+ * exist is rejected without a remote call.
  * </p>
  *
  * @author Mukhammed Lolo
@@ -20,20 +23,23 @@ import org.thewhitemage13.interfaces.UserValidationServiceInterface;
  */
 @Service
 public class UserValidationServiceImpl implements UserValidationServiceInterface {
-    private final UserClient userClient;
+    private final BatchLoader<Long, Boolean> userExistenceLoader;
+    private final ExistenceFilters existenceFilters;
 
     /**
-     * Constructs a new {@code UserValidationServiceImpl} with the specified {@link UserClient} dependency.
+     * Constructs a new {@code UserValidationServiceImpl} with the specified dependencies.
      * <p>
-     * The constructor injects the required {@link UserClient} for communicating with the external service
-     * to verify the existence of a user by their ID.
+     * The constructor injects the batched verification used to check the existence of a user
+     * by their ID in the external service.
      * </p>
      *
-     * @param userClient the {@link UserClient} for verifying user existence
+     * @param userExistenceLoader the batched verification of user IDs
+     * @param existenceFilters the local replica of the user existence filter
      */
     @Autowired
-    public UserValidationServiceImpl(UserClient userClient) {
-        this.userClient = userClient;
+    public UserValidationServiceImpl(BatchLoader<Long, Boolean> userExistenceLoader, ExistenceFilters existenceFilters) {
+        this.userExistenceLoader = userExistenceLoader;
+        this.existenceFilters = existenceFilters;
     }
 
     /**
@@ -49,8 +55,9 @@ public class UserValidationServiceImpl implements UserValidationServiceInterface
     @Override
     public void validateUser(CreatePostDTO createPostDTO){
         Boolean status;
-        ResponseEntity<Boolean> isCreateUser = userClient.verifyUserExistence(createPostDTO.getUserId());
-        status = isCreateUser.getBody();
+        status = existenceFilters.mightExist(ExistenceFilters.USERS, createPostDTO.getUserId())
+                ? userExistenceLoader.get(createPostDTO.getUserId())
+                : Boolean.FALSE;
 
         if (Boolean.FALSE.equals(status)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(createPostDTO.getUserId()));
@@ -4,6 +4,9 @@ import org.springframework.stereotype.Service;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.interfaces.ValidationServiceInterface;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Implementation of the {@link ValidationServiceInterface}, providing various validation services.
  * <p>
@@ -80,6 +83,36 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
         return likeValidationServiceImpl.countLikeValidation(postId);
     }
 
+    /**
+     * Validates the comments associated with several posts.
+     * <p>
+     * This method delegates to {@link CommentValidationServiceImpl} to count the comments for all
+     * given posts with a single request.
+     * </p>
+     *
+     * @param postIds the IDs of the posts to validate comments
+     * @return a map of post ID to the count of comments associated with the post
+     */
+    @Override
+    public Map<Long, Long> validateComments(List<Long> postIds) {
+        return commentValidationServiceImpl.countCommentsValidation(postIds);
+    }
+
+    /**
+     * Validates the likes associated with several posts.
+     * <p>
+     * This method delegates to {@link LikeValidationServiceImpl} to count the likes for all
+     * given posts with a single request.
+     * </p>
+     *
+     * @param postIds the IDs of the posts to validate likes
+     * @return a map of post ID to the count of likes associated with the post
+     */
+    @Override
+    public Map<Long, Long> validateLikes(List<Long> postIds) {
+        return likeValidationServiceImpl.countLikesValidation(postIds);
+    }
+
     /**
      * Validates the media associated with a post.
      * <p>
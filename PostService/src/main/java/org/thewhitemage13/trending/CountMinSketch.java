@@ -0,0 +1,102 @@
+package org.thewhitemage13.trending;
+
+/**
+ * Approximate weights of an unbounded set of identifiers in fixed memory.
+ * <p>
+ * Every identifier maps to one counter in each of {@code depth} rows of {@code width} counters.
+ * Its weight is estimated by the smallest of its counters, which collisions can only inflate:
+ * the estimate is never below the true weight. Updates are conservative and raise only the
+ * counters that are below the new estimate, which keeps the inflation of light identifiers low.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Memory of {@code width * depth} doubles, however many identifiers are added.</li>
+ *     <li>All counters can be scaled at once, e.g. to renormalize decayed weights.</li>
+ * </ul>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class CountMinSketch {
+    private final int width;
+    private final int depth;
+    private final double[] counters;
+
+    /**
+     * Constructs a new, empty {@code CountMinSketch}.
+     *
+     * @param width the number of counters per row
+     * @param depth the number of rows
+     * @throws IllegalArgumentException if the width or depth is not positive
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Invalid count-min sketch size width = %s depth = %s".formatted(width, depth));
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new double[width * depth];
+    }
+
+    /**
+     * Adds a weight to an identifier.
+     *
+     * @param item   the identifier
+     * @param weight the weight to add, not negative
+     * @return the new estimated weight of the identifier
+     */
+    public double add(long item, double weight) {
+        double estimate = estimate(item) + weight;
+        long hash = mix(item);
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            if (counters[index] < estimate) {
+                counters[index] = estimate;
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimates the weight of an identifier.
+     *
+     * @param item the identifier
+     * @return the estimated weight, at least its true weight
+     */
+    public double estimate(long item) {
+        long hash = mix(item);
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Multiplies all counters by a factor.
+     *
+     * @param factor the factor, not negative
+     */
+    public void scale(double factor) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] *= factor;
+        }
+    }
+
+    private int index(long hash, int row) {
+        // derives the row hashes from two halves of one hash (Kirsch-Mitzenmacher)
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return row * width + Math.floorMod(combined, width);
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
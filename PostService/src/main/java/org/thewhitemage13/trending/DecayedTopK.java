@@ -0,0 +1,191 @@
+package org.thewhitemage13.trending;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The posts with the highest exponentially decayed engagement, in bounded memory.
+ * <p>
+ * The weight of an engagement halves every half-life. Instead of decaying every score as time
+ * passes, an engagement at time {@code t} is added with the weight {@code w * 2^((t - L) / h)}
+ * relative to a landmark time {@code L}: scores then only grow, their order is the order of the
+ * decayed scores at any instant, and the decayed score is the stored one times
+ * {@code 2^((L - now) / h)}. When the growing weights approach the range of a double, all
+ * scores are multiplied by the same factor and the landmark moves forward.
+ * </p>
+ * <p>
+ * The weights of all posts are kept in a {@link CountMinSketch}, so the long tail costs a fixed
+ * amount of memory. The {@code capacity} posts with the highest estimates are tracked exactly
+ * in an indexed min-heap: a post whose estimate exceeds the smallest tracked score replaces it
+ * in {@code O(log capacity)}, and since the sketch remembers the evicted post's weight it can
+ * climb back later.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Constant work per engagement, independent of the number of posts.</li>
+ *     <li>Out-of-order engagements are weighted by the time they occurred.</li>
+ *     <li>Thread-safe; all methods synchronize on the instance.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class DecayedTopK {
+    private static final double MAX_EXPONENT = 64;
+
+    private final double halfLifeMillis;
+    private final CountMinSketch sketch;
+    private final long[] postIds;
+    private final double[] scores;
+    private final Map<Long, Integer> positions;
+    private int size;
+    private long landmark;
+
+    /**
+     * Constructs a new, empty {@code DecayedTopK}.
+     *
+     * @param capacity    the number of posts tracked exactly
+     * @param halfLife    the time in which the weight of an engagement halves
+     * @param sketchWidth the number of counters per row of the sketch of all posts
+     * @param sketchDepth the number of rows of the sketch of all posts
+     * @param now         the initial landmark, in epoch milliseconds
+     * @throws IllegalArgumentException if the capacity or the half-life is not positive
+     */
+    public DecayedTopK(int capacity, Duration halfLife, int sketchWidth, int sketchDepth, long now) {
+        if (capacity < 1 || halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Invalid capacity = %s or half-life = %s".formatted(capacity, halfLife));
+        }
+        this.halfLifeMillis = halfLife.toMillis();
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.postIds = new long[capacity];
+        this.scores = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+        this.landmark = now;
+    }
+
+    /**
+     * Adds an engagement with a post.
+     *
+     * @param postId     the ID of the post
+     * @param weight     the weight of the engagement at the time it occurred
+     * @param occurredAt when the engagement occurred, in epoch milliseconds
+     */
+    public synchronized void add(long postId, double weight, long occurredAt) {
+        if ((occurredAt - landmark) / halfLifeMillis > MAX_EXPONENT) {
+            renormalize(occurredAt);
+        }
+        double estimate = sketch.add(postId, weight * Math.pow(2, (occurredAt - landmark) / halfLifeMillis));
+        Integer position = positions.get(postId);
+        if (position != null) {
+            scores[position] = estimate;
+            siftDown(position);
+        } else if (size < postIds.length) {
+            place(size, postId, estimate);
+            siftUp(size++);
+        } else if (estimate > scores[0]) {
+            positions.remove(postIds[0]);
+            place(0, postId, estimate);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Stops tracking a post, e.g. one that was deleted.
+     *
+     * @param postId the ID of the post
+     */
+    public synchronized void remove(long postId) {
+        Integer position = positions.remove(postId);
+        if (position == null) {
+            return;
+        }
+        size--;
+        if (position == size) {
+            return;
+        }
+        place(position, postIds[size], scores[size]);
+        siftDown(position);
+        siftUp(position);
+    }
+
+    /**
+     * Retrieves the tracked posts with the highest scores.
+     *
+     * @param limit the maximum number of posts to return
+     * @param now   the time to decay the scores to, in epoch milliseconds
+     * @return the posts, highest score first
+     */
+    public synchronized List<TrendingScore> top(int limit, long now) {
+        double decay = Math.pow(2, (landmark - now) / halfLifeMillis);
+        List<TrendingScore> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(new TrendingScore(postIds[i], scores[i] * decay));
+        }
+        top.sort(Comparator.comparingDouble(TrendingScore::score).reversed().thenComparingLong(TrendingScore::postId));
+        return top.size() > limit ? new ArrayList<>(top.subList(0, limit)) : top;
+    }
+
+    /**
+     * @return the number of tracked posts
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void renormalize(long now) {
+        double factor = Math.pow(2, (landmark - now) / halfLifeMillis);
+        sketch.scale(factor);
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+        landmark = now;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int first, int second) {
+        long postId = postIds[first];
+        double score = scores[first];
+        place(first, postIds[second], scores[second]);
+        place(second, postId, score);
+    }
+
+    private void place(int position, long postId, double score) {
+        postIds[position] = postId;
+        scores[position] = score;
+        positions.put(postId, position);
+    }
+}
@@ -0,0 +1,12 @@
+package org.thewhitemage13.trending;
+
+/**
+ * The decayed engagement score of a post.
+ *
+ * @param postId the ID of the post
+ * @param score  the score, decayed to the time it was read
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public record TrendingScore(long postId, double score) {
+}
@@ -0,0 +1,114 @@
+package org.thewhitemage13.config;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.CompactKafkaDeserializer;
+import org.thewhitemage13.codec.CompactKafkaSerializer;
+import org.thewhitemage13.codec.CompactRedisSerializer;
+import org.thewhitemage13.dto.OpenPostDTO;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Compares the compact binary codec with the JSON serializers it replaces.
+ * <p>
+ * For every payload it prints the bytes on the wire, including the type headers added by the
+ * JSON Kafka serializer, and the encode and decode time per operation. Run it with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.thewhitemage13.config.CodecBenchmark}.
+ * The numbers are indicative only; there is no fork or JIT isolation between measurements.
+ * </p>
+ */
+public class CodecBenchmark {
+    private static final String TOPIC = "benchmark";
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        BinaryCodec binaryCodec = new CodecConfig().binaryCodec();
+        LocalDateTime now = LocalDateTime.of(2024, 9, 14, 18, 30, 12, 345_678_000);
+
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+        jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "org.thewhitemage13"), false);
+        // Keep the type headers so that every measured decode sees the same record.
+        jsonDeserializer.setRemoveTypeHeaders(false);
+        Serializer<Object> compactSerializer = new CompactKafkaSerializer(binaryCodec, new JsonSerializer<>());
+        Deserializer<Object> compactDeserializer = new CompactKafkaDeserializer(binaryCodec, new JsonDeserializer<>());
+
+        RedisSerializer<Object> jsonRedis = new GenericJackson2JsonRedisSerializer();
+        RedisSerializer<Object> compactRedis = new CompactRedisSerializer(binaryCodec, new GenericJackson2JsonRedisSerializer());
+
+        System.out.printf("%-14s %-8s %7s %12s %12s%n", "payload", "format", "bytes", "encode ns/op", "decode ns/op");
+
+        LikeEvent likeEvent = new LikeEvent(982_341L, 18_224L, 77_120L, null, now);
+        kafka("LikeEvent", "json", likeEvent, jsonSerializer, jsonDeserializer);
+        kafka("LikeEvent", "binary", likeEvent, compactSerializer, compactDeserializer);
+
+        PostEvent postEvent = new PostEvent(77_120L, 18_224L, "Sunset over the harbour, shot on film last weekend",
+                "https://media.example.com/u/18224/p/77120.jpg", now, now);
+        kafka("PostEvent", "json", postEvent, jsonSerializer, jsonDeserializer);
+        kafka("PostEvent", "binary", postEvent, compactSerializer, compactDeserializer);
+
+        OpenPostDTO openPostDTO = new OpenPostDTO("harbour_lights", "https://media.example.com/u/18224/p/77120.jpg",
+                "Sunset over the harbour, shot on film last weekend", 1_204L, 87L, false);
+        redis("OpenPostDTO", "json", openPostDTO, jsonRedis);
+        redis("OpenPostDTO", "binary", openPostDTO, compactRedis);
+
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    private static void kafka(String name, String format, Object value, Serializer<Object> serializer, Deserializer<Object> deserializer) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] bytes = serializer.serialize(TOPIC, headers, value);
+        int wire = bytes.length;
+        for (var header : headers) {
+            wire += header.key().length() + header.value().length;
+        }
+        check(value, deserializer.deserialize(TOPIC, headers, bytes));
+
+        long encode = measure(() -> serializer.serialize(TOPIC, new RecordHeaders(), value).length);
+        long decode = measure(() -> deserializer.deserialize(TOPIC, headers, bytes).hashCode());
+        System.out.printf("%-14s %-8s %7d %12d %12d%n", name, format, wire, encode, decode);
+    }
+
+    private static void redis(String name, String format, Object value, RedisSerializer<Object> serializer) {
+        byte[] bytes = serializer.serialize(value);
+        check(value, serializer.deserialize(bytes));
+
+        long encode = measure(() -> serializer.serialize(value).length);
+        long decode = measure(() -> serializer.deserialize(bytes).hashCode());
+        System.out.printf("%-14s %-8s %7d %12d %12d%n", name, format, bytes.length, encode, decode);
+    }
+
+    private static long measure(Operation operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole += operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += operation.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static void check(Object expected, Object actual) {
+        if (!expected.toString().equals(String.valueOf(actual))) {
+            throw new IllegalStateException("Round trip changed the value: " + expected + " -> " + actual);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int run();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.dto.OpenPostDTO;
+import org.thewhitemage13.dto.PostPageDTO;
 import org.thewhitemage13.dto.UpdatePostDTO;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.service.PostServiceImpl;
@@ -64,11 +65,11 @@ class PostControllerTest {
     void testFindAllByUserId_Success() {
         // given
         Long userId = 1L;
-        List<OpenPostDTO> posts = List.of(new OpenPostDTO());
-        Mockito.doReturn(posts).when(postServiceImpl).openAllPostsByUserId(userId);
+        PostPageDTO<OpenPostDTO> posts = new PostPageDTO<>(List.of(new OpenPostDTO()), null);
+        Mockito.doReturn(posts).when(postServiceImpl).openAllPostsByUserId(userId, null, 20);
 
         // when
-        ResponseEntity<List<OpenPostDTO>> response = postController.findAllByUserId(userId);
+        ResponseEntity<PostPageDTO<OpenPostDTO>> response = postController.findAllByUserId(userId, null, 20);
 
         // then
         assertNotNull(response);
@@ -80,10 +81,10 @@ class PostControllerTest {
     void testFindAllByUserId_InternalServerError() {
         // given
         Long userId = 1L;
-        Mockito.doThrow(new RuntimeException("Unexpected error")).when(postServiceImpl).openAllPostsByUserId(userId);
+        Mockito.doThrow(new RuntimeException("Unexpected error")).when(postServiceImpl).openAllPostsByUserId(userId, null, 20);
 
         // when
-        ResponseEntity<List<OpenPostDTO>> response = postController.findAllByUserId(userId);
+        ResponseEntity<PostPageDTO<OpenPostDTO>> response = postController.findAllByUserId(userId, null, 20);
 
         // then
         assertNotNull(response);
@@ -8,6 +8,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.LikeClient;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -51,4 +54,19 @@ class LikeValidationServiceImplImplTest {
         assertNotNull(actualLikeCount);
         assertEquals(defaultLikeCount, actualLikeCount);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCountLikesValidation_ExceptionCaught() {
+        // given
+        List<Long> postIds = List.of(1L, 2L);
+        when(likeClient.getPostLikeCounts(postIds))
+                .thenThrow(new RuntimeException("Error while fetching likes"));
+
+        // when
+        Map<Long, Long> actualLikeCounts = likeValidationServiceImpl.countLikesValidation(postIds);
+
+        // then
+        assertEquals(0L, actualLikeCounts.get(1L));
+        assertEquals(0L, actualLikeCounts.get(2L));
+    }
+}
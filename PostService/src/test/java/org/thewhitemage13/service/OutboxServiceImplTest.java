@@ -0,0 +1,183 @@
+package org.thewhitemage13.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.entity.OutboxDeadLetter;
+import org.thewhitemage13.entity.OutboxEvent;
+import org.thewhitemage13.repository.OutboxDeadLetterRepository;
+import org.thewhitemage13.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private OutboxDeadLetterRepository outboxDeadLetterRepository;
+    @Mock
+    private KafkaTemplate<Long, Object> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private OutboxServiceImpl outboxServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        outboxServiceImpl = new OutboxServiceImpl(outboxEventRepository, outboxDeadLetterRepository, kafkaTemplate, objectMapper, 10, 1000L, 3);
+    }
+
+    @Test
+    void testEnqueue_StoresSerializedEvent() {
+        // given
+        PostEvent postEvent = new PostEvent();
+        postEvent.setPostId(7L);
+
+        // when
+        outboxServiceImpl.enqueue("post.created", 7L, postEvent);
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        Mockito.verify(outboxEventRepository).save(captor.capture());
+        assertEquals("post.created", captor.getValue().getTopic());
+        assertEquals(7L, captor.getValue().getAggregateKey());
+        assertEquals(PostEvent.class.getName(), captor.getValue().getEventType());
+        assertTrue(captor.getValue().getPayload().contains("\"postId\":7"));
+        Mockito.verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRelay_DeletesOnlyAcknowledgedEvents() {
+        // given
+        OutboxEvent first = new OutboxEvent(1L, "post.created", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 0);
+        OutboxEvent second = new OutboxEvent(2L, "post.created", 2L, PostEvent.class.getName(), "{\"postId\":2}", LocalDateTime.now(), 0);
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(outboxEventRepository.findNextBatch(Mockito.any(Pageable.class))).thenReturn(List.of(first, second));
+        Mockito.when(kafkaTemplate.send(Mockito.eq("post.created"), Mockito.eq(1L), Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(kafkaTemplate.send(Mockito.eq("post.created"), Mockito.eq(2L), Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        // when
+        int relayed = outboxServiceImpl.relay();
+
+        // then
+        assertEquals(1, relayed);
+        Mockito.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void testRelay_DoesNotSendLaterEventsOfAKeyAfterASendFailure() {
+        // given
+        OutboxEvent created = new OutboxEvent(1L, "post.created", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 0);
+        OutboxEvent updated = new OutboxEvent(2L, "post.updated", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 0);
+        OutboxEvent other = new OutboxEvent(3L, "post.created", 2L, PostEvent.class.getName(), "{\"postId\":2}", LocalDateTime.now(), 0);
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(outboxEventRepository.findNextBatch(Mockito.any(Pageable.class))).thenReturn(List.of(created, updated, other));
+        Mockito.when(kafkaTemplate.send(Mockito.eq("post.created"), Mockito.eq(1L), Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+        Mockito.when(kafkaTemplate.send(Mockito.eq("post.created"), Mockito.eq(2L), Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int relayed = outboxServiceImpl.relay();
+
+        // then
+        assertEquals(1, relayed);
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.eq("post.updated"), Mockito.anyLong(), Mockito.any());
+        Mockito.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        Mockito.verify(outboxEventRepository).incrementAttempts(List.of(1L));
+    }
+
+    @Test
+    void testRelay_DeadLettersRejectedEventAfterMaxAttempts() {
+        // given
+        OutboxEvent rejected = new OutboxEvent(1L, "post.created", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 2);
+        OutboxEvent later = new OutboxEvent(2L, "post.updated", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 0);
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(outboxEventRepository.findNextBatch(Mockito.any(Pageable.class))).thenReturn(List.of(rejected, later));
+        Mockito.when(kafkaTemplate.send(Mockito.eq("post.created"), Mockito.eq(1L), Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("record too large")));
+
+        // when
+        int relayed = outboxServiceImpl.relay();
+
+        // then
+        assertEquals(0, relayed);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxDeadLetter>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(outboxDeadLetterRepository).saveAll(captor.capture());
+        assertEquals(1L, captor.getValue().get(0).getId());
+        assertEquals(3, captor.getValue().get(0).getAttempts());
+        assertTrue(captor.getValue().get(0).getError().contains("record too large"));
+        Mockito.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.eq("post.updated"), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    void testRelay_DoesNotSendEventsOfAKeyAfterAnUnreadableOne() {
+        // given
+        OutboxEvent unreadable = new OutboxEvent(1L, "post.created", 1L, "org.thewhitemage13.RemovedEvent", "{}", LocalDateTime.now(), 0);
+        OutboxEvent later = new OutboxEvent(2L, "post.updated", 1L, PostEvent.class.getName(), "{\"postId\":1}", LocalDateTime.now(), 0);
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(outboxEventRepository.findNextBatch(Mockito.any(Pageable.class))).thenReturn(List.of(unreadable, later));
+
+        // when
+        int relayed = outboxServiceImpl.relay();
+
+        // then
+        assertEquals(0, relayed);
+        Mockito.verifyNoInteractions(kafkaTemplate);
+        Mockito.verify(outboxEventRepository).incrementAttempts(List.of(1L));
+        Mockito.verifyNoInteractions(outboxDeadLetterRepository);
+    }
+
+    @Test
+    void testRelay_DeadLettersUnreadableEventAfterMaxAttempts() {
+        // given
+        OutboxEvent unreadable = new OutboxEvent(1L, "post.created", 1L, PostEvent.class.getName(), "not json", LocalDateTime.now(), 2);
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(outboxEventRepository.findNextBatch(Mockito.any(Pageable.class))).thenReturn(List.of(unreadable));
+
+        // when
+        outboxServiceImpl.relay();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxDeadLetter>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(outboxDeadLetterRepository).saveAll(captor.capture());
+        assertEquals(1L, captor.getValue().get(0).getId());
+        assertEquals(3, captor.getValue().get(0).getAttempts());
+        assertEquals("not json", captor.getValue().get(0).getPayload());
+        Mockito.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        Mockito.verify(outboxEventRepository, Mockito.never()).incrementAttempts(Mockito.any());
+        Mockito.verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRelay_SkipsWhenAnotherInstanceHoldsTheLock() {
+        // given
+        Mockito.when(outboxEventRepository.tryRelayLock(Mockito.anyLong())).thenReturn(false);
+
+        // when
+        int relayed = outboxServiceImpl.relay();
+
+        // then
+        assertEquals(0, relayed);
+        Mockito.verify(outboxEventRepository, Mockito.never()).findNextBatch(Mockito.any(Pageable.class));
+        Mockito.verifyNoInteractions(kafkaTemplate);
+    }
+}
@@ -0,0 +1,129 @@
+package org.thewhitemage13.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.clients.CommentClient;
+import org.thewhitemage13.clients.LikeClient;
+import org.thewhitemage13.repository.ConsumedOffsetRepository;
+import org.thewhitemage13.repository.PostCounterRepository;
+import org.thewhitemage13.repository.PostRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceImplTest {
+    @Mock
+    private PostCounterRepository postCounterRepository;
+    @Mock
+    private ConsumedOffsetRepository consumedOffsetRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private LikeClient likeClient;
+    @Mock
+    private CommentClient commentClient;
+
+    private PostCounterServiceImpl postCounterServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        postCounterServiceImpl = new PostCounterServiceImpl
+                (
+                        postCounterRepository,
+                        consumedOffsetRepository,
+                        postRepository,
+                        likeClient,
+                        commentClient,
+                        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                        2
+                );
+    }
+
+    @Test
+    void testApplyLikeDelta_NewOffset() {
+        // given
+        Mockito.when(consumedOffsetRepository.advance("post.like.created-0", 10L)).thenReturn(1);
+
+        // when
+        boolean applied = postCounterServiceImpl.applyLikeDelta(1L, 1L, "post.like.created", 0, 10L);
+
+        // then
+        assertTrue(applied);
+        Mockito.verify(postCounterRepository).addDeltas(1L, 1L, 0L);
+    }
+
+    @Test
+    void testApplyCommentDelta_RedeliveredOffset() {
+        // given
+        Mockito.when(consumedOffsetRepository.advance("comment.deleted-2", 7L)).thenReturn(0);
+
+        // when
+        boolean applied = postCounterServiceImpl.applyCommentDelta(1L, -1L, "comment.deleted", 2, 7L);
+
+        // then
+        assertFalse(applied);
+        Mockito.verify(postCounterRepository, Mockito.never()).addDeltas(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    void testApplyLikeDeltas_FoldsChunkPerPost() {
+        // given
+        Mockito.when(consumedOffsetRepository.advance("post.like.deleted.batch-1", 4L)).thenReturn(1);
+
+        // when
+        boolean applied = postCounterServiceImpl.applyLikeDeltas(List.of(1L, 2L, 1L), -1L, "post.like.deleted.batch", 1, 4L);
+
+        // then
+        assertTrue(applied);
+        Mockito.verify(consumedOffsetRepository, Mockito.times(1)).advance("post.like.deleted.batch-1", 4L);
+        Mockito.verify(postCounterRepository).addDeltas(1L, -2L, 0L);
+        Mockito.verify(postCounterRepository).addDeltas(2L, -1L, 0L);
+    }
+
+    @Test
+    void testReconcile_WalksPostsInChunks() {
+        // given
+        Mockito.when(postRepository.findPostIdsAfter(Mockito.eq(0L), Mockito.any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        Mockito.when(postRepository.findPostIdsAfter(Mockito.eq(2L), Mockito.any(Pageable.class))).thenReturn(List.of(3L));
+        Mockito.when(postRepository.findPostIdsAfter(Mockito.eq(3L), Mockito.any(Pageable.class))).thenReturn(List.of());
+        Mockito.when(likeClient.getPostLikeCounts(Mockito.anyList())).thenReturn(ResponseEntity.ok(Map.of(1L, 4L)));
+        Mockito.when(commentClient.getCommentCountsByPostIds(Mockito.anyList())).thenReturn(ResponseEntity.ok(Map.of(3L, 2L)));
+        Mockito.when(postCounterRepository.lockAll(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        Mockito.when(postCounterRepository.lockAll(List.of(3L))).thenReturn(List.of(3L));
+
+        // when
+        long reconciled = postCounterServiceImpl.reconcile();
+
+        // then
+        assertEquals(3L, reconciled);
+        Mockito.verify(postCounterRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+        InOrder inOrder = Mockito.inOrder(postCounterRepository, likeClient);
+        inOrder.verify(postCounterRepository).createMissing(List.of(1L, 2L));
+        inOrder.verify(postCounterRepository).lockAll(List.of(1L, 2L));
+        inOrder.verify(likeClient).getPostLikeCounts(List.of(1L, 2L));
+        inOrder.verify(postCounterRepository).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void testReconcile_DownstreamFailureAborts() {
+        // given
+        Mockito.when(postRepository.findPostIdsAfter(Mockito.eq(0L), Mockito.any(Pageable.class))).thenReturn(List.of(1L));
+        Mockito.when(likeClient.getPostLikeCounts(Mockito.anyList())).thenThrow(new RuntimeException("like-service unavailable"));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> postCounterServiceImpl.reconcile());
+        Mockito.verify(postCounterRepository, Mockito.never()).saveAll(Mockito.anyList());
+    }
+}
@@ -5,21 +5,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.ScatterGather;
+import org.thewhitemage13.concurrent.SingleFlight;
+import org.thewhitemage13.deletion.ChunkedDeletion;
 import org.thewhitemage13.dto.CreatePostDTO;
+import org.thewhitemage13.dto.FeedCursorDTO;
+import org.thewhitemage13.dto.OpenPostDTO;
+import org.thewhitemage13.dto.PostPageDTO;
 import org.thewhitemage13.dto.UpdatePostDTO;
 import org.thewhitemage13.entity.Post;
+import org.thewhitemage13.entity.PostCounter;
 import org.thewhitemage13.exceptions.PostNotFoundException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.processor.PostProcessor;
 import org.thewhitemage13.repository.PostRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,9 +46,17 @@ class PostServiceImplTest {
     @Mock
     private UserClient userClient;
     @Mock
-    private KafkaTemplate<Long, Object> kafkaTemplate;
+    private OutboxServiceImpl outboxServiceImpl;
     @Mock
     private PostProcessor postProcessor;
+    @Mock
+    private PostCounterServiceImpl postCounterServiceImpl;
+    @Spy
+    private ChunkedDeletion chunkedDeletion = new ChunkedDeletion(2, Supplier::get);
+    @Spy
+    private ScatterGather scatterGather = ScatterGather.bounded("test", 4, 16, Duration.ofMillis(500));
+    @Spy
+    private SingleFlight remoteLookups = new SingleFlight();
     @InjectMocks
     private PostServiceImpl postServiceImpl;
 
@@ -86,7 +108,7 @@ class PostServiceImplTest {
 
         // then
         Mockito.verify(postRepository, Mockito.times(1)).save(Mockito.any(Post.class));
-        Mockito.verify(kafkaTemplate, Mockito.times(1)).executeInTransaction(Mockito.any());
+        Mockito.verify(outboxServiceImpl, Mockito.times(1)).enqueue(Mockito.eq("post.created"), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -119,17 +141,40 @@ class PostServiceImplTest {
     }
 
     @Test
-    void testDeleteAllByUserId_PostNotFound() {
+    void testDeleteAllByUserId_DeletesInChunks() {
+        // given
+        Long userId = 100L;
+
+        // mock repository behavior to simulate a full chunk followed by a partial one
+        Mockito.when(postRepository.findPostIdsByUserId(Mockito.eq(userId), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        // when
+        postServiceImpl.deleteAllByUserId(userId);
+
+        // then
+        Mockito.verify(postRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        Mockito.verify(postRepository).deleteAllByIdInBatch(List.of(3L));
+        Mockito.verify(postCounterServiceImpl).deleteCounters(List.of(1L, 2L));
+        Mockito.verify(outboxServiceImpl, Mockito.times(2)).enqueue(Mockito.eq("post.deleted.batch"), Mockito.eq(userId), Mockito.any(BatchDeletedEvent.class));
+        Mockito.verify(outboxServiceImpl, Mockito.never()).enqueue(Mockito.eq("post.deleted"), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    void testDeleteAllByUserId_NoPosts() {
         // given
         Long userId = 100L;
 
         // mock repository behavior to simulate no posts found for user
-        Mockito.when(postRepository.findAllByUserId(userId)).thenReturn(Optional.empty());
+        Mockito.when(postRepository.findPostIdsByUserId(Mockito.eq(userId), Mockito.any(Pageable.class))).thenReturn(List.of());
 
-        // when & then
-        PostNotFoundException thrown = assertThrows(PostNotFoundException.class,
-                () -> postServiceImpl.deleteAllByUserId(userId));
-        assertEquals("Post with user id = 100 not found", thrown.getMessage());
+        // when
+        assertDoesNotThrow(() -> postServiceImpl.deleteAllByUserId(userId));
+
+        // then
+        Mockito.verify(postRepository, Mockito.never()).deleteAllByIdInBatch(Mockito.anyList());
+        Mockito.verifyNoInteractions(outboxServiceImpl);
     }
 
     @Test
@@ -168,14 +213,70 @@ class PostServiceImplTest {
         Long userId = 100L;
 
         // mock repository behavior to simulate no posts for the user
-        Mockito.when(postRepository.findAllByUserId(userId)).thenReturn(Optional.empty());
+        Mockito.when(postRepository.findUserFirstPage(Mockito.eq(userId), Mockito.any(Pageable.class))).thenReturn(List.of());
 
         // when & then
         UserNotFoundException thrown = assertThrows(UserNotFoundException.class,
-                () -> postServiceImpl.openAllPostsByUserId(userId));
+                () -> postServiceImpl.openAllPostsByUserId(userId, null, 20));
         assertEquals("User with id = 100 not found", thrown.getMessage());
     }
 
+    @Test
+    void testOpenAllPostsByUserId_ReadsLocalCounters() {
+        // given
+        Long userId = 100L;
+        Post first = new Post(userId, "first", "http://media.url/1", LocalDateTime.now());
+        first.setPostId(1L);
+        Post second = new Post(userId, "second", "http://media.url/2", LocalDateTime.now());
+        second.setPostId(2L);
+        List<Post> posts = Arrays.asList(first, second);
+        Map<Long, Long> likes = Map.of(1L, 3L, 2L, 0L);
+        Map<Long, Long> comments = Map.of(1L, 1L, 2L, 5L);
+        Map<Long, PostCounter> counters = Map.of
+                (
+                        1L, new PostCounter(1L, 3L, 1L, LocalDateTime.now()),
+                        2L, new PostCounter(2L, -1L, 5L, LocalDateTime.now())
+                );
+        Map<Long, String> usernames = Map.of(userId, "user");
+        List<OpenPostDTO> expected = Arrays.asList(new OpenPostDTO(), new OpenPostDTO());
+
+        Mockito.when(postRepository.findUserFirstPage(Mockito.eq(userId), Mockito.any(Pageable.class))).thenReturn(posts);
+        Mockito.when(postCounterServiceImpl.getCounters(List.of(1L, 2L))).thenReturn(counters);
+        Mockito.when(userClient.getUserNamesByIds(List.of(userId))).thenReturn(ResponseEntity.ok(usernames));
+        Mockito.when(postProcessor.getOpenPostDTOS(posts, likes, comments, usernames)).thenReturn(expected);
+
+        // when
+        PostPageDTO<OpenPostDTO> result = postServiceImpl.openAllPostsByUserId(userId, null, 20);
+
+        // then
+        assertEquals(expected, result.getItems());
+        assertNull(result.getNextCursor());
+        Mockito.verifyNoInteractions(validationServiceImpl);
+        Mockito.verify(userClient, Mockito.never()).getUserNameById(Mockito.anyLong());
+        assertFalse(result.getItems().get(0).isDegraded());
+    }
+
+    @Test
+    void testOpenPost_MarksDegraded_WhenUsernameLookupFails() throws PostNotFoundException {
+        // given
+        Long postId = 1L;
+        Post post = new Post(100L, "content", "http://media.url", LocalDateTime.now());
+        post.setPostId(postId);
+        OpenPostDTO openPost = new OpenPostDTO();
+
+        Mockito.when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        Mockito.when(postCounterServiceImpl.getCounters(List.of(postId))).thenReturn(Map.of());
+        Mockito.when(userClient.getUserNamesByIds(List.of(100L))).thenThrow(new RuntimeException("user service unavailable"));
+        Mockito.when(postProcessor.getOpenPostDTOS(List.of(post), Map.of(), Map.of(), Map.of())).thenReturn(List.of(openPost));
+
+        // when
+        OpenPostDTO result = postServiceImpl.openPost(postId);
+
+        // then
+        assertSame(openPost, result);
+        assertTrue(result.isDegraded());
+    }
+
     @Test
     void testPostVerification() {
         // given
@@ -197,11 +298,11 @@ class PostServiceImplTest {
         Long userId = 100L;
 
         // mock repository behavior to simulate no posts for the user
-        Mockito.when(postRepository.findAllByUserId(userId)).thenReturn(Optional.empty());
+        Mockito.when(postRepository.findUserFirstPage(Mockito.eq(userId), Mockito.any(Pageable.class))).thenReturn(List.of());
 
         // when & then
         PostNotFoundException thrown = assertThrows(PostNotFoundException.class,
-                () -> postServiceImpl.getPostsByUserId(userId));
+                () -> postServiceImpl.getPostsByUserId(userId, null, 20));
         assertEquals("Posts with user id = 100 is not found", thrown.getMessage());
     }
 
@@ -214,14 +315,37 @@ class PostServiceImplTest {
         );
 
         // mock repository behavior
-        Mockito.when(postRepository.findAll()).thenReturn(posts);
+        Mockito.when(postRepository.findFeedFirstPage(Mockito.any(Pageable.class))).thenReturn(posts);
+
+        // when
+        PostPageDTO<CreatePostDTO> page = postServiceImpl.getAllPosts(null, 20);
+
+        // then
+        assertNotNull(page.getItems());
+        assertEquals(0, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetAllPosts_NextPageFromCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Post first = new Post(1L, "content1", "http://media1.url", createdAt);
+        first.setPostId(9L);
+        Post lookAhead = new Post(2L, "content2", "http://media2.url", createdAt);
+        lookAhead.setPostId(8L);
+
+        Mockito.when(postProcessor.decodeCursor("cursor")).thenReturn(new FeedCursorDTO(createdAt, 10L));
+        Mockito.when(postRepository.findFeedPageAfter(Mockito.eq(createdAt), Mockito.eq(10L), Mockito.any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(first, lookAhead)));
+        Mockito.when(postProcessor.encodeCursor(first)).thenReturn("next");
 
         // when
-        List<CreatePostDTO> createPostDTOS = postServiceImpl.getAllPosts();
+        PostPageDTO<CreatePostDTO> page = postServiceImpl.getAllPosts("cursor", 1);
 
         // then
-        assertNotNull(createPostDTOS);
-        assertEquals(0, createPostDTOS.size());
+        assertEquals("next", page.getNextCursor());
+        Mockito.verify(postProcessor).getPostDTOS(List.of(first));
     }
 
 
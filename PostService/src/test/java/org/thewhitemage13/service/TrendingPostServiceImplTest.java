@@ -0,0 +1,95 @@
+package org.thewhitemage13.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.dto.TrendingPostDTO;
+import org.thewhitemage13.entity.Post;
+import org.thewhitemage13.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingPostServiceImplTest {
+    @Mock
+    private PostRepository postRepository;
+
+    private TrendingPostServiceImpl trendingPostServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        trendingPostServiceImpl = new TrendingPostServiceImpl(postRepository, 100, 10, 360, 1024, 4, 1, 3, 1);
+    }
+
+    @Test
+    void testRefresh_RanksByWeightedEngagement() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        trendingPostServiceImpl.recordPost(1L, now);
+        trendingPostServiceImpl.recordLike(1L, now);
+        trendingPostServiceImpl.recordPost(2L, now);
+        trendingPostServiceImpl.recordComment(2L, now);
+        Mockito.when(postRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(post(1L), post(2L)));
+
+        // when
+        trendingPostServiceImpl.refresh();
+
+        // then
+        List<TrendingPostDTO> trending = trendingPostServiceImpl.getTrendingPosts(10);
+        assertEquals(List.of(2L, 1L), trending.stream().map(TrendingPostDTO::getPostId).toList());
+        assertEquals(4.0, trending.get(0).getScore(), 0.01);
+        assertEquals(Long.valueOf(20), trending.get(0).getUserId());
+    }
+
+    @Test
+    void testRefresh_DropsDeletedPosts() {
+        // given
+        trendingPostServiceImpl.recordLike(1L, null);
+        trendingPostServiceImpl.recordLike(2L, null);
+        Mockito.when(postRepository.findAllById(anyList())).thenReturn(List.of(post(2L)));
+        trendingPostServiceImpl.refresh();
+
+        // when
+        trendingPostServiceImpl.refresh();
+
+        // then
+        assertEquals(List.of(2L), trendingPostServiceImpl.getTrendingPosts(10).stream().map(TrendingPostDTO::getPostId).toList());
+        Mockito.verify(postRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    void testGetTrendingPosts_ServesLastRefreshUpToLimit() {
+        // given
+        trendingPostServiceImpl.recordLike(1L, null);
+        trendingPostServiceImpl.recordLike(2L, null);
+        Mockito.when(postRepository.findAllById(anyList())).thenReturn(List.of(post(1L), post(2L)));
+        trendingPostServiceImpl.refresh();
+        trendingPostServiceImpl.recordLike(3L, null);
+
+        // when
+        List<TrendingPostDTO> trending = trendingPostServiceImpl.getTrendingPosts(1);
+
+        // then
+        assertEquals(1, trending.size());
+        Mockito.verify(postRepository, Mockito.times(1)).findAllById(anyList());
+    }
+
+    @Test
+    void testGetTrendingPosts_InvalidLimit() {
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> trendingPostServiceImpl.getTrendingPosts(0));
+    }
+
+    private static Post post(Long postId) {
+        Post post = new Post(postId * 10, "content " + postId, null, LocalDateTime.now());
+        post.setPostId(postId);
+        return post;
+    }
+}
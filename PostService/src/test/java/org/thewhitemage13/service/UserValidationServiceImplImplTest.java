@@ -4,11 +4,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.ResponseEntity;
-import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.concurrent.BatchLoader;
 import org.thewhitemage13.dto.CreatePostDTO;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -16,7 +17,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class UserValidationServiceImplImplTest {
     @Mock
-    private UserClient userClient;
+    private BatchLoader<Long, Boolean> userExistenceLoader;
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
     @InjectMocks
     private UserValidationServiceImpl userValidationServiceImpl;
 
@@ -26,8 +29,8 @@ class UserValidationServiceImplImplTest {
         Long userId = 100L;
         CreatePostDTO createPostDTO = new CreatePostDTO(userId, "content", "http://media.url");
 
-        // mock the behavior of userClient.verifyUserExistence to return true
-        when(userClient.verifyUserExistence(userId)).thenReturn(ResponseEntity.ok(true));
+        // mock the batched user verification to return true
+        when(userExistenceLoader.get(userId)).thenReturn(true);
 
         // when
         userValidationServiceImpl.validateUser(createPostDTO);
@@ -42,8 +45,8 @@ class UserValidationServiceImplImplTest {
         Long userId = 100L;
         CreatePostDTO createPostDTO = new CreatePostDTO(userId, "content", "http://media.url");
 
-        // mock the behavior of userClient.verifyUserExistence to return false
-        when(userClient.verifyUserExistence(userId)).thenReturn(ResponseEntity.ok(false));
+        // mock the batched user verification to return false
+        when(userExistenceLoader.get(userId)).thenReturn(false);
 
         // when & then
         UserNotFoundException thrown = assertThrows(UserNotFoundException.class,
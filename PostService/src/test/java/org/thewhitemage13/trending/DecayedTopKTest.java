@@ -0,0 +1,92 @@
+package org.thewhitemage13.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecayedTopKTest {
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    void top_ShouldRankByDecayedScore() {
+        // given
+        DecayedTopK topK = new DecayedTopK(10, Duration.ofHours(1), 1024, 4, 0);
+
+        // when
+        topK.add(1L, 4, 0);
+        topK.add(2L, 3, 2 * HOUR);
+
+        // then
+        List<TrendingScore> top = topK.top(10, 2 * HOUR);
+        assertEquals(2L, top.get(0).postId());
+        assertEquals(3.0, top.get(0).score(), 1e-9);
+        assertEquals(1L, top.get(1).postId());
+        assertEquals(1.0, top.get(1).score(), 1e-9);
+    }
+
+    @Test
+    void add_ShouldEvictLowestScoreWhenFull() {
+        // given
+        DecayedTopK topK = new DecayedTopK(2, Duration.ofHours(1), 1024, 4, 0);
+        topK.add(1L, 1, 0);
+        topK.add(2L, 2, 0);
+
+        // when
+        topK.add(3L, 3, 0);
+
+        // then
+        assertEquals(2, topK.size());
+        assertEquals(List.of(3L, 2L), topK.top(10, 0).stream().map(TrendingScore::postId).toList());
+    }
+
+    @Test
+    void add_ShouldLetEvictedPostClimbBack() {
+        // given
+        DecayedTopK topK = new DecayedTopK(1, Duration.ofHours(1), 1024, 4, 0);
+        topK.add(1L, 2, 0);
+        topK.add(2L, 3, 0);
+
+        // when
+        topK.add(1L, 2, 0);
+
+        // then
+        List<TrendingScore> top = topK.top(10, 0);
+        assertEquals(1L, top.get(0).postId());
+        assertEquals(4.0, top.get(0).score(), 1e-9);
+    }
+
+    @Test
+    void add_ShouldKeepScoresWhenRenormalizing() {
+        // given
+        DecayedTopK topK = new DecayedTopK(10, Duration.ofHours(1), 1024, 4, 0);
+        topK.add(1L, 1, 100 * HOUR);
+
+        // when
+        topK.add(2L, 1, 101 * HOUR);
+
+        // then
+        List<TrendingScore> top = topK.top(10, 101 * HOUR);
+        assertEquals(1.0, top.get(0).score(), 1e-9);
+        assertEquals(0.5, top.get(1).score(), 1e-9);
+    }
+
+    @Test
+    void remove_ShouldKeepHeapOrdered() {
+        // given
+        DecayedTopK topK = new DecayedTopK(3, Duration.ofHours(1), 1024, 4, 0);
+        topK.add(1L, 1, 0);
+        topK.add(2L, 2, 0);
+        topK.add(3L, 3, 0);
+
+        // when
+        topK.remove(1L);
+        topK.add(4L, 0.5, 0);
+        topK.add(5L, 4, 0);
+
+        // then
+        assertEquals(List.of(5L, 3L, 2L), topK.top(10, 0).stream().map(TrendingScore::postId).toList());
+    }
+}
@@ -0,0 +1,112 @@
+package org.thewhitemage13.buffer;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.service.ActiveUserServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+import org.thewhitemage13.sketch.SketchKey;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for the distinct-user sketches.
+ * <p>
+ * Kafka handlers record the user of every like, comment and post here. The buffer keeps one
+ * in-memory {@link HyperLogLog} per action and hour and per action and day, and merges them
+ * into the persisted sketches every {@code statistic.active-users.flush-interval-ms} and on
+ * shutdown. A user recorded twice costs nothing more, so the memory of the buffer depends only
+ * on the number of buckets touched since the last flush.
+ * </p>
+ * <p>
+ * Sketches are updated inside {@link ConcurrentHashMap#compute}, which serializes the updates of
+ * one bucket. Merging is idempotent, so a flushed sketch may be merged again: the flush keeps a
+ * sketch that changed while it was written, and keeps every sketch of a failed write, for the
+ * next flush.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ActiveUserBuffer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActiveUserBuffer.class);
+    private static final Granularity[] GRANULARITIES = {Granularity.HOUR, Granularity.DAY};
+
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final ActiveUserServiceImpl activeUserServiceImpl;
+
+    /**
+     * Constructs a new {@code ActiveUserBuffer}.
+     *
+     * @param activeUserServiceImpl the service persisting the sketches
+     */
+    @Autowired
+    public ActiveUserBuffer(ActiveUserServiceImpl activeUserServiceImpl) {
+        this.activeUserServiceImpl = activeUserServiceImpl;
+    }
+
+    /**
+     * Records that a user performed an action.
+     *
+     * @param action     the action
+     * @param userId     the ID of the user, ignored if {@code null}
+     * @param occurredAt when the action occurred, or {@code null} for now
+     */
+    public void record(ActivityAction action, Long userId, LocalDateTime occurredAt) {
+        if (userId == null) {
+            return;
+        }
+        LocalDateTime time = occurredAt == null ? LocalDateTime.now() : occurredAt;
+        for (Granularity granularity : GRANULARITIES) {
+            sketches.compute(new SketchKey(action, granularity, granularity.truncate(time)), (key, sketch) -> {
+                HyperLogLog updated = sketch == null ? new HyperLogLog(HyperLogLog.DEFAULT_PRECISION) : sketch;
+                updated.add(userId);
+                return updated;
+            });
+        }
+    }
+
+    /**
+     * Merges the buffered sketches into the persisted ones.
+     * <p>
+     * Runs on a fixed delay and is also called on shutdown.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${statistic.active-users.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<SketchKey, HyperLogLog> snapshot = new HashMap<>();
+        for (SketchKey key : sketches.keySet()) {
+            sketches.computeIfPresent(key, (k, sketch) -> {
+                snapshot.put(k, sketch.copy());
+                return sketch;
+            });
+        }
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            activeUserServiceImpl.mergeSketches(snapshot);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to flush {} active user sketches, keeping them for the next flush", snapshot.size(), e);
+            return;
+        }
+        snapshot.forEach((key, flushed) -> sketches.computeIfPresent(key, (k, sketch) -> sketch.hasSameRegisters(flushed) ? null : sketch));
+    }
+
+    /**
+     * Drains the buffer before the application context is closed.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
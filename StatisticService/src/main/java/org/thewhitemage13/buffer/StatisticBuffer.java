@@ -0,0 +1,298 @@
+package org.thewhitemage13.buffer;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.rebuild.StatisticWriteLock;
+import org.thewhitemage13.repository.CommentStatisticRepository;
+import org.thewhitemage13.repository.LikeStatisticRepository;
+import org.thewhitemage13.repository.MediaStatisticRepository;
+import org.thewhitemage13.repository.PostStatisticRepository;
+import org.thewhitemage13.repository.UserStatisticRepository;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.rollup.RollupDelta;
+import org.thewhitemage13.service.StatisticRollupServiceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for the daily statistic counters.
+ * <p>
+ * Kafka handlers record increments here instead of reading and saving the statistic row for
+ * every event. Each (field, date) pair is a striped {@link LongAdder} cell, so concurrent
+ * consumers never contend on a row or lose an increment. The buffer is flushed every
+ * {@code statistic.buffer.flush-interval-ms}, on partition revocation and on shutdown, with one
+ * atomic {@code INSERT ... ON CONFLICT DO UPDATE SET x = x + delta} per table and date, all in
+ * one transaction.
+ * </p>
+ * <p>
+ * Events recorded with {@link #record(StatisticField, LocalDateTime, long)} are also counted
+ * per counter and minute of their occurrence and handed to the
+ * {@link StatisticRollupServiceImpl rollups} by the same flush. Minute cells are added with
+ * {@link ConcurrentHashMap#merge} and drained with {@link ConcurrentHashMap#remove}, both atomic
+ * per key, so cells of any age can be dropped as soon as they are flushed without losing an
+ * increment made in between.
+ * </p>
+ * <p>
+ * The daily counters of a flush are written in one transaction under the shared
+ * {@link StatisticWriteLock}. While a rebuild of any instance holds that lock, nothing is
+ * written and the deltas stay in the buffer until the rebuild has swapped its rows in.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Lock-free recording of the daily counters on the event path.</li>
+ *     <li>Flushing subtracts exactly the amount it read, so increments recorded during a flush are kept for the next one.</li>
+ *     <li>Deltas of a failed flush stay in the buffer and are retried.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class StatisticBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(StatisticBuffer.class);
+
+    private final ConcurrentHashMap<Cell, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<LocalDate, DoubleAdder> fileSizes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RollupCell, Long> rollups = new ConcurrentHashMap<>();
+
+    private final LikeStatisticRepository likeStatisticRepository;
+    private final CommentStatisticRepository commentStatisticRepository;
+    private final MediaStatisticRepository mediaStatisticRepository;
+    private final PostStatisticRepository postStatisticRepository;
+    private final UserStatisticRepository userStatisticRepository;
+    private final StatisticRollupServiceImpl statisticRollupServiceImpl;
+    private final StatisticWriteLock statisticWriteLock;
+
+    /**
+     * Constructs a new {@code StatisticBuffer} flushing to the given repositories.
+     *
+     * @param likeStatisticRepository    the repository of the like statistics
+     * @param commentStatisticRepository the repository of the comment statistics
+     * @param mediaStatisticRepository   the repository of the media statistics
+     * @param postStatisticRepository    the repository of the post statistics
+     * @param userStatisticRepository    the repository of the user statistics
+     * @param statisticRollupServiceImpl the service maintaining the time-series rollups
+     * @param statisticWriteLock         the lock separating flushes from rebuilds
+     */
+    @Autowired
+    public StatisticBuffer
+            (
+                    LikeStatisticRepository likeStatisticRepository,
+                    CommentStatisticRepository commentStatisticRepository,
+                    MediaStatisticRepository mediaStatisticRepository,
+                    PostStatisticRepository postStatisticRepository,
+                    UserStatisticRepository userStatisticRepository,
+                    StatisticRollupServiceImpl statisticRollupServiceImpl,
+                    StatisticWriteLock statisticWriteLock
+            ) {
+        this.likeStatisticRepository = likeStatisticRepository;
+        this.commentStatisticRepository = commentStatisticRepository;
+        this.mediaStatisticRepository = mediaStatisticRepository;
+        this.postStatisticRepository = postStatisticRepository;
+        this.userStatisticRepository = userStatisticRepository;
+        this.statisticRollupServiceImpl = statisticRollupServiceImpl;
+        this.statisticWriteLock = statisticWriteLock;
+    }
+
+    /**
+     * Adds a delta to today's value of a counter.
+     *
+     * @param field the counter to update
+     * @param delta the value to add, negative to decrement
+     */
+    public void add(StatisticField field, long delta) {
+        counters.computeIfAbsent(new Cell(field, LocalDate.now()), cell -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Records events: adds their count to today's value of a counter and to the rollup bucket
+     * of the minute they occurred in.
+     * <p>
+     * Use {@link #add(StatisticField, long)} for corrections that are not events of their own,
+     * such as taking a deleted like off the likes count.
+     * </p>
+     *
+     * @param field      the counter of the events
+     * @param occurredAt when the events occurred, or {@code null} for now
+     * @param count      the number of events
+     */
+    public void record(StatisticField field, LocalDateTime occurredAt, long count) {
+        add(field, count);
+        LocalDateTime minute = Granularity.MINUTE.truncate(occurredAt == null ? LocalDateTime.now() : occurredAt);
+        rollups.merge(new RollupCell(field, minute), count, Long::sum);
+    }
+
+    /**
+     * Adds a delta to today's total size of uploaded files.
+     *
+     * @param delta the size to add, negative to subtract
+     */
+    public void addFileSize(double delta) {
+        fileSizes.computeIfAbsent(LocalDate.now(), date -> new DoubleAdder()).add(delta);
+    }
+
+    /**
+     * Writes all buffered deltas to the database.
+     * <p>
+     * Runs on a fixed delay and is also called on partition revocation and on shutdown.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${statistic.buffer.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<LocalDate, EnumMap<StatisticField, Long>> deltas = new TreeMap<>();
+        counters.forEach((cell, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltas.computeIfAbsent(cell.date(), date -> new EnumMap<>(StatisticField.class)).put(cell.field(), delta);
+            }
+        });
+        Map<LocalDate, Double> sizeDeltas = new TreeMap<>();
+        fileSizes.forEach((date, adder) -> {
+            double delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                sizeDeltas.put(date, delta);
+            }
+        });
+
+        sizeDeltas.keySet().forEach(date -> deltas.computeIfAbsent(date, key -> new EnumMap<>(StatisticField.class)));
+        if (!deltas.isEmpty()) {
+            try {
+                if (!statisticWriteLock.writeShared(() -> deltas.forEach((date, fields) -> write(date, fields, sizeDeltas.getOrDefault(date, 0.0))))) {
+                    logger.debug("Statistic rebuild in progress, keeping deltas until it completes");
+                    restore(deltas, sizeDeltas);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to flush statistics, keeping deltas for the next flush", e);
+                restore(deltas, sizeDeltas);
+            }
+        }
+        evictStaleCells();
+        flushRollups();
+    }
+
+    /**
+     * Checks whether every daily counter has been written, e.g. after a {@link #flush()} that
+     * may have failed. Rollup deltas are not considered.
+     *
+     * @return {@code true} if no daily delta is waiting for the next flush
+     */
+    public boolean isDrained() {
+        return counters.values().stream().allMatch(adder -> adder.sum() == 0)
+                && fileSizes.values().stream().allMatch(adder -> adder.sum() == 0);
+    }
+
+    /**
+     * Drains the buffer before the application context is closed.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    /**
+     * Writes the deltas of one date, one upsert per statistic table.
+     *
+     * @param date     the statistic date
+     * @param fields   the counter deltas of that date
+     * @param fileSize the file size delta of that date
+     */
+    private void write(LocalDate date, EnumMap<StatisticField, Long> fields, double fileSize) {
+        if (has(fields, StatisticField.POST_LIKE, StatisticField.COMMENT_LIKE, StatisticField.REMOVE_POST_LIKE, StatisticField.REMOVE_COMMENT_LIKE)) {
+            likeStatisticRepository.addDeltas
+                    (
+                            date,
+                            get(fields, StatisticField.POST_LIKE),
+                            get(fields, StatisticField.COMMENT_LIKE),
+                            get(fields, StatisticField.REMOVE_POST_LIKE),
+                            get(fields, StatisticField.REMOVE_COMMENT_LIKE)
+                    );
+        }
+        if (has(fields, StatisticField.CREATED_COMMENTS, StatisticField.DELETED_COMMENTS)) {
+            commentStatisticRepository.addDeltas(date, get(fields, StatisticField.CREATED_COMMENTS), get(fields, StatisticField.DELETED_COMMENTS));
+        }
+        if (has(fields, StatisticField.UPLOADED_FILES, StatisticField.DELETED_FILES) || fileSize != 0) {
+            mediaStatisticRepository.addDeltas(date, get(fields, StatisticField.UPLOADED_FILES), get(fields, StatisticField.DELETED_FILES), fileSize);
+        }
+        if (has(fields, StatisticField.POSTS_CREATED, StatisticField.POSTS_DELETED)) {
+            postStatisticRepository.addDeltas(date, get(fields, StatisticField.POSTS_CREATED), get(fields, StatisticField.POSTS_DELETED));
+        }
+        if (has(fields, StatisticField.NEW_USERS, StatisticField.REMOTE_USERS)) {
+            userStatisticRepository.addDeltas(date, get(fields, StatisticField.NEW_USERS), get(fields, StatisticField.REMOTE_USERS));
+        }
+    }
+
+    /**
+     * Puts the daily deltas of a flush that wrote nothing back into the buffer.
+     */
+    private void restore(Map<LocalDate, EnumMap<StatisticField, Long>> deltas, Map<LocalDate, Double> sizeDeltas) {
+        deltas.forEach((date, fields) -> fields.forEach((field, delta) ->
+                counters.computeIfAbsent(new Cell(field, date), cell -> new LongAdder()).add(delta)));
+        sizeDeltas.forEach((date, delta) -> fileSizes.computeIfAbsent(date, key -> new DoubleAdder()).add(delta));
+    }
+
+    /**
+     * Drains the minute cells into the rollups, putting them back if the write fails.
+     */
+    private void flushRollups() {
+        List<RollupDelta> rollupDeltas = new ArrayList<>();
+        for (RollupCell cell : rollups.keySet()) {
+            Long delta = rollups.remove(cell);
+            if (delta != null && delta != 0) {
+                rollupDeltas.add(new RollupDelta(cell.field(), cell.minute(), delta));
+            }
+        }
+        if (rollupDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            statisticRollupServiceImpl.addDeltas(rollupDeltas);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush {} statistic rollup deltas, keeping them for the next flush", rollupDeltas.size(), e);
+            rollupDeltas.forEach(delta -> rollups.merge(new RollupCell(delta.field(), delta.minute()), delta.delta(), Long::sum));
+        }
+    }
+
+    /**
+     * Removes empty cells older than yesterday, which no handler writes to anymore.
+     */
+    private void evictStaleCells() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        counters.entrySet().removeIf(entry -> entry.getKey().date().isBefore(yesterday) && entry.getValue().sum() == 0);
+        fileSizes.entrySet().removeIf(entry -> entry.getKey().isBefore(yesterday) && entry.getValue().sum() == 0);
+    }
+
+    private static boolean has(EnumMap<StatisticField, Long> fields, StatisticField... candidates) {
+        for (StatisticField candidate : candidates) {
+            if (fields.containsKey(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long get(EnumMap<StatisticField, Long> fields, StatisticField field) {
+        return fields.getOrDefault(field, 0L);
+    }
+
+    private record Cell(StatisticField field, LocalDate date) {
+    }
+
+    private record RollupCell(StatisticField field, LocalDateTime minute) {
+    }
+}
@@ -0,0 +1,26 @@
+package org.thewhitemage13.buffer;
+
+/**
+ * Enumerates the daily counters buffered by {@link StatisticBuffer}.
+ * <p>
+ * Each constant maps to one counter column of one of the daily statistic tables.
+ * Counters of the same table are flushed together, as a single upsert per date.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum StatisticField {
+    POST_LIKE,
+    COMMENT_LIKE,
+    REMOVE_POST_LIKE,
+    REMOVE_COMMENT_LIKE,
+    CREATED_COMMENTS,
+    DELETED_COMMENTS,
+    UPLOADED_FILES,
+    DELETED_FILES,
+    POSTS_CREATED,
+    POSTS_DELETED,
+    NEW_USERS,
+    REMOTE_USERS
+}
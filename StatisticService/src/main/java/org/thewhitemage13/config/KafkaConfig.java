@@ -1,8 +1,13 @@
 package org.thewhitemage13.config;
 
+import io.micrometer.observation.Observation;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.LongDeserializer;
 import org.apache.kafka.common.serialization.LongSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,17 +16,31 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.CompositeProducerListener;
+import org.springframework.kafka.support.LoggingProducerListener;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.backoff.FixedBackOff;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.CompactKafkaDeserializer;
+import org.thewhitemage13.codec.CompactKafkaSerializer;
+import org.thewhitemage13.buffer.StatisticBuffer;
 import org.thewhitemage13.exceptions.RetryableException;
+import org.thewhitemage13.kafka.ProducerTuning;
+import org.thewhitemage13.kafka.SendMetrics;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configuration class for Apache Kafka.
@@ -35,6 +54,7 @@ import java.util.Map;
  *     <li>Set up Kafka producers and consumers with necessary configurations.</li>
  *     <li>Define error handling strategies for Kafka listeners.</li>
  *     <li>Provide administrative configurations for managing Kafka topics.</li>
+ *     <li>Writes registered events in the compact binary format and reads both it and JSON.</li>
  * </ul>
  *
  * @see org.apache.kafka.clients.admin.AdminClientConfig
@@ -69,10 +89,11 @@ public class KafkaConfig {
     /**
      * Configures and returns a consumer factory for Kafka consumers.
      *
+     * @param binaryCodec the codec for records written by {@link CompactKafkaSerializer}
      * @return the configured {@code ConsumerFactory} instance
      */
     @Bean
-    ConsumerFactory<Long, Object> consumerFactory() {
+    ConsumerFactory<Long, Object> consumerFactory(BinaryCodec binaryCodec) {
         Map<String, Object> config = new HashMap<>();
 
         config.put
@@ -81,19 +102,21 @@ public class KafkaConfig {
                         environment.getProperty("spring.kafka.consumer.bootstrap-servers")
                 );
 
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, LongDeserializer.class);
-
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-
         config.put(JsonDeserializer.TRUSTED_PACKAGES,
                 environment.getProperty("spring.kafka.consumer.properties.spring.json.trusted.packages"));
 
         config.put(ConsumerConfig.GROUP_ID_CONFIG,
                 environment.getProperty("spring.kafka.consumer.group-id"));
 
-        return new DefaultKafkaConsumerFactory<>(config);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                environment.getProperty("spring.kafka.consumer.max-poll-records", Integer.class, 500));
+
+        return new DefaultKafkaConsumerFactory<>
+                (
+                        config,
+                        LongDeserializer::new,
+                        () -> new ErrorHandlingDeserializer<>(new CompactKafkaDeserializer(binaryCodec, new JsonDeserializer<>()))
+                );
     }
 
     /**
@@ -101,46 +124,146 @@ public class KafkaConfig {
      *
      * @param consumerFactory the consumer factory to use
      * @param kafkaTemplate the Kafka template for publishing dead-letter messages
+     * @param statisticBuffer the statistic buffer drained before partitions are revoked
      * @return the configured {@code ConcurrentKafkaListenerContainerFactory}
      */
     @Bean
     ConcurrentKafkaListenerContainerFactory<Long, Object> kafkaListenerContainerFactory
-            (ConsumerFactory<Long, Object> consumerFactory, KafkaTemplate kafkaTemplate) {
+            (ConsumerFactory<Long, Object> consumerFactory, KafkaTemplate kafkaTemplate, StatisticBuffer statisticBuffer) {
 
-        DefaultErrorHandler errorHandler =
-                new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate),
-                        new FixedBackOff(3000, 3));
+        DefaultErrorHandler errorHandler = errorHandler(kafkaTemplate);
 
-        errorHandler.addNotRetryableExceptions(NoninvertibleTransformException.class);
+        ConcurrentKafkaListenerContainerFactory<Long, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
 
-        errorHandler.addRetryableExceptions(RetryableException.class);
+        factory.setConsumerFactory(consumerFactory);
+
+        factory.setConcurrency(environment.getProperty("spring.kafka.listener.concurrency", Integer.class, 3));
+
+        factory.setCommonErrorHandler(errorHandler);
+
+        factory.getContainerProperties().setConsumerRebalanceListener(flushOnRevoke(statisticBuffer));
+        return factory;
+    }
+
+    /**
+     * Configures the container factory for batch listeners.
+     * <p>
+     * Listeners using this factory receive every record of a poll, up to
+     * {@code spring.kafka.consumer.max-poll-records}, as one list. Retries and dead-letter
+     * publishing stay per record: a listener reports the first failed record with a
+     * {@link BatchListenerFailedException}, the records before it are committed, and only
+     * the failed record is retried and eventually sent to its DLT.
+     * </p>
+     *
+     * @param consumerFactory the consumer factory to use
+     * @param kafkaTemplate   the Kafka template for dead-letter publishing
+     * @param statisticBuffer the statistic buffer drained before partitions are revoked
+     * @return the configured batch {@code ConcurrentKafkaListenerContainerFactory}
+     */
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<Long, Object> batchKafkaListenerContainerFactory
+            (ConsumerFactory<Long, Object> consumerFactory, KafkaTemplate kafkaTemplate, StatisticBuffer statisticBuffer) {
 
         ConcurrentKafkaListenerContainerFactory<Long, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
 
         factory.setConsumerFactory(consumerFactory);
 
-        factory.setCommonErrorHandler(errorHandler);
+        factory.setBatchListener(true);
+
+        factory.setConcurrency(environment.getProperty("spring.kafka.listener.concurrency", Integer.class, 3));
+
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate));
+
+        factory.getContainerProperties().setConsumerRebalanceListener(flushOnRevoke(statisticBuffer));
         return factory;
     }
 
+    /**
+     * Builds the error handler shared by the container factories: three retries three seconds
+     * apart, then publication to the topic's DLT.
+     *
+     * @param kafkaTemplate the Kafka template for dead-letter publishing
+     * @return the error handler
+     */
+    private DefaultErrorHandler errorHandler(KafkaTemplate kafkaTemplate) {
+        DefaultErrorHandler errorHandler =
+                new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate),
+                        new FixedBackOff(3000, 3));
+
+        errorHandler.addNotRetryableExceptions(NoninvertibleTransformException.class);
+
+        errorHandler.addRetryableExceptions(RetryableException.class);
+        return errorHandler;
+    }
+
+    /**
+     * Builds the rebalance listener that flushes the statistic buffer before the offsets of
+     * revoked partitions are committed.
+     *
+     * @param statisticBuffer the statistic buffer to flush
+     * @return the rebalance listener
+     */
+    private ConsumerAwareRebalanceListener flushOnRevoke(StatisticBuffer statisticBuffer) {
+        return new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                statisticBuffer.flush();
+            }
+        };
+    }
+
     /**
      * Configures and returns a Kafka template for message publishing.
      *
      * @param producerFactory the producer factory to use
+     * @param sendMetrics the counters updated from the asynchronous send callbacks
      * @return the configured {@code KafkaTemplate}
      */
     @Bean
-    KafkaTemplate<Long, Object> kafkaTemplate(ProducerFactory<Long, Object> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    KafkaTemplate<Long, Object> kafkaTemplate(ProducerFactory<Long, Object> producerFactory, SendMetrics sendMetrics) {
+        KafkaTemplate<Long, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory) {
+            @Override
+            protected CompletableFuture<SendResult<Long, Object>> doSend(ProducerRecord<Long, Object> producerRecord, Observation observation) {
+                // Every send method of the template ends here; the record timestamp is no start time,
+                // because callers may set it and brokers with LogAppendTime overwrite it.
+                long startedNanos = System.nanoTime();
+                CompletableFuture<SendResult<Long, Object>> future = super.doSend(producerRecord, observation);
+                future.whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        sendMetrics.recordSuccess(System.nanoTime() - startedNanos);
+                    }
+                });
+                return future;
+            }
+        };
+
+        kafkaTemplate.setProducerListener(new CompositeProducerListener<>(new LoggingProducerListener<>(), new ProducerListener<>() {
+            @Override
+            public void onError(ProducerRecord<Long, Object> producerRecord, RecordMetadata recordMetadata, Exception exception) {
+                sendMetrics.recordFailure(producerRecord.topic());
+            }
+        }));
+        return kafkaTemplate;
+    }
+
+    /**
+     * Publishes the producer send counters of this service over JMX.
+     *
+     * @return the {@link SendMetrics} updated by the {@link KafkaTemplate} callbacks
+     */
+    @Bean
+    SendMetrics sendMetrics() {
+        return SendMetrics.registered(environment.getProperty("spring.application.name", "application"));
     }
 
     /**
      * Configures and returns a producer factory for Kafka producers.
      *
+     * @param binaryCodec the codec used when {@code codec.kafka.binary-values} is enabled
      * @return the configured {@code ProducerFactory} instance
      */
     @Bean
-    ProducerFactory<Long, Object> producerFactory() {
+    ProducerFactory<Long, Object> producerFactory(BinaryCodec binaryCodec) {
         Map<String, Object> config = new HashMap<>();
 
         config.put
@@ -153,6 +276,17 @@ public class KafkaConfig {
 
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
-        return new DefaultKafkaProducerFactory<>(config);
+        config.putAll(ProducerTuning.throughputProfile(environment::getProperty));
+
+        if (!environment.getProperty("codec.kafka.binary-values", Boolean.class, false)) {
+            return new DefaultKafkaProducerFactory<>(config);
+        }
+
+        return new DefaultKafkaProducerFactory<>
+                (
+                        config,
+                        LongSerializer::new,
+                        () -> new CompactKafkaSerializer(binaryCodec, new JsonSerializer<>())
+                );
     }
 }
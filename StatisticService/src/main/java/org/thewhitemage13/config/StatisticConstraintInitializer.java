@@ -0,0 +1,125 @@
+package org.thewhitemage13.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.rebuild.StatisticTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Makes sure every daily statistic table has a unique index on {@code statistic_date}.
+ * <p>
+ * The buffered counters are written with {@code INSERT ... ON CONFLICT (statistic_date)},
+ * which fails on every flush when the index is missing. Hibernate only adds the unique
+ * constraint of {@code @Column(unique = true)} to an existing table if no date occurs twice,
+ * and skips it with a log line otherwise, which is what happens to tables filled by the old
+ * read-modify-write code. Here the rows of each duplicated date are merged into one row
+ * holding their sums before the index is created, so the migration does not depend on
+ * {@code ddl-auto} at all.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code uq_<table>_statistic_date} on {@code (statistic_date)}, unless the table
+ *     already has a unique index on that column.</li>
+ * </ul>
+ * <p>
+ * The work runs in one transaction holding a database advisory lock, so instances starting at
+ * the same time wait for each other. The application does not start if a table is missing.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class StatisticConstraintInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatisticConstraintInitializer.class);
+    private static final long CONSTRAINT_LOCK_ID = 0x7374617464L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new {@code StatisticConstraintInitializer}.
+     *
+     * @param jdbcTemplate        the template used to run the DDL
+     * @param transactionTemplate the template running the initialization in one transaction
+     */
+    public StatisticConstraintInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Merges duplicate dates and creates the missing unique indexes.
+     *
+     * @throws IllegalStateException if a statistic table does not exist
+     */
+    @PostConstruct
+    void createConstraints() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(%d)".formatted(CONSTRAINT_LOCK_ID));
+            for (StatisticTable table : StatisticTable.values()) {
+                createConstraint(table);
+            }
+        });
+    }
+
+    private void createConstraint(StatisticTable table) {
+        String tableName = table.getTableName();
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, tableName);
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new IllegalStateException("Statistic table %s does not exist".formatted(tableName));
+        }
+        Boolean indexed = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM pg_index i
+                    JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                    WHERE i.indrelid = to_regclass(?)
+                      AND i.indisunique
+                      AND i.indnatts = 1
+                      AND i.indpred IS NULL
+                      AND a.attname = 'statistic_date'
+                )
+                """, Boolean.class, tableName);
+        if (Boolean.TRUE.equals(indexed)) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>(table.getColumns());
+        if (table.hasFileSize()) {
+            columns.add(StatisticTable.FILE_SIZE_COLUMN);
+        }
+        int merged = jdbcTemplate.update("""
+                WITH duplicates AS (
+                    DELETE FROM %1$s
+                    WHERE statistic_date IN (
+                        SELECT statistic_date FROM %1$s
+                        WHERE statistic_date IS NOT NULL
+                        GROUP BY statistic_date
+                        HAVING COUNT(*) > 1
+                    )
+                    RETURNING *
+                )
+                INSERT INTO %1$s (statistic_date, %2$s)
+                SELECT statistic_date, %3$s FROM duplicates GROUP BY statistic_date
+                """.formatted(tableName, String.join(", ", columns),
+                columns.stream().map(column -> "SUM(%s)".formatted(column)).collect(Collectors.joining(", "))));
+        if (merged > 0) {
+            LOGGER.warn("Merged the rows of {} duplicate dates in {} before creating its unique index", merged, tableName);
+        }
+
+        String indexName = "uq_%s_statistic_date".formatted(tableName);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS %s ON %s (statistic_date)".formatted(indexName, tableName));
+        LOGGER.info("Created unique index {}", indexName);
+    }
+}
@@ -0,0 +1,86 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.thewhitemage13.dto.ActiveUsersDTO;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.service.ActiveUserServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "Active User Controller", description = "Estimated numbers of distinct active users")
+@RestController
+@RequestMapping("/active-users")
+public class ActiveUserController {
+    private final ActiveUserServiceImpl activeUserServiceImpl;
+
+    @Autowired
+    public ActiveUserController(ActiveUserServiceImpl activeUserServiceImpl) {
+        this.activeUserServiceImpl = activeUserServiceImpl;
+    }
+
+    @Operation(
+            summary = "Retrieve daily, weekly and monthly active users",
+            description = "Estimates the distinct users who performed the given actions on a day and in the 7 and 30 days ending with it.",
+            tags = {"Active User Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active users estimated successfully"),
+            @ApiResponse(responseCode = "400", description = "Missing date"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping
+    public ResponseEntity<ActiveUsersDTO> showActiveUsers(
+            @Parameter(description = "Last day of every window (ISO format: yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Actions to count: LIKE, COMMENT or POST; all actions if omitted")
+            @RequestParam(required = false) List<ActivityAction> action) {
+        try {
+            return ResponseEntity.ok(activeUserServiceImpl.getActiveUsers(action == null ? List.of() : action, date));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Estimate the active users of a range",
+            description = "Estimates the distinct users who performed the given actions within [from, to), read from hour or day sketches.",
+            tags = {"Active User Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active users estimated successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty range or unsupported granularity"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/estimate")
+    public ResponseEntity<Long> showEstimate(
+            @Parameter(description = "Bucket size: HOUR or DAY")
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @Parameter(description = "Start of the range, inclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, exclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Actions to count: LIKE, COMMENT or POST; all actions if omitted")
+            @RequestParam(required = false) List<ActivityAction> action) {
+        try {
+            return ResponseEntity.ok(activeUserServiceImpl.estimate(action == null ? List.of() : action, granularity, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.thewhitemage13.dto.RebuildStatusDTO;
+import org.thewhitemage13.service.StatisticRebuildServiceImpl;
+
+import java.time.LocalDate;
+
+@Tag(name = "Statistic Rebuild Controller", description = "Rebuilds the daily statistics from the event topics")
+@RestController
+@RequestMapping("/statistic-rebuild")
+public class StatisticRebuildController {
+    private final StatisticRebuildServiceImpl statisticRebuildServiceImpl;
+
+    @Autowired
+    public StatisticRebuildController(StatisticRebuildServiceImpl statisticRebuildServiceImpl) {
+        this.statisticRebuildServiceImpl = statisticRebuildServiceImpl;
+    }
+
+    @Operation(
+            summary = "Start a rebuild of the daily statistics",
+            description = "Replays all statistic events from the start of the given day and replaces the statistics of that day and all later days. Runs in the background.",
+            tags = {"Statistic Rebuild Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rebuild started"),
+            @ApiResponse(responseCode = "400", description = "Start date is in the future"),
+            @ApiResponse(responseCode = "409", description = "A rebuild is already running"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping
+    public ResponseEntity<RebuildStatusDTO> startRebuild(
+            @Parameter(description = "First day to rebuild (ISO format: yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(statisticRebuildServiceImpl.start(from));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(statisticRebuildServiceImpl.getStatus());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Retrieve the rebuild status",
+            description = "Fetches the status of the running or last rebuild.",
+            tags = {"Statistic Rebuild Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status retrieved successfully")
+    })
+    @GetMapping
+    public ResponseEntity<RebuildStatusDTO> showStatus() {
+        return ResponseEntity.ok(statisticRebuildServiceImpl.getStatus());
+    }
+}
@@ -0,0 +1,118 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.dto.RollupPointDTO;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.service.StatisticRollupServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "Statistic Rollup Controller", description = "Time-series queries over the statistic counters")
+@RestController
+@RequestMapping("/statistic-rollup")
+public class StatisticRollupController {
+    private final StatisticRollupServiceImpl statisticRollupServiceImpl;
+
+    @Autowired
+    public StatisticRollupController(StatisticRollupServiceImpl statisticRollupServiceImpl) {
+        this.statisticRollupServiceImpl = statisticRollupServiceImpl;
+    }
+
+    @Operation(
+            summary = "Retrieve a counter as a time series",
+            description = "Fetches the non-empty buckets of a counter whose start lies in [from, to), oldest first.",
+            tags = {"Statistic Rollup Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Series retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty range or too many buckets"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{field}")
+    public ResponseEntity<List<RollupPointDTO>> showSeries(
+            @Parameter(description = "Counter to query, e.g. POST_LIKE", required = true)
+            @PathVariable StatisticField field,
+            @Parameter(description = "Bucket size: MINUTE, HOUR or DAY")
+            @RequestParam(defaultValue = "HOUR") Granularity granularity,
+            @Parameter(description = "Start of the range, inclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, exclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(statisticRollupServiceImpl.getSeries(field, granularity, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Sum a counter over a range",
+            description = "Sums the events of a counter within [from, to) from the coarsest buckets covering it.",
+            tags = {"Statistic Rollup Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sum computed successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty range"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{field}/sum")
+    public ResponseEntity<Long> showSum(
+            @Parameter(description = "Counter to query, e.g. POST_LIKE", required = true)
+            @PathVariable StatisticField field,
+            @Parameter(description = "Start of the range, inclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, exclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(statisticRollupServiceImpl.getSum(field, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Retrieve the busiest buckets of a counter",
+            description = "Fetches the largest buckets of a counter within [from, to), e.g. its top hours.",
+            tags = {"Statistic Rollup Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Buckets retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty range or invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{field}/top")
+    public ResponseEntity<List<RollupPointDTO>> showTopBuckets(
+            @Parameter(description = "Counter to query, e.g. POST_LIKE", required = true)
+            @PathVariable StatisticField field,
+            @Parameter(description = "Bucket size: MINUTE, HOUR or DAY")
+            @RequestParam(defaultValue = "HOUR") Granularity granularity,
+            @Parameter(description = "Start of the range, inclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, exclusive (ISO format: yyyy-MM-ddTHH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of buckets to return")
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(statisticRollupServiceImpl.getTopBuckets(field, granularity, from, to, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
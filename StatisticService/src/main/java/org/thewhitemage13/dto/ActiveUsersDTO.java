@@ -0,0 +1,41 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) for the estimated number of active users up to a day.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ActiveUsersDTO {
+
+    /**
+     * The last day of every window.
+     */
+    private LocalDate date;
+
+    /**
+     * The distinct users active on the day.
+     */
+    private long dailyActiveUsers;
+
+    /**
+     * The distinct users active in the seven days ending with the day.
+     */
+    private long weeklyActiveUsers;
+
+    /**
+     * The distinct users active in the thirty days ending with the day.
+     */
+    private long monthlyActiveUsers;
+}
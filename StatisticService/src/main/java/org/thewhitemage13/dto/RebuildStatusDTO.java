@@ -0,0 +1,53 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.thewhitemage13.rebuild.RebuildState;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) describing the last or running rebuild of the daily statistics.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RebuildStatusDTO {
+
+    /**
+     * The state of the rebuild.
+     */
+    private RebuildState state;
+
+    /**
+     * The first rebuilt day.
+     */
+    private LocalDate from;
+
+    /**
+     * When the rebuild started.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * When the rebuild finished, {@code null} while it is running.
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * The number of replayed events counted by the rebuild, once it has succeeded.
+     */
+    private long events;
+
+    /**
+     * The reason the rebuild failed, if it did.
+     */
+    private String error;
+}
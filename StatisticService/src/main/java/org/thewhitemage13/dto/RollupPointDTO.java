@@ -0,0 +1,31 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for one bucket of a statistic rollup.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RollupPointDTO {
+
+    /**
+     * The start of the bucket, inclusive.
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * The number of events that occurred within the bucket.
+     */
+    private Long total;
+}
@@ -0,0 +1,80 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the distinct users who performed an action within one hour or day.
+ * <p>
+ * The users are not stored, only a {@link HyperLogLog} sketch of their identifiers, so a row
+ * has the same small size whether ten or ten million users were active. Sketches of several
+ * rows merge into the sketch of their union, which is how weekly and monthly active users are
+ * computed from the daily rows.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>One row per action, granularity and bucket start.</li>
+ *     <li>The sketch is stored in the compact form of {@link HyperLogLog#toBytes()}.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_active_user_sketch_bucket", columnNames = {"action", "granularity", "bucket_start"}))
+public class ActiveUserSketch {
+
+    /**
+     * Unique identifier for the sketch.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long activeUserSketchId;
+
+    /**
+     * The counted action.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ActivityAction action;
+
+    /**
+     * The size of the bucket, an hour or a day.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Granularity granularity;
+
+    /**
+     * The start of the bucket, inclusive.
+     */
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * The serialized sketch of the users' identifiers.
+     */
+    @Column(nullable = false)
+    private byte[] registers;
+}
@@ -1,5 +1,6 @@
 package org.thewhitemage13.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -81,7 +82,9 @@ public class LikeStatistic {
      * The date for which the like statistics are recorded.
      * <p>
      * Represents the day associated with the like and unlike counts.
+     * The date is unique, so the daily counters can be upserted by date.
      * </p>
      */
+    @Column(unique = true)
     private LocalDate statisticDate;
 }
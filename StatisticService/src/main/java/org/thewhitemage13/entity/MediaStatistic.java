@@ -1,5 +1,6 @@
 package org.thewhitemage13.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -74,7 +75,9 @@ public class MediaStatistic {
      * The date for which the media statistics are recorded.
      * <p>
      * Represents the day associated with the media operations.
+     * The date is unique, so the daily counters can be upserted by date.
      * </p>
      */
+    @Column(unique = true)
     private LocalDate statisticDate;
 }
@@ -0,0 +1,78 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.rollup.Granularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents one time bucket of a counter.
+ * <p>
+ * Unlike the daily statistic rows, rollup buckets are keyed by the time the events occurred
+ * rather than the time they were consumed, and are kept at minute, hour and day granularity so
+ * that range queries read a handful of precomputed buckets instead of scanning raw rows.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>One row per counter, granularity and bucket start.</li>
+ *     <li>The unique key doubles as the index of range queries.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_statistic_rollup_bucket", columnNames = {"metric", "granularity", "bucket_start"}))
+public class StatisticRollup {
+
+    /**
+     * Unique identifier for the rollup bucket.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long statisticRollupId;
+
+    /**
+     * The counter the bucket belongs to.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private StatisticField metric;
+
+    /**
+     * The size of the bucket.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Granularity granularity;
+
+    /**
+     * The start of the bucket, inclusive.
+     */
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * The number of events that occurred within the bucket.
+     */
+    @Column(nullable = false)
+    private Long total;
+}
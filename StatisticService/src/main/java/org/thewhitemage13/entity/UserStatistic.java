@@ -1,5 +1,6 @@
 package org.thewhitemage13.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -65,7 +66,9 @@ public class UserStatistic {
      * The date for which the user statistics are recorded.
      * <p>
      * Represents the day associated with the user activities.
+     * The date is unique, so the daily counters can be upserted by date.
      * </p>
      */
+    @Column(unique = true)
     private LocalDate statisticDate;
 }
@@ -0,0 +1,110 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.CommentStatisticServiceImpl;
+import org.thewhitemage13.service.LikeStatisticServiceImpl;
+import org.thewhitemage13.service.MediaStatisticServiceImpl;
+import org.thewhitemage13.service.PostStatisticServiceImpl;
+
+import java.util.List;
+
+/**
+ * Handles the chunks of entities removed by the bulk deletion of a user.
+ * <p>
+ * When a user is deleted, the owning services publish one {@link BatchDeletedEvent} per chunk of
+ * deleted posts, comments, likes and media instead of one event per row. This component listens
+ * to the five {@code *.deleted.batch} topics and records every chunk with one increment per
+ * counter.
+ * </p>
+ *
+ * <h3>Kafka Configuration:</h3>
+ * <p>
+ * Every listener consumes its topic through the {@code batchKafkaListenerContainerFactory}, one
+ * poll at a time.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class BatchDeletedEventHandlerImpl {
+    private final PostStatisticServiceImpl postStatisticServiceImpl;
+    private final CommentStatisticServiceImpl commentStatisticServiceImpl;
+    private final LikeStatisticServiceImpl likeStatisticServiceImpl;
+    private final MediaStatisticServiceImpl mediaStatisticServiceImpl;
+
+    /**
+     * Constructs a new {@code BatchDeletedEventHandlerImpl} with the specified statistic services.
+     *
+     * @param postStatisticServiceImpl    the service for managing post statistics
+     * @param commentStatisticServiceImpl the service for managing comment statistics
+     * @param likeStatisticServiceImpl    the service for managing like statistics
+     * @param mediaStatisticServiceImpl   the service for managing media statistics
+     */
+    @Autowired
+    public BatchDeletedEventHandlerImpl
+            (
+                    PostStatisticServiceImpl postStatisticServiceImpl,
+                    CommentStatisticServiceImpl commentStatisticServiceImpl,
+                    LikeStatisticServiceImpl likeStatisticServiceImpl,
+                    MediaStatisticServiceImpl mediaStatisticServiceImpl
+            ) {
+        this.postStatisticServiceImpl = postStatisticServiceImpl;
+        this.commentStatisticServiceImpl = commentStatisticServiceImpl;
+        this.likeStatisticServiceImpl = likeStatisticServiceImpl;
+        this.mediaStatisticServiceImpl = mediaStatisticServiceImpl;
+    }
+
+    /**
+     * Handles a batch of {@code post.deleted.batch} events.
+     *
+     * @param events the events of one poll
+     */
+    @KafkaListener(topics = "post.deleted.batch", containerFactory = "batchKafkaListenerContainerFactory")
+    public void postsDeleted(List<BatchDeletedEvent> events) {
+        BatchHandlerSupport.process(events, postStatisticServiceImpl::deletePostStatistics);
+    }
+
+    /**
+     * Handles a batch of {@code comment.deleted.batch} events.
+     *
+     * @param events the events of one poll
+     */
+    @KafkaListener(topics = "comment.deleted.batch", containerFactory = "batchKafkaListenerContainerFactory")
+    public void commentsDeleted(List<BatchDeletedEvent> events) {
+        BatchHandlerSupport.process(events, commentStatisticServiceImpl::deleteCommentStatistics);
+    }
+
+    /**
+     * Handles a batch of {@code post.like.deleted.batch} events.
+     *
+     * @param events the events of one poll
+     */
+    @KafkaListener(topics = "post.like.deleted.batch", containerFactory = "batchKafkaListenerContainerFactory")
+    public void postLikesDeleted(List<BatchDeletedEvent> events) {
+        BatchHandlerSupport.process(events, likeStatisticServiceImpl::deleteLikePostStatistics);
+    }
+
+    /**
+     * Handles a batch of {@code comment.like.deleted.batch} events.
+     *
+     * @param events the events of one poll
+     */
+    @KafkaListener(topics = "comment.like.deleted.batch", containerFactory = "batchKafkaListenerContainerFactory")
+    public void commentLikesDeleted(List<BatchDeletedEvent> events) {
+        BatchHandlerSupport.process(events, likeStatisticServiceImpl::deleteLikeCommentStatistics);
+    }
+
+    /**
+     * Handles a batch of {@code media.deleted.batch} events.
+     *
+     * @param events the events of one poll
+     */
+    @KafkaListener(topics = "media.deleted.batch", containerFactory = "batchKafkaListenerContainerFactory")
+    public void mediaDeleted(List<BatchDeletedEvent> events) {
+        BatchHandlerSupport.process(events, mediaStatisticServiceImpl::deleteMediaStatistics);
+    }
+}
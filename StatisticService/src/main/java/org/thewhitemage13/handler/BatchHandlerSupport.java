@@ -0,0 +1,50 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Shared logic of the batch event handlers.
+ * <p>
+ * The events of a batch are applied one at a time, in order. The statistic writers are not
+ * transactional, so nothing is ever applied twice within a batch: when a record cannot be
+ * processed, a {@link BatchListenerFailedException} carrying its index is thrown right away,
+ * the container commits the records before it and retries, and eventually dead-letters, only
+ * the failed record and the ones after it.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+final class BatchHandlerSupport {
+
+    private BatchHandlerSupport() {
+    }
+
+    /**
+     * Applies the events of a batch one at a time.
+     * <p>
+     * A {@code null} event is a record that could not be deserialized and is reported as failed.
+     * </p>
+     *
+     * @param events  the events of one poll
+     * @param handler applies one event
+     * @param <E>     the event type
+     * @throws BatchListenerFailedException at the first record that cannot be applied
+     */
+    static <E> void process(List<E> events, Consumer<E> handler) {
+        for (int index = 0; index < events.size(); index++) {
+            E event = events.get(index);
+            try {
+                if (event == null) {
+                    throw new IllegalArgumentException("Record could not be deserialized");
+                }
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to process record at index " + index, e, index);
+            }
+        }
+    }
+}
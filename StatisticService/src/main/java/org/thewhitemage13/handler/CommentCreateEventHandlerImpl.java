@@ -1,12 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.buffer.ActiveUserBuffer;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.CommentCreateEventHandlerInterface;
 import org.thewhitemage13.service.CommentStatisticServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.util.List;
 
 /**
  * Handles events related to comment creation from a Kafka topic.
@@ -19,21 +23,20 @@ import org.thewhitemage13.service.CommentStatisticServiceImpl;
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listen to the "comment.created" topic for new comment creation events.</li>
- *     <li>Handle the event by invoking the {@link CommentStatisticServiceImpl#createCommentStatistic()} method.</li>
+ *     <li>Handle the event by invoking the {@link CommentStatisticServiceImpl#createCommentStatistic(java.time.LocalDateTime)} method.</li>
  * </ul>
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "comment.created")
-public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerInterface {
+public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerInterface, BatchEventHandlerInterface<CommentEvent> {
 
     /**
      * Service to manage comment statistics.
@@ -44,15 +47,22 @@ public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerI
      */
     private final CommentStatisticServiceImpl commentStatisticServiceImpl;
 
+    /**
+     * Buffer of the distinct users who performed each action.
+     */
+    private final ActiveUserBuffer activeUserBuffer;
+
     /**
      * Constructs a new {@code CommentCreateEventHandlerImpl} with the specified
-     * {@link CommentStatisticServiceImpl}.
+     * {@link CommentStatisticServiceImpl} and {@link ActiveUserBuffer}.
      *
      * @param commentStatisticServiceImpl the service for managing comment statistics
+     * @param activeUserBuffer             the buffer of the distinct active users
      */
     @Autowired
-    public CommentCreateEventHandlerImpl(CommentStatisticServiceImpl commentStatisticServiceImpl) {
+    public CommentCreateEventHandlerImpl(CommentStatisticServiceImpl commentStatisticServiceImpl, ActiveUserBuffer activeUserBuffer) {
         this.commentStatisticServiceImpl = commentStatisticServiceImpl;
+        this.activeUserBuffer = activeUserBuffer;
     }
 
     /**
@@ -65,8 +75,19 @@ public class CommentCreateEventHandlerImpl implements CommentCreateEventHandlerI
      * @param commentEvent the event containing data about the created comment
      */
     @Override
-    @KafkaHandler
     public void commentCreated(CommentEvent commentEvent) {
-        commentStatisticServiceImpl.createCommentStatistic();
+        commentStatisticServiceImpl.createCommentStatistic(commentEvent.getCreatedAt());
+        activeUserBuffer.record(ActivityAction.COMMENT, commentEvent.getUserId(), commentEvent.getCreatedAt());
+    }
+
+    /**
+     * Handles a batch of {@code comment.created} events in a single listener invocation.
+     *
+     * @param commentEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "comment.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<CommentEvent> commentEvents) {
+        BatchHandlerSupport.process(commentEvents, this::commentCreated);
     }
 }
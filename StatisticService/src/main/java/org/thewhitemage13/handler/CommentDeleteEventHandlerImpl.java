@@ -1,13 +1,15 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.CommentDeleteEventHandlerInterface;
 import org.thewhitemage13.service.CommentStatisticServiceImpl;
 
+import java.util.List;
+
 /**
  * Handles events related to comment deletion from a Kafka topic.
  * <p>
@@ -24,16 +26,15 @@ import org.thewhitemage13.service.CommentStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "comment.deleted")
-public class CommentDeleteEventHandlerImpl implements CommentDeleteEventHandlerInterface {
+public class CommentDeleteEventHandlerImpl implements CommentDeleteEventHandlerInterface, BatchEventHandlerInterface<CommentEvent> {
 
     /**
      * Service to manage comment statistics.
@@ -65,8 +66,18 @@ public class CommentDeleteEventHandlerImpl implements CommentDeleteEventHandlerI
      * @param commentEvent the event containing data about the deleted comment
      */
     @Override
-    @KafkaHandler
     public void commentDeleted(CommentEvent commentEvent) {
         commentStatisticServiceImpl.deleteCommentStatistic();
     }
+
+    /**
+     * Handles a batch of {@code comment.deleted} events in a single listener invocation.
+     *
+     * @param commentEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "comment.deleted", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<CommentEvent> commentEvents) {
+        BatchHandlerSupport.process(commentEvents, this::commentDeleted);
+    }
 }
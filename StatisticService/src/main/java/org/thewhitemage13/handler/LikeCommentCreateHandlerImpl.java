@@ -1,12 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.buffer.ActiveUserBuffer;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.LikeCommentCreateHandlerInterface;
 import org.thewhitemage13.service.LikeStatisticServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.util.List;
 
 /**
  * Handles events related to the creation of likes on comments from a Kafka topic.
@@ -19,21 +23,20 @@ import org.thewhitemage13.service.LikeStatisticServiceImpl;
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listen to the "comment.like.created" topic for new like creation events on comments.</li>
- *     <li>Handle the event by invoking the {@link LikeStatisticServiceImpl#createLikeCommentStatistic()} method.</li>
+ *     <li>Handle the event by invoking the {@link LikeStatisticServiceImpl#createLikeCommentStatistic(java.time.LocalDateTime)} method.</li>
  * </ul>
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "comment.like.created")
-public class LikeCommentCreateHandlerImpl implements LikeCommentCreateHandlerInterface {
+public class LikeCommentCreateHandlerImpl implements LikeCommentCreateHandlerInterface, BatchEventHandlerInterface<LikeEvent> {
 
     /**
      * Service to manage like statistics for comments.
@@ -44,15 +47,22 @@ public class LikeCommentCreateHandlerImpl implements LikeCommentCreateHandlerInt
      */
     private final LikeStatisticServiceImpl likeStatisticServiceImpl;
 
+    /**
+     * Buffer of the distinct users who performed each action.
+     */
+    private final ActiveUserBuffer activeUserBuffer;
+
     /**
      * Constructs a new {@code LikeCommentCreateHandlerImpl} with the specified
-     * {@link LikeStatisticServiceImpl}.
+     * {@link LikeStatisticServiceImpl} and {@link ActiveUserBuffer}.
      *
      * @param likeStatisticServiceImpl the service for managing like statistics for comments
+     * @param activeUserBuffer          the buffer of the distinct active users
      */
     @Autowired
-    public LikeCommentCreateHandlerImpl(LikeStatisticServiceImpl likeStatisticServiceImpl) {
+    public LikeCommentCreateHandlerImpl(LikeStatisticServiceImpl likeStatisticServiceImpl, ActiveUserBuffer activeUserBuffer) {
         this.likeStatisticServiceImpl = likeStatisticServiceImpl;
+        this.activeUserBuffer = activeUserBuffer;
     }
 
     /**
@@ -65,8 +75,19 @@ public class LikeCommentCreateHandlerImpl implements LikeCommentCreateHandlerInt
      * @param likeEvent the event containing data about the created like
      */
     @Override
-    @KafkaHandler
     public void likeCommentCreated(LikeEvent likeEvent) {
-        likeStatisticServiceImpl.createLikeCommentStatistic();
+        likeStatisticServiceImpl.createLikeCommentStatistic(likeEvent.getCreatedAt());
+        activeUserBuffer.record(ActivityAction.LIKE, likeEvent.getUserId(), likeEvent.getCreatedAt());
+    }
+
+    /**
+     * Handles a batch of {@code comment.like.created} events in a single listener invocation.
+     *
+     * @param likeEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "comment.like.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<LikeEvent> likeEvents) {
+        BatchHandlerSupport.process(likeEvents, this::likeCommentCreated);
     }
 }
@@ -1,12 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.buffer.ActiveUserBuffer;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.LikePostCreateEventHandlerInterface;
 import org.thewhitemage13.service.LikeStatisticServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.util.List;
 
 /**
  * Handles events related to the creation of likes on posts from a Kafka topic.
@@ -19,21 +23,20 @@ import org.thewhitemage13.service.LikeStatisticServiceImpl;
  * <h2>Key Responsibilities:</h2>
  * <ul>
  *     <li>Listen to the "post.like.created" topic for new like creation events on posts.</li>
- *     <li>Handle the event by invoking the {@link LikeStatisticServiceImpl#createLikePostStatistic()} method.</li>
+ *     <li>Handle the event by invoking the {@link LikeStatisticServiceImpl#createLikePostStatistic(java.time.LocalDateTime)} method.</li>
  * </ul>
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.like.created")
-public class LikePostCreateEventHandlerImpl implements LikePostCreateEventHandlerInterface {
+public class LikePostCreateEventHandlerImpl implements LikePostCreateEventHandlerInterface, BatchEventHandlerInterface<LikeEvent> {
 
     /**
      * Service to manage like statistics for posts.
@@ -44,15 +47,22 @@ public class LikePostCreateEventHandlerImpl implements LikePostCreateEventHandle
      */
     private final LikeStatisticServiceImpl likeStatisticServiceImpl;
 
+    /**
+     * Buffer of the distinct users who performed each action.
+     */
+    private final ActiveUserBuffer activeUserBuffer;
+
     /**
      * Constructs a new {@code LikePostCreateEventHandlerImpl} with the specified
-     * {@link LikeStatisticServiceImpl}.
+     * {@link LikeStatisticServiceImpl} and {@link ActiveUserBuffer}.
      *
      * @param likeStatisticServiceImpl the service for managing like statistics for posts
+     * @param activeUserBuffer          the buffer of the distinct active users
      */
     @Autowired
-    public LikePostCreateEventHandlerImpl(LikeStatisticServiceImpl likeStatisticServiceImpl) {
+    public LikePostCreateEventHandlerImpl(LikeStatisticServiceImpl likeStatisticServiceImpl, ActiveUserBuffer activeUserBuffer) {
         this.likeStatisticServiceImpl = likeStatisticServiceImpl;
+        this.activeUserBuffer = activeUserBuffer;
     }
 
     /**
@@ -65,8 +75,19 @@ public class LikePostCreateEventHandlerImpl implements LikePostCreateEventHandle
      * @param likeEvent the event containing data about the created like
      */
     @Override
-    @KafkaHandler
     public void likePostCreate(LikeEvent likeEvent) {
-        likeStatisticServiceImpl.createLikePostStatistic();
+        likeStatisticServiceImpl.createLikePostStatistic(likeEvent.getCreatedAt());
+        activeUserBuffer.record(ActivityAction.LIKE, likeEvent.getUserId(), likeEvent.getCreatedAt());
+    }
+
+    /**
+     * Handles a batch of {@code post.like.created} events in a single listener invocation.
+     *
+     * @param likeEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.like.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<LikeEvent> likeEvents) {
+        BatchHandlerSupport.process(likeEvents, this::likePostCreate);
     }
 }
@@ -1,13 +1,15 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.LikePostDeleteEventHandlerInterface;
 import org.thewhitemage13.service.LikeStatisticServiceImpl;
 
+import java.util.List;
+
 /**
  * Handles events related to the deletion of likes on posts from a Kafka topic.
  * <p>
@@ -24,16 +26,15 @@ import org.thewhitemage13.service.LikeStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.like.deleted")
-public class LikePostDeleteEventHandlerImpl implements LikePostDeleteEventHandlerInterface {
+public class LikePostDeleteEventHandlerImpl implements LikePostDeleteEventHandlerInterface, BatchEventHandlerInterface<LikeEvent> {
 
     /**
      * Service to manage like statistics for posts.
@@ -65,8 +66,18 @@ public class LikePostDeleteEventHandlerImpl implements LikePostDeleteEventHandle
      * @param likeEvent the event containing data about the deleted like
      */
     @Override
-    @KafkaHandler
     public void likePostDeleted(LikeEvent likeEvent) {
         likeStatisticServiceImpl.deleteLikePostStatistic();
     }
+
+    /**
+     * Handles a batch of {@code post.like.deleted} events in a single listener invocation.
+     *
+     * @param likeEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.like.deleted", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<LikeEvent> likeEvents) {
+        BatchHandlerSupport.process(likeEvents, this::likePostDeleted);
+    }
 }
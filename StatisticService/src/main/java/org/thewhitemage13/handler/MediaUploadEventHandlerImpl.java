@@ -1,13 +1,15 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.MediaUploadEventHandlerInterface;
 import org.thewhitemage13.service.MediaStatisticServiceImpl;
 
+import java.util.List;
+
 /**
  * Handles events related to the upload of media from a Kafka topic.
  * <p>
@@ -24,16 +26,15 @@ import org.thewhitemage13.service.MediaStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "media.upload")
-public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInterface {
+public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInterface, BatchEventHandlerInterface<MediaEvent> {
 
     /**
      * Service to manage statistics related to media uploads.
@@ -65,8 +66,18 @@ public class MediaUploadEventHandlerImpl implements MediaUploadEventHandlerInter
      * @param mediaEvent the event containing data about the uploaded media
      */
     @Override
-    @KafkaHandler
     public void mediaUpload(MediaEvent mediaEvent) {
         mediaStatisticServiceImpl.uploadMediaStatistic(mediaEvent);
     }
+
+    /**
+     * Handles a batch of {@code media.upload} events in a single listener invocation.
+     *
+     * @param mediaEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "media.upload", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<MediaEvent> mediaEvents) {
+        BatchHandlerSupport.process(mediaEvents, this::mediaUpload);
+    }
 }
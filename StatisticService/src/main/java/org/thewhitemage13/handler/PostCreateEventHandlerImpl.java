@@ -1,12 +1,16 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.buffer.ActiveUserBuffer;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.PostCreateEventHandlerInterface;
 import org.thewhitemage13.service.PostStatisticServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.util.List;
 
 /**
  * Handles events related to the creation of posts from a Kafka topic.
@@ -24,16 +28,15 @@ import org.thewhitemage13.service.PostStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.created")
-public class PostCreateEventHandlerImpl implements PostCreateEventHandlerInterface {
+public class PostCreateEventHandlerImpl implements PostCreateEventHandlerInterface, BatchEventHandlerInterface<PostEvent> {
 
     /**
      * Service to manage statistics related to post creation.
@@ -44,15 +47,22 @@ public class PostCreateEventHandlerImpl implements PostCreateEventHandlerInterfa
      */
     private final PostStatisticServiceImpl postStatisticServiceImpl;
 
+    /**
+     * Buffer of the distinct users who performed each action.
+     */
+    private final ActiveUserBuffer activeUserBuffer;
+
     /**
      * Constructs a new {@code PostCreateEventHandlerImpl} with the specified
-     * {@link PostStatisticServiceImpl}.
+     * {@link PostStatisticServiceImpl} and {@link ActiveUserBuffer}.
      *
      * @param postStatisticServiceImpl the service for managing statistics related to post creation
+     * @param activeUserBuffer          the buffer of the distinct active users
      */
     @Autowired
-    public PostCreateEventHandlerImpl(PostStatisticServiceImpl postStatisticServiceImpl) {
+    public PostCreateEventHandlerImpl(PostStatisticServiceImpl postStatisticServiceImpl, ActiveUserBuffer activeUserBuffer) {
         this.postStatisticServiceImpl = postStatisticServiceImpl;
+        this.activeUserBuffer = activeUserBuffer;
     }
 
     /**
@@ -65,8 +75,19 @@ public class PostCreateEventHandlerImpl implements PostCreateEventHandlerInterfa
      * @param postEvent the event containing data about the created post
      */
     @Override
-    @KafkaHandler
     public void postCreate(PostEvent postEvent) {
         postStatisticServiceImpl.createPostStatistic(postEvent);
+        activeUserBuffer.record(ActivityAction.POST, postEvent.getUserId(), postEvent.getCreatedAt());
+    }
+
+    /**
+     * Handles a batch of {@code post.created} events in a single listener invocation.
+     *
+     * @param postEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<PostEvent> postEvents) {
+        BatchHandlerSupport.process(postEvents, this::postCreate);
     }
 }
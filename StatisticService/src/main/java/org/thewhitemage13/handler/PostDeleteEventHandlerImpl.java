@@ -1,13 +1,15 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.PostDeleteEventHandlerInterface;
 import org.thewhitemage13.service.PostStatisticServiceImpl;
 
+import java.util.List;
+
 /**
  * Handles events related to the deletion of posts from a Kafka topic.
  * <p>
@@ -24,16 +26,15 @@ import org.thewhitemage13.service.PostStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "post.deleted")
-public class PostDeleteEventHandlerImpl implements PostDeleteEventHandlerInterface {
+public class PostDeleteEventHandlerImpl implements PostDeleteEventHandlerInterface, BatchEventHandlerInterface<PostEvent> {
 
     /**
      * Service to manage statistics related to post deletion.
@@ -65,8 +66,18 @@ public class PostDeleteEventHandlerImpl implements PostDeleteEventHandlerInterfa
      * @param postEvent the event containing data about the deleted post
      */
     @Override
-    @KafkaHandler
     public void postDelete(PostEvent postEvent) {
         postStatisticServiceImpl.deletePostStatistic(postEvent);
     }
+
+    /**
+     * Handles a batch of {@code post.deleted} events in a single listener invocation.
+     *
+     * @param postEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "post.deleted", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<PostEvent> postEvents) {
+        BatchHandlerSupport.process(postEvents, this::postDelete);
+    }
 }
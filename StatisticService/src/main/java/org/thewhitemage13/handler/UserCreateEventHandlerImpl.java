@@ -1,13 +1,15 @@
 package org.thewhitemage13.handler;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.thewhitemage13.UserEvent;
+import org.thewhitemage13.interfaces.BatchEventHandlerInterface;
 import org.thewhitemage13.interfaces.UserCreatedEventHandlerInterface;
 import org.thewhitemage13.service.UserStatisticServiceImpl;
 
+import java.util.List;
+
 /**
  * Handles events related to the creation of users from a Kafka topic.
  * <p>
@@ -24,16 +26,15 @@ import org.thewhitemage13.service.UserStatisticServiceImpl;
  *
  * <h3>Kafka Configuration:</h3>
  * <p>
- * The class is annotated with {@code @KafkaListener} and {@code @KafkaHandler}
- * to enable integration with a Kafka topic and processing of messages.
+ * {@link #handleBatch(List)} is annotated with {@code @KafkaListener} and consumes the topic
+ * through the {@code batchKafkaListenerContainerFactory}, one poll at a time.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Component
-@KafkaListener(topics = "user.created")
-public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterface {
+public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterface, BatchEventHandlerInterface<UserEvent> {
 
     /**
      * Service to manage statistics related to user creation.
@@ -65,8 +66,18 @@ public class UserCreateEventHandlerImpl implements UserCreatedEventHandlerInterf
      * @param userEvent the event containing data about the created user
      */
     @Override
-    @KafkaHandler
     public void userCreated(UserEvent userEvent) {
         userStatisticServiceImpl.createUserStatistic(userEvent);
     }
+
+    /**
+     * Handles a batch of {@code user.created} events in a single listener invocation.
+     *
+     * @param userEvents the events of one poll
+     */
+    @Override
+    @KafkaListener(topics = "user.created", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatch(List<UserEvent> userEvents) {
+        BatchHandlerSupport.process(userEvents, this::userCreated);
+    }
 }
@@ -0,0 +1,69 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.dto.ActiveUsersDTO;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+import org.thewhitemage13.sketch.SketchKey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Interface for recording and querying the number of distinct active users.
+ * <p>
+ * Counts are estimates with a standard error of about 1.6%. Ranges are half-open: a bucket
+ * belongs to {@code [from, to)} if its start does. An empty collection of actions stands for
+ * all actions, in which case a user who both liked and commented is counted once.
+ * </p>
+ *
+ * <h2>Key Responsibilities:</h2>
+ * <ul>
+ *     <li>Merge buffered sketches into the persisted hour and day sketches.</li>
+ *     <li>Estimate distinct users over any range of hours or days, and DAU, WAU and MAU.</li>
+ *     <li>Drop hour sketches past their retention period.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface ActiveUserServiceInterface {
+
+    /**
+     * Merges buffered sketches into the persisted sketches of the same buckets.
+     *
+     * @param sketches the sketches to merge, by bucket
+     */
+    void mergeSketches(Map<SketchKey, HyperLogLog> sketches);
+
+    /**
+     * Estimates the distinct users who performed some actions within a range.
+     *
+     * @param actions     the actions, or an empty collection for all actions
+     * @param granularity the bucket size the range is read in, hour or day
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @return the estimated number of distinct users
+     */
+    long estimate(Collection<ActivityAction> actions, Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Estimates the daily, weekly and monthly active users up to and including a day.
+     *
+     * @param actions the actions, or an empty collection for all actions
+     * @param date    the last day of every window
+     * @return the estimated active users
+     */
+    ActiveUsersDTO getActiveUsers(Collection<ActivityAction> actions, LocalDate date);
+
+    /**
+     * Deletes the sketches of a granularity that start before a point in time.
+     *
+     * @param granularity the bucket size
+     * @param before      the first bucket start to keep
+     * @return the number of deleted sketches
+     */
+    int deleteSketchesBefore(Granularity granularity, LocalDateTime before);
+}
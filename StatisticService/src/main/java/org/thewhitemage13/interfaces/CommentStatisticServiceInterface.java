@@ -1,8 +1,10 @@
 package org.thewhitemage13.interfaces;
 
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.entity.CommentStatistic;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,8 +33,10 @@ public interface CommentStatisticServiceInterface {
      * <p>
      * This method is responsible for generating statistics related to the creation of a comment.
      * </p>
+     *
+     * @param createdAt when the comment was created, used to bucket the event in the rollups
      */
-    void createCommentStatistic();
+    void createCommentStatistic(LocalDateTime createdAt);
 
     /**
      * Deletes a comment statistic.
@@ -72,4 +76,11 @@ public interface CommentStatisticServiceInterface {
      * @param date the date for which the statistics are to be deleted
      */
     void deleteStatisticByDate(LocalDate date);
+
+    /**
+     * Updates the statistics for a chunk of comments removed by a bulk deletion.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted comments
+     */
+    void deleteCommentStatistics(BatchDeletedEvent batchDeletedEvent);
 }
@@ -1,8 +1,10 @@
 package org.thewhitemage13.interfaces;
 
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.entity.LikeStatistic;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -63,8 +65,10 @@ public interface LikeStatisticServiceInterface {
      * <p>
      * This method is responsible for generating like statistics related to posts.
      * </p>
+     *
+     * @param createdAt when the like was created, used to bucket the event in the rollups
      */
-    void createLikePostStatistic();
+    void createLikePostStatistic(LocalDateTime createdAt);
 
     /**
      * Deletes the like statistic for posts.
@@ -79,8 +83,10 @@ public interface LikeStatisticServiceInterface {
      * <p>
      * This method is responsible for generating like statistics related to comments.
      * </p>
+     *
+     * @param createdAt when the like was created, used to bucket the event in the rollups
      */
-    void createLikeCommentStatistic();
+    void createLikeCommentStatistic(LocalDateTime createdAt);
 
     /**
      * Deletes the like statistic for comments.
@@ -89,4 +95,18 @@ public interface LikeStatisticServiceInterface {
      * </p>
      */
     void deleteLikeCommentStatistic();
+
+    /**
+     * Updates the statistics for a chunk of post likes removed by a bulk deletion.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted post likes
+     */
+    void deleteLikePostStatistics(BatchDeletedEvent batchDeletedEvent);
+
+    /**
+     * Updates the statistics for a chunk of comment likes removed by a bulk deletion.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted comment likes
+     */
+    void deleteLikeCommentStatistics(BatchDeletedEvent batchDeletedEvent);
 }
@@ -1,5 +1,6 @@
 package org.thewhitemage13.interfaces;
 
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.MediaEvent;
 import org.thewhitemage13.entity.MediaStatistic;
 
@@ -78,4 +79,11 @@ public interface MediaStatisticServiceInterface {
      * @param mediaEvent the media event whose statistics should be deleted
      */
     void deleteMediaStatistic(MediaEvent mediaEvent);
+
+    /**
+     * Updates the statistics for a chunk of media files removed by a bulk deletion.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted media files
+     */
+    void deleteMediaStatistics(BatchDeletedEvent batchDeletedEvent);
 }
@@ -1,5 +1,6 @@
 package org.thewhitemage13.interfaces;
 
+import org.thewhitemage13.BatchDeletedEvent;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.entity.PostStatistic;
 
@@ -78,4 +79,11 @@ public interface PostStatisticServiceInterface {
      * @param postEvent the post event whose statistics should be deleted
      */
     void deletePostStatistic(PostEvent postEvent);
+
+    /**
+     * Updates the statistics for a chunk of posts removed by a bulk deletion.
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted posts
+     */
+    void deletePostStatistics(BatchDeletedEvent batchDeletedEvent);
 }
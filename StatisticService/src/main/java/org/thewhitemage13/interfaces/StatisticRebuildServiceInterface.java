@@ -0,0 +1,42 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.dto.RebuildStatusDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Interface for rebuilding the daily statistics from the event topics.
+ * <p>
+ * A rebuild replays every event from the start of a day up to the position of the live
+ * consumers and replaces the statistics of that day and all later days with the recomputed
+ * ones. Earlier days are kept as they are.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface StatisticRebuildServiceInterface {
+
+    /**
+     * Starts a rebuild in the background.
+     *
+     * @param from the first day to rebuild
+     * @return the status of the started rebuild
+     */
+    RebuildStatusDTO start(LocalDate from);
+
+    /**
+     * Runs a rebuild on the calling thread.
+     *
+     * @param from the first day to rebuild
+     * @return the number of replayed events
+     */
+    long rebuild(LocalDate from);
+
+    /**
+     * Retrieves the status of the running or last rebuild.
+     *
+     * @return the rebuild status
+     */
+    RebuildStatusDTO getStatus();
+}
@@ -0,0 +1,78 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.dto.RollupPointDTO;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.rollup.RollupDelta;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface for recording and querying the time-series rollups of the statistic counters.
+ * <p>
+ * Ranges are half-open: a bucket belongs to {@code [from, to)} if its start does.
+ * </p>
+ *
+ * <h2>Key Responsibilities:</h2>
+ * <ul>
+ *     <li>Apply buffered minute deltas to the minute, hour and day buckets.</li>
+ *     <li>Answer series, sum and top-bucket queries from the precomputed buckets.</li>
+ *     <li>Drop fine-grained buckets past their retention period.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface StatisticRollupServiceInterface {
+
+    /**
+     * Adds buffered deltas to their minute buckets and to the hour and day buckets containing them.
+     *
+     * @param deltas the deltas to apply
+     */
+    void addDeltas(Collection<RollupDelta> deltas);
+
+    /**
+     * Retrieves the non-empty buckets of a counter within a range.
+     *
+     * @param field       the counter
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @return the buckets, oldest first
+     */
+    List<RollupPointDTO> getSeries(StatisticField field, Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Sums a counter over a range, reading the coarsest buckets that fit inside it.
+     *
+     * @param field the counter
+     * @param from  the start of the range, inclusive
+     * @param to    the end of the range, exclusive
+     * @return the number of events within the range
+     */
+    long getSum(StatisticField field, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Retrieves the largest buckets of a counter within a range, e.g. its busiest hours.
+     *
+     * @param field       the counter
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @param limit       the maximum number of buckets to return
+     * @return the buckets, largest first
+     */
+    List<RollupPointDTO> getTopBuckets(StatisticField field, Granularity granularity, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Deletes the buckets of a granularity that start before a point in time.
+     *
+     * @param granularity the bucket size
+     * @param before      the first bucket start to keep
+     * @return the number of deleted buckets
+     */
+    int deleteBucketsBefore(Granularity granularity, LocalDateTime before);
+}
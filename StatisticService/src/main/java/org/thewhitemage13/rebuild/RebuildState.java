@@ -0,0 +1,14 @@
+package org.thewhitemage13.rebuild;
+
+/**
+ * The state of the statistic rebuild.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum RebuildState {
+    IDLE,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,146 @@
+package org.thewhitemage13.rebuild;
+
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.buffer.StatisticField;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Recomputes the daily statistic counters from replayed events.
+ * <p>
+ * Every topic is counted exactly like its live handler counts it, but the day of an event is
+ * taken from the timestamp of its Kafka record instead of the time it is consumed, so a replay
+ * also moves events that were counted on the wrong day back to the day they happened.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class StatisticProjection {
+
+    /**
+     * The topics the daily statistics are built from.
+     */
+    public static final List<String> TOPICS = List.of
+            (
+                    "post.like.created", "post.like.deleted", "post.like.deleted.batch",
+                    "comment.like.created", "comment.like.deleted", "comment.like.deleted.batch",
+                    "comment.created", "comment.deleted", "comment.deleted.batch",
+                    "media.upload", "media.deleted", "media.deleted.batch",
+                    "post.created", "post.deleted", "post.deleted.batch",
+                    "user.created", "user.deleted"
+            );
+
+    private final ZoneId zone;
+    private final LocalDate from;
+    private final Map<LocalDate, EnumMap<StatisticField, Long>> counters = new TreeMap<>();
+    private final Map<LocalDate, Double> fileSizes = new TreeMap<>();
+    private long events;
+
+    /**
+     * Constructs a new, empty {@code StatisticProjection}.
+     *
+     * @param zone the time zone in which record timestamps are converted to days
+     * @param from the first rebuilt day; events of earlier days are skipped
+     */
+    public StatisticProjection(ZoneId zone, LocalDate from) {
+        this.zone = zone;
+        this.from = from;
+    }
+
+    /**
+     * Counts one replayed event.
+     *
+     * @param topic     the topic of the record
+     * @param event     the deserialized value of the record; {@code null} values are skipped
+     * @param timestamp the timestamp of the record, in epoch milliseconds
+     */
+    public void apply(String topic, Object event, long timestamp) {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+        // producers may stamp records out of order, so a partition can hold older records after the seek position
+        if (event == null || date.isBefore(from)) {
+            return;
+        }
+        switch (topic) {
+            case "post.like.created" -> add(date, StatisticField.POST_LIKE, 1);
+            case "post.like.deleted" -> removed(date, StatisticField.REMOVE_POST_LIKE, StatisticField.POST_LIKE, 1);
+            case "post.like.deleted.batch" -> removed(date, StatisticField.REMOVE_POST_LIKE, StatisticField.POST_LIKE, count(event));
+            case "comment.like.created" -> add(date, StatisticField.COMMENT_LIKE, 1);
+            case "comment.like.deleted" -> removed(date, StatisticField.REMOVE_COMMENT_LIKE, StatisticField.COMMENT_LIKE, 1);
+            case "comment.like.deleted.batch" -> removed(date, StatisticField.REMOVE_COMMENT_LIKE, StatisticField.COMMENT_LIKE, count(event));
+            case "comment.created" -> add(date, StatisticField.CREATED_COMMENTS, 1);
+            case "comment.deleted" -> removed(date, StatisticField.DELETED_COMMENTS, StatisticField.CREATED_COMMENTS, 1);
+            case "comment.deleted.batch" -> removed(date, StatisticField.DELETED_COMMENTS, StatisticField.CREATED_COMMENTS, count(event));
+            case "media.upload" -> {
+                add(date, StatisticField.UPLOADED_FILES, 1);
+                addFileSize(date, ((MediaEvent) event).getFileSize());
+            }
+            case "media.deleted" -> {
+                add(date, StatisticField.DELETED_FILES, 1);
+                addFileSize(date, negate(((MediaEvent) event).getFileSize()));
+            }
+            case "media.deleted.batch" -> {
+                add(date, StatisticField.DELETED_FILES, count(event));
+                addFileSize(date, negate(((BatchDeletedEvent) event).getFileSize()));
+            }
+            case "post.created" -> add(date, StatisticField.POSTS_CREATED, 1);
+            case "post.deleted" -> removed(date, StatisticField.POSTS_DELETED, StatisticField.POSTS_CREATED, 1);
+            case "post.deleted.batch" -> removed(date, StatisticField.POSTS_DELETED, StatisticField.POSTS_CREATED, count(event));
+            case "user.created" -> add(date, StatisticField.NEW_USERS, 1);
+            case "user.deleted" -> removed(date, StatisticField.REMOTE_USERS, StatisticField.NEW_USERS, 1);
+            default -> throw new IllegalArgumentException("Unexpected topic = %s".formatted(topic));
+        }
+        events++;
+    }
+
+    /**
+     * @return the recomputed counters, by day
+     */
+    public Map<LocalDate, EnumMap<StatisticField, Long>> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @return the recomputed changes of the total size of uploaded files, by day
+     */
+    public Map<LocalDate, Double> getFileSizes() {
+        return fileSizes;
+    }
+
+    /**
+     * @return the number of events counted
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    private void removed(LocalDate date, StatisticField removal, StatisticField total, long count) {
+        add(date, removal, count);
+        add(date, total, -count);
+    }
+
+    private void add(LocalDate date, StatisticField field, long delta) {
+        counters.computeIfAbsent(date, key -> new EnumMap<>(StatisticField.class)).merge(field, delta, Long::sum);
+    }
+
+    private void addFileSize(LocalDate date, Double delta) {
+        if (delta != null) {
+            fileSizes.merge(date, delta, Double::sum);
+        }
+    }
+
+    private static long count(Object event) {
+        return ((BatchDeletedEvent) event).getIds().size();
+    }
+
+    private static Double negate(Double size) {
+        return size == null ? null : -size;
+    }
+}
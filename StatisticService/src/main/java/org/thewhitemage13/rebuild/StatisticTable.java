@@ -0,0 +1,76 @@
+package org.thewhitemage13.rebuild;
+
+import org.thewhitemage13.buffer.StatisticField;
+
+import java.util.List;
+
+/**
+ * The daily statistic tables and the counter stored in each of their columns.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum StatisticTable {
+    LIKE("like_statistic", List.of("post_like", "comment_like", "remove_post_like", "remove_comment_like"),
+            List.of(StatisticField.POST_LIKE, StatisticField.COMMENT_LIKE, StatisticField.REMOVE_POST_LIKE, StatisticField.REMOVE_COMMENT_LIKE), false),
+    COMMENT("comment_statistic", List.of("number_of_created_comments", "number_of_deleted_comments"),
+            List.of(StatisticField.CREATED_COMMENTS, StatisticField.DELETED_COMMENTS), false),
+    MEDIA("media_statistic", List.of("number_of_uploaded_files", "number_of_deleted_files"),
+            List.of(StatisticField.UPLOADED_FILES, StatisticField.DELETED_FILES), true),
+    POST("post_statistic", List.of("posts_created", "posts_deleted"),
+            List.of(StatisticField.POSTS_CREATED, StatisticField.POSTS_DELETED), false),
+    USER("user_statistic", List.of("new_users", "remote_users"),
+            List.of(StatisticField.NEW_USERS, StatisticField.REMOTE_USERS), false);
+
+    /**
+     * The column holding the total size of uploaded files, only present in {@link #MEDIA}.
+     */
+    public static final String FILE_SIZE_COLUMN = "total_file_size";
+
+    private final String tableName;
+    private final List<String> columns;
+    private final List<StatisticField> fields;
+    private final boolean hasFileSize;
+
+    StatisticTable(String tableName, List<String> columns, List<StatisticField> fields, boolean hasFileSize) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.fields = fields;
+        this.hasFileSize = hasFileSize;
+    }
+
+    /**
+     * @return the name of the live table
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * @return the name of the table the rebuilt rows are staged in
+     */
+    public String getShadowTableName() {
+        return tableName + "_shadow";
+    }
+
+    /**
+     * @return the counter columns, in the order of {@link #getFields()}
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the counter stored in each column of {@link #getColumns()}
+     */
+    public List<StatisticField> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return whether the table has a {@link #FILE_SIZE_COLUMN}
+     */
+    public boolean hasFileSize() {
+        return hasFileSize;
+    }
+}
@@ -0,0 +1,141 @@
+package org.thewhitemage13.rebuild;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Database advisory lock shared by every instance that separates buffer flushes from rebuilds.
+ * <p>
+ * Every flush of the daily counters writes in one transaction holding the lock in shared mode,
+ * so flushes of different instances never wait for each other. A rebuild holds the lock
+ * exclusively, on a connection of its own, from before it reads the committed offsets until the
+ * rebuilt rows are swapped in. Flushes of any instance that run meanwhile do not write and keep
+ * their deltas for a later flush, so none of them is overwritten by the swap.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class StatisticWriteLock {
+    private static final long LOCK_ID = 0x7374617473L;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new {@code StatisticWriteLock}.
+     *
+     * @param dataSource          the data source of the dedicated rebuild connection
+     * @param jdbcTemplate        the template used to take the shared lock
+     * @param transactionTemplate the template running the flush transaction
+     */
+    @Autowired
+    public StatisticWriteLock(DataSource dataSource, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Runs the writes of a flush in one transaction holding the lock in shared mode.
+     *
+     * @param writes the writes to run
+     * @return {@code true} if the writes ran, {@code false} if a rebuild holds the lock and nothing was written
+     */
+    public boolean writeShared(Runnable writes) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(transaction -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock_shared(?)", Boolean.class, LOCK_ID))) {
+                return false;
+            }
+            writes.run();
+            return true;
+        }));
+    }
+
+    /**
+     * Takes the lock exclusively, waiting for running flushes to commit.
+     *
+     * @param timeout how long to wait for the lock
+     * @return the held lock, released when closed
+     * @throws IllegalStateException if the lock is not taken within the timeout
+     */
+    public Exclusive acquireExclusive(Duration timeout) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (!call(connection, "SELECT pg_try_advisory_lock(?)")) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Statistic write lock was not acquired within " + timeout);
+                }
+                Thread.sleep(100);
+            }
+            return new Exclusive(connection);
+        } catch (SQLException e) {
+            close(connection);
+            throw new IllegalStateException("Statistic write lock could not be acquired", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close(connection);
+            throw new IllegalStateException("Interrupted while acquiring the statistic write lock", e);
+        } catch (RuntimeException e) {
+            close(connection);
+            throw e;
+        }
+    }
+
+    private static boolean call(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_ID);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void close(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // the connection is discarded anyway
+            }
+        }
+    }
+
+    /**
+     * The lock held exclusively by a rebuild.
+     */
+    public static final class Exclusive implements AutoCloseable {
+        private final Connection connection;
+
+        private Exclusive(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Releases the lock and returns the connection to the pool.
+         */
+        @Override
+        public void close() {
+            try {
+                call(connection, "SELECT pg_advisory_unlock(?)");
+            } catch (SQLException ignored) {
+                // a broken connection is evicted by the pool, which ends the session holding the lock
+            } finally {
+                StatisticWriteLock.close(connection);
+            }
+        }
+    }
+}
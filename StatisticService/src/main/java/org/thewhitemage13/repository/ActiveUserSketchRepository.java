@@ -0,0 +1,85 @@
+package org.thewhitemage13.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.entity.ActiveUserSketch;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.sketch.ActivityAction;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for managing {@link ActiveUserSketch} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface ActiveUserSketchRepository extends JpaRepository<ActiveUserSketch, Long> {
+
+    /**
+     * Inserts a sketch unless the bucket already has one.
+     *
+     * @param action      the name of the action
+     * @param granularity the name of the granularity
+     * @param bucketStart the start of the bucket
+     * @param registers   the serialized sketch
+     * @return {@code 1} if the sketch was inserted, {@code 0} if the bucket already had one
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO active_user_sketch (action, granularity, bucket_start, registers)
+            VALUES (:action, :granularity, :bucketStart, :registers)
+            ON CONFLICT (action, granularity, bucket_start) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("action") String action, @Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart, @Param("registers") byte[] registers);
+
+    /**
+     * Retrieves the sketch of a bucket and locks it until the end of the transaction.
+     *
+     * @param action      the action
+     * @param granularity the bucket size
+     * @param bucketStart the start of the bucket
+     * @return the sketch, if the bucket has one
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ActiveUserSketch s WHERE s.action = :action AND s.granularity = :granularity AND s.bucketStart = :bucketStart")
+    Optional<ActiveUserSketch> findForUpdate(@Param("action") ActivityAction action, @Param("granularity") Granularity granularity, @Param("bucketStart") LocalDateTime bucketStart);
+
+    /**
+     * Streams the serialized sketches of some actions within a range. Must be consumed within a
+     * transaction and closed.
+     *
+     * @param actions     the actions
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @return the serialized sketches
+     */
+    @Query("""
+            SELECT s.registers FROM ActiveUserSketch s
+            WHERE s.action IN :actions AND s.granularity = :granularity
+              AND s.bucketStart >= :from AND s.bucketStart < :to
+            """)
+    Stream<byte[]> streamRegisters(@Param("actions") Collection<ActivityAction> actions, @Param("granularity") Granularity granularity, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Deletes all sketches of a granularity that start before a point in time.
+     *
+     * @param granularity the bucket size
+     * @param before      the first bucket start to keep
+     * @return the number of deleted sketches
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ActiveUserSketch s WHERE s.granularity = :granularity AND s.bucketStart < :before")
+    int deleteBefore(@Param("granularity") Granularity granularity, @Param("before") LocalDateTime before);
+}
@@ -1,6 +1,10 @@
 package org.thewhitemage13.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.CommentStatistic;
 
 import java.time.LocalDate;
@@ -58,4 +62,26 @@ public interface CommentStatisticRepository extends JpaRepository<CommentStatist
      * @return an {@link Optional} containing the comment statistic, or {@link Optional#empty()} if no statistic exists
      */
     Optional<CommentStatistic> getByStatisticDate(LocalDate statisticDate);
+
+    /**
+     * Atomically adds the given deltas to the comment statistic of a date.
+     * <p>
+     * The row is created on first use; as with the previous read-modify-write logic, a new row
+     * starts from zero instead of a negative value.
+     * </p>
+     *
+     * @param statisticDate   the date of the statistic
+     * @param createdComments the change in the number of created comments
+     * @param deletedComments the change in the number of deleted comments
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_statistic (statistic_date, number_of_created_comments, number_of_deleted_comments)
+            VALUES (:statisticDate, GREATEST(:createdComments, 0), GREATEST(:deletedComments, 0))
+            ON CONFLICT (statistic_date) DO UPDATE
+            SET number_of_created_comments = comment_statistic.number_of_created_comments + :createdComments,
+                number_of_deleted_comments = comment_statistic.number_of_deleted_comments + :deletedComments
+            """, nativeQuery = true)
+    void addDeltas(@Param("statisticDate") LocalDate statisticDate, @Param("createdComments") long createdComments, @Param("deletedComments") long deletedComments);
 }
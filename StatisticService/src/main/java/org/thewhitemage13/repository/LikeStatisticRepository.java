@@ -1,6 +1,10 @@
 package org.thewhitemage13.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.LikeStatistic;
 
 import java.time.LocalDate;
@@ -47,4 +51,30 @@ public interface LikeStatisticRepository extends JpaRepository<LikeStatistic, Lo
      * @return an {@link Optional} containing the like statistic, or {@link Optional#empty()} if no statistic exists
      */
     Optional<LikeStatistic> getByStatisticDate(LocalDate statisticDate);
+
+    /**
+     * Atomically adds the given deltas to the like statistic of a date.
+     * <p>
+     * The row is created on first use; as with the previous read-modify-write logic, a new row
+     * starts from zero instead of a negative value.
+     * </p>
+     *
+     * @param statisticDate     the date of the statistic
+     * @param postLike          the change in the number of likes added to posts
+     * @param commentLike       the change in the number of likes added to comments
+     * @param removePostLike    the change in the number of likes removed from posts
+     * @param removeCommentLike the change in the number of likes removed from comments
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO like_statistic (statistic_date, post_like, comment_like, remove_post_like, remove_comment_like)
+            VALUES (:statisticDate, GREATEST(:postLike, 0), GREATEST(:commentLike, 0), GREATEST(:removePostLike, 0), GREATEST(:removeCommentLike, 0))
+            ON CONFLICT (statistic_date) DO UPDATE
+            SET post_like = like_statistic.post_like + :postLike,
+                comment_like = like_statistic.comment_like + :commentLike,
+                remove_post_like = like_statistic.remove_post_like + :removePostLike,
+                remove_comment_like = like_statistic.remove_comment_like + :removeCommentLike
+            """, nativeQuery = true)
+    void addDeltas(@Param("statisticDate") LocalDate statisticDate, @Param("postLike") long postLike, @Param("commentLike") long commentLike, @Param("removePostLike") long removePostLike, @Param("removeCommentLike") long removeCommentLike);
 }
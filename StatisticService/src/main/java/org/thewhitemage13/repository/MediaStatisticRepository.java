@@ -1,6 +1,10 @@
 package org.thewhitemage13.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.MediaStatistic;
 
 import java.time.LocalDate;
@@ -47,4 +51,28 @@ public interface MediaStatisticRepository extends JpaRepository<MediaStatistic,
      * @return an {@link Optional} containing the media statistic, or {@link Optional#empty()} if no statistic exists
      */
     Optional<MediaStatistic> getByStatisticDate(LocalDate statisticDate);
+
+    /**
+     * Atomically adds the given deltas to the media statistic of a date.
+     * <p>
+     * The row is created on first use; as with the previous read-modify-write logic, a new row
+     * starts from zero instead of a negative value.
+     * </p>
+     *
+     * @param statisticDate the date of the statistic
+     * @param uploadedFiles the change in the number of uploaded files
+     * @param deletedFiles  the change in the number of deleted files
+     * @param totalFileSize the change in the total size of the uploaded files
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO media_statistic (statistic_date, number_of_uploaded_files, number_of_deleted_files, total_file_size)
+            VALUES (:statisticDate, GREATEST(:uploadedFiles, 0), GREATEST(:deletedFiles, 0), GREATEST(:totalFileSize, 0))
+            ON CONFLICT (statistic_date) DO UPDATE
+            SET number_of_uploaded_files = media_statistic.number_of_uploaded_files + :uploadedFiles,
+                number_of_deleted_files = media_statistic.number_of_deleted_files + :deletedFiles,
+                total_file_size = media_statistic.total_file_size + :totalFileSize
+            """, nativeQuery = true)
+    void addDeltas(@Param("statisticDate") LocalDate statisticDate, @Param("uploadedFiles") long uploadedFiles, @Param("deletedFiles") long deletedFiles, @Param("totalFileSize") double totalFileSize);
 }
@@ -1,6 +1,10 @@
 package org.thewhitemage13.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.PostStatistic;
 
 import java.time.LocalDate;
@@ -47,4 +51,26 @@ public interface PostStatisticRepository extends JpaRepository<PostStatistic, Lo
      * @return an {@link Optional} containing the post statistic, or {@link Optional#empty()} if no statistic exists
      */
     Optional<PostStatistic> getByStatisticDate(LocalDate statisticDate);
+
+    /**
+     * Atomically adds the given deltas to the post statistic of a date.
+     * <p>
+     * The row is created on first use; as with the previous read-modify-write logic, a new row
+     * starts from zero instead of a negative value.
+     * </p>
+     *
+     * @param statisticDate the date of the statistic
+     * @param postsCreated the change in the number of created posts
+     * @param postsDeleted the change in the number of deleted posts
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_statistic (statistic_date, posts_created, posts_deleted)
+            VALUES (:statisticDate, GREATEST(:postsCreated, 0), GREATEST(:postsDeleted, 0))
+            ON CONFLICT (statistic_date) DO UPDATE
+            SET posts_created = post_statistic.posts_created + :postsCreated,
+                posts_deleted = post_statistic.posts_deleted + :postsDeleted
+            """, nativeQuery = true)
+    void addDeltas(@Param("statisticDate") LocalDate statisticDate, @Param("postsCreated") long postsCreated, @Param("postsDeleted") long postsDeleted);
 }
@@ -0,0 +1,108 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.entity.StatisticRollup;
+import org.thewhitemage13.rollup.Granularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link StatisticRollup} entities.
+ * <p>
+ * All range queries select buckets whose start lies in {@code [from, to)} and are served by the
+ * unique index on (metric, granularity, bucket start).
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface StatisticRollupRepository extends JpaRepository<StatisticRollup, Long> {
+
+    /**
+     * Atomically adds a delta to a bucket, creating it on first use.
+     *
+     * @param metric      the name of the counter
+     * @param granularity the name of the granularity
+     * @param bucketStart the start of the bucket
+     * @param delta       the number of events to add
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO statistic_rollup (metric, granularity, bucket_start, total)
+            VALUES (:metric, :granularity, :bucketStart, :delta)
+            ON CONFLICT (metric, granularity, bucket_start) DO UPDATE
+            SET total = statistic_rollup.total + :delta
+            """, nativeQuery = true)
+    void addDelta(@Param("metric") String metric, @Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart, @Param("delta") long delta);
+
+    /**
+     * Retrieves the buckets of a counter within a range, oldest first.
+     *
+     * @param metric      the counter
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @return the non-empty buckets of the range
+     */
+    @Query("""
+            SELECT r FROM StatisticRollup r
+            WHERE r.metric = :metric AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+            ORDER BY r.bucketStart
+            """)
+    List<StatisticRollup> findSeries(@Param("metric") StatisticField metric, @Param("granularity") Granularity granularity, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Sums the buckets of a counter within a range.
+     *
+     * @param metric      the counter
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @return the sum of the buckets, {@code 0} if there are none
+     */
+    @Query("""
+            SELECT COALESCE(SUM(r.total), 0) FROM StatisticRollup r
+            WHERE r.metric = :metric AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+            """)
+    long sumTotal(@Param("metric") StatisticField metric, @Param("granularity") Granularity granularity, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Retrieves the largest buckets of a counter within a range.
+     *
+     * @param metric      the counter
+     * @param granularity the bucket size
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, exclusive
+     * @param pageable    limits the number of buckets returned
+     * @return the buckets ordered by total, largest first
+     */
+    @Query("""
+            SELECT r FROM StatisticRollup r
+            WHERE r.metric = :metric AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+            ORDER BY r.total DESC, r.bucketStart
+            """)
+    List<StatisticRollup> findTop(@Param("metric") StatisticField metric, @Param("granularity") Granularity granularity, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+    /**
+     * Deletes all buckets of a granularity that start before a point in time.
+     *
+     * @param granularity the bucket size
+     * @param before      the first bucket start to keep
+     * @return the number of deleted buckets
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StatisticRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteBefore(@Param("granularity") Granularity granularity, @Param("before") LocalDateTime before);
+}
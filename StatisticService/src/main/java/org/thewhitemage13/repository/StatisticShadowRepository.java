@@ -0,0 +1,107 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.rebuild.StatisticTable;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * JDBC repository for the shadow tables used to rebuild the daily statistics.
+ * <p>
+ * A rebuild first loads the recomputed rows of every table into an unlogged
+ * {@code <table>_shadow} table, outside of any long transaction, and then swaps them in with
+ * {@link #swap(StatisticTable, LocalDate)}. Running all swaps in one transaction replaces the
+ * rebuilt days of every table at once: readers see either the old or the new rows, never a mix.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public class StatisticShadowRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code StatisticShadowRepository}.
+     *
+     * @param jdbcTemplate the template used to run the statements
+     */
+    @Autowired
+    public StatisticShadowRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Recreates the shadow table of a statistic table and bulk-loads the recomputed rows into it.
+     *
+     * @param table     the statistic table
+     * @param counters  the recomputed counters, by day
+     * @param fileSizes the recomputed file size changes, by day; only used by {@link StatisticTable#MEDIA}
+     * @return the number of loaded rows
+     */
+    public int load(StatisticTable table, Map<LocalDate, EnumMap<StatisticField, Long>> counters, Map<LocalDate, Double> fileSizes) {
+        List<String> columns = columns(table);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table.getShadowTableName());
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE %s AS SELECT %s FROM %s WITH NO DATA"
+                .formatted(table.getShadowTableName(), String.join(", ", columns), table.getTableName()));
+
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        counters.forEach((date, fields) -> {
+            if (table.getFields().stream().anyMatch(fields::containsKey)) {
+                dates.add(date);
+            }
+        });
+        if (table.hasFileSize()) {
+            dates.addAll(fileSizes.keySet());
+        }
+        List<LocalDate> rows = new ArrayList<>(dates);
+        String insert = "INSERT INTO %s (%s) VALUES (%s)".formatted(table.getShadowTableName(), String.join(", ", columns),
+                String.join(", ", columns.stream().map(column -> "?").toList()));
+        jdbcTemplate.batchUpdate(insert, rows, rows.size(), (statement, date) -> {
+            EnumMap<StatisticField, Long> fields = counters.getOrDefault(date, new EnumMap<>(StatisticField.class));
+            statement.setDate(1, Date.valueOf(date));
+            int index = 2;
+            for (StatisticField field : table.getFields()) {
+                statement.setLong(index++, fields.getOrDefault(field, 0L));
+            }
+            if (table.hasFileSize()) {
+                statement.setDouble(index, fileSizes.getOrDefault(date, 0.0));
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * Replaces the rows of a statistic table from a day on with the rows of its shadow table,
+     * then drops the shadow table. Must run within a transaction, and only after the replay has
+     * verified that the topics still retain every event from that day on.
+     *
+     * @param table the statistic table
+     * @param from  the first rebuilt day
+     */
+    public void swap(StatisticTable table, LocalDate from) {
+        String columns = String.join(", ", columns(table));
+        jdbcTemplate.update("DELETE FROM %s WHERE statistic_date >= ?".formatted(table.getTableName()), Date.valueOf(from));
+        jdbcTemplate.update("INSERT INTO %s (%s) SELECT %s FROM %s".formatted(table.getTableName(), columns, columns, table.getShadowTableName()));
+        jdbcTemplate.execute("DROP TABLE " + table.getShadowTableName());
+    }
+
+    private static List<String> columns(StatisticTable table) {
+        List<String> columns = new ArrayList<>();
+        columns.add("statistic_date");
+        columns.addAll(table.getColumns());
+        if (table.hasFileSize()) {
+            columns.add(StatisticTable.FILE_SIZE_COLUMN);
+        }
+        return columns;
+    }
+}
@@ -1,6 +1,10 @@
 package org.thewhitemage13.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.entity.UserStatistic;
 
 import java.time.LocalDate;
@@ -47,4 +51,26 @@ public interface UserStatisticRepository extends JpaRepository<UserStatistic, Lo
      * @return an {@link Optional} containing the user statistic, or {@link Optional#empty()} if no statistic exists
      */
     Optional<UserStatistic> getByStatisticDate(LocalDate statisticDate);
+
+    /**
+     * Atomically adds the given deltas to the user statistic of a date.
+     * <p>
+     * The row is created on first use; as with the previous read-modify-write logic, a new row
+     * starts from zero instead of a negative value.
+     * </p>
+     *
+     * @param statisticDate the date of the statistic
+     * @param newUsers    the change in the number of new users
+     * @param remoteUsers the change in the number of removed users
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_statistic (statistic_date, new_users, remote_users)
+            VALUES (:statisticDate, GREATEST(:newUsers, 0), GREATEST(:remoteUsers, 0))
+            ON CONFLICT (statistic_date) DO UPDATE
+            SET new_users = user_statistic.new_users + :newUsers,
+                remote_users = user_statistic.remote_users + :remoteUsers
+            """, nativeQuery = true)
+    void addDeltas(@Param("statisticDate") LocalDate statisticDate, @Param("newUsers") long newUsers, @Param("remoteUsers") long remoteUsers);
 }
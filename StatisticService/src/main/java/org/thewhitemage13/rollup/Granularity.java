@@ -0,0 +1,57 @@
+package org.thewhitemage13.rollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The bucket sizes of the statistic rollups, from the finest to the coarsest.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum Granularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    Granularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * @return the length of one bucket
+     */
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the start of the bucket containing a point in time.
+     *
+     * @param time the point in time
+     * @return the start of its bucket
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Returns the start of the first bucket that begins at or after a point in time.
+     *
+     * @param time the point in time
+     * @return {@code time} if it is a bucket boundary, otherwise the start of the next bucket
+     */
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime start = truncate(time);
+        return start.equals(time) ? start : start.plus(1, unit);
+    }
+
+    /**
+     * @return the next finer granularity, or {@code null} for {@link #MINUTE}
+     */
+    public Granularity finer() {
+        return ordinal() == 0 ? null : values()[ordinal() - 1];
+    }
+}
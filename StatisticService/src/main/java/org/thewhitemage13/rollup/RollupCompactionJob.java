@@ -0,0 +1,77 @@
+package org.thewhitemage13.rollup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.service.ActiveUserServiceImpl;
+import org.thewhitemage13.service.StatisticRollupServiceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically drops minute and hour buckets past their retention period.
+ * <p>
+ * The hour and day buckets are maintained together with the minute buckets on every flush, so
+ * compacting a level only means deleting its expired buckets: their events remain counted in
+ * the coarser levels. Day buckets are kept indefinitely. The retention periods are read from
+ * the {@code statistic.rollup.minute-retention-hours} and
+ * {@code statistic.rollup.hour-retention-days} properties.
+ * </p>
+ * <p>
+ * The hour sketches of the active users follow the hour retention as well; their day sketches
+ * are kept like the day buckets.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class RollupCompactionJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RollupCompactionJob.class);
+
+    private final StatisticRollupServiceImpl statisticRollupServiceImpl;
+    private final ActiveUserServiceImpl activeUserServiceImpl;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+
+    /**
+     * Constructs a new {@code RollupCompactionJob}.
+     *
+     * @param statisticRollupServiceImpl the service that deletes the expired buckets
+     * @param activeUserServiceImpl      the service that deletes the expired active user sketches
+     * @param minuteRetentionHours       how long minute buckets are kept, in hours
+     * @param hourRetentionDays          how long hour buckets are kept, in days
+     */
+    @Autowired
+    public RollupCompactionJob
+            (
+                    StatisticRollupServiceImpl statisticRollupServiceImpl,
+                    ActiveUserServiceImpl activeUserServiceImpl,
+                    @Value("${statistic.rollup.minute-retention-hours:48}") long minuteRetentionHours,
+                    @Value("${statistic.rollup.hour-retention-days:90}") long hourRetentionDays
+            ) {
+        this.statisticRollupServiceImpl = statisticRollupServiceImpl;
+        this.activeUserServiceImpl = activeUserServiceImpl;
+        this.minuteRetention = Duration.ofHours(minuteRetentionHours);
+        this.hourRetention = Duration.ofDays(hourRetentionDays);
+    }
+
+    /**
+     * Deletes the minute and hour buckets, and the hour sketches, that start before their retention period.
+     */
+    @Scheduled(
+            initialDelayString = "${statistic.rollup.compaction.initial-delay-ms:60000}",
+            fixedDelayString = "${statistic.rollup.compaction.interval-ms:3600000}"
+    )
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = statisticRollupServiceImpl.deleteBucketsBefore(Granularity.MINUTE, now.minus(minuteRetention));
+        int hours = statisticRollupServiceImpl.deleteBucketsBefore(Granularity.HOUR, now.minus(hourRetention));
+        int sketches = activeUserServiceImpl.deleteSketchesBefore(Granularity.HOUR, now.minus(hourRetention));
+        LOGGER.info("Compacted statistic rollups, deleted {} minute and {} hour buckets and {} hour sketches", minutes, hours, sketches);
+    }
+}
@@ -0,0 +1,17 @@
+package org.thewhitemage13.rollup;
+
+import org.thewhitemage13.buffer.StatisticField;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to be applied to the rollup buckets of one counter and one minute.
+ *
+ * @param field  the counter
+ * @param minute the start of the minute the events occurred in
+ * @param delta  the number of events
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public record RollupDelta(StatisticField field, LocalDateTime minute, long delta) {
+}
@@ -0,0 +1,130 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.dto.ActiveUsersDTO;
+import org.thewhitemage13.entity.ActiveUserSketch;
+import org.thewhitemage13.interfaces.ActiveUserServiceInterface;
+import org.thewhitemage13.repository.ActiveUserSketchRepository;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+import org.thewhitemage13.sketch.SketchKey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for the distinct active users.
+ * <p>
+ * Each action has one {@link HyperLogLog} sketch per hour and per day. Merging sketches gives
+ * the sketch of the union of their users, so the users of a week are estimated by merging seven
+ * day sketches, and the users of several actions by merging the sketches of each. A query reads
+ * a few kilobytes per bucket however many users were active.
+ * </p>
+ * <p>
+ * Buffered sketches are merged into the persisted ones under a row lock. The first sketch of a
+ * bucket is inserted with {@code ON CONFLICT DO NOTHING}, so two instances creating the same
+ * bucket at once never fail: the one that loses the race merges into the row of the other.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ActiveUserServiceImpl implements ActiveUserServiceInterface {
+    private static final Comparator<SketchKey> KEY_ORDER = Comparator
+            .comparing(SketchKey::action)
+            .thenComparing(SketchKey::granularity)
+            .thenComparing(SketchKey::bucketStart);
+
+    private final ActiveUserSketchRepository activeUserSketchRepository;
+
+    /**
+     * Constructs a new {@code ActiveUserServiceImpl}.
+     *
+     * @param activeUserSketchRepository the repository of the sketches
+     */
+    @Autowired
+    public ActiveUserServiceImpl(ActiveUserSketchRepository activeUserSketchRepository) {
+        this.activeUserSketchRepository = activeUserSketchRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Buckets are written in a fixed order, so concurrent flushes of several instances lock the
+     * sketch rows in the same order.
+     * </p>
+     */
+    @Override
+    public void mergeSketches(Map<SketchKey, HyperLogLog> sketches) {
+        Map<SketchKey, HyperLogLog> ordered = new TreeMap<>(KEY_ORDER);
+        ordered.putAll(sketches);
+        ordered.forEach((key, sketch) -> {
+            int inserted = activeUserSketchRepository.insertIfAbsent(key.action().name(), key.granularity().name(), key.bucketStart(), sketch.toBytes());
+            if (inserted == 0) {
+                ActiveUserSketch stored = activeUserSketchRepository.findForUpdate(key.action(), key.granularity(), key.bucketStart())
+                        .orElseThrow(() -> new IllegalStateException("Sketch %s vanished while merging".formatted(key)));
+                stored.setRegisters(HyperLogLog.fromBytes(stored.getRegisters()).merge(sketch).toBytes());
+                activeUserSketchRepository.save(stored);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the granularity is not hour or day, or the range is empty
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long estimate(Collection<ActivityAction> actions, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == Granularity.MINUTE) {
+            throw new IllegalArgumentException("Active users are not tracked per %s".formatted(granularity));
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid range from = %s to = %s".formatted(from, to));
+        }
+        Collection<ActivityAction> counted = actions == null || actions.isEmpty() ? EnumSet.allOf(ActivityAction.class) : actions;
+        HyperLogLog union = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        try (Stream<byte[]> registers = activeUserSketchRepository.streamRegisters(counted, granularity, from, to)) {
+            registers.forEach(bytes -> union.merge(HyperLogLog.fromBytes(bytes)));
+        }
+        return union.estimate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the date is missing
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ActiveUsersDTO getActiveUsers(Collection<ActivityAction> actions, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        return new ActiveUsersDTO
+                (
+                        date,
+                        estimate(actions, Granularity.DAY, end.minusDays(1), end),
+                        estimate(actions, Granularity.DAY, end.minusDays(7), end),
+                        estimate(actions, Granularity.DAY, end.minusDays(30), end)
+                );
+    }
+
+    @Override
+    public int deleteSketchesBefore(Granularity granularity, LocalDateTime before) {
+        return activeUserSketchRepository.deleteBefore(granularity, before);
+    }
+}
@@ -3,12 +3,16 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.entity.CommentStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
 import org.thewhitemage13.interfaces.CommentStatisticServiceInterface;
 import org.thewhitemage13.repository.CommentStatisticRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,64 +37,49 @@ import java.util.List;
 @Transactional
 public class CommentStatisticServiceImpl implements CommentStatisticServiceInterface {
     private final CommentStatisticRepository commentStatisticRepository;
+    private final StatisticBuffer statisticBuffer;
 
     /**
      * Constructs a {@link CommentStatisticServiceImpl} with the provided {@link CommentStatisticRepository}.
      *
      * @param commentStatisticRepository the repository for interacting with the database
+     * @param statisticBuffer the buffer that collects the daily counter increments
      */
     @Autowired
-    public CommentStatisticServiceImpl(CommentStatisticRepository commentStatisticRepository) {
+    public CommentStatisticServiceImpl
+            (
+                    CommentStatisticRepository commentStatisticRepository,
+                    StatisticBuffer statisticBuffer
+            ) {
         this.commentStatisticRepository = commentStatisticRepository;
+        this.statisticBuffer = statisticBuffer;
     }
 
     /**
      * Creates or updates the comment statistic for the current date.
      * <p>
-     * If no statistics exist for the current date, a new entry is created. If statistics already exist,
-     * the number of created comments is incremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * and to the rollup buckets of the creation time by its next flush.
      * </p>
+     *
+     * @param createdAt when the comment was created
      */
     @Override
-    public void createCommentStatistic() {
-        LocalDate today = LocalDate.now();
-
-        CommentStatistic statistic = commentStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new CommentStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNumberOfCreatedComments(1L);
-            statistic.setNumberOfDeletedComments(0L);
-        } else {
-            statistic.setNumberOfCreatedComments(statistic.getNumberOfCreatedComments() + 1);
-        }
-        commentStatisticRepository.save(statistic);
+    public void createCommentStatistic(LocalDateTime createdAt) {
+        statisticBuffer.record(StatisticField.CREATED_COMMENTS, createdAt, 1);
     }
 
     /**
      * Deletes or updates the comment statistic for the current date when a comment is deleted.
      * <p>
-     * If no statistics exist for the current date, a new entry is created. If statistics already exist,
-     * the number of created and deleted comments is updated accordingly.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      */
     @Override
     public void deleteCommentStatistic() {
-        LocalDate today = LocalDate.now();
-
-        CommentStatistic statistic = commentStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new CommentStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNumberOfCreatedComments(0L);
-            statistic.setNumberOfDeletedComments(1L);
-        } else {
-            statistic.setNumberOfDeletedComments(statistic.getNumberOfDeletedComments() + 1);
-            statistic.setNumberOfCreatedComments(statistic.getNumberOfCreatedComments() - 1);
-        }
-        commentStatisticRepository.save(statistic);
+        statisticBuffer.record(StatisticField.DELETED_COMMENTS, null, 1);
+        statisticBuffer.add(StatisticField.CREATED_COMMENTS, -1);
     }
 
     /**
@@ -132,4 +121,19 @@ public class CommentStatisticServiceImpl implements CommentStatisticServiceInter
         CommentStatistic statistic = commentStatisticRepository.findByStatisticDate(date);
         commentStatisticRepository.delete(statistic);
     }
+
+    /**
+     * Updates the statistics for a chunk of comments removed by a bulk deletion.
+     * <p>
+     * The whole chunk is recorded in the {@link StatisticBuffer} with one increment per counter.
+     * </p>
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted comments
+     */
+    @Override
+    public void deleteCommentStatistics(BatchDeletedEvent batchDeletedEvent) {
+        long count = batchDeletedEvent.getIds().size();
+        statisticBuffer.record(StatisticField.DELETED_COMMENTS, batchDeletedEvent.getCreatedAt(), count);
+        statisticBuffer.add(StatisticField.CREATED_COMMENTS, -count);
+    }
 }
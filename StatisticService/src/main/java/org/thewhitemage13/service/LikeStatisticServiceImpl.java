@@ -3,12 +3,16 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.entity.LikeStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
 import org.thewhitemage13.interfaces.LikeStatisticServiceInterface;
 import org.thewhitemage13.repository.LikeStatisticRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,15 +37,22 @@ import java.util.List;
 @Transactional
 public class LikeStatisticServiceImpl implements LikeStatisticServiceInterface {
     private final LikeStatisticRepository likeStatisticRepository;
+    private final StatisticBuffer statisticBuffer;
 
     /**
      * Constructs a {@link LikeStatisticServiceImpl} with the provided {@link LikeStatisticRepository}.
      *
      * @param likeStatisticRepository the repository for interacting with the database
+     * @param statisticBuffer the buffer that collects the daily counter increments
      */
     @Autowired
-    public LikeStatisticServiceImpl(LikeStatisticRepository likeStatisticRepository) {
+    public LikeStatisticServiceImpl
+            (
+                    LikeStatisticRepository likeStatisticRepository,
+                    StatisticBuffer statisticBuffer
+            ) {
         this.likeStatisticRepository = likeStatisticRepository;
+        this.statisticBuffer = statisticBuffer;
     }
 
     /**
@@ -87,110 +98,84 @@ public class LikeStatisticServiceImpl implements LikeStatisticServiceInterface {
     /**
      * Creates or updates the like statistic for posts.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of post likes set to 1.
-     * If a statistic exists, the number of post likes is incremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * and to the rollup buckets of the creation time by its next flush.
      * </p>
+     *
+     * @param createdAt when the like was created
      */
     @Override
-    public void createLikePostStatistic() {
-        LocalDate today = LocalDate.now();
-
-        LikeStatistic statistic = likeStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new LikeStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostLike(1L);
-            statistic.setCommentLike(0L);
-            statistic.setRemovePostLike(0L);
-            statistic.setRemoveCommentLike(0L);
-        } else {
-            statistic.setPostLike(statistic.getPostLike() + 1);
-        }
-        likeStatisticRepository.save(statistic);
-
+    public void createLikePostStatistic(LocalDateTime createdAt) {
+        statisticBuffer.record(StatisticField.POST_LIKE, createdAt, 1);
     }
 
     /**
      * Deletes or updates the like statistic for posts when a post like is removed.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of removed post likes set to 1.
-     * If a statistic exists, the number of post likes and removed post likes are updated accordingly.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      */
     @Override
     public void deleteLikePostStatistic() {
-        LocalDate today = LocalDate.now();
-
-        LikeStatistic statistic = likeStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new LikeStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostLike(0L);
-            statistic.setCommentLike(0L);
-            statistic.setRemovePostLike(1L);
-            statistic.setRemoveCommentLike(0L);
-        } else {
-            statistic.setRemovePostLike(statistic.getRemovePostLike() + 1);
-            statistic.setPostLike(statistic.getPostLike() - 1);
-        }
-        likeStatisticRepository.save(statistic);
-
+        statisticBuffer.record(StatisticField.REMOVE_POST_LIKE, null, 1);
+        statisticBuffer.add(StatisticField.POST_LIKE, -1);
     }
 
     /**
      * Creates or updates the like statistic for comments.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of comment likes set to 1.
-     * If a statistic exists, the number of comment likes is incremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * and to the rollup buckets of the creation time by its next flush.
      * </p>
+     *
+     * @param createdAt when the like was created
      */
     @Override
-    public void createLikeCommentStatistic() {
-        LocalDate today = LocalDate.now();
-
-        LikeStatistic statistic = likeStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new LikeStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostLike(0L);
-            statistic.setCommentLike(1L);
-            statistic.setRemovePostLike(0L);
-            statistic.setRemoveCommentLike(0L);
-        } else {
-            statistic.setCommentLike(statistic.getCommentLike() + 1);
-        }
-        likeStatisticRepository.save(statistic);
-
+    public void createLikeCommentStatistic(LocalDateTime createdAt) {
+        statisticBuffer.record(StatisticField.COMMENT_LIKE, createdAt, 1);
     }
 
     /**
      * Deletes or updates the like statistic for comments when a comment like is removed.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of removed comment likes set to 1.
-     * If a statistic exists, the number of comment likes and removed comment likes are updated accordingly.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      */
     @Override
     public void deleteLikeCommentStatistic() {
-        LocalDate today = LocalDate.now();
-
-        LikeStatistic statistic = likeStatisticRepository.findByStatisticDate(today);
+        statisticBuffer.record(StatisticField.REMOVE_COMMENT_LIKE, null, 1);
+        statisticBuffer.add(StatisticField.COMMENT_LIKE, -1);
+    }
 
-        if (statistic == null) {
-            statistic = new LikeStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostLike(0L);
-            statistic.setCommentLike(0L);
-            statistic.setRemovePostLike(0L);
-            statistic.setRemoveCommentLike(1L);
-        } else {
-            statistic.setRemoveCommentLike(statistic.getRemoveCommentLike() + 1);
-            statistic.setCommentLike(statistic.getCommentLike() - 1);
-        }
-        likeStatisticRepository.save(statistic);
+    /**
+     * Updates the statistics for a chunk of post likes removed by a bulk deletion.
+     * <p>
+     * The whole chunk is recorded in the {@link StatisticBuffer} with one increment per counter.
+     * </p>
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted post likes
+     */
+    @Override
+    public void deleteLikePostStatistics(BatchDeletedEvent batchDeletedEvent) {
+        long count = batchDeletedEvent.getIds().size();
+        statisticBuffer.record(StatisticField.REMOVE_POST_LIKE, batchDeletedEvent.getCreatedAt(), count);
+        statisticBuffer.add(StatisticField.POST_LIKE, -count);
+    }
 
+    /**
+     * Updates the statistics for a chunk of comment likes removed by a bulk deletion.
+     * <p>
+     * The whole chunk is recorded in the {@link StatisticBuffer} with one increment per counter.
+     * </p>
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted comment likes
+     */
+    @Override
+    public void deleteLikeCommentStatistics(BatchDeletedEvent batchDeletedEvent) {
+        long count = batchDeletedEvent.getIds().size();
+        statisticBuffer.record(StatisticField.REMOVE_COMMENT_LIKE, batchDeletedEvent.getCreatedAt(), count);
+        statisticBuffer.add(StatisticField.COMMENT_LIKE, -count);
     }
 }
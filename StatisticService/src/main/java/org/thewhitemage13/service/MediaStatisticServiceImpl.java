@@ -3,6 +3,9 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.MediaEvent;
 import org.thewhitemage13.entity.MediaStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
@@ -34,15 +37,22 @@ import java.util.List;
 @Transactional
 public class MediaStatisticServiceImpl implements MediaStatisticServiceInterface {
     private final MediaStatisticRepository mediaStatisticRepository;
+    private final StatisticBuffer statisticBuffer;
 
     /**
      * Constructs a {@link MediaStatisticServiceImpl} with the provided {@link MediaStatisticRepository}.
      *
      * @param mediaStatisticRepository the repository for interacting with the database
+     * @param statisticBuffer the buffer that collects the daily counter increments
      */
     @Autowired
-    public MediaStatisticServiceImpl(MediaStatisticRepository mediaStatisticRepository) {
+    public MediaStatisticServiceImpl
+            (
+                    MediaStatisticRepository mediaStatisticRepository,
+                    StatisticBuffer statisticBuffer
+            ) {
         this.mediaStatisticRepository = mediaStatisticRepository;
+        this.statisticBuffer = statisticBuffer;
     }
 
     /**
@@ -88,58 +98,47 @@ public class MediaStatisticServiceImpl implements MediaStatisticServiceInterface
     /**
      * Uploads new media statistics when a media file is uploaded.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of uploaded files set to 1.
-     * The total file size is updated with the size of the uploaded file.
-     * If a statistic exists, the number of uploaded files and the total file size are updated accordingly.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param mediaEvent the event containing the media file information
      */
     @Override
     public void uploadMediaStatistic(MediaEvent mediaEvent) {
-        LocalDate today = LocalDate.now();
-
-        MediaStatistic statistic = mediaStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new MediaStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNumberOfUploadedFiles(1L);
-            statistic.setTotalFileSize(mediaEvent.getFileSize());
-            statistic.setNumberOfDeletedFiles(0L);
-        } else {
-            statistic.setNumberOfUploadedFiles(statistic.getNumberOfUploadedFiles() + 1);
-            statistic.setTotalFileSize(statistic.getTotalFileSize() + mediaEvent.getFileSize());
-        }
-        mediaStatisticRepository.save(statistic);
+        statisticBuffer.record(StatisticField.UPLOADED_FILES, mediaEvent.getUploadDate(), 1);
+        statisticBuffer.addFileSize(mediaEvent.getFileSize());
     }
 
     /**
      * Deletes or updates the media statistic when a media file is deleted.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of deleted files set to 1.
-     * The total file size is reduced by the size of the deleted file.
-     * If a statistic exists, the number of deleted files and the total file size are updated accordingly.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param mediaEvent the event containing the media file information
      */
     @Override
     public void deleteMediaStatistic(MediaEvent mediaEvent) {
-        LocalDate today = LocalDate.now();
-
-        MediaStatistic statistic = mediaStatisticRepository.findByStatisticDate(today);
+        statisticBuffer.record(StatisticField.DELETED_FILES, null, 1);
+        statisticBuffer.addFileSize(-mediaEvent.getFileSize());
+    }
 
-        if (statistic == null) {
-            statistic = new MediaStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNumberOfUploadedFiles(0L);
-            statistic.setTotalFileSize(0.0);
-            statistic.setNumberOfDeletedFiles(1L);
-        } else {
-            statistic.setNumberOfDeletedFiles(statistic.getNumberOfDeletedFiles() + 1);
-            statistic.setTotalFileSize(statistic.getTotalFileSize() - mediaEvent.getFileSize());
+    /**
+     * Updates the statistics for a chunk of media files removed by a bulk deletion.
+     * <p>
+     * The whole chunk is recorded in the {@link StatisticBuffer} with one increment per counter.
+     * </p>
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted media files
+     */
+    @Override
+    public void deleteMediaStatistics(BatchDeletedEvent batchDeletedEvent) {
+        long count = batchDeletedEvent.getIds().size();
+        statisticBuffer.record(StatisticField.DELETED_FILES, batchDeletedEvent.getCreatedAt(), count);
+        if (batchDeletedEvent.getFileSize() != null) {
+            statisticBuffer.addFileSize(-batchDeletedEvent.getFileSize());
         }
-        mediaStatisticRepository.save(statistic);
     }
 }
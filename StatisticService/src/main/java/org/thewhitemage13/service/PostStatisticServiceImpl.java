@@ -3,6 +3,9 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.PostEvent;
 import org.thewhitemage13.entity.PostStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
@@ -33,15 +36,22 @@ import java.util.List;
 @Transactional
 public class PostStatisticServiceImpl implements PostStatisticServiceInterface {
     private final PostStatisticRepository postStatisticRepository;
+    private final StatisticBuffer statisticBuffer;
 
     /**
      * Constructs a {@link PostStatisticServiceImpl} with the provided {@link PostStatisticRepository}.
      *
      * @param postStatisticRepository the repository for interacting with the database
+     * @param statisticBuffer the buffer that collects the daily counter increments
      */
     @Autowired
-    public PostStatisticServiceImpl(PostStatisticRepository postStatisticRepository) {
+    public PostStatisticServiceImpl
+            (
+                    PostStatisticRepository postStatisticRepository,
+                    StatisticBuffer statisticBuffer
+            ) {
         this.postStatisticRepository = postStatisticRepository;
+        this.statisticBuffer = statisticBuffer;
     }
 
     /**
@@ -87,53 +97,44 @@ public class PostStatisticServiceImpl implements PostStatisticServiceInterface {
     /**
      * Creates or updates post statistics when a post is created.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of created posts set to 1.
-     * If a statistic already exists for the date, the number of created posts is incremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param postEvent the event containing the post information
      */
     @Override
     public void createPostStatistic(PostEvent postEvent) {
-        LocalDate today = LocalDate.now();
-
-        PostStatistic statistic = postStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new PostStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostsCreated(1L);
-            statistic.setPostsDeleted(0L);
-        } else {
-            statistic.setPostsCreated(statistic.getPostsCreated() + 1);
-        }
-        postStatisticRepository.save(statistic);
+        statisticBuffer.record(StatisticField.POSTS_CREATED, postEvent.getCreatedAt(), 1);
     }
 
     /**
      * Deletes or updates post statistics when a post is deleted.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of deleted posts set to 1.
-     * If a statistic already exists for the date, the number of deleted posts is incremented, and the number of created posts is decremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param postEvent the event containing the post information
      */
     @Override
     public void deletePostStatistic(PostEvent postEvent) {
-        LocalDate today = LocalDate.now();
-
-        PostStatistic statistic = postStatisticRepository.findByStatisticDate(today);
+        statisticBuffer.record(StatisticField.POSTS_DELETED, null, 1);
+        statisticBuffer.add(StatisticField.POSTS_CREATED, -1);
+    }
 
-        if (statistic == null) {
-            statistic = new PostStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setPostsCreated(0L);
-            statistic.setPostsDeleted(1L);
-        } else {
-            statistic.setPostsDeleted(statistic.getPostsDeleted() + 1);
-            statistic.setPostsCreated(statistic.getPostsCreated() - 1);
-        }
-        postStatisticRepository.save(statistic);
+    /**
+     * Updates the statistics for a chunk of posts removed by a bulk deletion.
+     * <p>
+     * The whole chunk is recorded in the {@link StatisticBuffer} with one increment per counter.
+     * </p>
+     *
+     * @param batchDeletedEvent the event containing the IDs of the deleted posts
+     */
+    @Override
+    public void deletePostStatistics(BatchDeletedEvent batchDeletedEvent) {
+        long count = batchDeletedEvent.getIds().size();
+        statisticBuffer.record(StatisticField.POSTS_DELETED, batchDeletedEvent.getCreatedAt(), count);
+        statisticBuffer.add(StatisticField.POSTS_CREATED, -count);
     }
 }
@@ -0,0 +1,339 @@
+package org.thewhitemage13.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.dto.RebuildStatusDTO;
+import org.thewhitemage13.interfaces.StatisticRebuildServiceInterface;
+import org.thewhitemage13.rebuild.RebuildState;
+import org.thewhitemage13.rebuild.StatisticProjection;
+import org.thewhitemage13.rebuild.StatisticTable;
+import org.thewhitemage13.rebuild.StatisticWriteLock;
+import org.thewhitemage13.repository.StatisticShadowRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service implementation for rebuilding the daily statistics from the event topics.
+ * <p>
+ * The live listeners are paused and the statistic buffer is flushed, so the committed offsets
+ * of the consumer group mark exactly the events already counted. A separate consumer then
+ * seeks every statistic topic to the start of the first rebuilt day and reads it at full speed
+ * in large batches up to those offsets, counting the events in memory by the day of their
+ * record timestamp. The recomputed rows are bulk-loaded into shadow tables and swapped in with
+ * one transaction, after which the listeners resume from where they were paused.
+ * </p>
+ * <p>
+ * Only the listeners of this instance can be paused, so a rebuild requires this instance to be
+ * assigned every partition of the statistic topics; with other instances consuming, it fails
+ * before reading anything and those instances must be stopped first. From before the offsets
+ * are read until the swap, the rebuild holds the {@link StatisticWriteLock} exclusively, so an
+ * instance that joins the group meanwhile keeps its deltas buffered instead of writing rows
+ * that the swap would overwrite.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>The replay consumer only assigns partitions and never commits, so the offsets of the live group are untouched.</li>
+ *     <li>Statistics of the days before the rebuild start are kept.</li>
+ *     <li>A rebuild starting before the retention of any statistic partition is rejected before
+ *     anything is replaced, because the swap would overwrite those days with partial counts.</li>
+ *     <li>Only one rebuild runs at a time; the listeners are resumed even if it fails.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class StatisticRebuildServiceImpl implements StatisticRebuildServiceInterface {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatisticRebuildServiceImpl.class);
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final ConsumerFactory<Long, Object> consumerFactory;
+    private final StatisticBuffer statisticBuffer;
+    private final StatisticShadowRepository statisticShadowRepository;
+    private final StatisticWriteLock statisticWriteLock;
+    private final TransactionTemplate transactionTemplate;
+    private final String groupId;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final Duration pauseTimeout;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "statistic-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile RebuildStatusDTO status = new RebuildStatusDTO(RebuildState.IDLE, null, null, null, 0, null);
+
+    /**
+     * Constructs a new {@code StatisticRebuildServiceImpl}.
+     *
+     * @param kafkaListenerEndpointRegistry the registry of the live listener containers
+     * @param consumerFactory               the factory of the replay consumer
+     * @param statisticBuffer               the buffer flushed before the replay
+     * @param statisticShadowRepository     the repository of the shadow tables
+     * @param statisticWriteLock            the lock keeping the flushes of every instance out of the rebuild
+     * @param transactionTemplate           the template running the swap transaction
+     * @param groupId                       the consumer group of the live listeners
+     * @param batchSize                     the maximum number of records per replay poll
+     * @param pollTimeoutMs                 the replay poll timeout, in milliseconds
+     * @param pauseTimeoutMs                how long to wait for the live listeners to pause, in milliseconds
+     */
+    @Autowired
+    public StatisticRebuildServiceImpl
+            (
+                    KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                    ConsumerFactory<Long, Object> consumerFactory,
+                    StatisticBuffer statisticBuffer,
+                    StatisticShadowRepository statisticShadowRepository,
+                    StatisticWriteLock statisticWriteLock,
+                    TransactionTemplate transactionTemplate,
+                    @Value("${spring.kafka.consumer.group-id}") String groupId,
+                    @Value("${statistic.rebuild.batch-size:5000}") int batchSize,
+                    @Value("${statistic.rebuild.poll-timeout-ms:1000}") long pollTimeoutMs,
+                    @Value("${statistic.rebuild.pause-timeout-ms:30000}") long pauseTimeoutMs
+            ) {
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.consumerFactory = consumerFactory;
+        this.statisticBuffer = statisticBuffer;
+        this.statisticShadowRepository = statisticShadowRepository;
+        this.statisticWriteLock = statisticWriteLock;
+        this.transactionTemplate = transactionTemplate;
+        this.groupId = groupId;
+        this.batchSize = batchSize;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+        this.pauseTimeout = Duration.ofMillis(pauseTimeoutMs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the day is in the future
+     * @throws IllegalStateException    if a rebuild is already running
+     */
+    @Override
+    public RebuildStatusDTO start(LocalDate from) {
+        if (from.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Rebuild start date = %s is in the future".formatted(from));
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A statistic rebuild is already running");
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        status = new RebuildStatusDTO(RebuildState.RUNNING, from, startedAt, null, 0, null);
+        executor.execute(() -> run(from, startedAt));
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the listeners do not pause in time, the buffer cannot be flushed
+     *                               or other instances are assigned statistic partitions
+     */
+    @Override
+    public long rebuild(LocalDate from) {
+        List<MessageListenerContainer> containers = new ArrayList<>(kafkaListenerEndpointRegistry.getListenerContainers());
+        containers.forEach(MessageListenerContainer::pause);
+        try {
+            awaitPaused(containers);
+            statisticBuffer.flush();
+            if (!statisticBuffer.isDrained()) {
+                throw new IllegalStateException("Statistic buffer could not be flushed, rebuild aborted");
+            }
+
+            ZoneId zone = ZoneId.systemDefault();
+            StatisticProjection projection = new StatisticProjection(zone, from);
+            try (StatisticWriteLock.Exclusive lock = statisticWriteLock.acquireExclusive(pauseTimeout)) {
+                try (Consumer<Long, Object> consumer = consumerFactory.createConsumer(groupId, null, "-rebuild", replayProperties())) {
+                    Set<TopicPartition> partitions = statisticPartitions(consumer);
+                    requireAssigned(containers, partitions);
+                    replay(consumer, partitions, from.atStartOfDay(zone).toInstant().toEpochMilli(), projection);
+                }
+
+                for (StatisticTable table : StatisticTable.values()) {
+                    int rows = statisticShadowRepository.load(table, projection.getCounters(), projection.getFileSizes());
+                    LOGGER.info("Loaded {} rebuilt rows into {}", rows, table.getShadowTableName());
+                }
+                transactionTemplate.executeWithoutResult(transaction -> {
+                    for (StatisticTable table : StatisticTable.values()) {
+                        statisticShadowRepository.swap(table, from);
+                    }
+                });
+            }
+            LOGGER.info("Rebuilt statistics from {} out of {} events", from, projection.getEvents());
+            return projection.getEvents();
+        } finally {
+            containers.forEach(MessageListenerContainer::resume);
+        }
+    }
+
+    @Override
+    public RebuildStatusDTO getStatus() {
+        return status;
+    }
+
+    /**
+     * Stops a running rebuild when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(LocalDate from, LocalDateTime startedAt) {
+        try {
+            long events = rebuild(from);
+            status = new RebuildStatusDTO(RebuildState.SUCCEEDED, from, startedAt, LocalDateTime.now(), events, null);
+        } catch (RuntimeException e) {
+            LOGGER.error("Rebuild of statistics from {} failed", from, e);
+            status = new RebuildStatusDTO(RebuildState.FAILED, from, startedAt, LocalDateTime.now(), 0, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Reads every statistic topic from a point in time up to the committed offsets of the live
+     * group, or up to the end of partitions the group has never committed.
+     *
+     * @throws IllegalStateException if a partition may have deleted events of the rebuilt days
+     */
+    private void replay(Consumer<Long, Object> consumer, Set<TopicPartition> partitions, long fromMillis, StatisticProjection projection) {
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, fromMillis));
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(timestamps.keySet());
+        Map<TopicPartition, Long> latest = consumer.endOffsets(timestamps.keySet());
+        Map<TopicPartition, OffsetAndTimestamp> starts = consumer.offsetsForTimes(timestamps);
+        requireRetained(starts, consumer.beginningOffsets(timestamps.keySet()), latest, fromMillis);
+
+        Map<TopicPartition, Long> ends = new HashMap<>();
+        starts.forEach((partition, start) -> {
+            OffsetAndMetadata offset = committed.get(partition);
+            long end = offset != null ? offset.offset() : latest.getOrDefault(partition, 0L);
+            if (start != null && start.offset() < end) {
+                ends.put(partition, end);
+            }
+        });
+        consumer.assign(ends.keySet());
+        ends.keySet().forEach(partition -> consumer.seek(partition, starts.get(partition).offset()));
+
+        Map<TopicPartition, Long> remaining = new HashMap<>(ends);
+        while (!remaining.isEmpty()) {
+            for (ConsumerRecord<Long, Object> record : consumer.poll(pollTimeout)) {
+                Long end = remaining.get(new TopicPartition(record.topic(), record.partition()));
+                if (end != null && record.offset() < end) {
+                    projection.apply(record.topic(), record.value(), record.timestamp());
+                }
+            }
+            List<TopicPartition> done = remaining.keySet().stream()
+                    .filter(partition -> consumer.position(partition) >= remaining.get(partition))
+                    .toList();
+            done.forEach(remaining::remove);
+            consumer.pause(done);
+        }
+    }
+
+    /**
+     * Fails unless every partition still holds all of its events from the start of the rebuild.
+     * <p>
+     * A partition whose log starts at offset 0 has lost nothing. Otherwise the first event at or
+     * after the start must be preceded by a retained event, which proves that the deleted events
+     * are older than the start. A partition without such an event is only complete if it still
+     * retains events, all of which are then older than the start.
+     * </p>
+     */
+    private static void requireRetained(Map<TopicPartition, OffsetAndTimestamp> starts, Map<TopicPartition, Long> earliest,
+                                        Map<TopicPartition, Long> latest, long fromMillis) {
+        starts.forEach((partition, start) -> {
+            long first = earliest.getOrDefault(partition, 0L);
+            boolean truncated = first > 0 && (start != null
+                    ? start.offset() <= first
+                    : first >= latest.getOrDefault(partition, 0L));
+            if (truncated) {
+                throw new IllegalStateException(("Partition %s no longer retains every event since %s (earliest offset = %d); "
+                        + "choose a later start date").formatted(partition, Instant.ofEpochMilli(fromMillis), first));
+            }
+        });
+    }
+
+    private static Set<TopicPartition> statisticPartitions(Consumer<Long, Object> consumer) {
+        Set<TopicPartition> partitions = new HashSet<>();
+        for (String topic : StatisticProjection.TOPICS) {
+            List<PartitionInfo> infos = consumer.partitionsFor(topic);
+            if (infos != null) {
+                infos.forEach(info -> partitions.add(new TopicPartition(topic, info.partition())));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Fails unless the paused listeners of the live group own every statistic partition, i.e.
+     * no other instance can count events the replay also counts.
+     */
+    private void requireAssigned(List<MessageListenerContainer> containers, Set<TopicPartition> partitions) {
+        Set<TopicPartition> assigned = new HashSet<>();
+        for (MessageListenerContainer container : containers) {
+            if (groupId.equals(container.getGroupId()) && container.getAssignedPartitions() != null) {
+                assigned.addAll(container.getAssignedPartitions());
+            }
+        }
+        if (!assigned.containsAll(partitions)) {
+            throw new IllegalStateException("Statistic rebuild needs every statistic partition assigned to this instance; "
+                    + "stop the other instances of group %s first".formatted(groupId));
+        }
+    }
+
+    private Properties replayProperties() {
+        Properties properties = new Properties();
+        properties.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+        return properties;
+    }
+
+    private void awaitPaused(List<MessageListenerContainer> containers) {
+        long deadline = System.nanoTime() + pauseTimeout.toNanos();
+        while (!containers.stream().allMatch(container -> !container.isRunning() || container.isContainerPaused())) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Kafka listeners did not pause within " + pauseTimeout);
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while pausing the Kafka listeners", e);
+            }
+        }
+    }
+}
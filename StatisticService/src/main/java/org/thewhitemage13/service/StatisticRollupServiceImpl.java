@@ -0,0 +1,171 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.dto.RollupPointDTO;
+import org.thewhitemage13.entity.StatisticRollup;
+import org.thewhitemage13.interfaces.StatisticRollupServiceInterface;
+import org.thewhitemage13.repository.StatisticRollupRepository;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.rollup.RollupDelta;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service implementation for the time-series rollups of the statistic counters.
+ * <p>
+ * Every flushed minute delta is folded into its minute, hour and day buckets in the same
+ * transaction, so the coarser levels are always complete and late events land in the buckets of
+ * the time they occurred. Queries read the coarsest level that covers a range: a sum over the
+ * last seven days touches at most seven day buckets plus the hour and minute buckets of the two
+ * partial edges.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class StatisticRollupServiceImpl implements StatisticRollupServiceInterface {
+    private static final Comparator<Bucket> BUCKET_ORDER = Comparator
+            .comparing(Bucket::field)
+            .thenComparing(Bucket::granularity)
+            .thenComparing(Bucket::bucketStart);
+
+    private final StatisticRollupRepository statisticRollupRepository;
+    private final int maxPoints;
+
+    /**
+     * Constructs a new {@code StatisticRollupServiceImpl}.
+     *
+     * @param statisticRollupRepository the repository of the rollup buckets
+     * @param maxPoints                 the largest number of buckets a series or top query may return
+     */
+    @Autowired
+    public StatisticRollupServiceImpl
+            (
+                    StatisticRollupRepository statisticRollupRepository,
+                    @Value("${statistic.rollup.max-points:10000}") int maxPoints
+            ) {
+        this.statisticRollupRepository = statisticRollupRepository;
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Deltas are merged per bucket first and written in a fixed order, so concurrent flushes of
+     * several instances lock the bucket rows in the same order.
+     * </p>
+     */
+    @Override
+    public void addDeltas(Collection<RollupDelta> deltas) {
+        Map<Bucket, Long> merged = new TreeMap<>(BUCKET_ORDER);
+        for (RollupDelta delta : deltas) {
+            for (Granularity granularity : Granularity.values()) {
+                merged.merge(new Bucket(delta.field(), granularity, granularity.truncate(delta.minute())), delta.delta(), Long::sum);
+            }
+        }
+        merged.forEach((bucket, delta) -> {
+            if (delta != 0) {
+                statisticRollupRepository.addDelta(bucket.field().name(), bucket.granularity().name(), bucket.bucketStart(), delta);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the range is empty or spans more than the allowed number of buckets
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RollupPointDTO> getSeries(StatisticField field, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        if (granularity.getUnit().between(granularity.truncate(from), to) > maxPoints) {
+            throw new IllegalArgumentException("Range from = %s to = %s has more than %s %s buckets".formatted(from, to, maxPoints, granularity));
+        }
+        return statisticRollupRepository.findSeries(field, granularity, from, to).stream()
+                .map(StatisticRollupServiceImpl::toPoint)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Whole days are read from day buckets, the remaining whole hours from hour buckets and the
+     * rest from minute buckets. Edges older than the minute retention therefore count only
+     * their whole hours.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the range is empty
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getSum(StatisticField field, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        return sum(field, Granularity.DAY, from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the range is empty or the limit is not positive or above the allowed number of buckets
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RollupPointDTO> getTopBuckets(StatisticField field, Granularity granularity, LocalDateTime from, LocalDateTime to, int limit) {
+        validateRange(from, to);
+        if (limit < 1 || limit > maxPoints) {
+            throw new IllegalArgumentException("Invalid limit = %s".formatted(limit));
+        }
+        return statisticRollupRepository.findTop(field, granularity, from, to, PageRequest.of(0, limit)).stream()
+                .map(StatisticRollupServiceImpl::toPoint)
+                .toList();
+    }
+
+    @Override
+    public int deleteBucketsBefore(Granularity granularity, LocalDateTime before) {
+        return statisticRollupRepository.deleteBefore(granularity, before);
+    }
+
+    private long sum(StatisticField field, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+        Granularity finer = granularity.finer();
+        if (finer == null) {
+            return statisticRollupRepository.sumTotal(field, granularity, from, to);
+        }
+        LocalDateTime start = granularity.ceil(from);
+        LocalDateTime end = granularity.truncate(to);
+        if (!start.isBefore(end)) {
+            return sum(field, finer, from, to);
+        }
+        return statisticRollupRepository.sumTotal(field, granularity, start, end)
+                + sum(field, finer, from, start)
+                + sum(field, finer, end, to);
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid range from = %s to = %s".formatted(from, to));
+        }
+    }
+
+    private static RollupPointDTO toPoint(StatisticRollup rollup) {
+        return new RollupPointDTO(rollup.getBucketStart(), rollup.getTotal());
+    }
+
+    private record Bucket(StatisticField field, Granularity granularity, LocalDateTime bucketStart) {
+    }
+}
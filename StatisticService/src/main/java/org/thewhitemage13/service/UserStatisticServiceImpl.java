@@ -3,6 +3,8 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.UserEvent;
 import org.thewhitemage13.entity.UserStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
@@ -33,15 +35,22 @@ import java.util.List;
 @Transactional
 public class UserStatisticServiceImpl implements UserStatisticServiceInterface {
     private final UserStatisticRepository userStatisticRepository;
+    private final StatisticBuffer statisticBuffer;
 
     /**
      * Constructs a {@link UserStatisticServiceImpl} with the provided {@link UserStatisticRepository}.
      *
      * @param userStatisticRepository the repository for interacting with the database
+     * @param statisticBuffer the buffer that collects the daily counter increments
      */
     @Autowired
-    public UserStatisticServiceImpl(UserStatisticRepository userStatisticRepository) {
+    public UserStatisticServiceImpl
+            (
+                    UserStatisticRepository userStatisticRepository,
+                    StatisticBuffer statisticBuffer
+            ) {
         this.userStatisticRepository = userStatisticRepository;
+        this.statisticBuffer = statisticBuffer;
     }
 
     /**
@@ -87,55 +96,29 @@ public class UserStatisticServiceImpl implements UserStatisticServiceInterface {
     /**
      * Creates or updates user statistics when a new user is registered.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of new users set to 1.
-     * If a statistic already exists for the date, the number of new users is incremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param userEvent the event containing user information (used to track user registrations)
      */
     @Override
     public void createUserStatistic(UserEvent userEvent) {
-        LocalDate today = LocalDate.now();
-
-        UserStatistic statistic = userStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new UserStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNewUsers(1L);
-            statistic.setRemoteUsers(0L);
-        } else {
-            statistic.setNewUsers(statistic.getNewUsers() + 1);
-        }
-        userStatisticRepository.save(statistic);
-
+        statisticBuffer.record(StatisticField.NEW_USERS, null, 1);
     }
 
     /**
      * Deletes or updates user statistics when a user is removed.
      * <p>
-     * If no statistic exists for the current date, a new statistic is created with the number of removed users set to 1.
-     * If a statistic already exists for the date, the number of removed users is incremented, and the number of new users is decremented.
+     * The change is recorded in the {@link StatisticBuffer} and written to today's statistic
+     * by its next flush.
      * </p>
      *
      * @param userEvent the event containing user information (used to track user removal)
      */
     @Override
     public void remoteUserStatistic(UserEvent userEvent) {
-        LocalDate today = LocalDate.now();
-
-        UserStatistic statistic = userStatisticRepository.findByStatisticDate(today);
-
-        if (statistic == null) {
-            statistic = new UserStatistic();
-            statistic.setStatisticDate(today);
-            statistic.setNewUsers(0L);
-            statistic.setRemoteUsers(1L);
-        } else {
-            statistic.setRemoteUsers(statistic.getRemoteUsers() + 1);
-            statistic.setNewUsers(statistic.getNewUsers() - 1);
-        }
-        userStatisticRepository.save(statistic);
-
+        statisticBuffer.record(StatisticField.REMOTE_USERS, null, 1);
+        statisticBuffer.add(StatisticField.NEW_USERS, -1);
     }
 }
@@ -0,0 +1,13 @@
+package org.thewhitemage13.sketch;
+
+/**
+ * The user actions whose distinct users are counted.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum ActivityAction {
+    LIKE,
+    COMMENT,
+    POST
+}
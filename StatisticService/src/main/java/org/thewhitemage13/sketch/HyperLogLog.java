@@ -0,0 +1,191 @@
+package org.thewhitemage13.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct {@code long} identifiers.
+ * <p>
+ * Each identifier is hashed into one of {@code 2^precision} registers, which keeps the longest
+ * run of leading zeros seen in the rest of the hash. The memory is fixed regardless of how many
+ * identifiers are added, and two sketches of the same precision merge into the sketch of the
+ * union of their identifiers by taking the larger value of every register, so sketches of
+ * different hours, days or instances can be combined freely. With the default precision of 12
+ * the estimate is within about 1.6% of the true count.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Adding the same identifier twice does not change the sketch.</li>
+ *     <li>Linear counting for small cardinalities, where the raw estimate is biased.</li>
+ *     <li>Serialized form listing only the non-empty registers while they are few, e.g. for quiet hours.</li>
+ * </ul>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+ * userIds.forEach(sketch::add);
+ * long distinctUsers = sketch.estimate();
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class HyperLogLog {
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Constructs a new, empty {@code HyperLogLog}.
+     *
+     * @param precision the number of hash bits used to select a register, between 4 and 16
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between 4 and 16: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds an identifier to the sketch.
+     *
+     * @param value the identifier to add
+     */
+    public void add(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Math.min(Long.numberOfLeadingZeros(hash << precision), Long.SIZE - precision) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Merges another sketch into this one.
+     *
+     * @param other the sketch to merge, of the same precision
+     * @return this instance, now describing the union of both
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog of precision %s into precision %s".formatted(other.precision, precision));
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Estimates the number of distinct identifiers added.
+     *
+     * @return the estimated cardinality
+     */
+    public long estimate() {
+        double m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = 0.7213 / (1 + 1.079 / m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log(m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * @return a new sketch with the same registers
+     */
+    public HyperLogLog copy() {
+        return new HyperLogLog(precision).merge(this);
+    }
+
+    /**
+     * Checks whether another sketch has exactly the same registers.
+     *
+     * @param other the sketch to compare
+     * @return {@code true} if both sketches would answer every query the same
+     */
+    public boolean hasSameRegisters(HyperLogLog other) {
+        return precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    /**
+     * @return the number of hash bits used to select a register
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Serializes the sketch: a format byte and the precision, followed either by all registers or,
+     * when that is shorter, by an unsigned 16-bit index and the value of every non-empty register.
+     *
+     * @return the serialized sketch
+     */
+    public byte[] toBytes() {
+        int nonEmpty = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonEmpty++;
+            }
+        }
+        if (nonEmpty * 3 >= registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + registers.length);
+            return buffer.put(DENSE).put((byte) precision).put(registers).array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + nonEmpty * 3).put(SPARSE).put((byte) precision);
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] != 0) {
+                buffer.putShort((short) i).put(registers[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads a sketch written by {@link #toBytes()}.
+     *
+     * @param bytes the serialized sketch
+     * @return the sketch
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        if (format == DENSE) {
+            buffer.get(sketch.registers);
+        } else if (format == SPARSE) {
+            while (buffer.hasRemaining()) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                sketch.registers[index] = buffer.get();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown HyperLogLog format " + format);
+        }
+        return sketch;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,17 @@
+package org.thewhitemage13.sketch;
+
+import org.thewhitemage13.rollup.Granularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Identifies the distinct-user sketch of one action and one hour or day.
+ *
+ * @param action      the counted action
+ * @param granularity {@link Granularity#HOUR} or {@link Granularity#DAY}
+ * @param bucketStart the start of the hour or day
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public record SketchKey(ActivityAction action, Granularity granularity, LocalDateTime bucketStart) {
+}
@@ -0,0 +1,90 @@
+package org.thewhitemage13.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.service.ActiveUserServiceImpl;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+import org.thewhitemage13.sketch.SketchKey;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveUserBufferTest {
+    @Mock
+    private ActiveUserServiceImpl activeUserServiceImpl;
+
+    @InjectMocks
+    private ActiveUserBuffer activeUserBuffer;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldMergeHourAndDaySketches() {
+        // given
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 5, 1, 10, 15);
+        activeUserBuffer.record(ActivityAction.LIKE, 1L, occurredAt);
+        activeUserBuffer.record(ActivityAction.LIKE, 1L, occurredAt.plusMinutes(5));
+        activeUserBuffer.record(ActivityAction.LIKE, 2L, occurredAt.plusHours(1));
+
+        // when
+        activeUserBuffer.flush();
+
+        // then
+        ArgumentCaptor<Map<SketchKey, HyperLogLog>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(activeUserServiceImpl).mergeSketches(captor.capture());
+        Map<SketchKey, HyperLogLog> sketches = captor.getValue();
+        assertEquals(3, sketches.size());
+        assertEquals(Long.valueOf(1), sketches.get(new SketchKey(ActivityAction.LIKE, Granularity.HOUR, LocalDateTime.of(2024, 5, 1, 10, 0))).estimate());
+        assertEquals(Long.valueOf(1), sketches.get(new SketchKey(ActivityAction.LIKE, Granularity.HOUR, LocalDateTime.of(2024, 5, 1, 11, 0))).estimate());
+        assertEquals(Long.valueOf(2), sketches.get(new SketchKey(ActivityAction.LIKE, Granularity.DAY, LocalDateTime.of(2024, 5, 1, 0, 0))).estimate());
+    }
+
+    @Test
+    void flush_ShouldDropFlushedSketches() {
+        // given
+        activeUserBuffer.record(ActivityAction.POST, 1L, LocalDateTime.of(2024, 5, 1, 10, 15));
+        activeUserBuffer.flush();
+
+        // when
+        activeUserBuffer.flush();
+
+        // then
+        verify(activeUserServiceImpl, times(1)).mergeSketches(anyMap());
+    }
+
+    @Test
+    void flush_ShouldKeepSketchesWhenWriteFails() {
+        // given
+        activeUserBuffer.record(ActivityAction.COMMENT, 1L, LocalDateTime.of(2024, 5, 1, 10, 15));
+        doThrow(new RuntimeException("Database unavailable")).doNothing().when(activeUserServiceImpl).mergeSketches(anyMap());
+        activeUserBuffer.flush();
+
+        // when
+        activeUserBuffer.flush();
+
+        // then
+        verify(activeUserServiceImpl, times(2)).mergeSketches(anyMap());
+    }
+
+    @Test
+    void record_ShouldIgnoreMissingUser() {
+        // given
+        activeUserBuffer.record(ActivityAction.LIKE, null, LocalDateTime.of(2024, 5, 1, 10, 15));
+
+        // when
+        activeUserBuffer.flush();
+
+        // then
+        verifyNoInteractions(activeUserServiceImpl);
+    }
+}
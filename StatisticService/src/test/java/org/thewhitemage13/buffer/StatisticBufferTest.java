@@ -0,0 +1,160 @@
+package org.thewhitemage13.buffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.rebuild.StatisticWriteLock;
+import org.thewhitemage13.repository.CommentStatisticRepository;
+import org.thewhitemage13.repository.LikeStatisticRepository;
+import org.thewhitemage13.repository.MediaStatisticRepository;
+import org.thewhitemage13.repository.PostStatisticRepository;
+import org.thewhitemage13.repository.UserStatisticRepository;
+import org.thewhitemage13.rollup.RollupDelta;
+import org.thewhitemage13.service.StatisticRollupServiceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticBufferTest {
+    @Mock
+    private LikeStatisticRepository likeStatisticRepository;
+    @Mock
+    private CommentStatisticRepository commentStatisticRepository;
+    @Mock
+    private MediaStatisticRepository mediaStatisticRepository;
+    @Mock
+    private PostStatisticRepository postStatisticRepository;
+    @Mock
+    private UserStatisticRepository userStatisticRepository;
+    @Mock
+    private StatisticRollupServiceImpl statisticRollupServiceImpl;
+    @Mock
+    private StatisticWriteLock statisticWriteLock;
+
+    private StatisticBuffer statisticBuffer;
+
+    @BeforeEach
+    void setUp() {
+        statisticBuffer = new StatisticBuffer
+                (
+                        likeStatisticRepository,
+                        commentStatisticRepository,
+                        mediaStatisticRepository,
+                        postStatisticRepository,
+                        userStatisticRepository,
+                        statisticRollupServiceImpl,
+                        statisticWriteLock
+                );
+        lenient().when(statisticWriteLock.writeShared(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return true;
+        });
+    }
+
+    @Test
+    void flush_ConcurrentIncrements_WrittenAsOneUpsert() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> statisticBuffer.add(StatisticField.POST_LIKE, 1));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        statisticBuffer.flush();
+
+        verify(likeStatisticRepository).addDeltas(LocalDate.now(), 1000L, 0L, 0L, 0L);
+        verifyNoInteractions(commentStatisticRepository, mediaStatisticRepository, postStatisticRepository, userStatisticRepository, statisticRollupServiceImpl);
+    }
+
+    @Test
+    void flush_NothingBuffered_DoesNotTouchDatabase() {
+        statisticBuffer.add(StatisticField.NEW_USERS, 1);
+        statisticBuffer.add(StatisticField.NEW_USERS, -1);
+
+        statisticBuffer.flush();
+
+        verifyNoInteractions(userStatisticRepository);
+    }
+
+    @Test
+    void flush_FailedWrite_KeepsDeltasForNextFlush() {
+        statisticBuffer.add(StatisticField.POSTS_CREATED, 2);
+        doThrow(new RuntimeException("database unavailable"))
+                .doNothing()
+                .when(postStatisticRepository).addDeltas(any(LocalDate.class), anyLong(), anyLong());
+
+        statisticBuffer.flush();
+        statisticBuffer.flush();
+
+        verify(postStatisticRepository, times(2)).addDeltas(LocalDate.now(), 2L, 0L);
+    }
+
+    @Test
+    void flush_DuringRebuild_KeepsDeltasUntilLockIsFree() {
+        statisticBuffer.add(StatisticField.NEW_USERS, 4);
+        statisticBuffer.addFileSize(2.5);
+        doReturn(false)
+                .doAnswer(invocation -> {
+                    invocation.getArgument(0, Runnable.class).run();
+                    return true;
+                })
+                .when(statisticWriteLock).writeShared(any());
+
+        statisticBuffer.flush();
+        assertFalse(statisticBuffer.isDrained());
+        statisticBuffer.flush();
+
+        verify(userStatisticRepository).addDeltas(LocalDate.now(), 4L, 0L);
+        verify(mediaStatisticRepository).addDeltas(LocalDate.now(), 0L, 0L, 2.5);
+        assertTrue(statisticBuffer.isDrained());
+    }
+
+    @Test
+    void drain_MediaSizes_WrittenWithCounts() {
+        statisticBuffer.add(StatisticField.UPLOADED_FILES, 1);
+        statisticBuffer.addFileSize(1.5);
+
+        statisticBuffer.drain();
+
+        verify(mediaStatisticRepository).addDeltas(LocalDate.now(), 1L, 0L, 1.5);
+    }
+
+    @Test
+    void flush_RecordedEvents_RolledUpByMinuteOfOccurrence() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 5, 1, 10, 15, 42);
+        statisticBuffer.record(StatisticField.POST_LIKE, occurredAt, 1);
+        statisticBuffer.record(StatisticField.POST_LIKE, occurredAt.plusSeconds(10), 1);
+
+        statisticBuffer.flush();
+
+        verify(likeStatisticRepository).addDeltas(LocalDate.now(), 2L, 0L, 0L, 0L);
+        verify(statisticRollupServiceImpl).addDeltas(List.of(new RollupDelta(StatisticField.POST_LIKE, LocalDateTime.of(2024, 5, 1, 10, 15), 2)));
+    }
+
+    @Test
+    void flush_FailedRollupWrite_KeepsDeltasForNextFlush() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 5, 1, 10, 15);
+        statisticBuffer.record(StatisticField.NEW_USERS, occurredAt, 3);
+        List<RollupDelta> expected = List.of(new RollupDelta(StatisticField.NEW_USERS, occurredAt, 3));
+        doThrow(new RuntimeException("database unavailable"))
+                .doNothing()
+                .when(statisticRollupServiceImpl).addDeltas(expected);
+
+        statisticBuffer.flush();
+        statisticBuffer.flush();
+
+        verify(statisticRollupServiceImpl, times(2)).addDeltas(expected);
+    }
+}
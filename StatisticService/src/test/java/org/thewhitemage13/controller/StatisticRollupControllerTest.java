@@ -0,0 +1,71 @@
+package org.thewhitemage13.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.dto.RollupPointDTO;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.service.StatisticRollupServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticRollupControllerTest {
+    @Mock
+    private StatisticRollupServiceImpl statisticRollupServiceImpl;
+    @InjectMocks
+    private StatisticRollupController statisticRollupController;
+
+    private final LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private final LocalDateTime to = from.plusDays(7);
+
+    @Test
+    void showSeries_ShouldReturnOk_WhenSuccessful() {
+        List<RollupPointDTO> series = List.of(new RollupPointDTO(from, 5L));
+        when(statisticRollupServiceImpl.getSeries(StatisticField.POST_LIKE, Granularity.DAY, from, to)).thenReturn(series);
+
+        ResponseEntity<List<RollupPointDTO>> response = statisticRollupController.showSeries(StatisticField.POST_LIKE, Granularity.DAY, from, to);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(series, response.getBody());
+    }
+
+    @Test
+    void showSum_ShouldReturnOk_WhenSuccessful() {
+        when(statisticRollupServiceImpl.getSum(StatisticField.NEW_USERS, from, to)).thenReturn(42L);
+
+        ResponseEntity<Long> response = statisticRollupController.showSum(StatisticField.NEW_USERS, from, to);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Long.valueOf(42L), response.getBody());
+    }
+
+    @Test
+    void showSum_ShouldReturnBadRequest_WhenRangeIsInvalid() {
+        when(statisticRollupServiceImpl.getSum(StatisticField.NEW_USERS, to, from)).thenThrow(new IllegalArgumentException("Invalid range"));
+
+        ResponseEntity<Long> response = statisticRollupController.showSum(StatisticField.NEW_USERS, to, from);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void showTopBuckets_ShouldReturnInternalServerError_WhenExceptionOccurs() {
+        when(statisticRollupServiceImpl.getTopBuckets(StatisticField.POST_LIKE, Granularity.HOUR, from, to, 10)).thenThrow(new RuntimeException("Database error"));
+
+        ResponseEntity<List<RollupPointDTO>> response = statisticRollupController.showTopBuckets(StatisticField.POST_LIKE, Granularity.HOUR, from, to, 10);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
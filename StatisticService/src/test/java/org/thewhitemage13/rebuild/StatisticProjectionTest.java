@@ -0,0 +1,65 @@
+package org.thewhitemage13.rebuild;
+
+import org.junit.jupiter.api.Test;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.buffer.StatisticField;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticProjectionTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+
+    private final StatisticProjection projection = new StatisticProjection(ZoneOffset.UTC, DAY);
+
+    @Test
+    void apply_ShouldCountEventsOnTheDayOfTheirRecord() {
+        projection.apply("post.like.created", new LikeEvent(), at(DAY, 10));
+        projection.apply("post.like.created", new LikeEvent(), at(DAY.plusDays(1), 1));
+        projection.apply("post.like.deleted", new LikeEvent(), at(DAY.plusDays(1), 2));
+
+        assertEquals(Long.valueOf(1L), projection.getCounters().get(DAY).get(StatisticField.POST_LIKE));
+        assertEquals(Long.valueOf(0L), projection.getCounters().get(DAY.plusDays(1)).get(StatisticField.POST_LIKE));
+        assertEquals(Long.valueOf(1L), projection.getCounters().get(DAY.plusDays(1)).get(StatisticField.REMOVE_POST_LIKE));
+        assertEquals(3, projection.getEvents());
+    }
+
+    @Test
+    void apply_ShouldCountBatchDeletionsAndFileSizes() {
+        MediaEvent upload = new MediaEvent(1L, 1L, "url", "file", 2.5, "image/png", null);
+        BatchDeletedEvent deleted = new BatchDeletedEvent(1L, 0, List.of(1L, 2L, 3L), List.of(), 1.0, null);
+
+        projection.apply("media.upload", upload, at(DAY, 8));
+        projection.apply("media.deleted.batch", deleted, at(DAY, 9));
+        projection.apply("comment.deleted.batch", deleted, at(DAY, 9));
+
+        assertEquals(Long.valueOf(1L), projection.getCounters().get(DAY).get(StatisticField.UPLOADED_FILES));
+        assertEquals(Long.valueOf(3L), projection.getCounters().get(DAY).get(StatisticField.DELETED_FILES));
+        assertEquals(Long.valueOf(3L), projection.getCounters().get(DAY).get(StatisticField.DELETED_COMMENTS));
+        assertEquals(Long.valueOf(-3L), projection.getCounters().get(DAY).get(StatisticField.CREATED_COMMENTS));
+        assertEquals(1.5, projection.getFileSizes().get(DAY));
+    }
+
+    @Test
+    void apply_ShouldSkipUnreadableRecordsAndEarlierDays() {
+        projection.apply("user.created", null, at(DAY, 10));
+        projection.apply("user.created", new Object(), at(DAY.minusDays(1), 23));
+
+        assertTrue(projection.getCounters().isEmpty());
+        assertEquals(0, projection.getEvents());
+    }
+
+    @Test
+    void apply_ShouldRejectUnknownTopic() {
+        assertThrows(IllegalArgumentException.class, () -> projection.apply("user.updated", new Object(), at(DAY, 10)));
+    }
+
+    private static long at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
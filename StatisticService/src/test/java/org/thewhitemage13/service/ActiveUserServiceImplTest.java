@@ -0,0 +1,136 @@
+package org.thewhitemage13.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.dto.ActiveUsersDTO;
+import org.thewhitemage13.entity.ActiveUserSketch;
+import org.thewhitemage13.repository.ActiveUserSketchRepository;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.sketch.ActivityAction;
+import org.thewhitemage13.sketch.HyperLogLog;
+import org.thewhitemage13.sketch.SketchKey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveUserServiceImplTest {
+    @Mock
+    private ActiveUserSketchRepository activeUserSketchRepository;
+
+    @InjectMocks
+    private ActiveUserServiceImpl activeUserServiceImpl;
+
+    @Test
+    void mergeSketches_ShouldInsertNewBucket() {
+        // given
+        LocalDateTime day = LocalDateTime.of(2024, 5, 1, 0, 0);
+        HyperLogLog sketch = sketchOf(1, 2, 3);
+        when(activeUserSketchRepository.insertIfAbsent(eq("LIKE"), eq("DAY"), eq(day), any())).thenReturn(1);
+
+        // when
+        activeUserServiceImpl.mergeSketches(Map.of(new SketchKey(ActivityAction.LIKE, Granularity.DAY, day), sketch));
+
+        // then
+        verify(activeUserSketchRepository, never()).findForUpdate(any(), any(), any());
+        verify(activeUserSketchRepository, never()).save(any());
+    }
+
+    @Test
+    void mergeSketches_ShouldMergeIntoExistingBucket() {
+        // given
+        LocalDateTime day = LocalDateTime.of(2024, 5, 1, 0, 0);
+        ActiveUserSketch stored = new ActiveUserSketch(1L, ActivityAction.LIKE, Granularity.DAY, day, sketchOf(1, 2).toBytes());
+        when(activeUserSketchRepository.insertIfAbsent(eq("LIKE"), eq("DAY"), eq(day), any())).thenReturn(0);
+        when(activeUserSketchRepository.findForUpdate(ActivityAction.LIKE, Granularity.DAY, day)).thenReturn(Optional.of(stored));
+
+        // when
+        activeUserServiceImpl.mergeSketches(Map.of(new SketchKey(ActivityAction.LIKE, Granularity.DAY, day), sketchOf(2, 3)));
+
+        // then
+        ArgumentCaptor<ActiveUserSketch> captor = ArgumentCaptor.forClass(ActiveUserSketch.class);
+        verify(activeUserSketchRepository).save(captor.capture());
+        assertTrue(HyperLogLog.fromBytes(captor.getValue().getRegisters()).hasSameRegisters(sketchOf(1, 2, 3)));
+    }
+
+    @Test
+    void estimate_ShouldCountUsersOfSeveralBucketsOnce() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime to = from.plusDays(2);
+        when(activeUserSketchRepository.streamRegisters(EnumSet.allOf(ActivityAction.class), Granularity.DAY, from, to))
+                .thenReturn(Stream.of(sketchOf(1, 2, 3).toBytes(), sketchOf(3, 4).toBytes()));
+
+        // when
+        long result = activeUserServiceImpl.estimate(List.of(), Granularity.DAY, from, to);
+
+        // then
+        assertEquals(Long.valueOf(4), result);
+    }
+
+    @Test
+    void estimate_ShouldRejectMinuteGranularity() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class,
+                () -> activeUserServiceImpl.estimate(List.of(), Granularity.MINUTE, from, from.plusHours(1)));
+        verifyNoInteractions(activeUserSketchRepository);
+    }
+
+    @Test
+    void estimate_ShouldRejectEmptyRange() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class,
+                () -> activeUserServiceImpl.estimate(List.of(ActivityAction.POST), Granularity.DAY, from, from));
+    }
+
+    @Test
+    void getActiveUsers_ShouldReadOneSevenAndThirtyDays() {
+        // given
+        LocalDate date = LocalDate.of(2024, 5, 31);
+        LocalDateTime end = LocalDateTime.of(2024, 6, 1, 0, 0);
+        List<ActivityAction> actions = List.of(ActivityAction.COMMENT);
+        when(activeUserSketchRepository.streamRegisters(actions, Granularity.DAY, end.minusDays(1), end))
+                .thenReturn(Stream.of(sketchOf(1).toBytes()));
+        when(activeUserSketchRepository.streamRegisters(actions, Granularity.DAY, end.minusDays(7), end))
+                .thenReturn(Stream.of(sketchOf(1).toBytes(), sketchOf(2).toBytes()));
+        when(activeUserSketchRepository.streamRegisters(actions, Granularity.DAY, end.minusDays(30), end))
+                .thenReturn(Stream.of(sketchOf(1, 2, 3).toBytes()));
+
+        // when
+        ActiveUsersDTO result = activeUserServiceImpl.getActiveUsers(actions, date);
+
+        // then
+        assertEquals(date, result.getDate());
+        assertEquals(Long.valueOf(1), result.getDailyActiveUsers());
+        assertEquals(Long.valueOf(2), result.getWeeklyActiveUsers());
+        assertEquals(Long.valueOf(3), result.getMonthlyActiveUsers());
+    }
+
+    private static HyperLogLog sketchOf(long... userIds) {
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (long userId : userIds) {
+            sketch.add(userId);
+        }
+        return sketch;
+    }
+}
@@ -5,11 +5,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.entity.CommentStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
 import org.thewhitemage13.repository.CommentStatisticRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -21,74 +24,30 @@ import static org.mockito.Mockito.*;
 class CommentStatisticServiceImplTest {
     @Mock
     private CommentStatisticRepository commentStatisticRepository;
+    @Mock
+    private StatisticBuffer statisticBuffer;
     @InjectMocks
     private CommentStatisticServiceImpl commentStatisticServiceImpl;
 
-    // Test for createCommentStatistic (When statistic doesn't exist)
-    @Test
-    void createCommentStatistic_ShouldCreateNewStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        CommentStatistic statistic = null; // No statistic for today
-
-        when(commentStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(commentStatisticRepository.save(any(CommentStatistic.class))).thenReturn(new CommentStatistic());
-
-        commentStatisticServiceImpl.createCommentStatistic();
-
-        // Verify save method is called
-        verify(commentStatisticRepository, times(1)).save(any(CommentStatistic.class));
-    }
-
-    // Test for createCommentStatistic (When statistic exists)
+    // Test for createCommentStatistic
     @Test
-    void createCommentStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        CommentStatistic statistic = new CommentStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setNumberOfCreatedComments(1L);
-        statistic.setNumberOfDeletedComments(0L);
+    void createCommentStatistic_ShouldRecordChangeInBuffer() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15);
 
-        when(commentStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
+        commentStatisticServiceImpl.createCommentStatistic(createdAt);
 
-        commentStatisticServiceImpl.createCommentStatistic();
-
-        // Verify save method is called
-        verify(commentStatisticRepository, times(1)).save(statistic);
-        assertEquals(2L, statistic.getNumberOfCreatedComments()); // Check if the count of created comments has been updated
+        verify(statisticBuffer).record(StatisticField.CREATED_COMMENTS, createdAt, 1);
+        verify(commentStatisticRepository, never()).save(any());
     }
 
-    // Test for deleteCommentStatistic (When statistic doesn't exist)
+    // Test for deleteCommentStatistic
     @Test
-    void deleteCommentStatistic_ShouldCreateStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        CommentStatistic statistic = null; // No statistic for today
-
-        when(commentStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(commentStatisticRepository.save(any(CommentStatistic.class))).thenReturn(new CommentStatistic());
-
-        commentStatisticServiceImpl.deleteCommentStatistic();
-
-        // Verify save method is called
-        verify(commentStatisticRepository, times(1)).save(any(CommentStatistic.class));
-    }
-
-    // Test for deleteCommentStatistic (When statistic exists)
-    @Test
-    void deleteCommentStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        CommentStatistic statistic = new CommentStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setNumberOfCreatedComments(2L);
-        statistic.setNumberOfDeletedComments(0L);
-
-        when(commentStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-
+    void deleteCommentStatistic_ShouldRecordChangeInBuffer() {
         commentStatisticServiceImpl.deleteCommentStatistic();
 
-        // Verify save method is called
-        verify(commentStatisticRepository, times(1)).save(statistic);
-        assertEquals(1L, statistic.getNumberOfCreatedComments()); // Check if the count of created comments has been updated
-        assertEquals(1L, statistic.getNumberOfDeletedComments()); // Check if the count of deleted comments has been updated
+        verify(statisticBuffer).record(StatisticField.DELETED_COMMENTS, null, 1);
+        verify(statisticBuffer).add(StatisticField.CREATED_COMMENTS, -1);
+        verify(commentStatisticRepository, never()).save(any());
     }
 
     // Test for showAllStatistics (Success)
@@ -164,4 +123,4 @@ class CommentStatisticServiceImplTest {
 
         verify(commentStatisticRepository, never()).delete(any(CommentStatistic.class));
     }
-}
\ No newline at end of file
+}
@@ -5,11 +5,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.entity.LikeStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
 import org.thewhitemage13.repository.LikeStatisticRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -21,149 +24,51 @@ import static org.mockito.Mockito.*;
 class LikeStatisticServiceImplTest {
     @Mock
     private LikeStatisticRepository likeStatisticRepository;
+    @Mock
+    private StatisticBuffer statisticBuffer;
     @InjectMocks
     private LikeStatisticServiceImpl likeStatisticServiceImpl;
 
-    // Test for createLikePostStatistic (When statistic doesn't exist)
-    @Test
-    void createLikePostStatistic_ShouldCreateNewStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = null; // No statistic for today
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(likeStatisticRepository.save(any(LikeStatistic.class))).thenReturn(new LikeStatistic());
-
-        likeStatisticServiceImpl.createLikePostStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(any(LikeStatistic.class));
-    }
-
-    // Test for createLikePostStatistic (When statistic exists)
+    // Test for createLikePostStatistic
     @Test
-    void createLikePostStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = new LikeStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setPostLike(1L);
-        statistic.setCommentLike(0L);
-        statistic.setRemovePostLike(0L);
-        statistic.setRemoveCommentLike(0L);
+    void createLikePostStatistic_ShouldRecordChangeInBuffer() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15);
 
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
+        likeStatisticServiceImpl.createLikePostStatistic(createdAt);
 
-        likeStatisticServiceImpl.createLikePostStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(statistic);
-        assertEquals(2L, statistic.getPostLike()); // Check if the post like count is incremented
+        verify(statisticBuffer).record(StatisticField.POST_LIKE, createdAt, 1);
+        verify(likeStatisticRepository, never()).save(any());
     }
 
-    // Test for deleteLikePostStatistic (When statistic doesn't exist)
+    // Test for deleteLikePostStatistic
     @Test
-    void deleteLikePostStatistic_ShouldCreateStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = null; // No statistic for today
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(likeStatisticRepository.save(any(LikeStatistic.class))).thenReturn(new LikeStatistic());
-
+    void deleteLikePostStatistic_ShouldRecordChangeInBuffer() {
         likeStatisticServiceImpl.deleteLikePostStatistic();
 
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(any(LikeStatistic.class));
+        verify(statisticBuffer).record(StatisticField.REMOVE_POST_LIKE, null, 1);
+        verify(statisticBuffer).add(StatisticField.POST_LIKE, -1);
+        verify(likeStatisticRepository, never()).save(any());
     }
 
-    // Test for deleteLikePostStatistic (When statistic exists)
+    // Test for createLikeCommentStatistic
     @Test
-    void deleteLikePostStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = new LikeStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setPostLike(2L);
-        statistic.setCommentLike(0L);
-        statistic.setRemovePostLike(0L);
-        statistic.setRemoveCommentLike(0L);
+    void createLikeCommentStatistic_ShouldRecordChangeInBuffer() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15);
 
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
+        likeStatisticServiceImpl.createLikeCommentStatistic(createdAt);
 
-        likeStatisticServiceImpl.deleteLikePostStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(statistic);
-        assertEquals(1L, statistic.getPostLike()); // Check if the post like count is decremented
-        assertEquals(1L, statistic.getRemovePostLike()); // Check if the removed post like count is incremented
+        verify(statisticBuffer).record(StatisticField.COMMENT_LIKE, createdAt, 1);
+        verify(likeStatisticRepository, never()).save(any());
     }
 
-    // Test for createLikeCommentStatistic (When statistic doesn't exist)
+    // Test for deleteLikeCommentStatistic
     @Test
-    void createLikeCommentStatistic_ShouldCreateNewStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = null; // No statistic for today
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(likeStatisticRepository.save(any(LikeStatistic.class))).thenReturn(new LikeStatistic());
-
-        likeStatisticServiceImpl.createLikeCommentStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(any(LikeStatistic.class));
-    }
-
-    // Test for createLikeCommentStatistic (When statistic exists)
-    @Test
-    void createLikeCommentStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = new LikeStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setPostLike(0L);
-        statistic.setCommentLike(1L);
-        statistic.setRemovePostLike(0L);
-        statistic.setRemoveCommentLike(0L);
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-
-        likeStatisticServiceImpl.createLikeCommentStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(statistic);
-        assertEquals(2L, statistic.getCommentLike()); // Check if the comment like count is incremented
-    }
-
-    // Test for deleteLikeCommentStatistic (When statistic doesn't exist)
-    @Test
-    void deleteLikeCommentStatistic_ShouldCreateStatistic_WhenNotExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = null; // No statistic for today
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-        when(likeStatisticRepository.save(any(LikeStatistic.class))).thenReturn(new LikeStatistic());
-
-        likeStatisticServiceImpl.deleteLikeCommentStatistic();
-
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(any(LikeStatistic.class));
-    }
-
-    // Test for deleteLikeCommentStatistic (When statistic exists)
-    @Test
-    void deleteLikeCommentStatistic_ShouldUpdateStatistic_WhenExists() {
-        LocalDate today = LocalDate.now();
-        LikeStatistic statistic = new LikeStatistic();
-        statistic.setStatisticDate(today);
-        statistic.setPostLike(0L);
-        statistic.setCommentLike(2L);
-        statistic.setRemovePostLike(0L);
-        statistic.setRemoveCommentLike(0L);
-
-        when(likeStatisticRepository.findByStatisticDate(today)).thenReturn(statistic);
-
+    void deleteLikeCommentStatistic_ShouldRecordChangeInBuffer() {
         likeStatisticServiceImpl.deleteLikeCommentStatistic();
 
-        // Verify save method is called
-        verify(likeStatisticRepository, times(1)).save(statistic);
-        assertEquals(1L, statistic.getCommentLike()); // Check if the comment like count is decremented
-        assertEquals(1L, statistic.getRemoveCommentLike()); // Check if the removed comment like count is incremented
+        verify(statisticBuffer).record(StatisticField.REMOVE_COMMENT_LIKE, null, 1);
+        verify(statisticBuffer).add(StatisticField.COMMENT_LIKE, -1);
+        verify(likeStatisticRepository, never()).save(any());
     }
 
     // Test for getAllLikeStatistics (Success)
@@ -243,4 +148,4 @@ class LikeStatisticServiceImplTest {
         assertEquals("Statistic with date = " + date + " not found", exception.getMessage());
         verify(likeStatisticRepository, never()).delete(any(LikeStatistic.class));
     }
-}
\ No newline at end of file
+}
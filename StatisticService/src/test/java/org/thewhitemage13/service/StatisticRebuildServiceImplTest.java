@@ -0,0 +1,265 @@
+package org.thewhitemage13.service;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.rebuild.StatisticTable;
+import org.thewhitemage13.rebuild.StatisticWriteLock;
+import org.thewhitemage13.repository.StatisticShadowRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticRebuildServiceImplTest {
+    private static final LocalDate FROM = LocalDate.of(2024, 5, 1);
+
+    @Mock
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    @Mock
+    private ConsumerFactory<Long, Object> consumerFactory;
+    @Mock
+    private StatisticBuffer statisticBuffer;
+    @Mock
+    private StatisticShadowRepository statisticShadowRepository;
+    @Mock
+    private StatisticWriteLock statisticWriteLock;
+    @Mock
+    private StatisticWriteLock.Exclusive exclusiveLock;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private MessageListenerContainer container;
+    @Mock
+    private Consumer<Long, Object> consumer;
+
+    private StatisticRebuildServiceImpl statisticRebuildServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        statisticRebuildServiceImpl = new StatisticRebuildServiceImpl
+                (
+                        kafkaListenerEndpointRegistry,
+                        consumerFactory,
+                        statisticBuffer,
+                        statisticShadowRepository,
+                        statisticWriteLock,
+                        transactionTemplate,
+                        "statistic-id",
+                        5000,
+                        10,
+                        1000
+                );
+    }
+
+    @Test
+    void rebuild_ShouldReplayUpToCommittedOffsetsAndSwapAllTables() {
+        // given
+        TopicPartition partition = new TopicPartition("post.like.created", 0);
+        long fromMillis = FROM.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        givenPausedListeners();
+        when(container.getGroupId()).thenReturn("statistic-id");
+        when(container.getAssignedPartitions()).thenReturn(List.of(partition));
+        when(statisticBuffer.isDrained()).thenReturn(true);
+        when(statisticWriteLock.acquireExclusive(any(Duration.class))).thenReturn(exclusiveLock);
+        when(consumerFactory.createConsumer(eq("statistic-id"), isNull(), eq("-rebuild"), any(Properties.class))).thenReturn(consumer);
+        when(consumer.partitionsFor(anyString())).thenReturn(null);
+        when(consumer.partitionsFor("post.like.created")).thenReturn(List.of(new PartitionInfo("post.like.created", 0, null, null, null)));
+        when(consumer.committed(anySet())).thenReturn(Map.of(partition, new OffsetAndMetadata(2)));
+        when(consumer.endOffsets(anyCollection())).thenReturn(Map.of(partition, 5L));
+        when(consumer.offsetsForTimes(Map.of(partition, fromMillis))).thenReturn(Map.of(partition, new OffsetAndTimestamp(0, fromMillis)));
+        when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(partition, List.of
+                (
+                        record(partition, 0, fromMillis),
+                        record(partition, 1, fromMillis),
+                        record(partition, 2, fromMillis)
+                ))));
+        when(consumer.position(partition)).thenReturn(3L);
+        doAnswer(invocation -> {
+            invocation.<java.util.function.Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        long events = statisticRebuildServiceImpl.rebuild(FROM);
+
+        // then
+        assertEquals(2, events);
+        verify(consumer).seek(partition, 0);
+        verify(consumer).close();
+        verify(statisticShadowRepository, times(StatisticTable.values().length)).load(any(), any(), any());
+        for (StatisticTable table : StatisticTable.values()) {
+            verify(statisticShadowRepository).swap(table, FROM);
+        }
+        verify(container).pause();
+        verify(container).resume();
+        verify(exclusiveLock).close();
+    }
+
+    @Test
+    void rebuild_ShouldReplay_WhenOnlyEventsBeforeStartWereDeleted() {
+        // given
+        TopicPartition partition = new TopicPartition("post.like.created", 0);
+        long fromMillis = FROM.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        givenRebuildOf(partition, 14L);
+        when(consumer.beginningOffsets(anyCollection())).thenReturn(Map.of(partition, 10L));
+        when(consumer.offsetsForTimes(Map.of(partition, fromMillis))).thenReturn(Map.of(partition, new OffsetAndTimestamp(12, fromMillis)));
+        when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(partition, List.of
+                (
+                        record(partition, 12, fromMillis),
+                        record(partition, 13, fromMillis)
+                ))));
+        when(consumer.position(partition)).thenReturn(14L);
+        doAnswer(invocation -> {
+            invocation.<java.util.function.Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        long events = statisticRebuildServiceImpl.rebuild(FROM);
+
+        // then
+        assertEquals(2, events);
+        verify(consumer).seek(partition, 12);
+        verify(statisticShadowRepository).swap(StatisticTable.LIKE, FROM);
+    }
+
+    @Test
+    void rebuild_ShouldAbortWithoutSwapping_WhenRetentionTruncatedTheRange() {
+        // given
+        TopicPartition partition = new TopicPartition("post.like.created", 0);
+        long fromMillis = FROM.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        givenRebuildOf(partition, 14L);
+        when(consumer.beginningOffsets(anyCollection())).thenReturn(Map.of(partition, 10L));
+        when(consumer.offsetsForTimes(Map.of(partition, fromMillis))).thenReturn(Map.of(partition, new OffsetAndTimestamp(10, fromMillis + 86_400_000L)));
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> statisticRebuildServiceImpl.rebuild(FROM));
+
+        // then
+        assertTrue(exception.getMessage().contains("post.like.created-0"));
+        verify(consumer, never()).assign(anyCollection());
+        verify(exclusiveLock).close();
+        verify(container).resume();
+        verifyNoInteractions(statisticShadowRepository, transactionTemplate);
+    }
+
+    @Test
+    void rebuild_ShouldAbort_WhenRetentionDeletedEveryEvent() {
+        // given
+        TopicPartition partition = new TopicPartition("post.like.created", 0);
+        long fromMillis = FROM.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Map<TopicPartition, OffsetAndTimestamp> starts = new HashMap<>();
+        starts.put(partition, null);
+        givenRebuildOf(partition, 5L);
+        when(consumer.beginningOffsets(anyCollection())).thenReturn(Map.of(partition, 5L));
+        when(consumer.offsetsForTimes(Map.of(partition, fromMillis))).thenReturn(starts);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> statisticRebuildServiceImpl.rebuild(FROM));
+
+        // then
+        verify(consumer, never()).assign(anyCollection());
+        verifyNoInteractions(statisticShadowRepository, transactionTemplate);
+    }
+
+    @Test
+    void rebuild_ShouldAbort_WhenOtherInstancesOwnStatisticPartitions() {
+        // given
+        givenPausedListeners();
+        when(container.getGroupId()).thenReturn("statistic-id");
+        when(container.getAssignedPartitions()).thenReturn(List.of(new TopicPartition("post.like.created", 0)));
+        when(statisticBuffer.isDrained()).thenReturn(true);
+        when(statisticWriteLock.acquireExclusive(any(Duration.class))).thenReturn(exclusiveLock);
+        when(consumerFactory.createConsumer(eq("statistic-id"), isNull(), eq("-rebuild"), any(Properties.class))).thenReturn(consumer);
+        when(consumer.partitionsFor(anyString())).thenReturn(null);
+        when(consumer.partitionsFor("post.like.created")).thenReturn(List.of
+                (
+                        new PartitionInfo("post.like.created", 0, null, null, null),
+                        new PartitionInfo("post.like.created", 1, null, null, null)
+                ));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> statisticRebuildServiceImpl.rebuild(FROM));
+
+        // then
+        verify(consumer, never()).assign(anyCollection());
+        verify(exclusiveLock).close();
+        verify(container).resume();
+        verifyNoInteractions(statisticShadowRepository, transactionTemplate);
+    }
+
+    @Test
+    void rebuild_ShouldAbortAndResumeListeners_WhenBufferCannotBeFlushed() {
+        givenPausedListeners();
+        when(statisticBuffer.isDrained()).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> statisticRebuildServiceImpl.rebuild(FROM));
+
+        verify(statisticBuffer).flush();
+        verify(container).resume();
+        verifyNoInteractions(consumerFactory, statisticShadowRepository, statisticWriteLock, transactionTemplate);
+    }
+
+    @Test
+    void start_ShouldRejectFutureStartDate() {
+        assertThrows(IllegalArgumentException.class, () -> statisticRebuildServiceImpl.start(LocalDate.now().plusDays(1)));
+    }
+
+    private void givenRebuildOf(TopicPartition partition, long endOffset) {
+        givenPausedListeners();
+        when(container.getGroupId()).thenReturn("statistic-id");
+        when(container.getAssignedPartitions()).thenReturn(List.of(partition));
+        when(statisticBuffer.isDrained()).thenReturn(true);
+        when(statisticWriteLock.acquireExclusive(any(Duration.class))).thenReturn(exclusiveLock);
+        when(consumerFactory.createConsumer(eq("statistic-id"), isNull(), eq("-rebuild"), any(Properties.class))).thenReturn(consumer);
+        when(consumer.partitionsFor(anyString())).thenReturn(null);
+        when(consumer.partitionsFor(partition.topic())).thenReturn(List.of(new PartitionInfo(partition.topic(), partition.partition(), null, null, null)));
+        when(consumer.committed(anySet())).thenReturn(Map.of());
+        when(consumer.endOffsets(anyCollection())).thenReturn(Map.of(partition, endOffset));
+    }
+
+    private void givenPausedListeners() {
+        when(kafkaListenerEndpointRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(true);
+        when(container.isContainerPaused()).thenReturn(true);
+    }
+
+    private static ConsumerRecord<Long, Object> record(TopicPartition partition, long offset, long timestamp) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, timestamp, TimestampType.CREATE_TIME,
+                0, 0, 1L, new LikeEvent(), new RecordHeaders(), Optional.empty());
+    }
+}
@@ -0,0 +1,115 @@
+package org.thewhitemage13.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.thewhitemage13.buffer.StatisticField;
+import org.thewhitemage13.dto.RollupPointDTO;
+import org.thewhitemage13.entity.StatisticRollup;
+import org.thewhitemage13.repository.StatisticRollupRepository;
+import org.thewhitemage13.rollup.Granularity;
+import org.thewhitemage13.rollup.RollupDelta;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticRollupServiceImplTest {
+    @Mock
+    private StatisticRollupRepository statisticRollupRepository;
+
+    private StatisticRollupServiceImpl statisticRollupServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        statisticRollupServiceImpl = new StatisticRollupServiceImpl(statisticRollupRepository, 1000);
+    }
+
+    @Test
+    void addDeltas_ShouldFoldMinutesIntoHourAndDayBuckets() {
+        // given
+        LocalDateTime first = LocalDateTime.of(2024, 5, 1, 10, 15);
+        LocalDateTime second = LocalDateTime.of(2024, 5, 1, 10, 40);
+
+        // when
+        statisticRollupServiceImpl.addDeltas(List.of
+                (
+                        new RollupDelta(StatisticField.POST_LIKE, first, 2),
+                        new RollupDelta(StatisticField.POST_LIKE, second, 3)
+                ));
+
+        // then
+        verify(statisticRollupRepository).addDelta("POST_LIKE", "MINUTE", first, 2);
+        verify(statisticRollupRepository).addDelta("POST_LIKE", "MINUTE", second, 3);
+        verify(statisticRollupRepository).addDelta("POST_LIKE", "HOUR", LocalDateTime.of(2024, 5, 1, 10, 0), 5);
+        verify(statisticRollupRepository).addDelta("POST_LIKE", "DAY", LocalDateTime.of(2024, 5, 1, 0, 0), 5);
+        verifyNoMoreInteractions(statisticRollupRepository);
+    }
+
+    @Test
+    void getSum_ShouldReadDayBucketsAndFinerEdges() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 10, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 5, 8, 10, 30);
+        StatisticField field = StatisticField.NEW_USERS;
+        when(statisticRollupRepository.sumTotal(field, Granularity.DAY, LocalDateTime.of(2024, 5, 2, 0, 0), LocalDateTime.of(2024, 5, 8, 0, 0))).thenReturn(600L);
+        when(statisticRollupRepository.sumTotal(field, Granularity.HOUR, LocalDateTime.of(2024, 5, 1, 11, 0), LocalDateTime.of(2024, 5, 2, 0, 0))).thenReturn(50L);
+        when(statisticRollupRepository.sumTotal(field, Granularity.MINUTE, from, LocalDateTime.of(2024, 5, 1, 11, 0))).thenReturn(4L);
+        when(statisticRollupRepository.sumTotal(field, Granularity.HOUR, LocalDateTime.of(2024, 5, 8, 0, 0), LocalDateTime.of(2024, 5, 8, 10, 0))).thenReturn(30L);
+        when(statisticRollupRepository.sumTotal(field, Granularity.MINUTE, LocalDateTime.of(2024, 5, 8, 10, 0), to)).thenReturn(2L);
+
+        // when
+        long sum = statisticRollupServiceImpl.getSum(field, from, to);
+
+        // then
+        assertEquals(686L, sum);
+        verify(statisticRollupRepository, times(5)).sumTotal(any(), any(), any(), any());
+    }
+
+    @Test
+    void getSum_ShouldThrowException_WhenRangeIsEmpty() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> statisticRollupServiceImpl.getSum(StatisticField.POST_LIKE, now, now));
+        verifyNoInteractions(statisticRollupRepository);
+    }
+
+    @Test
+    void getSeries_ShouldThrowException_WhenRangeHasTooManyBuckets() {
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> statisticRollupServiceImpl.getSeries(StatisticField.POST_LIKE, Granularity.MINUTE, from, from.plusDays(1)));
+        verifyNoInteractions(statisticRollupRepository);
+    }
+
+    @Test
+    void getTopBuckets_ShouldReturnLargestBuckets() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        StatisticRollup busiest = new StatisticRollup(1L, StatisticField.POST_LIKE, Granularity.HOUR, from.plusHours(20), 90L);
+        when(statisticRollupRepository.findTop(StatisticField.POST_LIKE, Granularity.HOUR, from, to, PageRequest.of(0, 3))).thenReturn(List.of(busiest));
+
+        // when
+        List<RollupPointDTO> top = statisticRollupServiceImpl.getTopBuckets(StatisticField.POST_LIKE, Granularity.HOUR, from, to, 3);
+
+        // then
+        assertEquals(1, top.size());
+        assertEquals(from.plusHours(20), top.get(0).getBucketStart());
+        assertEquals(Long.valueOf(90L), top.get(0).getTotal());
+    }
+
+    @Test
+    void getTopBuckets_ShouldThrowException_WhenLimitIsInvalid() {
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> statisticRollupServiceImpl.getTopBuckets(StatisticField.POST_LIKE, Granularity.HOUR, from, from.plusDays(1), 0));
+    }
+}
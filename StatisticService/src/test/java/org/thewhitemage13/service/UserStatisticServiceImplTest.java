@@ -7,6 +7,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.thewhitemage13.UserEvent;
+import org.thewhitemage13.buffer.StatisticBuffer;
+import org.thewhitemage13.buffer.StatisticField;
 import org.thewhitemage13.entity.UserStatistic;
 import org.thewhitemage13.exception.StatisticNotFoundException;
 import org.thewhitemage13.repository.UserStatisticRepository;
@@ -22,6 +24,8 @@ import static org.mockito.Mockito.*;
 class UserStatisticServiceImplTest {
     @Mock
     private UserStatisticRepository userStatisticRepository;
+    @Mock
+    private StatisticBuffer statisticBuffer;
     @InjectMocks
     private UserStatisticServiceImpl userStatisticServiceImpl;
 
@@ -103,68 +107,29 @@ class UserStatisticServiceImplTest {
     }
 
     @Test
-    void createUserStatistic_ShouldCreateNewStatistic_WhenNotExists() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        UserEvent userEvent = new UserEvent();
-        when(userStatisticRepository.findByStatisticDate(today)).thenReturn(null);
-
-        // Act
-        userStatisticServiceImpl.createUserStatistic(userEvent);
-
-        // Assert
-        verify(userStatisticRepository, times(1)).save(Mockito.any(UserStatistic.class));
-    }
-
-    @Test
-    void createUserStatistic_ShouldUpdateStatistic_WhenExists() {
+    void createUserStatistic_ShouldRecordChangeInBuffer() {
         // Arrange
-        LocalDate today = LocalDate.now();
         UserEvent userEvent = new UserEvent();
-        UserStatistic existingStatistic = new UserStatistic();
-        existingStatistic.setStatisticDate(today);
-        existingStatistic.setNewUsers(5L);
-        when(userStatisticRepository.findByStatisticDate(today)).thenReturn(existingStatistic);
 
         // Act
         userStatisticServiceImpl.createUserStatistic(userEvent);
 
         // Assert
-        verify(userStatisticRepository, times(1)).save(existingStatistic);
-        assertEquals(6L, existingStatistic.getNewUsers());
-    }
-
-    @Test
-    void remoteUserStatistic_ShouldCreateNewStatistic_WhenNotExists() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        UserEvent userEvent = new UserEvent();
-        when(userStatisticRepository.findByStatisticDate(today)).thenReturn(null);
-
-        // Act
-        userStatisticServiceImpl.remoteUserStatistic(userEvent);
-
-        // Assert
-        verify(userStatisticRepository, times(1)).save(Mockito.any(UserStatistic.class));
+        verify(statisticBuffer).record(StatisticField.NEW_USERS, null, 1);
+        verify(userStatisticRepository, never()).save(any());
     }
 
     @Test
-    void remoteUserStatistic_ShouldUpdateStatistic_WhenExists() {
+    void remoteUserStatistic_ShouldRecordChangeInBuffer() {
         // Arrange
-        LocalDate today = LocalDate.now();
         UserEvent userEvent = new UserEvent();
-        UserStatistic existingStatistic = new UserStatistic();
-        existingStatistic.setStatisticDate(today);
-        existingStatistic.setNewUsers(5L);
-        existingStatistic.setRemoteUsers(2L);
-        when(userStatisticRepository.findByStatisticDate(today)).thenReturn(existingStatistic);
 
         // Act
         userStatisticServiceImpl.remoteUserStatistic(userEvent);
 
         // Assert
-        verify(userStatisticRepository, times(1)).save(existingStatistic);
-        assertEquals(4L, existingStatistic.getNewUsers());
-        assertEquals(3L, existingStatistic.getRemoteUsers());
+        verify(statisticBuffer).record(StatisticField.REMOTE_USERS, null, 1);
+        verify(statisticBuffer).add(StatisticField.NEW_USERS, -1);
+        verify(userStatisticRepository, never()).save(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package org.thewhitemage13.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_ShouldBeWithinFewPercentOfDistinctCount() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+
+        // when
+        for (long id = 1; id <= 100_000; id++) {
+            sketch.add(id);
+        }
+
+        // then
+        assertEquals(100_000, sketch.estimate(), 5_000);
+    }
+
+    @Test
+    void estimate_ShouldBeExactForSmallCounts() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+
+        // when
+        for (long id = 1; id <= 10; id++) {
+            sketch.add(id);
+        }
+
+        // then
+        assertEquals(Long.valueOf(10), sketch.estimate());
+    }
+
+    @Test
+    void add_ShouldIgnoreDuplicates() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (long id = 1; id <= 1_000; id++) {
+            sketch.add(id);
+        }
+        HyperLogLog before = sketch.copy();
+
+        // when
+        for (long id = 1; id <= 1_000; id++) {
+            sketch.add(id);
+        }
+
+        // then
+        assertTrue(sketch.hasSameRegisters(before));
+    }
+
+    @Test
+    void merge_ShouldEqualSketchOfUnion() {
+        // given
+        HyperLogLog first = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog second = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog union = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (long id = 1; id <= 20_000; id++) {
+            (id % 2 == 0 ? first : second).add(id);
+            if (id % 3 == 0) {
+                first.add(id);
+            }
+            union.add(id);
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertTrue(first.hasSameRegisters(union));
+    }
+
+    @Test
+    void merge_ShouldRejectDifferentPrecision() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    void toBytes_ShouldRoundTripSparseSketch() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (long id = 1; id <= 100; id++) {
+            sketch.add(id);
+        }
+
+        // when
+        byte[] bytes = sketch.toBytes();
+
+        // then
+        assertTrue(bytes.length < 1 << HyperLogLog.DEFAULT_PRECISION);
+        assertTrue(HyperLogLog.fromBytes(bytes).hasSameRegisters(sketch));
+    }
+
+    @Test
+    void toBytes_ShouldRoundTripDenseSketch() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (long id = 1; id <= 50_000; id++) {
+            sketch.add(id);
+        }
+
+        // when
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        // then
+        assertTrue(restored.hasSameRegisters(sketch));
+        assertEquals(sketch.estimate(), restored.estimate());
+    }
+}
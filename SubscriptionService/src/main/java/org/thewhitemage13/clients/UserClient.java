@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.thewhitemage13.dto.UserSubscriptionDTO;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
 
 import java.util.List;
 
@@ -59,4 +60,16 @@ public interface UserClient {
      */
     @GetMapping
     List<UserSubscriptionDTO> getUsersByIds(@RequestParam List<Long> ids);
+
+    /**
+     * Retrieves the existence filter over all user IDs.
+     * <p>
+     * This method sends a GET request to the "/users/existence-filter" endpoint of the User Service.
+     * The result is kept as a local replica to reject unknown users without a verification request.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} containing the {@link ExistenceFilterSnapshot}
+     */
+    @GetMapping("/existence-filter")
+    ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter();
 }
@@ -0,0 +1,35 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.clients.UserClient;
+import org.thewhitemage13.filter.ExistenceFilters;
+
+/**
+ * Configuration class for the local existence filter.
+ * <p>
+ * This class registers a replica of the user existence filter, fetched from the owning
+ * service through its Feign client. Validation consults the replicas before calling the
+ * verification endpoints and only makes the remote call when a replica answers "maybe".
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class ExistenceFilterConfig {
+
+    /**
+     * Configures the existence filter replicas.
+     *
+     * @param userClient   the client of the user service
+     * @param safetyMargin the number of IDs below a snapshot's highest ID that are checked remotely
+     * @return an {@code ExistenceFilters} instance, empty until the first refresh
+     */
+    @Bean
+    ExistenceFilters existenceFilters(UserClient userClient, @Value("${existence-filter.safety-margin:1000}") long safetyMargin) {
+        return new ExistenceFilters(safetyMargin)
+                .register(ExistenceFilters.USERS, () -> userClient.getExistenceFilter().getBody());
+    }
+}
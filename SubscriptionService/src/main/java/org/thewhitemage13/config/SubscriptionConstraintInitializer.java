@@ -0,0 +1,104 @@
+package org.thewhitemage13.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thewhitemage13.repository.SubscriptionCounterRepository;
+
+/**
+ * Prepares the subscription tables before the application starts serving.
+ * <p>
+ * Hibernate only adds the unique {@code (follower_id, following_id)} constraint to an existing
+ * table if no pair occurs twice, and skips it with a log line otherwise. Here all but the
+ * oldest subscription of each duplicated pair are deleted and the constraint's index is
+ * created explicitly. No events are published for the deleted rows, the pair stays subscribed.
+ * </p>
+ * <p>
+ * Follower counts are read from {@code subscription_counters} only. When the table is still
+ * empty while subscriptions exist, which is the case on the first start after the counters were
+ * introduced, or when duplicates were deleted, the counters are rebuilt from the subscriptions
+ * before the first request can read them.
+ * </p>
+ *
+ * <h2>Indexes:</h2>
+ * <ul>
+ *     <li>{@code uk_subscription_follower_following} on {@code (follower_id, following_id)}.</li>
+ * </ul>
+ * <p>
+ * The work runs in one transaction holding the counter lock of
+ * {@link SubscriptionCounterRepository} exclusively, so instances starting at the same time wait
+ * for each other and no subscription changes while the counters are rebuilt.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SubscriptionConstraintInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionConstraintInitializer.class);
+    private static final String INDEX_NAME = "uk_subscription_follower_following";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
+
+    /**
+     * Constructs a new {@code SubscriptionConstraintInitializer}.
+     *
+     * @param jdbcTemplate                  the template used to run the DDL
+     * @param transactionTemplate           the template running the initialization in one transaction
+     * @param subscriptionCounterRepository the repository rebuilding the counters
+     */
+    public SubscriptionConstraintInitializer
+            (
+                    JdbcTemplate jdbcTemplate,
+                    TransactionTemplate transactionTemplate,
+                    SubscriptionCounterRepository subscriptionCounterRepository
+            ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.subscriptionCounterRepository = subscriptionCounterRepository;
+    }
+
+    /**
+     * Creates the unique index if it does not exist yet and backfills the counters if needed.
+     */
+    @PostConstruct
+    void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            subscriptionCounterRepository.lockExclusive(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+            int removed = createIndex();
+            Boolean backfill = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM subscription_counters) AND EXISTS (SELECT 1 FROM subscription)", Boolean.class);
+            if (removed > 0 || Boolean.TRUE.equals(backfill)) {
+                long rebuilt = (long) subscriptionCounterRepository.rebuildAll() + subscriptionCounterRepository.zeroUnused();
+                LOGGER.info("Rebuilt {} subscription counters from the subscriptions", rebuilt);
+            }
+        });
+    }
+
+    private int createIndex() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, INDEX_NAME);
+        if (Boolean.TRUE.equals(exists)) {
+            return 0;
+        }
+        int removed = jdbcTemplate.update("""
+                DELETE FROM subscription duplicate
+                USING subscription oldest
+                WHERE duplicate.follower_id = oldest.follower_id
+                  AND duplicate.following_id = oldest.following_id
+                  AND duplicate.subscription_id > oldest.subscription_id
+                """);
+        if (removed > 0) {
+            LOGGER.warn("Deleted {} duplicate subscriptions before creating {}", removed, INDEX_NAME);
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS %s ON subscription (follower_id, following_id)".formatted(INDEX_NAME));
+        LOGGER.info("Created unique index {}", INDEX_NAME);
+        return removed;
+    }
+}
@@ -142,4 +142,17 @@ public class SubscriptionController {
         }
     }
 
+    @Operation(summary = "Reconcile subscription counters", description = "Re-derives the follower and following counters of all users from the subscriptions.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counters reconciled; the body holds the number of counters rewritten"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/subscription-counters/reconcile")
+    public ResponseEntity<Long> reconcileCounters() {
+        try {
+            return ResponseEntity.ok(subscriptionServiceImpl.reconcileCounters());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package org.thewhitemage13.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.thewhitemage13.dto.TimelinePageDTO;
+import org.thewhitemage13.service.TimelineServiceImpl;
+
+@Tag(name = "Timeline Controller", description = "Serves users' home timelines built from the accounts they follow.")
+@RestController
+@RequestMapping("/users")
+public class TimelineController {
+    private final TimelineServiceImpl timelineServiceImpl;
+
+    @Autowired
+    public TimelineController(TimelineServiceImpl timelineServiceImpl) {
+        this.timelineServiceImpl = timelineServiceImpl;
+    }
+
+    @Operation(summary = "Get home timeline", description = "Retrieve one page of post IDs from the accounts the user follows, newest first. Pass the returned cursor to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Timeline page retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{userId}/timeline")
+    public ResponseEntity<TimelinePageDTO> getTimeline(@PathVariable Long userId,
+                                                       @RequestParam(required = false) Long cursor,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(timelineServiceImpl.getTimeline(userId, cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
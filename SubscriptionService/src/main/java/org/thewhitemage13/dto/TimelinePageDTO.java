@@ -0,0 +1,28 @@
+package org.thewhitemage13.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a user's home timeline.
+ * <p>
+ * The timeline holds post IDs only, newest first; clients load the posts themselves from
+ * the Post Service. {@code nextCursor} is the value to pass as {@code cursor} to get the
+ * next page, or {@code null} when there are no older entries.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelinePageDTO {
+    private List<Long> postIds;
+    private Long nextCursor;
+}
@@ -4,6 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,6 +27,8 @@ import java.time.LocalDateTime;
  *     <li>Unique identification for each subscription via {@code subscriptionId}.</li>
  *     <li>Tracks the follower and the user being followed through their respective IDs.</li>
  *     <li>Stores the timestamp indicating when the subscription was created.</li>
+ *     <li>Indexed in both directions: the unique {@code (follower_id, following_id)} constraint
+ *     serves lookups by follower, {@code (following_id, follower_id)} serves lookups by followed user.</li>
  * </ul>
  *
  * <p>
@@ -39,6 +44,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_subscription_follower_following", columnNames = {"follower_id", "following_id"}),
+        indexes = @Index(name = "idx_subscription_following_follower", columnList = "following_id, follower_id")
+)
 public class Subscription {
 
     /**
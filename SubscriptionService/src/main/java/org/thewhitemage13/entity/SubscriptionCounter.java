@@ -0,0 +1,42 @@
+package org.thewhitemage13.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Denormalized follower and following counters of a single user.
+ * <p>
+ * The counters are updated in the same transaction as the subscriptions they count, so
+ * reading them costs one primary-key lookup however many followers a user has. They are
+ * backfilled from the subscriptions on the first start by
+ * {@link org.thewhitemage13.config.SubscriptionConstraintInitializer} and can be re-derived by
+ * the reconciliation endpoint.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "subscription_counters")
+@Entity
+public class SubscriptionCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "follower_count", nullable = false)
+    private Long followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private Long followingCount;
+}
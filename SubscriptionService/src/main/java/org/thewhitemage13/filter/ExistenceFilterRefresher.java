@@ -0,0 +1,41 @@
+package org.thewhitemage13.filter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the existence filter replicas from the owning services.
+ * <p>
+ * Between reloads the replicas are kept current from the create events. A reload drops the
+ * identifiers of deleted entities and resizes the filter to the current number of entities.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ExistenceFilterRefresher {
+    private final ExistenceFilters existenceFilters;
+
+    /**
+     * Constructs a new {@code ExistenceFilterRefresher}.
+     *
+     * @param existenceFilters the replicas to reload
+     */
+    @Autowired
+    public ExistenceFilterRefresher(ExistenceFilters existenceFilters) {
+        this.existenceFilters = existenceFilters;
+    }
+
+    /**
+     * Fetches new snapshots for all replicas. A replica that cannot be loaded keeps its current filter.
+     */
+    @Scheduled(
+            initialDelayString = "${existence-filter.initial-delay-ms:30000}",
+            fixedDelayString = "${existence-filter.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        existenceFilters.refreshAll();
+    }
+}
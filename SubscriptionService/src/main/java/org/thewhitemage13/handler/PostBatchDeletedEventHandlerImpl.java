@@ -0,0 +1,44 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.service.TimelineServiceImpl;
+
+/**
+ * Handles the "post.deleted.batch" Kafka topic events.
+ * <p>
+ * This component listens for chunks of posts removed by the bulk deletion of their author and
+ * removes the whole chunk from the home timelines through {@link TimelineServiceImpl}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.deleted.batch")
+public class PostBatchDeletedEventHandlerImpl {
+    private final TimelineServiceImpl timelineServiceImpl;
+
+    /**
+     * Constructs a new {@code PostBatchDeletedEventHandlerImpl} with the specified timeline service.
+     *
+     * @param timelineServiceImpl the timeline service used to remove the posts
+     */
+    @Autowired
+    public PostBatchDeletedEventHandlerImpl(TimelineServiceImpl timelineServiceImpl) {
+        this.timelineServiceImpl = timelineServiceImpl;
+    }
+
+    /**
+     * Handles a {@code BatchDeletedEvent} when a chunk of posts is deleted.
+     *
+     * @param batchDeletedEvent the event containing the author and the IDs of the deleted posts
+     */
+    @KafkaHandler
+    public void postsDeleted(BatchDeletedEvent batchDeletedEvent) {
+        timelineServiceImpl.removePosts(batchDeletedEvent.getUserId(), batchDeletedEvent.getIds());
+    }
+}
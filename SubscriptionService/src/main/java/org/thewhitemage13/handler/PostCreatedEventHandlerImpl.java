@@ -0,0 +1,46 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.interfaces.PostCreateEventHandlerInterface;
+import org.thewhitemage13.service.TimelineServiceImpl;
+
+/**
+ * Handles the "post.created" Kafka topic events.
+ * <p>
+ * This component listens for events on the "post.created" topic and adds the new post
+ * to the home timelines of its author's audience through {@link TimelineServiceImpl}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.created")
+public class PostCreatedEventHandlerImpl implements PostCreateEventHandlerInterface {
+    private final TimelineServiceImpl timelineServiceImpl;
+
+    /**
+     * Constructs a new {@code PostCreatedEventHandlerImpl} with the specified timeline service.
+     *
+     * @param timelineServiceImpl the timeline service used to fan out the post
+     */
+    @Autowired
+    public PostCreatedEventHandlerImpl(TimelineServiceImpl timelineServiceImpl) {
+        this.timelineServiceImpl = timelineServiceImpl;
+    }
+
+    /**
+     * Handles a {@code PostEvent} when a post is created.
+     *
+     * @param postEvent the event describing the created post
+     */
+    @Override
+    @KafkaHandler
+    public void postCreate(PostEvent postEvent) {
+        timelineServiceImpl.fanOut(postEvent);
+    }
+}
@@ -0,0 +1,46 @@
+package org.thewhitemage13.handler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.interfaces.PostDeleteEventHandlerInterface;
+import org.thewhitemage13.service.TimelineServiceImpl;
+
+/**
+ * Handles the "post.deleted" Kafka topic events.
+ * <p>
+ * This component listens for events on the "post.deleted" topic and removes the post
+ * from the home timelines it was added to through {@link TimelineServiceImpl}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@KafkaListener(topics = "post.deleted")
+public class PostDeletedEventHandlerImpl implements PostDeleteEventHandlerInterface {
+    private final TimelineServiceImpl timelineServiceImpl;
+
+    /**
+     * Constructs a new {@code PostDeletedEventHandlerImpl} with the specified timeline service.
+     *
+     * @param timelineServiceImpl the timeline service used to remove the post
+     */
+    @Autowired
+    public PostDeletedEventHandlerImpl(TimelineServiceImpl timelineServiceImpl) {
+        this.timelineServiceImpl = timelineServiceImpl;
+    }
+
+    /**
+     * Handles a {@code PostEvent} when a post is deleted.
+     *
+     * @param postEvent the event describing the deleted post
+     */
+    @Override
+    @KafkaHandler
+    public void postDelete(PostEvent postEvent) {
+        timelineServiceImpl.removePost(postEvent);
+    }
+}
@@ -112,4 +112,10 @@ public interface SubscriptionInterface {
      */
     void deleteFollowingById(Long followingId);
 
+    /**
+     * Re-derives the follower and following counters of all users from the subscriptions.
+     *
+     * @return the number of counters that were rewritten
+     */
+    long reconcileCounters();
 }
@@ -0,0 +1,52 @@
+package org.thewhitemage13.interfaces;
+
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.dto.TimelinePageDTO;
+
+import java.util.List;
+
+/**
+ * Defines the contract for maintaining and reading users' home timelines.
+ * <p>
+ * A home timeline is the list of post IDs published by the users someone follows,
+ * newest first. Posts are pushed to followers when they are created, except for
+ * accounts with very large audiences, whose posts are pulled when a timeline is read.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface TimelineServiceInterface {
+
+    /**
+     * Adds a newly created post to the timelines of its author's audience.
+     *
+     * @param postEvent the event describing the created post
+     */
+    void fanOut(PostEvent postEvent);
+
+    /**
+     * Removes a deleted post from the timelines it was added to.
+     *
+     * @param postEvent the event describing the deleted post
+     */
+    void removePost(PostEvent postEvent);
+
+    /**
+     * Removes a chunk of posts deleted together with their author.
+     *
+     * @param authorId the ID of the author of the posts
+     * @param postIds  the IDs of the deleted posts
+     */
+    void removePosts(Long authorId, List<Long> postIds);
+
+    /**
+     * Retrieves one page of a user's home timeline.
+     *
+     * @param userId the ID of the user whose timeline is read
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the requested page size
+     * @return a page of post IDs, newest first
+     */
+    TimelinePageDTO getTimeline(Long userId, Long cursor, int size);
+}
@@ -0,0 +1,154 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.thewhitemage13.entity.SubscriptionCounter;
+
+/**
+ * Repository interface for managing {@link SubscriptionCounter} entities.
+ * <p>
+ * Besides the standard CRUD operations, it provides atomic updates that add deltas to the
+ * counters without a read-modify-write cycle, and a set-based rebuild from the subscriptions.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface SubscriptionCounterRepository extends JpaRepository<SubscriptionCounter, Long> {
+
+    /**
+     * The advisory lock separating changes to the subscriptions from a rebuild of the counters.
+     */
+    long COUNTER_LOCK_ID = 0x73756273L;
+
+    /**
+     * Takes the counter lock in shared mode for the current transaction. Every transaction that
+     * changes subscriptions takes it before its first write, so none of them runs while the
+     * counters are rebuilt.
+     *
+     * @param lockId the advisory lock identifier
+     * @return always {@code 1}
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(:lockId)) l", nativeQuery = true)
+    long lockShared(@Param("lockId") long lockId);
+
+    /**
+     * Takes the counter lock exclusively for the current transaction, waiting for the running
+     * subscription changes to commit.
+     *
+     * @param lockId the advisory lock identifier
+     * @return always {@code 1}
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:lockId)) l", nativeQuery = true)
+    long lockExclusive(@Param("lockId") long lockId);
+
+    /**
+     * Adds the given deltas to the counters of a user, creating the counter row on first use.
+     *
+     * @param userId         the ID of the user
+     * @param followerDelta  the value added to the follower counter
+     * @param followingDelta the value added to the following counter
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO subscription_counters (user_id, follower_count, following_count)
+            VALUES (:userId, :followerDelta, :followingDelta)
+            ON CONFLICT (user_id) DO UPDATE
+            SET follower_count = subscription_counters.follower_count + EXCLUDED.follower_count,
+                following_count = subscription_counters.following_count + EXCLUDED.following_count
+            """, nativeQuery = true)
+    int addDeltas(@Param("userId") Long userId, @Param("followerDelta") long followerDelta, @Param("followingDelta") long followingDelta);
+
+    /**
+     * Takes one follower off the follower counter of every user the given follower follows.
+     * Must run before the follower's subscriptions are deleted.
+     *
+     * @param followerId the ID of the follower
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE subscription_counters c
+            SET follower_count = c.follower_count - s.removed
+            FROM (SELECT following_id, COUNT(*) AS removed FROM subscription WHERE follower_id = :followerId GROUP BY following_id) s
+            WHERE c.user_id = s.following_id
+            """, nativeQuery = true)
+    int subtractFollower(@Param("followerId") Long followerId);
+
+    /**
+     * Takes one followed user off the following counter of every follower of the given user.
+     * Must run before the user's followers' subscriptions are deleted.
+     *
+     * @param followingId the ID of the followed user
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE subscription_counters c
+            SET following_count = c.following_count - s.removed
+            FROM (SELECT follower_id, COUNT(*) AS removed FROM subscription WHERE following_id = :followingId GROUP BY follower_id) s
+            WHERE c.user_id = s.follower_id
+            """, nativeQuery = true)
+    int subtractFollowing(@Param("followingId") Long followingId);
+
+    /**
+     * Resets the follower counter of a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query("UPDATE SubscriptionCounter c SET c.followerCount = 0 WHERE c.userId = :userId")
+    int resetFollowerCount(@Param("userId") Long userId);
+
+    /**
+     * Resets the following counter of a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query("UPDATE SubscriptionCounter c SET c.followingCount = 0 WHERE c.userId = :userId")
+    int resetFollowingCount(@Param("userId") Long userId);
+
+    /**
+     * Rewrites the counters of every user who follows or is followed from the subscriptions.
+     * Must run while holding the counter lock exclusively, otherwise it overwrites the deltas
+     * of subscriptions committed while it runs.
+     *
+     * @return the number of rewritten counter rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO subscription_counters (user_id, follower_count, following_count)
+            SELECT user_id, SUM(followers), SUM(following)
+            FROM (SELECT following_id AS user_id, COUNT(*) AS followers, 0 AS following FROM subscription GROUP BY following_id
+                  UNION ALL
+                  SELECT follower_id, 0, COUNT(*) FROM subscription GROUP BY follower_id) counts
+            GROUP BY user_id
+            ON CONFLICT (user_id) DO UPDATE
+            SET follower_count = EXCLUDED.follower_count,
+                following_count = EXCLUDED.following_count
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    /**
+     * Zeroes the counters of users who neither follow nor are followed by anyone.
+     *
+     * @return the number of zeroed counter rows
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE subscription_counters c
+            SET follower_count = 0, following_count = 0
+            WHERE NOT EXISTS (SELECT 1 FROM subscription s WHERE s.following_id = c.user_id)
+              AND NOT EXISTS (SELECT 1 FROM subscription s WHERE s.follower_id = c.user_id)
+              AND (c.follower_count <> 0 OR c.following_count <> 0)
+            """, nativeQuery = true)
+    int zeroUnused();
+}
@@ -1,9 +1,13 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.thewhitemage13.entity.Subscription;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,8 @@ import java.util.Optional;
  *     <li>Check if a subscription exists between a given follower and following user.</li>
  *     <li>Retrieve a subscription by follower ID and following ID.</li>
  *     <li>Count subscriptions by follower or following ID.</li>
+ *     <li>Find which of a given set of users a follower is following.</li>
+ *     <li>Page through the follower IDs of a user.</li>
  *     <li>Delete all subscriptions for a given follower or following user.</li>
  * </ul>
  *
@@ -94,4 +100,25 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      * @param followingId the ID of the user being followed whose subscriptions are to be deleted
      */
     void deleteAllByFollowingId(Long followingId);
+
+    /**
+     * Finds which of the given users are followed by the given follower.
+     *
+     * @param followerId   the ID of the follower
+     * @param followingIds the IDs of the candidate users being followed
+     * @return the subset of {@code followingIds} that the follower is following
+     */
+    @Query("SELECT s.followingId FROM Subscription s WHERE s.followerId = :followerId AND s.followingId IN :followingIds")
+    List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId, @Param("followingIds") Collection<Long> followingIds);
+
+    /**
+     * Retrieves the next page of follower IDs of the given user greater than the given one, in ascending order.
+     *
+     * @param followingId the ID of the user being followed
+     * @param afterId     the last follower ID of the previous page, or 0 for the first page
+     * @param pageable    the size of the page
+     * @return the next page of follower IDs
+     */
+    @Query("SELECT s.followerId FROM Subscription s WHERE s.followingId = :followingId AND s.followerId > :afterId ORDER BY s.followerId")
+    List<Long> findFollowerIdsAfter(@Param("followingId") Long followingId, @Param("afterId") Long afterId, Pageable pageable);
 }
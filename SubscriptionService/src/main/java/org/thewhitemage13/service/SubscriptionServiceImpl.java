@@ -8,10 +8,12 @@ import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.dao.SubscriptionDAO;
 import org.thewhitemage13.dto.UserSubscriptionDTO;
 import org.thewhitemage13.entity.Subscription;
+import org.thewhitemage13.entity.SubscriptionCounter;
 import org.thewhitemage13.exceotion.SubscriptionNotFoundException;
 import org.thewhitemage13.SubscriptionEvent;
 import org.thewhitemage13.interfaces.SubscriptionInterface;
 import org.thewhitemage13.processor.SubscriptionProcessorImpl;
+import org.thewhitemage13.repository.SubscriptionCounterRepository;
 import org.thewhitemage13.repository.SubscriptionRepository;
 
 import java.time.LocalDateTime;
@@ -26,6 +28,11 @@ import java.util.stream.Collectors;
  * data. It integrates with a Kafka message broker for event processing and communicates
  * with external services using a REST client.
  * </p>
+ * <p>
+ * Follower and following counts are read from a {@link SubscriptionCounter} row per user,
+ * which every change to the subscriptions updates in its own transaction, so a count costs a
+ * primary-key lookup instead of a {@code COUNT(*)} over all of a user's subscriptions.
+ * </p>
  *
  * <h2>Key Responsibilities:</h2>
  * <ul>
@@ -51,6 +58,11 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
      */
     private final SubscriptionRepository subscriptionRepository;
 
+    /**
+     * Repository for the denormalized follower and following counters.
+     */
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
+
     /**
      * Service for validating subscription and user operations.
      */
@@ -74,6 +86,7 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
      * @param kafkaTemplate          the Kafka template
      * @param userClient             the user client
      * @param subscriptionProcessorImpl the subscription processor
+     * @param subscriptionCounterRepository the repository of the follower and following counters
      */
     @Autowired
     public SubscriptionServiceImpl
@@ -82,13 +95,15 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
                     ValidationServiceImpl validationServiceImpl,
                     KafkaTemplate<Long, Object> kafkaTemplate,
                     UserClient userClient,
-                    SubscriptionProcessorImpl subscriptionProcessorImpl
+                    SubscriptionProcessorImpl subscriptionProcessorImpl,
+                    SubscriptionCounterRepository subscriptionCounterRepository
             ) {
         this.subscriptionRepository = subscriptionRepository;
         this.validationServiceImpl = validationServiceImpl;
         this.kafkaTemplate = kafkaTemplate;
         this.userClient = userClient;
         this.subscriptionProcessorImpl = subscriptionProcessorImpl;
+        this.subscriptionCounterRepository = subscriptionCounterRepository;
     }
 
     /**
@@ -134,8 +149,11 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
      * @return the number of followers
      */
     @Override
+    @Transactional(readOnly = true)
     public Long countFollowersByFollowingId(Long followingId) {
-        return subscriptionRepository.countByFollowingId(followingId);
+        return subscriptionCounterRepository.findById(followingId)
+                .map(SubscriptionCounter::getFollowerCount)
+                .orElse(0L);
     }
 
     /**
@@ -145,28 +163,59 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
      * @return the number of users being followed
      */
     @Override
+    @Transactional(readOnly = true)
     public Long countFollowingByFollower(Long followerId) {
-        return subscriptionRepository.countByFollowerId(followerId);
+        return subscriptionCounterRepository.findById(followerId)
+                .map(SubscriptionCounter::getFollowingCount)
+                .orElse(0L);
     }
 
     /**
      * Deletes all subscriptions where the given user is the follower.
+     * <p>
+     * Every followed user loses a follower and the user's following counter is reset.
+     * </p>
      *
      * @param followerId the ID of the follower
      */
     @Override
     public void deleteFollowersById(Long followerId) {
+        subscriptionCounterRepository.lockShared(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+        subscriptionCounterRepository.subtractFollower(followerId);
         subscriptionRepository.deleteAllByFollowerId(followerId);
+        subscriptionCounterRepository.resetFollowingCount(followerId);
     }
 
     /**
      * Deletes all subscriptions where the given user is being followed.
+     * <p>
+     * Every follower loses a followed user and the user's follower counter is reset.
+     * </p>
      *
      * @param followingId the ID of the followed user
      */
     @Override
     public void deleteFollowingById(Long followingId) {
+        subscriptionCounterRepository.lockShared(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+        subscriptionCounterRepository.subtractFollowing(followingId);
         subscriptionRepository.deleteAllByFollowingId(followingId);
+        subscriptionCounterRepository.resetFollowerCount(followingId);
+    }
+
+    /**
+     * Re-derives the follower and following counters of all users from the subscriptions.
+     * <p>
+     * The counters are backfilled automatically on the first start, so this is intended for
+     * repairs. It holds the counter lock exclusively, so subscription changes wait for it
+     * instead of being overwritten.
+     * </p>
+     *
+     * @return the number of counters that were rewritten
+     */
+    @Override
+    public long reconcileCounters() {
+        subscriptionCounterRepository.lockExclusive(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+        return (long) subscriptionCounterRepository.rebuildAll() + subscriptionCounterRepository.zeroUnused();
     }
 
     /**
@@ -204,11 +253,13 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
         validationServiceImpl.validateSubscriptionVerification(followerId, followingId);
         validationServiceImpl.validateUser(followerId);
         validationServiceImpl.validateUser(followingId);
+        subscriptionCounterRepository.lockShared(SubscriptionCounterRepository.COUNTER_LOCK_ID);
         Subscription subscription = new Subscription();
         subscription.setCreatedAt(LocalDateTime.now());
         subscription.setFollowingId(followingId);
         subscription.setFollowerId(followerId);
         subscriptionRepository.save(subscription);
+        updateCounters(followerId, followingId, 1L);
         SubscriptionEvent subscriptionEvent = subscriptionProcessorImpl.getSubscriptionEvent(subscription);
 
 //        kafkaTemplate.executeInTransaction(operations -> {
@@ -232,7 +283,9 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
                 .findByFollowerIdAndFollowingId(followerId, followingId)
                 .orElseThrow(() -> new SubscriptionNotFoundException("Subscription with followerId = %s and followingId = %s not found"
                         .formatted(followerId, followingId)));
+        subscriptionCounterRepository.lockShared(SubscriptionCounterRepository.COUNTER_LOCK_ID);
         subscriptionRepository.delete(delete);
+        updateCounters(followerId, followingId, -1L);
         SubscriptionEvent subscriptionEvent = subscriptionProcessorImpl.getSubscriptionEvent(delete);
 
 //        kafkaTemplate.executeInTransaction(operations -> {
@@ -243,6 +296,27 @@ public class SubscriptionServiceImpl implements SubscriptionInterface {
         kafkaTemplate.send("subscription.deleted", delete.getSubscriptionId(), subscriptionEvent);
     }
 
+    /**
+     * Applies a subscription change to the counters of both users.
+     * <p>
+     * The rows are always locked in ascending user ID order, so two users subscribing to each
+     * other at the same time cannot deadlock.
+     * </p>
+     *
+     * @param followerId the ID of the follower
+     * @param followingId the ID of the followed user
+     * @param delta {@code 1} for a created subscription, {@code -1} for a deleted one
+     */
+    private void updateCounters(Long followerId, Long followingId, long delta) {
+        if (followerId < followingId) {
+            subscriptionCounterRepository.addDeltas(followerId, 0L, delta);
+            subscriptionCounterRepository.addDeltas(followingId, delta, 0L);
+        } else {
+            subscriptionCounterRepository.addDeltas(followingId, delta, 0L);
+            subscriptionCounterRepository.addDeltas(followerId, 0L, delta);
+        }
+    }
+
     /**
      * Retrieves a list of user IDs from subscriptions based on the specified user and role.
      *
@@ -0,0 +1,302 @@
+package org.thewhitemage13.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.dto.TimelinePageDTO;
+import org.thewhitemage13.entity.Subscription;
+import org.thewhitemage13.interfaces.TimelineServiceInterface;
+import org.thewhitemage13.repository.SubscriptionRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Service implementation for users' home timelines.
+ * <p>
+ * Each timeline is a Redis sorted set of post IDs scored by the post ID itself, which grows
+ * with creation time, so a page is a single {@code ZREVRANGEBYSCORE} and the cursor is the
+ * last post ID returned. Timelines are trimmed to {@code timeline.max-size} entries.
+ * </p>
+ *
+ * <h2>Fan-out Strategy:</h2>
+ * <ul>
+ *     <li>When a post is created, its ID is pushed to the author's timeline and to the timeline
+ *     of every follower, in one pipelined round trip.</li>
+ *     <li>Authors with at least {@code timeline.fan-out-limit} followers are marked as large accounts.
+ *     Their new posts are written only to their own outbox, and followers merge the outboxes of the
+ *     large accounts they follow when reading. The mark is kept, so posts never move between paths.</li>
+ *     <li>When a post is deleted, it is removed from the author's timeline and outbox. A post found
+ *     in the outbox never reached the followers, so only posts pushed before the author was marked,
+ *     or trimmed from the outbox since, are removed from the followers' timelines, which are read
+ *     page by page.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class TimelineServiceImpl implements TimelineServiceInterface {
+    private static final String TIMELINE_KEY = "timeline:%s";
+    private static final String OUTBOX_KEY = "timeline:outbox:%s";
+    private static final String LARGE_ACCOUNTS_KEY = "timeline:large-accounts";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SubscriptionRepository subscriptionRepository;
+    private final int maxSize;
+    private final long fanOutLimit;
+    private final int followerPageSize;
+
+    /**
+     * Constructs a new {@code TimelineServiceImpl} with the required dependencies.
+     *
+     * @param stringRedisTemplate    the template used to access the timeline sorted sets
+     * @param subscriptionRepository the subscription repository used to resolve audiences
+     * @param maxSize                the maximum number of entries kept per timeline
+     * @param fanOutLimit            the follower count from which an author is served by pull instead of push
+     * @param followerPageSize       the number of followers read and updated at a time when a post is removed
+     */
+    @Autowired
+    public TimelineServiceImpl
+            (
+                    StringRedisTemplate stringRedisTemplate,
+                    SubscriptionRepository subscriptionRepository,
+                    @Value("${timeline.max-size:800}") int maxSize,
+                    @Value("${timeline.fan-out-limit:5000}") long fanOutLimit,
+                    @Value("${timeline.follower-page-size:1000}") int followerPageSize
+            ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.subscriptionRepository = subscriptionRepository;
+        this.maxSize = maxSize;
+        this.fanOutLimit = fanOutLimit;
+        this.followerPageSize = followerPageSize;
+    }
+
+    /**
+     * Adds a newly created post to the author's timeline and either to the followers' timelines
+     * or, for a large account, to the author's outbox.
+     *
+     * @param postEvent the event describing the created post
+     */
+    @Override
+    public void fanOut(PostEvent postEvent) {
+        Long authorId = postEvent.getUserId();
+        List<String> keys = new ArrayList<>();
+        keys.add(TIMELINE_KEY.formatted(authorId));
+        if (isLargeAccount(authorId)) {
+            keys.add(OUTBOX_KEY.formatted(authorId));
+        } else {
+            keys.addAll(followerTimelineKeys(authorId));
+        }
+        push(keys, postEvent.getPostId());
+    }
+
+    /**
+     * Removes a deleted post from the author's timeline and outbox and, if it was pushed, from the
+     * timelines of every follower.
+     *
+     * @param postEvent the event describing the deleted post
+     */
+    @Override
+    public void removePost(PostEvent postEvent) {
+        remove(postEvent.getUserId(), List.of(String.valueOf(postEvent.getPostId())));
+    }
+
+    /**
+     * Removes a chunk of posts deleted together with their author.
+     * <p>
+     * Every affected timeline receives a single {@code ZREM} with all pushed posts of the chunk,
+     * and the commands of each page of followers are sent in one pipeline.
+     * </p>
+     *
+     * @param authorId the ID of the author of the posts
+     * @param postIds  the IDs of the deleted posts
+     */
+    @Override
+    public void removePosts(Long authorId, List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        remove(authorId, postIds.stream().map(String::valueOf).toList());
+    }
+
+    /**
+     * Removes the posts from the author's timeline and outbox in one pipeline, then removes the
+     * posts that were not in the outbox from the followers' timelines.
+     * <p>
+     * A post is pushed either to the outbox or to the followers, never to both, so the posts
+     * removed from the outbox need no further work. This keeps deletions of large accounts from
+     * reading their whole audience.
+     * </p>
+     *
+     * @param authorId the ID of the author
+     * @param members  the IDs of the posts, as timeline members
+     */
+    private void remove(Long authorId, List<String> members) {
+        String timelineKey = TIMELINE_KEY.formatted(authorId);
+        String outboxKey = OUTBOX_KEY.formatted(authorId);
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.opsForZSet().remove(timelineKey, members.toArray());
+                for (String member : members) {
+                    redis.opsForZSet().remove(outboxKey, member);
+                }
+                return null;
+            }
+        });
+
+        List<String> pushed = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (!(results.get(i + 1) instanceof Long removed && removed > 0)) {
+                pushed.add(members.get(i));
+            }
+        }
+        if (pushed.isEmpty()) {
+            return;
+        }
+
+        Object[] pushedMembers = pushed.toArray();
+        long afterId = 0L;
+        List<Long> followerIds;
+        do {
+            followerIds = subscriptionRepository.findFollowerIdsAfter(authorId, afterId, PageRequest.of(0, followerPageSize));
+            if (followerIds.isEmpty()) {
+                return;
+            }
+            List<String> keys = followerIds.stream().map(TIMELINE_KEY::formatted).toList();
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    for (String key : keys) {
+                        redis.opsForZSet().remove(key, pushedMembers);
+                    }
+                    return null;
+                }
+            });
+            afterId = followerIds.get(followerIds.size() - 1);
+        } while (followerIds.size() == followerPageSize);
+    }
+
+    /**
+     * Retrieves one page of a user's home timeline.
+     * <p>
+     * For most users this is one range read on their own timeline. Users who follow large
+     * accounts additionally read the same range from each of those accounts' outboxes, and
+     * the results are merged.
+     * </p>
+     *
+     * @param userId the ID of the user whose timeline is read
+     * @param cursor the last post ID of the previous page, or {@code null} for the first page
+     * @param size   the requested page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return a page of post IDs, newest first
+     */
+    @Override
+    public TimelinePageDTO getTimeline(Long userId, Long cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor - 1;
+
+        List<String> keys = new ArrayList<>();
+        keys.add(TIMELINE_KEY.formatted(userId));
+        for (Long largeAccountId : followedLargeAccounts(userId)) {
+            keys.add(OUTBOX_KEY.formatted(largeAccountId));
+        }
+
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        for (String key : keys) {
+            Set<String> postIds = stringRedisTemplate.opsForZSet().reverseRangeByScore(key, 0, max, 0, limit + 1);
+            if (postIds != null) {
+                postIds.forEach(postId -> merged.add(Long.valueOf(postId)));
+            }
+        }
+
+        List<Long> page = merged.stream().limit(limit + 1).toList();
+        boolean hasNext = page.size() > limit;
+        List<Long> items = hasNext ? page.subList(0, limit) : page;
+        Long nextCursor = hasNext ? items.get(items.size() - 1) : null;
+        return new TimelinePageDTO(items, nextCursor);
+    }
+
+    /**
+     * Checks whether the author is served by pull, marking the author once the follower
+     * count reaches {@code timeline.fan-out-limit}.
+     *
+     * @param authorId the ID of the author
+     * @return {@code true} if the author's posts go to the outbox instead of being pushed
+     */
+    private boolean isLargeAccount(Long authorId) {
+        String member = String.valueOf(authorId);
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(LARGE_ACCOUNTS_KEY, member))) {
+            return true;
+        }
+        if (subscriptionRepository.countByFollowingId(authorId) < fanOutLimit) {
+            return false;
+        }
+        stringRedisTemplate.opsForSet().add(LARGE_ACCOUNTS_KEY, member);
+        return true;
+    }
+
+    /**
+     * Finds the large accounts the user follows.
+     *
+     * @param userId the ID of the user
+     * @return the IDs of the followed large accounts
+     */
+    private List<Long> followedLargeAccounts(Long userId) {
+        Set<String> largeAccounts = stringRedisTemplate.opsForSet().members(LARGE_ACCOUNTS_KEY);
+        if (largeAccounts == null || largeAccounts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> candidates = largeAccounts.stream().map(Long::valueOf).toList();
+        return subscriptionRepository.findFollowingIdsAmong(userId, candidates);
+    }
+
+    /**
+     * Builds the timeline keys of every follower of the author.
+     *
+     * @param authorId the ID of the author
+     * @return the followers' timeline keys
+     */
+    private List<String> followerTimelineKeys(Long authorId) {
+        return subscriptionRepository.findAllByFollowingId(authorId)
+                .stream()
+                .map(Subscription::getFollowerId)
+                .map(TIMELINE_KEY::formatted)
+                .toList();
+    }
+
+    /**
+     * Adds the post to each timeline and trims it to {@code timeline.max-size}, in one pipeline.
+     *
+     * @param keys   the timeline keys to update
+     * @param postId the ID of the post
+     */
+    private void push(List<String> keys, Long postId) {
+        String member = String.valueOf(postId);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    redis.opsForZSet().add(key, member, postId);
+                    redis.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -1,10 +1,10 @@
 package org.thewhitemage13.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.interfaces.ValidationServiceInterface;
 import org.thewhitemage13.repository.SubscriptionRepository;
 
@@ -18,7 +18,8 @@ import org.thewhitemage13.repository.SubscriptionRepository;
  *
  * <h2>Responsibilities:</h2>
  * <ul>
- *     <li>Validate the existence of a user in the system.</li>
+ *     <li>Validate the existence of a user in the system, rejecting IDs ruled out by the local
+ *     {@link ExistenceFilters existence filter} without a remote call.</li>
  *     <li>Ensure subscription requests adhere to business rules.</li>
  * </ul>
  *
@@ -34,17 +35,20 @@ import org.thewhitemage13.repository.SubscriptionRepository;
 public class ValidationServiceImpl implements ValidationServiceInterface {
     private final UserClient userClient;
     private final SubscriptionRepository subscriptionRepository;
+    private final ExistenceFilters existenceFilters;
 
     /**
      * Constructs a new {@code ValidationServiceImpl} with the specified dependencies.
      *
      * @param userClient the client used to interact with the user service
      * @param subscriptionRepository the repository for managing subscriptions
+     * @param existenceFilters the local replica of the user existence filter
      */
     @Autowired
-    public ValidationServiceImpl(UserClient userClient, SubscriptionRepository subscriptionRepository) {
+    public ValidationServiceImpl(UserClient userClient, SubscriptionRepository subscriptionRepository, ExistenceFilters existenceFilters) {
         this.userClient = userClient;
         this.subscriptionRepository = subscriptionRepository;
+        this.existenceFilters = existenceFilters;
     }
 
     /**
@@ -60,8 +64,9 @@ public class ValidationServiceImpl implements ValidationServiceInterface {
     @Override
     public void validateUser(Long userId) {
         Boolean isCreate;
-        ResponseEntity<Boolean> userIsCreate = userClient.verifyUserExistence(userId);
-        isCreate = userIsCreate.getBody();
+        isCreate = existenceFilters.mightExist(ExistenceFilters.USERS, userId)
+                ? userClient.verifyUserExistence(userId).getBody()
+                : Boolean.FALSE;
         if (Boolean.FALSE.equals(isCreate)) {
             throw new UserNotFoundException("User with id = %s not found".formatted(userId));
         }
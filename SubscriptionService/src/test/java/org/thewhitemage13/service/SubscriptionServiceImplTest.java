@@ -2,6 +2,7 @@ package org.thewhitemage13.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -11,8 +12,10 @@ import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.dao.SubscriptionDAO;
 import org.thewhitemage13.dto.UserSubscriptionDTO;
 import org.thewhitemage13.entity.Subscription;
+import org.thewhitemage13.entity.SubscriptionCounter;
 import org.thewhitemage13.exceotion.SubscriptionNotFoundException;
 import org.thewhitemage13.processor.SubscriptionProcessorImpl;
+import org.thewhitemage13.repository.SubscriptionCounterRepository;
 import org.thewhitemage13.repository.SubscriptionRepository;
 
 import java.time.LocalDateTime;
@@ -36,6 +39,8 @@ class SubscriptionServiceImplTest {
     private KafkaTemplate<Long, Object> kafkaTemplate;
     @Mock
     private UserClient userClient;
+    @Mock
+    private SubscriptionCounterRepository subscriptionCounterRepository;
     @InjectMocks
     private SubscriptionServiceImpl subscriptionServiceImpl;
 
@@ -84,23 +89,33 @@ class SubscriptionServiceImplTest {
     @Test
     void countFollowersByFollowingId() {
         Long followingId = 2L;
-        when(subscriptionRepository.countByFollowingId(followingId)).thenReturn(5L);
+        when(subscriptionCounterRepository.findById(followingId)).thenReturn(Optional.of(new SubscriptionCounter(followingId, 5L, 1L)));
 
         Long result = subscriptionServiceImpl.countFollowersByFollowingId(followingId);
 
         assertEquals(5L, result);
-        verify(subscriptionRepository).countByFollowingId(followingId);
+        verify(subscriptionRepository, never()).countByFollowingId(any());
+    }
+
+    @Test
+    void countFollowersByFollowingId_WithoutCounter() {
+        Long followingId = 2L;
+        when(subscriptionCounterRepository.findById(followingId)).thenReturn(Optional.empty());
+
+        Long result = subscriptionServiceImpl.countFollowersByFollowingId(followingId);
+
+        assertEquals(0L, result);
     }
 
     @Test
     void countFollowingByFollower() {
         Long followerId = 1L;
-        when(subscriptionRepository.countByFollowerId(followerId)).thenReturn(10L);
+        when(subscriptionCounterRepository.findById(followerId)).thenReturn(Optional.of(new SubscriptionCounter(followerId, 3L, 10L)));
 
         Long result = subscriptionServiceImpl.countFollowingByFollower(followerId);
 
         assertEquals(10L, result);
-        verify(subscriptionRepository).countByFollowerId(followerId);
+        verify(subscriptionRepository, never()).countByFollowerId(any());
     }
 
     @Test
@@ -111,6 +126,8 @@ class SubscriptionServiceImplTest {
         subscriptionServiceImpl.deleteFollowersById(followerId);
 
         verify(subscriptionRepository).deleteAllByFollowerId(followerId);
+        verify(subscriptionCounterRepository).subtractFollower(followerId);
+        verify(subscriptionCounterRepository).resetFollowingCount(followerId);
     }
 
     @Test
@@ -121,6 +138,8 @@ class SubscriptionServiceImplTest {
         subscriptionServiceImpl.deleteFollowingById(followingId);
 
         verify(subscriptionRepository).deleteAllByFollowingId(followingId);
+        verify(subscriptionCounterRepository).subtractFollowing(followingId);
+        verify(subscriptionCounterRepository).resetFollowerCount(followingId);
     }
 
     @Test
@@ -185,6 +204,36 @@ class SubscriptionServiceImplTest {
         verify(kafkaTemplate).executeInTransaction(any());
     }
 
+    @Test
+    void createSubscription_UpdatesCountersInUserIdOrder() {
+        Long followerId = 7L;
+        Long followingId = 2L;
+        when(subscriptionProcessorImpl.getSubscriptionEvent(any())).thenReturn(new SubscriptionEvent());
+
+        subscriptionServiceImpl.createSubscription(followerId, followingId);
+
+        InOrder inOrder = inOrder(subscriptionCounterRepository, subscriptionRepository);
+        inOrder.verify(subscriptionCounterRepository).lockShared(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+        inOrder.verify(subscriptionRepository).save(any(Subscription.class));
+        inOrder.verify(subscriptionCounterRepository).addDeltas(followingId, 1L, 0L);
+        inOrder.verify(subscriptionCounterRepository).addDeltas(followerId, 0L, 1L);
+    }
+
+    @Test
+    void deleteSubscription_DecrementsCounters() {
+        Long followerId = 1L;
+        Long followingId = 2L;
+        Subscription subscription = new Subscription(3L, followerId, followingId, LocalDateTime.now());
+        when(subscriptionRepository.findByFollowerIdAndFollowingId(followerId, followingId)).thenReturn(Optional.of(subscription));
+        when(subscriptionProcessorImpl.getSubscriptionEvent(subscription)).thenReturn(new SubscriptionEvent());
+
+        subscriptionServiceImpl.deleteSubscription(followerId, followingId);
+
+        InOrder inOrder = inOrder(subscriptionCounterRepository);
+        inOrder.verify(subscriptionCounterRepository).addDeltas(followerId, 0L, -1L);
+        inOrder.verify(subscriptionCounterRepository).addDeltas(followingId, -1L, 0L);
+    }
+
     @Test
     void deleteSubscription_NotFound() {
         Long followerId = 1L;
@@ -197,5 +246,20 @@ class SubscriptionServiceImplTest {
         assertTrue(exception.getMessage().contains("Subscription with followerId"));
         verify(subscriptionRepository).findByFollowerIdAndFollowingId(followerId, followingId);
         verify(subscriptionRepository, never()).delete(any());
+        verifyNoInteractions(subscriptionCounterRepository);
+    }
+
+    @Test
+    void reconcileCounters_HoldsCounterLockExclusively() {
+        when(subscriptionCounterRepository.rebuildAll()).thenReturn(3);
+        when(subscriptionCounterRepository.zeroUnused()).thenReturn(1);
+
+        long rewritten = subscriptionServiceImpl.reconcileCounters();
+
+        assertEquals(4L, rewritten);
+        InOrder inOrder = inOrder(subscriptionCounterRepository);
+        inOrder.verify(subscriptionCounterRepository).lockExclusive(SubscriptionCounterRepository.COUNTER_LOCK_ID);
+        inOrder.verify(subscriptionCounterRepository).rebuildAll();
+        inOrder.verify(subscriptionCounterRepository).zeroUnused();
     }
-}
\ No newline at end of file
+}
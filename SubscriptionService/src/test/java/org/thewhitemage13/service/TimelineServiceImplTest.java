@@ -0,0 +1,137 @@
+package org.thewhitemage13.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.dto.TimelinePageDTO;
+import org.thewhitemage13.repository.SubscriptionRepository;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceImplTest {
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private TimelineServiceImpl timelineServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        timelineServiceImpl = new TimelineServiceImpl(stringRedisTemplate, subscriptionRepository, 800, 2, 2);
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    void getTimeline_MergesFollowedLargeAccountOutboxes() {
+        when(setOperations.members("timeline:large-accounts")).thenReturn(Set.of("7"));
+        when(subscriptionRepository.findFollowingIdsAmong(1L, List.of(7L))).thenReturn(List.of(7L));
+        when(zSetOperations.reverseRangeByScore("timeline:1", 0, 99, 0, 3)).thenReturn(new LinkedHashSet<>(List.of("98", "95")));
+        when(zSetOperations.reverseRangeByScore("timeline:outbox:7", 0, 99, 0, 3)).thenReturn(new LinkedHashSet<>(List.of("97", "90")));
+
+        TimelinePageDTO result = timelineServiceImpl.getTimeline(1L, 100L, 2);
+
+        assertEquals(List.of(98L, 97L), result.getPostIds());
+        assertEquals(97L, result.getNextCursor());
+    }
+
+    @Test
+    void getTimeline_LastPageHasNoCursor() {
+        when(setOperations.members("timeline:large-accounts")).thenReturn(Set.of());
+        when(zSetOperations.reverseRangeByScore("timeline:1", 0, Double.POSITIVE_INFINITY, 0, 21)).thenReturn(new LinkedHashSet<>(List.of("5", "3")));
+
+        TimelinePageDTO result = timelineServiceImpl.getTimeline(1L, null, 20);
+
+        assertEquals(List.of(5L, 3L), result.getPostIds());
+        assertNull(result.getNextCursor());
+        verifyNoInteractions(subscriptionRepository);
+    }
+
+    @Test
+    void fanOut_LargeAccountSkipsFollowerTimelines() {
+        PostEvent postEvent = new PostEvent(10L, 7L, "content", null, null, null);
+        when(setOperations.isMember("timeline:large-accounts", "7")).thenReturn(false);
+        when(subscriptionRepository.countByFollowingId(7L)).thenReturn(2L);
+
+        timelineServiceImpl.fanOut(postEvent);
+
+        verify(setOperations).add("timeline:large-accounts", "7");
+        verify(subscriptionRepository, never()).findAllByFollowingId(anyLong());
+        verify(stringRedisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void removePost_OutboxPostSkipsFollowerTimelines() {
+        PostEvent postEvent = new PostEvent(10L, 7L, "content", null, null, null);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(1L, 1L));
+
+        timelineServiceImpl.removePost(postEvent);
+
+        verify(subscriptionRepository, never()).findFollowerIdsAfter(anyLong(), anyLong(), any());
+        verify(subscriptionRepository, never()).findAllByFollowingId(anyLong());
+        verify(stringRedisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void removePost_PushedPostPagesThroughFollowers() {
+        PostEvent postEvent = new PostEvent(10L, 7L, "content", null, null, null);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(1L, 0L), List.of());
+        when(subscriptionRepository.findFollowerIdsAfter(7L, 0L, PageRequest.of(0, 2))).thenReturn(List.of(3L, 5L));
+        when(subscriptionRepository.findFollowerIdsAfter(7L, 5L, PageRequest.of(0, 2))).thenReturn(List.of(8L));
+
+        timelineServiceImpl.removePost(postEvent);
+
+        verify(stringRedisTemplate, times(3)).executePipelined(any(SessionCallback.class));
+        verify(subscriptionRepository, times(2)).findFollowerIdsAfter(eq(7L), anyLong(), any());
+        verify(subscriptionRepository, never()).findAllByFollowingId(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removePosts_RemovesOnlyPushedPostsFromFollowerTimelines() {
+        RedisOperations<String, String> redisOperations = mock(RedisOperations.class);
+        when(redisOperations.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<SessionCallback<Object>>getArgument(0).execute(redisOperations);
+                    return List.of(2L, 1L, 0L, 0L);
+                })
+                .thenAnswer(invocation -> {
+                    invocation.<SessionCallback<Object>>getArgument(0).execute(redisOperations);
+                    return List.of();
+                });
+        when(subscriptionRepository.findFollowerIdsAfter(7L, 0L, PageRequest.of(0, 2))).thenReturn(List.of(3L));
+
+        timelineServiceImpl.removePosts(7L, List.of(10L, 11L, 12L));
+
+        verify(zSetOperations).remove("timeline:7", "10", "11", "12");
+        verify(zSetOperations).remove("timeline:outbox:7", "10");
+        verify(zSetOperations).remove("timeline:outbox:7", "11");
+        verify(zSetOperations).remove("timeline:outbox:7", "12");
+        verify(zSetOperations).remove("timeline:3", "11", "12");
+        verify(subscriptionRepository, times(1)).findFollowerIdsAfter(anyLong(), anyLong(), any());
+    }
+}
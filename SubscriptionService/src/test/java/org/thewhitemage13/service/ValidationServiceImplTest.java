@@ -4,11 +4,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.UserClient;
 import org.thewhitemage13.exceptions.UserNotFoundException;
+import org.thewhitemage13.filter.ExistenceFilters;
 import org.thewhitemage13.repository.SubscriptionRepository;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +22,8 @@ class ValidationServiceImplTest {
     private UserClient userClient;
     @Mock
     private SubscriptionRepository subscriptionRepository;
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
     @InjectMocks
     private ValidationServiceImpl validationServiceImpl;
 
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the User Service application.
@@ -17,6 +18,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  *     <li>{@link SpringBootApplication} - Enables Spring Boot auto-configuration, component scanning, and additional configuration.</li>
  *     <li>{@link EnableCaching} - Enables caching support for the application to improve performance.</li>
  *     <li>{@link EnableFeignClients} - Enables Feign clients to communicate with other services through HTTP.</li>
+ *     <li>{@link EnableScheduling} - Enables scheduled tasks, such as the relay that publishes the transactional outbox to Kafka.</li>
  * </ul>
  *
  * <h2>Usage:</h2>
@@ -30,6 +32,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableCaching
 @EnableFeignClients
+@EnableScheduling
 public class UserServiceApplication {
 
     /**
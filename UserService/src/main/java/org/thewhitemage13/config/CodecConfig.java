@@ -0,0 +1,66 @@
+package org.thewhitemage13.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thewhitemage13.codec.BinaryCodec;
+import org.thewhitemage13.codec.BinaryReader;
+import org.thewhitemage13.codec.BinaryWriter;
+import org.thewhitemage13.codec.EventSchemas;
+import org.thewhitemage13.codec.Schema;
+import org.thewhitemage13.dto.GetUserDTO;
+
+/**
+ * Configuration class for the compact binary codec.
+ * <p>
+ * This class provides the {@link BinaryCodec} used by the Kafka serializers and the Redis cache,
+ * with the schemas of the core events and of the cached {@link GetUserDTO} registered.
+ * Field numbers of a registered schema must never be changed or reused.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class CodecConfig {
+    static final int GET_USER_DTO = 100;
+
+    /**
+     * Configures the codec with the core events and the cached DTOs of this service.
+     *
+     * @return a {@code BinaryCodec} instance
+     */
+    @Bean
+    BinaryCodec binaryCodec() {
+        return EventSchemas.register(new BinaryCodec())
+                .register(GET_USER_DTO, GetUserDTO.class, Schema.of(CodecConfig::writeUser, CodecConfig::readUser));
+    }
+
+    private static void writeUser(GetUserDTO dto, BinaryWriter writer) {
+        writer.writeString(1, dto.getUsername())
+                .writeString(2, dto.getPhoneNumber())
+                .writeString(3, dto.getRegion())
+                .writeString(4, dto.getEmail())
+                .writeString(5, dto.getFirstName())
+                .writeString(6, dto.getSurname())
+                .writeString(7, dto.getLastName())
+                .writeString(8, dto.getProfilePictureUrl());
+    }
+
+    private static GetUserDTO readUser(BinaryReader reader) {
+        GetUserDTO dto = new GetUserDTO();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> dto.setUsername(reader.readString());
+                case 2 -> dto.setPhoneNumber(reader.readString());
+                case 3 -> dto.setRegion(reader.readString());
+                case 4 -> dto.setEmail(reader.readString());
+                case 5 -> dto.setFirstName(reader.readString());
+                case 6 -> dto.setSurname(reader.readString());
+                case 7 -> dto.setLastName(reader.readString());
+                case 8 -> dto.setProfilePictureUrl(reader.readString());
+                default -> reader.skip(tag);
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,54 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.thewhitemage13.concurrent.ScatterGather;
+import org.thewhitemage13.concurrent.SingleFlight;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for parallel remote lookups.
+ * <p>
+ * This class provides the {@link ScatterGather} used to query the post and subscription
+ * services concurrently when a user profile is opened. The pool size, queue size and
+ * per-branch timeout are read from the {@code scatter-gather.*} properties.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class ScatterGatherConfig {
+    @Autowired
+    Environment environment;
+
+    /**
+     * Configures a bounded {@link ScatterGather} that is shut down together with the context.
+     *
+     * @return a {@code ScatterGather} instance
+     */
+    @Bean(destroyMethod = "close")
+    ScatterGather scatterGather() {
+        return ScatterGather.bounded
+                (
+                        "user-scatter-gather",
+                        environment.getProperty("scatter-gather.threads", Integer.class, 16),
+                        environment.getProperty("scatter-gather.queue-size", Integer.class, 256),
+                        Duration.ofMillis(environment.getProperty("scatter-gather.timeout-ms", Long.class, 800L))
+                );
+    }
+
+    /**
+     * Configures the {@link SingleFlight} that lets concurrent identical remote lookups, such as
+     * the post and follower counts of a user profile, share one call. Its coalesce ratio is published over JMX.
+     *
+     * @return a {@code SingleFlight} instance
+     */
+    @Bean
+    SingleFlight remoteLookups() {
+        return SingleFlight.registered(environment.getProperty("spring.application.name", "user-service"), "feign");
+    }
+}
@@ -0,0 +1,38 @@
+package org.thewhitemage13.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.thewhitemage13.tracing.Tracer;
+
+/**
+ * Configuration class for method tracing.
+ * <p>
+ * This class provides the {@link Tracer} used by the tracing aspect. Its initial state is read
+ * from the {@code tracing.*} properties; afterwards it can be switched and tuned over JMX.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class TracingConfig {
+    @Autowired
+    Environment environment;
+
+    /**
+     * Configures the tracer of this service and publishes it over JMX.
+     *
+     * @return a {@code Tracer} instance
+     */
+    @Bean
+    Tracer tracer() {
+        return Tracer.registered
+                (
+                        environment.getProperty("spring.application.name", "application"),
+                        environment.getProperty("tracing.enabled", Boolean.class, true),
+                        environment.getProperty("tracing.sample-rate", Double.class, 0.01)
+                );
+    }
+}
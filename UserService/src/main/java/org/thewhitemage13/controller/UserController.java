@@ -15,18 +15,23 @@ import org.thewhitemage13.dto.UserSubscriptionDTO;
 import org.thewhitemage13.exception.EmailAlreadyTakenException;
 import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.exception.UsernameIsBusyException;
+import org.thewhitemage13.filter.ExistenceFilterSnapshot;
+import org.thewhitemage13.service.ExistenceFilterServiceImpl;
 import org.thewhitemage13.service.UserServiceImpl;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "User Controller", description = "Endpoints for managing users")
 @RestController
 @RequestMapping("/users")
 public class UserController {
     private final UserServiceImpl userService;
+    private final ExistenceFilterServiceImpl existenceFilterServiceImpl;
 
-    public UserController(UserServiceImpl userService) {
+    public UserController(UserServiceImpl userService, ExistenceFilterServiceImpl existenceFilterServiceImpl) {
         this.userService = userService;
+        this.existenceFilterServiceImpl = existenceFilterServiceImpl;
     }
 
     @Operation(summary = "Get user by ID", description = "Retrieves a user's details using their ID.")
@@ -88,6 +93,20 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "Get usernames by IDs", description = "Retrieves the usernames of several users in a single request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usernames retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/usernames")
+    public ResponseEntity<Map<Long, String>> getUsernamesByIds(@RequestParam("ids") List<Long> ids) {
+        try {
+            return ResponseEntity.ok(userService.getUsernamesByIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Get username by ID", description = "Retrieves a username by user ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Username retrieved successfully"),
@@ -120,6 +139,34 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "Verify existence of several users", description = "Returns those of the given IDs that belong to an existing user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Existing user IDs retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/verify")
+    public ResponseEntity<List<Long>> verifyUsersExistence(@RequestParam("ids") List<Long> ids) {
+        try {
+            return ResponseEntity.ok(userService.usersVerification(ids));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Operation(summary = "Get user existence filter", description = "Returns a Bloom filter over all user IDs, used by other services to reject unknown users without a verification request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Existence filter returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/existence-filter")
+    public ResponseEntity<ExistenceFilterSnapshot> getExistenceFilter() {
+        try {
+            return ResponseEntity.ok(existenceFilterServiceImpl.buildSnapshot());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Operation(summary = "Register new user", description = "Registers a new user.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User registered successfully"),
@@ -11,6 +11,7 @@ import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.exception.UsernameIsBusyException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for user service operations.
@@ -24,10 +25,12 @@ import java.util.List;
  * <ul>
  *     <li>{@link #addUsers(List)} adds a list of new users, ensuring all data is validated.</li>
  *     <li>{@link #getUsernameById(Long)} retrieves a user's username by their ID.</li>
+ *     <li>{@link #getUsernamesByIds(List)} retrieves the usernames of several users in one call.</li>
  *     <li>{@link #openUser(Long)} retrieves a user’s public profile details.</li>
  *     <li>{@link #getUserById(Long)} fetches detailed user information based on their ID.</li>
  *     <li>{@link #getUsersByIds(List)} retrieves a list of users by their IDs.</li>
  *     <li>{@link #userVerification(Long)} checks if a user exists or is active.</li>
+ *     <li>{@link #usersVerification(List)} checks the existence of several users in one call.</li>
  *     <li>{@link #registerNewUser(CreateUserDTO)} registers a new user, validating and storing their details.</li>
  *     <li>{@link #updateUserProfile(Long, CreateUserDTO)} updates an existing user's profile details.</li>
  *     <li>{@link #getInformationAboutUser(String)} retrieves user information by their username.</li>
@@ -62,6 +65,17 @@ public interface UserServiceInterface {
      */
     String getUsernameById(Long userId);
 
+    /**
+     * Retrieves the usernames of several users at once.
+     * <p>
+     * IDs that do not belong to an existing user are omitted from the returned map.
+     * </p>
+     *
+     * @param userIds the user IDs for which to fetch the usernames
+     * @return a map of user ID to username
+     */
+    Map<Long, String> getUsernamesByIds(List<Long> userIds);
+
     /**
      * Retrieves the public profile information of a user by their ID.
      * <p>
@@ -108,6 +122,17 @@ public interface UserServiceInterface {
      */
     boolean userVerification(Long userId);
 
+    /**
+     * Verifies which of several users exist.
+     * <p>
+     * Used by other services to check the users of many concurrent requests with one call.
+     * </p>
+     *
+     * @param userIds the IDs of the users to verify
+     * @return the IDs of the users that exist
+     */
+    List<Long> usersVerification(List<Long> userIds);
+
     /**
      * Registers a new user by validating and saving their data.
      * <p>
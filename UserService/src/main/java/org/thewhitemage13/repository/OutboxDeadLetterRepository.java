@@ -0,0 +1,13 @@
+package org.thewhitemage13.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.thewhitemage13.entity.OutboxDeadLetter;
+
+/**
+ * Repository interface for managing {@link OutboxDeadLetter} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
@@ -1,9 +1,13 @@
 package org.thewhitemage13.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.thewhitemage13.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -71,4 +75,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return {@code true} if a user with the given ID exists; {@code false} otherwise
      */
     boolean existsUserByUserId(Long id);
+
+    /**
+     * Retrieves the next page of user IDs greater than the given one, in ascending order.
+     *
+     * @param afterId  the last ID of the previous page, or 0 for the first page
+     * @param pageable the size of the page
+     * @return the next page of user IDs
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId > :afterId ORDER BY u.userId")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves those of the given IDs that belong to an existing user.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of existing users
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :ids")
+    List<Long> findExistingUserIds(@Param("ids") List<Long> ids);
 }
@@ -3,13 +3,17 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.SubscriptionClient;
+import org.thewhitemage13.concurrent.SingleFlight;
 import org.thewhitemage13.interfaces.FollowerValidationServiceInterface;
 
+import java.util.List;
+
 /**
  * Service implementation for validating follower and following counts.
  * <p>
  * This service communicates with a subscription client to fetch the number of followers
- * and followings for a specific user. If the client call fails, it defaults the count to zero.
+ * and followings for a specific user. Concurrent requests for the same count share one call.
+ * If the client call fails, it defaults the count to zero.
  * </p>
  *
  * <h2>Key Responsibilities:</h2>
@@ -30,15 +34,18 @@ import org.thewhitemage13.interfaces.FollowerValidationServiceInterface;
 @Service
 public class FollowerValidationServiceImpl implements FollowerValidationServiceInterface {
     private final SubscriptionClient subscriptionClient;
+    private final SingleFlight remoteLookups;
 
     /**
      * Constructs an instance of {@code FollowerValidationServiceImpl}.
      *
      * @param subscriptionClient the client for interacting with the subscription service
+     * @param remoteLookups      shares one remote call between concurrent lookups of the same count
      */
     @Autowired
-    public FollowerValidationServiceImpl(SubscriptionClient subscriptionClient) {
+    public FollowerValidationServiceImpl(SubscriptionClient subscriptionClient, SingleFlight remoteLookups) {
         this.subscriptionClient = subscriptionClient;
+        this.remoteLookups = remoteLookups;
     }
 
     /**
@@ -55,7 +62,8 @@ public class FollowerValidationServiceImpl implements FollowerValidationServiceI
     public Long countFollowersValidation(Long userId) {
         Long countFollowers;
         try {
-            countFollowers = subscriptionClient.countFollowers(userId).getBody();
+            countFollowers = remoteLookups.execute(List.of("countFollowers", userId),
+                    () -> subscriptionClient.countFollowers(userId).getBody());
         } catch (Exception e) {
             countFollowers = 0L;
         }
@@ -76,7 +84,8 @@ public class FollowerValidationServiceImpl implements FollowerValidationServiceI
     public Long countFollowingValidation(Long userId) {
         Long countFollowing;
         try {
-            countFollowing = subscriptionClient.countFollowing(userId).getBody();
+            countFollowing = remoteLookups.execute(List.of("countFollowing", userId),
+                    () -> subscriptionClient.countFollowing(userId).getBody());
         } catch (Exception e) {
             countFollowing = 0L;
         }
@@ -3,8 +3,11 @@ package org.thewhitemage13.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.thewhitemage13.clients.PostClient;
+import org.thewhitemage13.concurrent.SingleFlight;
 import org.thewhitemage13.interfaces.PostValidationServiceInterface;
 
+import java.util.List;
+
 /**
  * Service implementation for validating and retrieving post-related data for users.
  * <p>
@@ -17,6 +20,7 @@ import org.thewhitemage13.interfaces.PostValidationServiceInterface;
  * <ul>
  *     <li>Retrieves the count of posts made by a user.</li>
  *     <li>Handles communication with the Post service and provides error handling.</li>
+ *     <li>Shares one call between concurrent requests for the same user's count.</li>
  * </ul>
  *
  * <h2>Dependencies:</h2>
@@ -33,15 +37,18 @@ import org.thewhitemage13.interfaces.PostValidationServiceInterface;
 @Service
 public class PostValidationServiceImpl implements PostValidationServiceInterface {
     private final PostClient postClient;
+    private final SingleFlight remoteLookups;
 
     /**
      * Constructor for dependency injection.
      *
-     * @param postClient the client for accessing post-related data
+     * @param postClient    the client for accessing post-related data
+     * @param remoteLookups shares one remote call between concurrent lookups of the same count
      */
     @Autowired
-    public PostValidationServiceImpl(PostClient postClient) {
+    public PostValidationServiceImpl(PostClient postClient, SingleFlight remoteLookups) {
         this.postClient = postClient;
+        this.remoteLookups = remoteLookups;
     }
 
     /**
@@ -57,7 +64,8 @@ public class PostValidationServiceImpl implements PostValidationServiceInterface
     public Long countPostValidation(Long userId) {
         Long countPosts;
         try {
-            countPosts = postClient.getPostCountByUserId(userId).getBody();
+            countPosts = remoteLookups.execute(List.of("getPostCountByUserId", userId),
+                    () -> postClient.getPostCountByUserId(userId).getBody());
         } catch (Exception e) {
             countPosts = 0L;
         }
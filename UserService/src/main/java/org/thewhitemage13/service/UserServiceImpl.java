@@ -4,10 +4,10 @@ import com.google.i18n.phonenumbers.NumberParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.thewhitemage13.UserEvent;
+import org.thewhitemage13.concurrent.ScatterGather;
 import org.thewhitemage13.dto.CreateUserDTO;
 import org.thewhitemage13.dto.GetUserDTO;
 import org.thewhitemage13.dto.OpenUserDTO;
@@ -23,7 +23,11 @@ import org.thewhitemage13.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of the {@link UserServiceInterface}, providing user management functionality.
@@ -45,7 +49,8 @@ import java.util.List;
  *     <li>{@link UserRepository} for database interactions.</li>
  *     <li>{@link UserProcessorImpl} for converting user entities to DTOs.</li>
  *     <li>{@link ValidationServiceImpl} for data validation and auxiliary operations.</li>
- *     <li>{@link KafkaTemplate} for publishing user events.</li>
+ *     <li>{@link OutboxServiceImpl} for publishing user events.</li>
+ *     <li>{@link ScatterGather} for querying other services in parallel.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -57,25 +62,29 @@ public class UserServiceImpl implements UserServiceInterface {
     private final UserRepository userRepository;
     private final ValidationServiceImpl validationServiceImpl;
     private final UserProcessorImpl userProcessorImpl;
-    private final KafkaTemplate<Long, Object> kafkaTemplate;
+    private final OutboxServiceImpl outboxServiceImpl;
+    private final ScatterGather scatterGather;
 
     /**
      * Constructs a new {@code UserServiceImpl} with required dependencies.
      *
      * @param userRepository the repository for user entity operations
      * @param validationServiceImpl the service for validating user data
-     * @param kafkaTemplate the Kafka template for publishing events
+     * @param outboxServiceImpl the outbox that publishes events once the transaction commits
      * @param userProcessorImpl the processor for handling user-related logic
+     * @param scatterGather the helper for running remote lookups in parallel
      */
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
                            ValidationServiceImpl validationServiceImpl,
-                           KafkaTemplate<Long, Object> kafkaTemplate,
-                           UserProcessorImpl userProcessorImpl) {
+                           OutboxServiceImpl outboxServiceImpl,
+                           UserProcessorImpl userProcessorImpl,
+                           ScatterGather scatterGather) {
         this.userRepository = userRepository;
         this.validationServiceImpl = validationServiceImpl;
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxServiceImpl = outboxServiceImpl;
         this.userProcessorImpl = userProcessorImpl;
+        this.scatterGather = scatterGather;
     }
 
     /**
@@ -99,13 +108,31 @@ public class UserServiceImpl implements UserServiceInterface {
      * @throws UserNotFoundException if no user is found with the given ID
      */
     @Override
-    @Cacheable(value = "usernames", key = "#userId")
+    @Cacheable(value = "usernames", key = "#userId", sync = true)
     public String getUsernameById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id = %s not found".formatted(userId)));
         return user.getUsername();
     }
 
+    /**
+     * Retrieves the usernames of several users with a single {@code findAllById} query.
+     *
+     * @param userIds the list of user IDs
+     * @return a map of user ID to username; unknown IDs are omitted
+     */
+    @Override
+    public Map<Long, String> getUsernamesByIds(List<Long> userIds) {
+        Map<Long, String> usernames = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return usernames;
+        }
+        for (User user : userRepository.findAllById(userIds)) {
+            usernames.put(user.getUserId(), user.getUsername());
+        }
+        return usernames;
+    }
+
     /**
      * Retrieves a user's details as a {@link GetUserDTO} using caching.
      *
@@ -114,7 +141,7 @@ public class UserServiceImpl implements UserServiceInterface {
      * @throws UserNotFoundException if no user is found with the given ID
      */
     @Override
-    @Cacheable(value = "users", key = "#userId")
+    @Cacheable(value = "users", key = "#userId", sync = true)
     public GetUserDTO getUserById(Long userId) {
         User user =  userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id = %s not found".formatted(userId)));
@@ -132,6 +159,20 @@ public class UserServiceImpl implements UserServiceInterface {
         return userRepository.existsUserByUserId(userId);
     }
 
+    /**
+     * Checks which of several users exist with a single query.
+     *
+     * @param userIds the IDs of the users to verify
+     * @return the IDs of the users that exist
+     */
+    @Override
+    public List<Long> usersVerification(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userRepository.findExistingUserIds(userIds);
+    }
+
     /**
      * Retrieves information about a user by their username using caching.
      *
@@ -140,7 +181,7 @@ public class UserServiceImpl implements UserServiceInterface {
      * @throws UserNotFoundException if no user is found with the given username
      */
     @Override
-    @Cacheable(value = "users", key = "#username")
+    @Cacheable(value = "users", key = "#username", sync = true)
     public GetUserDTO getInformationAboutUser(String username) throws UserNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(()-> new UserNotFoundException("User with username = %s not found".formatted(username)));
@@ -164,12 +205,8 @@ public class UserServiceImpl implements UserServiceInterface {
 
         userRepository.delete(user);
 //
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("user.deleted", user.getUserId(), userEvent);
-//            return null;
-//        });
 //
-        kafkaTemplate.send("user.deleted", user.getUserId(), userEvent);
+        outboxServiceImpl.enqueue("user.deleted", user.getUserId(), userEvent);
     }
 
     /**
@@ -195,6 +232,11 @@ public class UserServiceImpl implements UserServiceInterface {
 
     /**
      * Opens detailed user information as an {@link OpenUserDTO}.
+     * <p>
+     * The media URLs, following count, follower count and post count are requested in parallel.
+     * A lookup that fails or exceeds the configured timeout is replaced by an empty list or {@code 0},
+     * so a slow downstream service yields a partial profile instead of delaying the whole response.
+     * </p>
      *
      * @param userId the unique ID of the user
      * @return an {@link OpenUserDTO} containing public user information
@@ -208,19 +250,20 @@ public class UserServiceImpl implements UserServiceInterface {
         String userName = user.getUsername();
         String profilePictureUrl = user.getProfilePictureUrl();
 
-        List<String> mediaPostsUrl = validationServiceImpl.validateMedia(userId);
-        Long countFollowing = validationServiceImpl.validateFollowing(userId);;
-        Long countFollowers = validationServiceImpl.validateFollowers(userId);
-        Long countPosts = validationServiceImpl.validatePost(userId);
+        CompletableFuture<List<String>> mediaPostsUrl = scatterGather.fork(() -> validationServiceImpl.validateMedia(userId), Collections.emptyList());
+        CompletableFuture<Long> countFollowing = scatterGather.fork(() -> validationServiceImpl.validateFollowing(userId), 0L);
+        CompletableFuture<Long> countFollowers = scatterGather.fork(() -> validationServiceImpl.validateFollowers(userId), 0L);
+        CompletableFuture<Long> countPosts = scatterGather.fork(() -> validationServiceImpl.validatePost(userId), 0L);
+        scatterGather.await(mediaPostsUrl, countFollowing, countFollowers, countPosts);
 
         return userProcessorImpl
                 .getOpenUserDTO(
                         userName,
                         profilePictureUrl,
-                        mediaPostsUrl,
-                        countFollowing,
-                        countFollowers,
-                        countPosts
+                        mediaPostsUrl.join(),
+                        countFollowing.join(),
+                        countFollowers.join(),
+                        countPosts.join()
                 );
     }
 
@@ -252,12 +295,7 @@ public class UserServiceImpl implements UserServiceInterface {
 
         UserEvent userEvent = userProcessorImpl.getUserEvent(user);
 
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("user.updated", user.getUserId(), userEvent);
-//            return null;
-//        });
-
-        kafkaTemplate.send("user.updated", user.getUserId(), userEvent);
+        outboxServiceImpl.enqueue("user.updated", user.getUserId(), userEvent);
     }
 
     /**
@@ -286,11 +324,7 @@ public class UserServiceImpl implements UserServiceInterface {
 
         UserEvent event = userProcessorImpl.getUserEvent(registerUser);
 
-//        kafkaTemplate.executeInTransaction(operations -> {
-//            operations.send("user.updated", registerUser.getUserId(), event);
-//            return null;
-//        });
 //
-        kafkaTemplate.send("user.updated", registerUser.getUserId(), event);
+        outboxServiceImpl.enqueue("user.updated", registerUser.getUserId(), event);
     }
 }
@@ -4,9 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.SubscriptionClient;
+import org.thewhitemage13.concurrent.SingleFlight;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -15,6 +17,8 @@ import static org.mockito.Mockito.*;
 class FollowerValidationServiceImplImplTest {
     @Mock
     private SubscriptionClient subscriptionClient;
+    @Spy
+    private SingleFlight remoteLookups = new SingleFlight();
     @InjectMocks
     private FollowerValidationServiceImpl followerValidationServiceImpl;
 
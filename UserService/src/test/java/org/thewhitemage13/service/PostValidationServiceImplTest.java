@@ -1,12 +1,19 @@
 package org.thewhitemage13.service;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.thewhitemage13.clients.PostClient;
+import org.thewhitemage13.concurrent.SingleFlight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -15,6 +22,8 @@ import static org.mockito.Mockito.*;
 class PostValidationServiceImplTest {
     @Mock
     private PostClient postClient;
+    @Spy
+    private SingleFlight remoteLookups = new SingleFlight();
     @InjectMocks
     private PostValidationServiceImpl postValidationService;
 
@@ -48,4 +57,34 @@ class PostValidationServiceImplTest {
         assertEquals(0L, actualCount);
         verify(postClient, times(1)).getPostCountByUserId(userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Timeout(10)
+    void countPostValidation_ConcurrentCalls_ShareOneRemoteCall() throws Exception {
+        // Arrange
+        Long userId = 1L;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(postClient.getPostCountByUserId(userId)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(5L);
+        });
+
+        // Act
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> postValidationService.countPostValidation(userId));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> postValidationService.countPostValidation(userId));
+        while (remoteLookups.getCoalescedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals(5L, first.get(5, TimeUnit.SECONDS));
+        assertEquals(5L, second.get(5, TimeUnit.SECONDS));
+        verify(postClient, times(1)).getPostCountByUserId(userId);
+        assertEquals(0.5, remoteLookups.getCoalesceRatio());
+    }
+}
@@ -4,15 +4,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.thewhitemage13.concurrent.ScatterGather;
 import org.thewhitemage13.dto.GetUserDTO;
 import org.thewhitemage13.dto.CreateUserDTO;
+import org.thewhitemage13.dto.OpenUserDTO;
 import org.thewhitemage13.entity.User;
 import org.thewhitemage13.exceptions.UserNotFoundException;
 import org.thewhitemage13.processor.UserProcessorImpl;
 import org.thewhitemage13.repository.UserRepository;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,7 +33,9 @@ class UserServiceTest {
     @Mock
     private UserProcessorImpl userProcessorImpl;
     @Mock
-    private KafkaTemplate<Long, Object> kafkaTemplate;
+    private OutboxServiceImpl outboxServiceImpl;
+    @Spy
+    private ScatterGather scatterGather = ScatterGather.bounded("test", 4, 16, Duration.ofMillis(200));
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -62,6 +69,68 @@ class UserServiceTest {
         verify(userRepository, times(1)).findById(userId);
     }
 
+    @Test
+    void getUsernamesByIds_ValidIds_ReturnsUsernameMap() {
+        // Arrange
+        User first = new User();
+        first.setUserId(1L);
+        first.setUsername("first");
+        User second = new User();
+        second.setUserId(2L);
+        second.setUsername("second");
+
+        when(userRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second));
+
+        // Act
+        Map<Long, String> usernames = userService.getUsernamesByIds(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(2, usernames.size());
+        assertEquals("first", usernames.get(1L));
+        assertEquals("second", usernames.get(2L));
+        verify(userRepository, times(1)).findAllById(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void usersVerification_ValidIds_ReturnsExistingIds() {
+        // Arrange
+        when(userRepository.findExistingUserIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+        // Act
+        List<Long> existing = userService.usersVerification(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(List.of(1L, 3L), existing);
+        verify(userRepository, times(1)).findExistingUserIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void openUser_SlowLookup_FallsBackToPartialResult() {
+        // Arrange
+        Long userId = 1L;
+        User mockUser = new User();
+        mockUser.setUserId(userId);
+        mockUser.setUsername("testuser");
+        OpenUserDTO expected = new OpenUserDTO();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(validationServiceImpl.validateMedia(userId)).thenReturn(List.of("url"));
+        when(validationServiceImpl.validateFollowing(userId)).thenReturn(3L);
+        when(validationServiceImpl.validateFollowers(userId)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return 7L;
+        });
+        when(validationServiceImpl.validatePost(userId)).thenReturn(5L);
+        when(userProcessorImpl.getOpenUserDTO("testuser", null, List.of("url"), 3L, 0L, 5L)).thenReturn(expected);
+
+        // Act
+        OpenUserDTO result = userService.openUser(userId);
+
+        // Assert
+        assertSame(expected, result);
+        verify(userProcessorImpl, times(1)).getOpenUserDTO("testuser", null, List.of("url"), 3L, 0L, 5L);
+    }
+
     @Test
     void registerNewUser_ValidData_UserRegistered() throws Exception {
         // Arrange
@@ -84,7 +153,7 @@ class UserServiceTest {
         // Assert
         verify(validationServiceImpl, times(1)).validatePhoneNumber(createUserDTO.getPhoneNumber(), createUserDTO.getRegion());
         verify(userRepository, times(1)).save(any(User.class));
-        verify(kafkaTemplate, times(1)).executeInTransaction(any());
+        verify(outboxServiceImpl, times(1)).enqueue(any(), any(), any());
     }
 
     @Test
@@ -102,7 +171,7 @@ class UserServiceTest {
         // Assert
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).delete(mockUser);
-        verify(kafkaTemplate, times(1)).executeInTransaction(any());
+        verify(outboxServiceImpl, times(1)).enqueue(any(), any(), any());
     }
 
     @Test
@@ -116,7 +185,7 @@ class UserServiceTest {
         assertThrows(UserNotFoundException.class, () -> userService.deleteUser(userId));
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, never()).delete(any(User.class));
-        verify(kafkaTemplate, never()).executeInTransaction(any());
+        verify(outboxServiceImpl, never()).enqueue(any(), any(), any());
     }
 
     @Test
@@ -169,6 +238,6 @@ class UserServiceTest {
         // Assert
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).save(mockUser);
-        verify(kafkaTemplate, times(1)).executeInTransaction(any());
+        verify(outboxServiceImpl, times(1)).enqueue(any(), any(), any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package org.thewhitemage13;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents one chunk of entities removed by a bulk deletion.
+ * <p>
+ * When a user is deleted, their posts, comments, likes and media are removed in chunks with
+ * set-based statements. Instead of one event per row, every chunk publishes a single event of this
+ * type on the {@code <entity>.deleted.batch} topic of the entity, carrying only the identifiers that
+ * downstream services need to cascade the deletion or adjust their counters.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Identifies the user whose deletion started the cascade.</li>
+ *     <li>Lists the IDs of the deleted entities and, in the same order, the IDs of their parents:
+ *     the post of a comment or post like, the comment of a comment like.</li>
+ *     <li>Carries the total file size of deleted media for the statistics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class BatchDeletedEvent implements Serializable {
+    private Long userId;
+    private Integer chunk;
+    private List<Long> ids = new ArrayList<>();
+    private List<Long> parentIds = new ArrayList<>();
+    private Double fileSize;
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor for BatchDeletedEvent.
+     */
+    public BatchDeletedEvent() {
+    }
+
+    /**
+     * Constructs a new {@code BatchDeletedEvent} with the specified parameters.
+     *
+     * @param userId the ID of the user whose deletion started the cascade
+     * @param chunk the number of the chunk within its bulk deletion, starting at 0
+     * @param ids the IDs of the deleted entities
+     * @param parentIds the IDs of the parents of the deleted entities, in the same order, or an empty list
+     * @param fileSize the total size of the deleted media files, or {@code null} for other entities
+     * @param createdAt the timestamp when the chunk was deleted
+     */
+    public BatchDeletedEvent(Long userId, Integer chunk, List<Long> ids, List<Long> parentIds, Double fileSize, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.chunk = chunk;
+        this.ids = ids;
+        this.parentIds = parentIds;
+        this.fileSize = fileSize;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Gets the ID of the user whose deletion started the cascade.
+     *
+     * @return the user ID
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the ID of the user whose deletion started the cascade.
+     *
+     * @param userId the user ID to set
+     */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the number of the chunk within its bulk deletion.
+     *
+     * @return the chunk number
+     */
+    public Integer getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Sets the number of the chunk within its bulk deletion.
+     *
+     * @param chunk the chunk number to set
+     */
+    public void setChunk(Integer chunk) {
+        this.chunk = chunk;
+    }
+
+    /**
+     * Gets the IDs of the deleted entities.
+     *
+     * @return the deleted IDs
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * Sets the IDs of the deleted entities.
+     *
+     * @param ids the deleted IDs to set
+     */
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Gets the IDs of the parents of the deleted entities, in the order of {@link #getIds()}.
+     *
+     * @return the parent IDs, empty for entities without a parent
+     */
+    public List<Long> getParentIds() {
+        return parentIds;
+    }
+
+    /**
+     * Sets the IDs of the parents of the deleted entities.
+     *
+     * @param parentIds the parent IDs to set
+     */
+    public void setParentIds(List<Long> parentIds) {
+        this.parentIds = parentIds;
+    }
+
+    /**
+     * Gets the total size of the deleted media files.
+     *
+     * @return the total file size, or {@code null} for other entities
+     */
+    public Double getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Sets the total size of the deleted media files.
+     *
+     * @param fileSize the total file size to set
+     */
+    public void setFileSize(Double fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Gets the timestamp when the chunk was deleted.
+     *
+     * @return the deletion timestamp
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets the timestamp when the chunk was deleted.
+     *
+     * @param createdAt the deletion timestamp to set
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Returns a string representation of the BatchDeletedEvent.
+     * <p>
+     * The string includes the user ID, the chunk number and the number of deleted entities,
+     * but not the IDs themselves.
+     * </p>
+     *
+     * @return a string representation of the batch deleted event
+     */
+    @Override
+    public String toString() {
+        return "BatchDeletedEvent{" +
+                "userId=" + userId +
+                ", chunk=" + chunk +
+                ", deleted=" + (ids == null ? 0 : ids.size()) +
+                ", fileSize=" + fileSize +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -10,12 +10,18 @@ import java.time.LocalDateTime;
  * the post it is associated with, the user who created or updated the comment, the content
  * of the comment, and timestamps for when the comment was created and last updated.
  * </p>
+ * <p>
+ * Events of new comments also carry the owner of the post, so consumers can notify the owner
+ * without asking the Post Service. The owner is optional: it is {@code null} in events written
+ * before the field existed and when the producer could not resolve it.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Tracks the unique identifier of the comment.</li>
  *     <li>Associates the comment with a specific post and user.</li>
  *     <li>Records the content of the comment and timestamps for creation and updates.</li>
+ *     <li>Optionally carries the owner of the post.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -28,6 +34,7 @@ public class CommentEvent implements Serializable {
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long postOwnerId;
 
     /**
      * Default constructor for CommentEvent.
@@ -54,6 +61,22 @@ public class CommentEvent implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Constructs a new {@code CommentEvent} that names the owner of the post.
+     *
+     * @param commentId the unique identifier for the comment
+     * @param postId the ID of the post the comment is associated with
+     * @param userId the ID of the user who created or updated the comment
+     * @param content the content of the comment
+     * @param createdAt the timestamp when the comment was created
+     * @param updatedAt the timestamp when the comment was last updated
+     * @param postOwnerId the ID of the user who owns the post, or {@code null} if unknown
+     */
+    public CommentEvent(Long commentId, Long postId, Long userId, String content, LocalDateTime createdAt, LocalDateTime updatedAt, Long postOwnerId) {
+        this(commentId, postId, userId, content, createdAt, updatedAt);
+        this.postOwnerId = postOwnerId;
+    }
+
     /**
      * Gets the unique identifier for the comment.
      *
@@ -162,10 +185,28 @@ public class CommentEvent implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Gets the ID of the user who owns the post.
+     *
+     * @return the post owner ID, or {@code null} if the event does not carry it
+     */
+    public Long getPostOwnerId() {
+        return postOwnerId;
+    }
+
+    /**
+     * Sets the ID of the user who owns the post.
+     *
+     * @param postOwnerId the post owner ID to set
+     */
+    public void setPostOwnerId(Long postOwnerId) {
+        this.postOwnerId = postOwnerId;
+    }
+
     /**
      * Returns a string representation of the CommentEvent.
      * <p>
-     * The string includes the comment's ID, post ID, user ID, content, and timestamps.
+     * The string includes the comment's ID, post ID, user ID, content, timestamps, and post owner ID.
      * </p>
      *
      * @return a string representation of the comment event
@@ -179,6 +220,7 @@ public class CommentEvent implements Serializable {
                 ", content='" + content + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", postOwnerId=" + postOwnerId +
                 '}';
     }
 }
@@ -10,12 +10,18 @@ import java.time.LocalDateTime;
  * the user who liked the content, the post or comment that was liked, and the timestamp
  * when the like was created.
  * </p>
+ * <p>
+ * Events of new likes also carry the owner of the liked post or comment, so consumers can
+ * notify the owner without asking the owning service. The owner is optional: it is {@code null}
+ * in events written before the field existed and when the producer could not resolve it.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *     <li>Tracks the unique identifier of the like.</li>
  *     <li>Associates the like with a specific user, post, or comment.</li>
  *     <li>Records the timestamp when the like was created.</li>
+ *     <li>Optionally carries the owner of the liked post or comment.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -27,6 +33,7 @@ public class LikeEvent implements Serializable {
     private Long postId;
     private Long commentId;
     private LocalDateTime createdAt;
+    private Long ownerId;
 
     /**
      * Default constructor for LikeEvent.
@@ -51,6 +58,21 @@ public class LikeEvent implements Serializable {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Constructs a new {@code LikeEvent} that names the owner of the liked content.
+     *
+     * @param likeId the unique identifier for the like
+     * @param userId the ID of the user who liked the content
+     * @param postId the ID of the post that was liked
+     * @param commentId the ID of the comment that was liked
+     * @param createdAt the timestamp when the like was created
+     * @param ownerId the ID of the user who owns the liked post or comment, or {@code null} if unknown
+     */
+    public LikeEvent(Long likeId, Long userId, Long postId, Long commentId, LocalDateTime createdAt, Long ownerId) {
+        this(likeId, userId, postId, commentId, createdAt);
+        this.ownerId = ownerId;
+    }
+
     /**
      * Gets the unique identifier for the like.
      *
@@ -141,10 +163,28 @@ public class LikeEvent implements Serializable {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Gets the ID of the user who owns the liked post or comment.
+     *
+     * @return the owner ID, or {@code null} if the event does not carry it
+     */
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * Sets the ID of the user who owns the liked post or comment.
+     *
+     * @param ownerId the owner ID to set
+     */
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
     /**
      * Returns a string representation of the LikeEvent.
      * <p>
-     * The string includes the like's ID, user ID, post ID, comment ID, and timestamp.
+     * The string includes the like's ID, user ID, post ID, comment ID, timestamp, and owner ID.
      * </p>
      *
      * @return a string representation of the like event
@@ -157,6 +197,7 @@ public class LikeEvent implements Serializable {
                 ", postId=" + postId +
                 ", commentId=" + commentId +
                 ", createdAt=" + createdAt +
+                ", ownerId=" + ownerId +
                 '}';
     }
 }
@@ -0,0 +1,18 @@
+package org.thewhitemage13.cache;
+
+import java.time.Duration;
+
+/**
+ * Limits of the in-process level of a {@link TwoLevelCache}.
+ * <p>
+ * The TTL bounds how long an instance can serve a stale entry if an invalidation message is
+ * lost, so it should stay well below the TTL of the Redis level.
+ * </p>
+ *
+ * @param ttl         how long an entry is kept after it was written
+ * @param maximumSize the maximum number of entries
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public record NearCacheSpec(Duration ttl, long maximumSize) {
+}
@@ -0,0 +1,223 @@
+package org.thewhitemage13.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.thewhitemage13.concurrent.SingleFlight;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Spring {@link org.springframework.cache.Cache} with an in-process level in front of a shared one.
+ * <p>
+ * Reads are served from the bounded Caffeine level when possible and fall back to the shared
+ * Redis level, whose answer is kept locally. Writes and evictions go to both levels and are
+ * announced to the other instances through the owning {@link TwoLevelCacheManager}, which drops
+ * the affected local entries there.
+ * </p>
+ * <p>
+ * Local entries are keyed by the string form of the cache key, which is also how the Redis level
+ * stores them, so invalidation messages identify the same entry on every instance. Cached values
+ * are shared between callers of the same instance and must not be modified.
+ * </p>
+ * <p>
+ * Loads through {@link #get(Object, Callable)}, used by {@code @Cacheable(sync = true)}, are
+ * coalesced per key: when an entry is missing or has just expired, concurrent callers on the
+ * same instance wait for one load instead of all querying the database.
+ * </p>
+ * <p>
+ * Every write, eviction and clear, local or announced by another instance, first advances a
+ * version counter of the key's stripe. A read that fills the local level compares the version
+ * before and after it stored the value and takes the value back out if the stripe changed in
+ * between, so an entry evicted while it was being loaded is never served locally for the rest
+ * of its TTL. A load through the value loader does the same for the value it wrote to the shared
+ * level.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+    private static final char SEPARATOR = '\n';
+    private static final int VERSION_STRIPES = 64;
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache shared;
+    private final TwoLevelCacheManager cacheManager;
+    private final SingleFlight loads;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * Constructs a new {@code TwoLevelCache}.
+     *
+     * @param name         the cache name
+     * @param local        the in-process level
+     * @param shared       the Redis level
+     * @param cacheManager the manager that broadcasts invalidations
+     * @param loads        coalesces concurrent loads of the same entry
+     */
+    TwoLevelCache(String name,
+                  Cache<String, ValueWrapper> local,
+                  org.springframework.cache.Cache shared,
+                  TwoLevelCacheManager cacheManager,
+                  SingleFlight loads) {
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.cacheManager = cacheManager;
+        this.loads = loads;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return shared.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        long version = version(localKey);
+        wrapper = shared.get(key);
+        if (wrapper != null) {
+            putLocal(localKey, wrapper, version);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        return loads.execute(name + SEPARATOR + localKey, () -> {
+            long version = version(localKey);
+            ValueWrapper cached = shared.get(key);
+            if (cached != null) {
+                putLocal(localKey, cached, version);
+                return (T) cached.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            shared.put(key, value);
+            if (!putLocal(localKey, new SimpleValueWrapper(value), version)) {
+                shared.evict(key);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        advance(localKey);
+        shared.put(key, value);
+        local.put(localKey, new SimpleValueWrapper(value));
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        advance(localKey);
+        shared.evict(key);
+        local.invalidate(localKey);
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        advanceAll();
+        shared.clear();
+        local.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * Drops a local entry after another instance changed it.
+     *
+     * @param localKey the string form of the cache key
+     */
+    void evictLocal(String localKey) {
+        advance(localKey);
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drops all local entries after another instance cleared the cache.
+     */
+    void clearLocal() {
+        advanceAll();
+        local.invalidateAll();
+    }
+
+    /**
+     * Stores a value read at the given version in the local level, unless the entry was
+     * written, evicted or cleared since.
+     *
+     * @param localKey the string form of the cache key
+     * @param wrapper  the value
+     * @param version  the version of the key's stripe before the value was read
+     * @return {@code true} if the value was kept, {@code false} if it was taken back out
+     */
+    private boolean putLocal(String localKey, ValueWrapper wrapper, long version) {
+        local.put(localKey, wrapper);
+        if (version(localKey) == version) {
+            return true;
+        }
+        local.asMap().remove(localKey, wrapper);
+        return false;
+    }
+
+    private long version(String localKey) {
+        return versions.get(stripe(localKey));
+    }
+
+    private void advance(String localKey) {
+        versions.incrementAndGet(stripe(localKey));
+    }
+
+    private void advanceAll() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String localKey) {
+        return localKey.hashCode() & (VERSION_STRIPES - 1);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,180 @@
+package org.thewhitemage13.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.thewhitemage13.concurrent.SingleFlight;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link CacheManager} that puts a bounded in-process level in front of the caches of another
+ * manager, normally a {@code RedisCacheManager}.
+ * <p>
+ * Hot keys are served from local memory without a network round trip. Every write, eviction and
+ * clear is published on a Redis channel, and every instance drops the affected local entries when
+ * it receives a message from another instance. Publishing is best effort; a lost message is
+ * bounded by the local TTL of the cache.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Per-cache local TTL and size limits with a shared default.</li>
+ *     <li>Cross-instance invalidation over Redis pub/sub; an instance ignores its own messages.</li>
+ *     <li>Works with any Spring cache manager as the shared level.</li>
+ *     <li>Concurrent loads of the same entry through {@code @Cacheable(sync = true)} share one call.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+ *         "cache-invalidation:user-service", new NearCacheSpec(Duration.ofSeconds(30), 10_000), Map.of());
+ * container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+    private static final char SEPARATOR = '\n';
+    private static final String CLEAR = "clear";
+    private static final String EVICT = "evict";
+
+    private final CacheManager sharedCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String invalidationChannel;
+    private final NearCacheSpec defaultSpec;
+    private final Map<String, NearCacheSpec> specs;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final SingleFlight loads;
+
+    /**
+     * Constructs a new {@code TwoLevelCacheManager} whose loads are coalesced without published metrics.
+     *
+     * @param sharedCacheManager  the manager of the shared level
+     * @param stringRedisTemplate the template used to publish invalidation messages
+     * @param invalidationChannel the channel shared by all instances of the service
+     * @param defaultSpec         the local limits of caches without their own entry in {@code specs}
+     * @param specs               the local limits per cache name
+     */
+    public TwoLevelCacheManager(CacheManager sharedCacheManager,
+                                StringRedisTemplate stringRedisTemplate,
+                                String invalidationChannel,
+                                NearCacheSpec defaultSpec,
+                                Map<String, NearCacheSpec> specs) {
+        this(sharedCacheManager, stringRedisTemplate, invalidationChannel, defaultSpec, specs, new SingleFlight());
+    }
+
+    /**
+     * Constructs a new {@code TwoLevelCacheManager}.
+     *
+     * @param sharedCacheManager  the manager of the shared level
+     * @param stringRedisTemplate the template used to publish invalidation messages
+     * @param invalidationChannel the channel shared by all instances of the service
+     * @param defaultSpec         the local limits of caches without their own entry in {@code specs}
+     * @param specs               the local limits per cache name
+     * @param loads               coalesces concurrent loads of the same entry in all caches
+     */
+    public TwoLevelCacheManager(CacheManager sharedCacheManager,
+                                StringRedisTemplate stringRedisTemplate,
+                                String invalidationChannel,
+                                NearCacheSpec defaultSpec,
+                                Map<String, NearCacheSpec> specs,
+                                SingleFlight loads) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.defaultSpec = defaultSpec;
+        this.specs = Map.copyOf(specs);
+        this.loads = loads;
+    }
+
+    /**
+     * @return the channel on which this manager publishes and expects invalidation messages
+     */
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache shared = sharedCacheManager.getCache(name);
+        if (shared == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> {
+            NearCacheSpec spec = specs.getOrDefault(key, defaultSpec);
+            return new TwoLevelCache
+                    (
+                            key,
+                            Caffeine.newBuilder()
+                                    .expireAfterWrite(spec.ttl())
+                                    .maximumSize(spec.maximumSize())
+                                    .build(),
+                            shared,
+                            this,
+                            loads
+                    );
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Applies an invalidation message published by another instance.
+     *
+     * @param message the received message
+     * @param pattern the matched pattern, unused
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), 4);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(EVICT + SEPARATOR + cacheName + SEPARATOR + localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR + SEPARATOR + cacheName);
+    }
+
+    private void publish(String body) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, instanceId + SEPARATOR + body);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not publish cache invalidation on {}", invalidationChannel, e);
+        }
+    }
+}
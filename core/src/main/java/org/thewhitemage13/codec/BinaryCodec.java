@@ -0,0 +1,190 @@
+package org.thewhitemage13.codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, schema-evolvable binary encoding for registered types.
+ * <p>
+ * Every registered class gets a stable numeric type id and a {@link Schema}. An encoded payload
+ * starts with a marker byte, followed by the type id and the tagged fields of the value, so it
+ * carries no property names and needs no type headers. Lists whose elements all share one
+ * registered class are supported as well, which covers cached collections of DTOs.
+ * </p>
+ * <p>
+ * Both marker bytes are invalid as the first byte of UTF-8 text. Readers can therefore tell a
+ * binary payload from a JSON one written before the switch with {@link #isEncoded(byte[])}, and
+ * fall back to JSON for everything else.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Field numbers instead of property names; absent fields cost nothing.</li>
+ *     <li>Unknown fields are skipped, so new fields can be added without coordinated deploys.</li>
+ *     <li>Timestamps as epoch seconds and nanoseconds instead of ISO strings.</li>
+ * </ul>
+ *
+ * <p>
+ * Types are registered once at startup; the codec is safe for concurrent use afterwards.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class BinaryCodec {
+    static final byte OBJECT = (byte) 0xC1;
+    static final byte LIST = (byte) 0xC0;
+
+    private final Map<Class<?>, Registration<?>> byType = new HashMap<>();
+    private final Map<Integer, Registration<?>> byId = new HashMap<>();
+
+    /**
+     * Registers a type.
+     *
+     * @param typeId the stable id written into every payload of this type, greater than zero
+     * @param type   the exact class of the values
+     * @param schema the schema of the type
+     * @param <T>    the registered type
+     * @return this codec
+     * @throws IllegalStateException if the id or the class is already registered
+     */
+    public <T> BinaryCodec register(int typeId, Class<T> type, Schema<T> schema) {
+        if (typeId <= 0) {
+            throw new IllegalArgumentException("Type id must be positive: " + typeId);
+        }
+        if (byId.containsKey(typeId) || byType.containsKey(type)) {
+            throw new IllegalStateException("Type %s or id %d is already registered".formatted(type.getName(), typeId));
+        }
+        Registration<T> registration = new Registration<>(typeId, schema);
+        byId.put(typeId, registration);
+        byType.put(type, registration);
+        return this;
+    }
+
+    /**
+     * Checks whether a value can be encoded.
+     *
+     * @param value the value
+     * @return {@code true} for instances of registered classes and for lists of them
+     */
+    public boolean supports(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (byType.containsKey(value.getClass())) {
+            return true;
+        }
+        return value instanceof List<?> list && elementType(list) != null;
+    }
+
+    /**
+     * Checks whether bytes hold a payload written by {@link #encode(Object)}.
+     *
+     * @param bytes the bytes
+     * @return {@code true} if the bytes start with one of the marker bytes
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && (bytes[0] == OBJECT || bytes[0] == LIST);
+    }
+
+    /**
+     * Encodes a value.
+     *
+     * @param value the value, see {@link #supports(Object)}
+     * @return the encoded bytes
+     * @throws IllegalArgumentException if the value is not supported
+     */
+    public byte[] encode(Object value) {
+        BinaryWriter writer = new BinaryWriter();
+        Registration<Object> registration = registration(value == null ? null : value.getClass());
+        if (registration != null) {
+            writer.writeRawByte(OBJECT);
+            writer.writeRawVarint(registration.typeId());
+            registration.schema().write(value, writer);
+            return writer.toByteArray();
+        }
+        if (!(value instanceof List<?> list) || elementType(list) == null) {
+            throw new IllegalArgumentException("Unsupported type: " + (value == null ? null : value.getClass().getName()));
+        }
+
+        writer.writeRawByte(LIST);
+        if (list.isEmpty()) {
+            writer.writeRawVarint(0);
+            return writer.toByteArray();
+        }
+        registration = registration(list.get(0).getClass());
+        writer.writeRawVarint(registration.typeId());
+        writer.writeRawVarint(list.size());
+        BinaryWriter element = new BinaryWriter();
+        for (Object item : list) {
+            element.reset();
+            registration.schema().write(item, element);
+            writer.writeRawVarint(element.size());
+            element.writeTo(writer);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a payload written by {@link #encode(Object)}.
+     *
+     * @param bytes the encoded bytes
+     * @return the decoded value
+     * @throws IllegalArgumentException if the bytes are malformed or name an unknown type
+     */
+    public Object decode(byte[] bytes) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not a binary payload");
+        }
+        BinaryReader reader = new BinaryReader(bytes, 1, bytes.length - 1);
+        int typeId = (int) reader.readRawVarint();
+        if (bytes[0] == OBJECT) {
+            return registration(typeId).schema().read(reader);
+        }
+        if (typeId == 0) {
+            return new ArrayList<>();
+        }
+        Registration<Object> registration = registration(typeId);
+        int size = (int) reader.readRawVarint();
+        List<Object> list = new ArrayList<>(Math.min(size, bytes.length));
+        for (int i = 0; i < size; i++) {
+            list.add(registration.schema().read(reader.slice(reader.readLength())));
+        }
+        return list;
+    }
+
+    private Class<?> elementType(List<?> list) {
+        if (list.isEmpty()) {
+            return List.class;
+        }
+        Object first = list.get(0);
+        if (first == null || !byType.containsKey(first.getClass())) {
+            return null;
+        }
+        for (Object item : list) {
+            if (item == null || item.getClass() != first.getClass()) {
+                return null;
+            }
+        }
+        return first.getClass();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Registration<Object> registration(Class<?> type) {
+        return (Registration<Object>) byType.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Registration<Object> registration(int typeId) {
+        Registration<Object> registration = (Registration<Object>) byId.get(typeId);
+        if (registration == null) {
+            throw new IllegalArgumentException("Unknown type id " + typeId);
+        }
+        return registration;
+    }
+
+    private record Registration<T>(int typeId, Schema<T> schema) {
+    }
+}
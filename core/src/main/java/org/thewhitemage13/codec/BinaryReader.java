@@ -0,0 +1,176 @@
+package org.thewhitemage13.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the tagged fields written by {@link BinaryWriter}.
+ * <p>
+ * A {@link Schema} calls {@link #readTag()} until it returns {@code 0}, reads the fields it knows
+ * and passes every other tag to {@link #skip(int)}. This is what makes the format evolvable:
+ * a reader ignores fields added after it was built, and fields it expects but does not find keep
+ * their default value. Field numbers must never be reused for a different type.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class BinaryReader {
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    /**
+     * Constructs a new {@code BinaryReader} over a slice of the given buffer.
+     *
+     * @param buffer the encoded bytes
+     * @param offset the index of the first byte to read
+     * @param length the number of bytes to read
+     */
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Returns the field number of a tag returned by {@link #readTag()}.
+     *
+     * @param tag the tag
+     * @return the field number
+     */
+    public static int fieldNumber(int tag) {
+        return tag >>> 3;
+    }
+
+    /**
+     * Reads the next tag.
+     *
+     * @return the tag, or {@code 0} when there are no more fields
+     */
+    public int readTag() {
+        if (position >= limit) {
+            return 0;
+        }
+        long tag = readRawVarint();
+        if (tag >>> 3 == 0 || tag > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid field tag " + tag);
+        }
+        return (int) tag;
+    }
+
+    /**
+     * @return the value of an integer field
+     */
+    public long readLong() {
+        long value = readRawVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @return the values of a packed integer list field
+     */
+    public List<Long> readLongs() {
+        int end = readLength() + position;
+        List<Long> values = new ArrayList<>();
+        while (position < end) {
+            long value = readRawVarint();
+            values.add((value >>> 1) ^ -(value & 1));
+        }
+        return values;
+    }
+
+    /**
+     * @return the value of a boolean field
+     */
+    public boolean readBoolean() {
+        return readRawVarint() != 0;
+    }
+
+    /**
+     * @return the value of a floating point field
+     */
+    public double readDouble() {
+        require(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (buffer[position++] & 0xFFL) << (8 * i);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @return the value of a string field
+     */
+    public String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * @return the value of a timestamp field
+     */
+    public LocalDateTime readDateTime() {
+        int end = readLength() + position;
+        long seconds = readRawVarint();
+        int nanos = position < end ? (int) readRawVarint() : 0;
+        position = end;
+        return LocalDateTime.ofEpochSecond((seconds >>> 1) ^ -(seconds & 1), nanos, ZoneOffset.UTC);
+    }
+
+    /**
+     * Skips the value of a field this reader does not know.
+     *
+     * @param tag the tag returned by {@link #readTag()}
+     */
+    public void skip(int tag) {
+        switch (tag & 0x7) {
+            case BinaryWriter.VARINT -> readRawVarint();
+            case BinaryWriter.FIXED64 -> {
+                require(8);
+                position += 8;
+            }
+            case BinaryWriter.LENGTH_DELIMITED -> position += readLength();
+            default -> throw new IllegalArgumentException("Unknown wire type in tag " + tag);
+        }
+    }
+
+    BinaryReader slice(int length) {
+        require(length);
+        BinaryReader slice = new BinaryReader(buffer, position, length);
+        position += length;
+        return slice;
+    }
+
+    long readRawVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(1);
+            byte b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    int readLength() {
+        long length = readRawVarint();
+        if (length > limit - position) {
+            throw new IllegalArgumentException("Length " + length + " exceeds the remaining " + (limit - position) + " bytes");
+        }
+        return (int) length;
+    }
+
+    private void require(int bytes) {
+        if (limit - position < bytes) {
+            throw new IllegalArgumentException("Truncated input");
+        }
+    }
+}
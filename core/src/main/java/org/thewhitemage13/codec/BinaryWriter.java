@@ -0,0 +1,217 @@
+package org.thewhitemage13.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Appends tagged fields to a growable byte buffer.
+ * <p>
+ * Every field is written as a varint tag, made of the field number and a wire type, followed by
+ * its value. Integers are zigzag varints, strings are UTF-8 with a length prefix, and timestamps
+ * are epoch seconds and nanoseconds instead of ISO strings. Lists of integers are packed into one
+ * length-prefixed field. Null values and {@code false} are not
+ * written at all, so absent fields cost nothing.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class BinaryWriter {
+    static final int VARINT = 0;
+    static final int FIXED64 = 1;
+    static final int LENGTH_DELIMITED = 2;
+
+    private byte[] buffer;
+    private int position;
+
+    /**
+     * Constructs a new {@code BinaryWriter} with a small initial buffer.
+     */
+    public BinaryWriter() {
+        this(64);
+    }
+
+    /**
+     * Constructs a new {@code BinaryWriter}.
+     *
+     * @param initialCapacity the initial buffer size in bytes
+     */
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Writes an integer field.
+     *
+     * @param field the field number
+     * @param value the value, skipped when {@code null}
+     * @return this writer
+     */
+    public BinaryWriter writeLong(int field, Long value) {
+        if (value != null) {
+            writeTag(field, VARINT);
+            writeRawVarint(zigzag(value));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a list of integers as one packed field.
+     *
+     * @param field  the field number
+     * @param values the values, skipped when {@code null} or empty; elements must not be {@code null}
+     * @return this writer
+     */
+    public BinaryWriter writeLongs(int field, List<Long> values) {
+        if (values != null && !values.isEmpty()) {
+            int length = 0;
+            for (Long value : values) {
+                length += varintSize(zigzag(value));
+            }
+            writeTag(field, LENGTH_DELIMITED);
+            writeRawVarint(length);
+            for (Long value : values) {
+                writeRawVarint(zigzag(value));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes a boolean field.
+     *
+     * @param field the field number
+     * @param value the value, skipped when {@code false}
+     * @return this writer
+     */
+    public BinaryWriter writeBoolean(int field, boolean value) {
+        if (value) {
+            writeTag(field, VARINT);
+            writeRawVarint(1);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a floating point field.
+     *
+     * @param field the field number
+     * @param value the value, skipped when {@code null}
+     * @return this writer
+     */
+    public BinaryWriter writeDouble(int field, Double value) {
+        if (value != null) {
+            writeTag(field, FIXED64);
+            long bits = Double.doubleToRawLongBits(value);
+            ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                buffer[position++] = (byte) (bits >>> (8 * i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes a string field.
+     *
+     * @param field the field number
+     * @param value the value, skipped when {@code null}
+     * @return this writer
+     */
+    public BinaryWriter writeString(int field, String value) {
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(field, LENGTH_DELIMITED);
+            writeRawVarint(bytes.length);
+            writeRawBytes(bytes, 0, bytes.length);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a timestamp field as epoch seconds and nanoseconds, both taken in UTC.
+     *
+     * @param field the field number
+     * @param value the value, skipped when {@code null}
+     * @return this writer
+     */
+    public BinaryWriter writeDateTime(int field, LocalDateTime value) {
+        if (value != null) {
+            long seconds = zigzag(value.toEpochSecond(ZoneOffset.UTC));
+            int nanos = value.getNano();
+            writeTag(field, LENGTH_DELIMITED);
+            writeRawVarint(varintSize(seconds) + varintSize(nanos));
+            writeRawVarint(seconds);
+            writeRawVarint(nanos);
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of bytes written so far
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * @return a copy of the bytes written so far
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    void reset() {
+        position = 0;
+    }
+
+    void writeRawByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+
+    void writeRawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeRawBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    void writeTo(BinaryWriter target) {
+        target.writeRawBytes(buffer, 0, position);
+    }
+
+    private void writeTag(int field, int wireType) {
+        writeRawVarint(((long) field << 3) | wireType);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
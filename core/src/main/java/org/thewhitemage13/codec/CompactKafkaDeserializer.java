@@ -0,0 +1,62 @@
+package org.thewhitemage13.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Kafka {@link Deserializer} that reads payloads written by {@link CompactKafkaSerializer}.
+ * <p>
+ * Records that are not binary payloads, such as JSON records produced before the switch, are
+ * handed to the fallback deserializer together with their headers. Consumers can therefore be
+ * deployed before their producers start writing the binary format.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class CompactKafkaDeserializer implements Deserializer<Object> {
+    private final BinaryCodec binaryCodec;
+    private final Deserializer<Object> fallback;
+
+    /**
+     * Constructs a new {@code CompactKafkaDeserializer}.
+     *
+     * @param binaryCodec the codec for registered types
+     * @param fallback    the deserializer for all other records, usually the JSON one
+     */
+    public CompactKafkaDeserializer(BinaryCodec binaryCodec, Deserializer<Object> fallback) {
+        this.binaryCodec = binaryCodec;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return BinaryCodec.isEncoded(data) ? decode(topic, data) : fallback.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        return BinaryCodec.isEncoded(data) ? decode(topic, data) : fallback.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    private Object decode(String topic, byte[] data) {
+        try {
+            return binaryCodec.decode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode record from " + topic, e);
+        }
+    }
+}
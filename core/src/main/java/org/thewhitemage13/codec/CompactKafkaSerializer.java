@@ -0,0 +1,62 @@
+package org.thewhitemage13.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+/**
+ * Kafka {@link Serializer} that writes registered types with a {@link BinaryCodec}.
+ * <p>
+ * The type id travels inside the payload, so no type headers are added. Values the codec does
+ * not support are handed to the fallback serializer unchanged.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ * @see CompactKafkaDeserializer
+ */
+public class CompactKafkaSerializer implements Serializer<Object> {
+    private final BinaryCodec binaryCodec;
+    private final Serializer<Object> fallback;
+
+    /**
+     * Constructs a new {@code CompactKafkaSerializer}.
+     *
+     * @param binaryCodec the codec for registered types
+     * @param fallback    the serializer for all other values, usually the JSON one
+     */
+    public CompactKafkaSerializer(BinaryCodec binaryCodec, Serializer<Object> fallback) {
+        this.binaryCodec = binaryCodec;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return binaryCodec.supports(data) ? encode(data) : fallback.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        return binaryCodec.supports(data) ? encode(data) : fallback.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    private byte[] encode(Object data) {
+        try {
+            return binaryCodec.encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode " + data.getClass().getName(), e);
+        }
+    }
+}
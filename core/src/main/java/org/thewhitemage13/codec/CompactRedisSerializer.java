@@ -0,0 +1,54 @@
+package org.thewhitemage13.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * {@link RedisSerializer} that stores registered types with a {@link BinaryCodec}.
+ * <p>
+ * Values the codec does not support are written by the fallback serializer, and entries that were
+ * written by it, including those cached before the switch, are still read back through it.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    private final BinaryCodec binaryCodec;
+    private final RedisSerializer<Object> fallback;
+
+    /**
+     * Constructs a new {@code CompactRedisSerializer}.
+     *
+     * @param binaryCodec the codec for registered types
+     * @param fallback    the serializer for all other values, usually the JSON one
+     */
+    public CompactRedisSerializer(BinaryCodec binaryCodec, RedisSerializer<Object> fallback) {
+        this.binaryCodec = binaryCodec;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!binaryCodec.supports(value)) {
+            return fallback.serialize(value);
+        }
+        try {
+            return binaryCodec.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (!BinaryCodec.isEncoded(bytes)) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            return binaryCodec.decode(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode cached value", e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.thewhitemage13.codec;
+
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.SubscriptionEvent;
+import org.thewhitemage13.UserEvent;
+
+/**
+ * Binary schemas of the events shared by all services.
+ * <p>
+ * Type ids below 100 are reserved for the events in this module; services register their own
+ * DTOs from 100 upwards. Field numbers follow the declaration order of each event and must not
+ * be changed or reused. New fields take the next free number.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class EventSchemas {
+    public static final int POST_EVENT = 1;
+    public static final int LIKE_EVENT = 2;
+    public static final int COMMENT_EVENT = 3;
+    public static final int USER_EVENT = 4;
+    public static final int MEDIA_EVENT = 5;
+    public static final int SUBSCRIPTION_EVENT = 6;
+    public static final int BATCH_DELETED_EVENT = 7;
+
+    private EventSchemas() {
+    }
+
+    /**
+     * Registers every core event with the given codec.
+     *
+     * @param binaryCodec the codec
+     * @return the same codec
+     */
+    public static BinaryCodec register(BinaryCodec binaryCodec) {
+        return binaryCodec
+                .register(POST_EVENT, PostEvent.class, Schema.of(EventSchemas::writePost, EventSchemas::readPost))
+                .register(LIKE_EVENT, LikeEvent.class, Schema.of(EventSchemas::writeLike, EventSchemas::readLike))
+                .register(COMMENT_EVENT, CommentEvent.class, Schema.of(EventSchemas::writeComment, EventSchemas::readComment))
+                .register(USER_EVENT, UserEvent.class, Schema.of(EventSchemas::writeUser, EventSchemas::readUser))
+                .register(MEDIA_EVENT, MediaEvent.class, Schema.of(EventSchemas::writeMedia, EventSchemas::readMedia))
+                .register(SUBSCRIPTION_EVENT, SubscriptionEvent.class, Schema.of(EventSchemas::writeSubscription, EventSchemas::readSubscription))
+                .register(BATCH_DELETED_EVENT, BatchDeletedEvent.class, Schema.of(EventSchemas::writeBatchDeleted, EventSchemas::readBatchDeleted));
+    }
+
+    private static void writePost(PostEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getPostId())
+                .writeLong(2, event.getUserId())
+                .writeString(3, event.getContent())
+                .writeString(4, event.getMediaUrl())
+                .writeDateTime(5, event.getCreatedAt())
+                .writeDateTime(6, event.getUpdatedAt());
+    }
+
+    private static PostEvent readPost(BinaryReader reader) {
+        PostEvent event = new PostEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setPostId(reader.readLong());
+                case 2 -> event.setUserId(reader.readLong());
+                case 3 -> event.setContent(reader.readString());
+                case 4 -> event.setMediaUrl(reader.readString());
+                case 5 -> event.setCreatedAt(reader.readDateTime());
+                case 6 -> event.setUpdatedAt(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeLike(LikeEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getLikeId())
+                .writeLong(2, event.getUserId())
+                .writeLong(3, event.getPostId())
+                .writeLong(4, event.getCommentId())
+                .writeDateTime(5, event.getCreatedAt())
+                .writeLong(6, event.getOwnerId());
+    }
+
+    private static LikeEvent readLike(BinaryReader reader) {
+        LikeEvent event = new LikeEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setLikeId(reader.readLong());
+                case 2 -> event.setUserId(reader.readLong());
+                case 3 -> event.setPostId(reader.readLong());
+                case 4 -> event.setCommentId(reader.readLong());
+                case 5 -> event.setCreatedAt(reader.readDateTime());
+                case 6 -> event.setOwnerId(reader.readLong());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeComment(CommentEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getCommentId())
+                .writeLong(2, event.getPostId())
+                .writeLong(3, event.getUserId())
+                .writeString(4, event.getContent())
+                .writeDateTime(5, event.getCreatedAt())
+                .writeDateTime(6, event.getUpdatedAt())
+                .writeLong(7, event.getPostOwnerId());
+    }
+
+    private static CommentEvent readComment(BinaryReader reader) {
+        CommentEvent event = new CommentEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setCommentId(reader.readLong());
+                case 2 -> event.setPostId(reader.readLong());
+                case 3 -> event.setUserId(reader.readLong());
+                case 4 -> event.setContent(reader.readString());
+                case 5 -> event.setCreatedAt(reader.readDateTime());
+                case 6 -> event.setUpdatedAt(reader.readDateTime());
+                case 7 -> event.setPostOwnerId(reader.readLong());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeUser(UserEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getUserId())
+                .writeString(2, event.getUsername())
+                .writeString(3, event.getPhoneNumber())
+                .writeString(4, event.getRegion())
+                .writeString(5, event.getEmail())
+                .writeString(6, event.getFirstName())
+                .writeString(7, event.getSurname())
+                .writeString(8, event.getLastName())
+                .writeString(9, event.getProfilePictureUrl());
+    }
+
+    private static UserEvent readUser(BinaryReader reader) {
+        UserEvent event = new UserEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setUserId(reader.readLong());
+                case 2 -> event.setUsername(reader.readString());
+                case 3 -> event.setPhoneNumber(reader.readString());
+                case 4 -> event.setRegion(reader.readString());
+                case 5 -> event.setEmail(reader.readString());
+                case 6 -> event.setFirstName(reader.readString());
+                case 7 -> event.setSurname(reader.readString());
+                case 8 -> event.setLastName(reader.readString());
+                case 9 -> event.setProfilePictureUrl(reader.readString());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeMedia(MediaEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getMediaId())
+                .writeLong(2, event.getUserId())
+                .writeString(3, event.getUrl())
+                .writeString(4, event.getFileName())
+                .writeDouble(5, event.getFileSize())
+                .writeString(6, event.getFileType())
+                .writeDateTime(7, event.getUploadDate());
+    }
+
+    private static MediaEvent readMedia(BinaryReader reader) {
+        MediaEvent event = new MediaEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setMediaId(reader.readLong());
+                case 2 -> event.setUserId(reader.readLong());
+                case 3 -> event.setUrl(reader.readString());
+                case 4 -> event.setFileName(reader.readString());
+                case 5 -> event.setFileSize(reader.readDouble());
+                case 6 -> event.setFileType(reader.readString());
+                case 7 -> event.setUploadDate(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeSubscription(SubscriptionEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getSubscriptionId())
+                .writeLong(2, event.getFollowerId())
+                .writeLong(3, event.getFollowingId())
+                .writeDateTime(4, event.getCreatedAt());
+    }
+
+    private static SubscriptionEvent readSubscription(BinaryReader reader) {
+        SubscriptionEvent event = new SubscriptionEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setSubscriptionId(reader.readLong());
+                case 2 -> event.setFollowerId(reader.readLong());
+                case 3 -> event.setFollowingId(reader.readLong());
+                case 4 -> event.setCreatedAt(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    private static void writeBatchDeleted(BatchDeletedEvent event, BinaryWriter writer) {
+        writer.writeLong(1, event.getUserId())
+                .writeLong(2, event.getChunk() == null ? null : event.getChunk().longValue())
+                .writeLongs(3, event.getIds())
+                .writeLongs(4, event.getParentIds())
+                .writeDouble(5, event.getFileSize())
+                .writeDateTime(6, event.getCreatedAt());
+    }
+
+    private static BatchDeletedEvent readBatchDeleted(BinaryReader reader) {
+        BatchDeletedEvent event = new BatchDeletedEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setUserId(reader.readLong());
+                case 2 -> event.setChunk((int) reader.readLong());
+                case 3 -> event.setIds(reader.readLongs());
+                case 4 -> event.setParentIds(reader.readLongs());
+                case 5 -> event.setFileSize(reader.readDouble());
+                case 6 -> event.setCreatedAt(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+}
@@ -0,0 +1,72 @@
+package org.thewhitemage13.codec;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Describes how one type is written to and read from the binary format of {@link BinaryCodec}.
+ * <p>
+ * A schema assigns a stable field number to every property. New properties get new numbers;
+ * removed properties leave their number unused, so old and new readers can exchange payloads.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Schema<LikeEvent> schema = Schema.of(
+ *         (event, writer) -> writer.writeLong(1, event.getLikeId()),
+ *         reader -> {
+ *             LikeEvent event = new LikeEvent();
+ *             for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+ *                 switch (BinaryReader.fieldNumber(tag)) {
+ *                     case 1 -> event.setLikeId(reader.readLong());
+ *                     default -> reader.skip(tag);
+ *                 }
+ *             }
+ *             return event;
+ *         });
+ * }</pre>
+ *
+ * @param <T> the described type
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface Schema<T> {
+
+    /**
+     * Writes the fields of a value.
+     *
+     * @param value  the value to write
+     * @param writer the target writer
+     */
+    void write(T value, BinaryWriter writer);
+
+    /**
+     * Reads a value, skipping the fields this schema does not know.
+     *
+     * @param reader the source reader
+     * @return the read value
+     */
+    T read(BinaryReader reader);
+
+    /**
+     * Creates a schema from a pair of functions.
+     *
+     * @param writer the function that writes the fields of a value
+     * @param reader the function that reads a value
+     * @param <T>    the described type
+     * @return a new schema
+     */
+    static <T> Schema<T> of(BiConsumer<T, BinaryWriter> writer, Function<BinaryReader, T> reader) {
+        return new Schema<>() {
+            @Override
+            public void write(T value, BinaryWriter binaryWriter) {
+                writer.accept(value, binaryWriter);
+            }
+
+            @Override
+            public T read(BinaryReader binaryReader) {
+                return reader.apply(binaryReader);
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package org.thewhitemage13.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Merges concurrent single-key lookups into bulk lookups.
+ * <p>
+ * Keys requested within a short window are collected and loaded together with one call to the
+ * bulk loader, whose result is then handed back to each caller. A batch is dispatched when the
+ * window that started with its first key elapses, or immediately by the caller that fills it up to
+ * the maximum batch size. The same key requested twice in one batch is loaded once.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Configurable window and maximum batch size.</li>
+ *     <li>Keys missing from the bulk result resolve to {@code null}.</li>
+ *     <li>A failed bulk call fails every lookup of its batch with the same exception.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * BatchLoader<Long, Boolean> userExistence = BatchLoader.windowed("user-existence", 2,
+ *         Duration.ofMillis(2), 64, ids -> toExistenceMap(ids, userClient.verifyUsersExistence(ids).getBody()));
+ * boolean exists = Boolean.TRUE.equals(userExistence.get(userId));
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+    private final Function<List<K>, Map<K, V>> bulkLoader;
+    private final ScheduledExecutorService scheduler;
+    private final Duration window;
+    private final int maxBatchSize;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Constructs a new {@code BatchLoader}.
+     *
+     * @param bulkLoader   loads the values of several keys at once; keys without a value may be omitted
+     * @param scheduler    the scheduler that dispatches batches when their window elapses
+     * @param window       how long a batch waits for more keys after its first key
+     * @param maxBatchSize the number of distinct keys at which a batch is dispatched without waiting
+     */
+    public BatchLoader(Function<List<K>, Map<K, V>> bulkLoader,
+                       ScheduledExecutorService scheduler,
+                       Duration window,
+                       int maxBatchSize) {
+        this.bulkLoader = bulkLoader;
+        this.scheduler = scheduler;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates a {@code BatchLoader} whose windowed batches are dispatched by a pool of daemon threads.
+     *
+     * @param name         the prefix used for the dispatcher thread names
+     * @param threads      the number of dispatcher threads, i.e. windowed bulk calls that may run at once
+     * @param window       how long a batch waits for more keys after its first key
+     * @param maxBatchSize the number of distinct keys at which a batch is dispatched without waiting
+     * @param bulkLoader   loads the values of several keys at once; keys without a value may be omitted
+     * @param <K>          the key type
+     * @param <V>          the value type
+     * @return a new {@code BatchLoader} instance
+     */
+    public static <K, V> BatchLoader<K, V> windowed(String name,
+                                                    int threads,
+                                                    Duration window,
+                                                    int maxBatchSize,
+                                                    Function<List<K>, Map<K, V>> bulkLoader) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(threads, threadFactory);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return new BatchLoader<>(bulkLoader, scheduler, window, maxBatchSize);
+    }
+
+    /**
+     * Adds a key to the current batch.
+     *
+     * @param key the key to load
+     * @return a future completed with the value of the key, or {@code null} if the bulk result has none
+     */
+    public CompletableFuture<V> load(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * Loads a key as part of a batch and waits for its value.
+     *
+     * @param key the key to load
+     * @return the value of the key, or {@code null} if the bulk result has none
+     * @throws RuntimeException the exception thrown by the bulk loader, or an {@link IllegalStateException}
+     *                          wrapping an error thrown by it
+     */
+    public V get(K key) {
+        try {
+            return load(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Dispatches the current batch without waiting for its window to elapse.
+     */
+    public void flush() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Dispatches the current batch and shuts down the scheduler.
+     */
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdown();
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        Map<K, V> values;
+        try {
+            values = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+        batch.forEach((key, future) -> future.complete(values == null ? null : values.get(key)));
+    }
+}
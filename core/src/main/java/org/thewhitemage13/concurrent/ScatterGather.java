@@ -0,0 +1,123 @@
+package org.thewhitemage13.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Helper for running independent remote lookups in parallel and gathering their results.
+ * <p>
+ * Each branch is submitted to a bounded thread pool and is given its own timeout. A branch
+ * that fails or does not complete in time resolves to the fallback value supplied by the caller,
+ * so a single slow downstream service degrades the response instead of failing it.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Bounded pool and queue; when saturated, a new branch resolves to its fallback at once.</li>
+ *     <li>Per-branch timeout with a partial-result fallback.</li>
+ *     <li>Exceptions thrown by a branch are replaced by its fallback value.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * CompletableFuture<Long> followers = scatterGather.fork(() -> client.countFollowers(userId), 0L);
+ * CompletableFuture<Long> posts = scatterGather.fork(() -> client.countPosts(userId), 0L);
+ * scatterGather.await(followers, posts);
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ScatterGather implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    /**
+     * Constructs a new {@code ScatterGather} over the given executor.
+     *
+     * @param executor the executor that runs the branches
+     * @param timeout  the maximum time a single branch may take before its fallback is used
+     */
+    public ScatterGather(ExecutorService executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a {@code ScatterGather} backed by a bounded pool of daemon threads.
+     *
+     * @param name      the prefix used for the worker thread names
+     * @param threads   the maximum number of worker threads
+     * @param queueSize the maximum number of branches waiting for a worker
+     * @param timeout   the maximum time a single branch may take before its fallback is used
+     * @return a new {@code ScatterGather} instance
+     */
+    public static ScatterGather bounded(String name, int threads, int queueSize, Duration timeout) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor
+                (
+                        threads,
+                        threads,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueSize),
+                        threadFactory,
+                        new ThreadPoolExecutor.AbortPolicy()
+                );
+        executor.allowCoreThreadTimeOut(true);
+        return new ScatterGather(executor, timeout);
+    }
+
+    /**
+     * Starts a branch in the background.
+     * <p>
+     * A branch rejected by a saturated executor is not run on the calling thread, which would
+     * not be bound by the timeout; it resolves to the fallback immediately.
+     * </p>
+     *
+     * @param task     the lookup to run
+     * @param fallback the value used when the lookup fails, times out or is rejected; may be {@code null}
+     * @param <T>      the result type
+     * @return a future that always completes normally, either with the result or with the fallback
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> task, T fallback) {
+        try {
+            return CompletableFuture
+                    .supplyAsync(task, executor)
+                    .completeOnTimeout(fallback, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(throwable -> fallback);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(fallback);
+        }
+    }
+
+    /**
+     * Waits until all given branches have completed or fallen back.
+     *
+     * @param branches the futures returned by {@link #fork(Supplier, Object)}
+     */
+    public void await(CompletableFuture<?>... branches) {
+        CompletableFuture.allOf(branches).join();
+    }
+
+    /**
+     * Shuts down the underlying executor. Branches that are already running are allowed to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
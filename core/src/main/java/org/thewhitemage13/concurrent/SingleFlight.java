@@ -0,0 +1,142 @@
+package org.thewhitemage13.concurrent;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical lookups into one.
+ * <p>
+ * The first caller for a key runs the lookup on its own thread; callers that arrive with an equal
+ * key while it is in flight wait for the same result instead of starting their own. The key is
+ * forgotten as soon as the lookup completes, so nothing is cached: a later call runs the lookup
+ * again. A failure is rethrown to every waiting caller.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Per-key coalescing with any key that implements {@code equals} and {@code hashCode}.</li>
+ *     <li>Call, execution and coalesce counts, published as an MXBean.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Map<Long, String> names = singleFlight.execute(List.of("usernames", userIds),
+ *         () -> userClient.getUserNamesByIds(userIds).getBody());
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class SingleFlight implements SingleFlightMXBean {
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Creates a {@code SingleFlight} and publishes it on the platform MBean server as
+     * {@code org.thewhitemage13:type=SingleFlight,service=<service>,name=<name>}. An instance
+     * already published under that name is replaced.
+     *
+     * @param service the name of the publishing service
+     * @param name    what the lookups are, e.g. {@code feign} or {@code cacheLoads}
+     * @return the published instance
+     * @throws IllegalStateException if the instance cannot be published
+     */
+    public static SingleFlight registered(String service, String name) {
+        SingleFlight singleFlight = new SingleFlight();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName("org.thewhitemage13:type=SingleFlight,service="
+                    + ObjectName.quote(service) + ",name=" + ObjectName.quote(name));
+            try {
+                server.registerMBean(singleFlight, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(objectName);
+                server.registerMBean(singleFlight, objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register single flight " + name + " for " + service, e);
+        }
+        return singleFlight;
+    }
+
+    /**
+     * Runs the lookup for a key unless an equal lookup is already in flight, in which case its
+     * result is awaited instead.
+     *
+     * @param key    identifies the lookup, including the operation and all of its arguments
+     * @param lookup the lookup to run
+     * @param <T>    the result type
+     * @return the result of the lookup
+     * @throws RuntimeException the exception thrown by the lookup, or an {@link IllegalStateException}
+     *                          wrapping an error thrown by it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> lookup) {
+        calls.increment();
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return (T) join(running);
+        }
+        executions.increment();
+        try {
+            T result = lookup.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    @Override
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public double getCoalesceRatio() {
+        long count = calls.sum();
+        return count == 0 ? 0.0 : (double) getCoalescedCount() / count;
+    }
+
+    @Override
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
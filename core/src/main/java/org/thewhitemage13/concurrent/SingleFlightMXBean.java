@@ -0,0 +1,35 @@
+package org.thewhitemage13.concurrent;
+
+/**
+ * Management interface of {@link SingleFlight}, published over JMX.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface SingleFlightMXBean {
+
+    /**
+     * @return the number of lookups requested
+     */
+    long getCallCount();
+
+    /**
+     * @return the number of lookups that were actually executed
+     */
+    long getExecutionCount();
+
+    /**
+     * @return the number of lookups that joined a lookup already in flight
+     */
+    long getCoalescedCount();
+
+    /**
+     * @return the share of lookups that joined a lookup already in flight, between 0 and 1
+     */
+    double getCoalesceRatio();
+
+    /**
+     * @return the number of lookups currently in flight
+     */
+    int getInFlightCount();
+}
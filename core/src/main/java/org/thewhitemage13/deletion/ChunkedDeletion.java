@@ -0,0 +1,98 @@
+package org.thewhitemage13.deletion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Drives a bulk deletion chunk by chunk.
+ * <p>
+ * Every chunk runs in its own transaction: it selects at most {@link #getChunkSize()} rows,
+ * removes them with one set-based statement and publishes one
+ * {@link org.thewhitemage13.BatchDeletedEvent}. The loop stops at the first chunk that comes back
+ * smaller than the chunk size, so a deletion that fails half way keeps the chunks already
+ * committed and continues with the remaining rows when it is run again. Progress is logged after
+ * every chunk.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ChunkedDeletion chunkedDeletion = new ChunkedDeletion(500, work -> transactionTemplate.execute(status -> work.get()));
+ * long deleted = chunkedDeletion.run("likes of user " + userId,
+ *         (chunk, chunkSize) -> deleteLikes(userId, chunk, likeRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize))));
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ChunkedDeletion {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedDeletion.class);
+
+    private final int chunkSize;
+    private final Function<Supplier<Integer>, Integer> inTransaction;
+
+    /**
+     * Constructs a new {@code ChunkedDeletion}.
+     *
+     * @param chunkSize     the maximum number of rows deleted per chunk
+     * @param inTransaction runs the given work in a new transaction and returns its result
+     */
+    public ChunkedDeletion(int chunkSize, Function<Supplier<Integer>, Integer> inTransaction) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.inTransaction = inTransaction;
+    }
+
+    /**
+     * @return the maximum number of rows deleted per chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Runs a bulk deletion to completion.
+     *
+     * @param description what is being deleted, used in the progress log
+     * @param chunkDeleter deletes the next chunk
+     * @return the total number of deleted rows
+     */
+    public long run(String description, ChunkDeleter chunkDeleter) {
+        long total = 0;
+        int chunk = 0;
+        int deleted;
+        do {
+            int number = chunk;
+            Integer result = inTransaction.apply(() -> chunkDeleter.deleteChunk(number, chunkSize));
+            deleted = result == null ? 0 : result;
+            total += deleted;
+            if (deleted > 0) {
+                LOGGER.info("Deleted chunk {} of {}: {} rows, {} so far", chunk, description, deleted, total);
+            }
+            chunk++;
+        } while (deleted >= chunkSize);
+
+        LOGGER.info("Finished deleting {}: {} rows", description, total);
+        return total;
+    }
+
+    /**
+     * Deletes one chunk of a bulk deletion.
+     */
+    @FunctionalInterface
+    public interface ChunkDeleter {
+
+        /**
+         * Deletes the next chunk.
+         *
+         * @param chunk     the number of the chunk, starting at 0
+         * @param chunkSize the maximum number of rows to delete
+         * @return the number of deleted rows
+         */
+        int deleteChunk(int chunk, int chunkSize);
+    }
+}
@@ -0,0 +1,121 @@
+package org.thewhitemage13.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over {@code long} identifiers.
+ * <p>
+ * A lookup answers either "definitely absent" or "maybe present": a key that was added is always
+ * reported as present, while a key that was never added is reported as present only with the
+ * configured false positive rate. Keys cannot be removed. Bits are set with compare-and-set, so
+ * keys may be added and looked up concurrently without locking.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+ * filter.add(42L);
+ * filter.mightContain(42L); // true
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * Constructs a new {@code BloomFilter} over the given bits.
+     *
+     * @param words     the bit array, 64 bits per word
+     * @param numHashes the number of bits set per key
+     */
+    public BloomFilter(long[] words, int numHashes) {
+        if (words.length == 0 || numHashes <= 0) {
+            throw new IllegalArgumentException("Bloom filter needs at least one word and one hash function");
+        }
+        this.words = new AtomicLongArray(words);
+        this.numBits = (long) words.length * Long.SIZE;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of keys.
+     *
+     * @param expectedInsertions the number of keys the filter is expected to hold
+     * @param falsePositiveRate  the acceptable false positive rate once that many keys were added
+     * @return a new empty filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long insertions = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = (int) Math.max(1, Math.round((double) bits / insertions * Math.log(2)));
+        return new BloomFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)], hashes);
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key the key to add
+     */
+    public void add(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a key may have been added.
+     *
+     * @param key the key to look up
+     * @return {@code false} if the key was definitely never added, {@code true} otherwise
+     */
+    public boolean mightContain(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of bits set per key
+     */
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * @return a copy of the bit array, 64 bits per word
+     */
+    public long[] toWords() {
+        long[] copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i);
+        }
+        return copy;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
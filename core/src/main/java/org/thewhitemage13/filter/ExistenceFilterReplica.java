@@ -0,0 +1,124 @@
+package org.thewhitemage13.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of the existence filter of another service.
+ * <p>
+ * The replica is loaded from an {@link ExistenceFilterSnapshot} fetched from the owning service
+ * and is kept current by adding the identifiers of the owner's create events as they are consumed.
+ * Deletions are not applied: a deleted identifier keeps answering "maybe", which only costs the
+ * remote check it would have cost without a replica, and it disappears with the next snapshot.
+ * </p>
+ * <p>
+ * The snapshot is read in one transaction, but a row whose identifier was allocated before that
+ * transaction started may commit after it, and then only reaches the replica with its create
+ * event. Such identifiers lie just below the snapshot's highest identifier, so the identifiers
+ * within the safety margin below it also answer "maybe".
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Answers "definitely absent" locally for identifiers up to the snapshot's highest identifier,
+ *     minus the safety margin.</li>
+ *     <li>Answers "maybe" for newer identifiers, before the first snapshot and when loading fails,
+ *     so callers fall back to the remote check instead of rejecting a valid request.</li>
+ *     <li>Identifiers consumed while a new snapshot is fetched are added to it before it is swapped in.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ExistenceFilterReplica {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExistenceFilterReplica.class);
+
+    private final String name;
+    private final Supplier<ExistenceFilterSnapshot> source;
+    private final long safetyMargin;
+    private volatile BloomFilter filter;
+    private volatile long maxId;
+    private List<Long> pending;
+
+    /**
+     * Constructs a new, empty {@code ExistenceFilterReplica}.
+     *
+     * @param name         the name used in log messages
+     * @param source       fetches the current snapshot from the owning service
+     * @param safetyMargin the number of identifiers below the snapshot's highest identifier that answer "maybe"
+     * @throws IllegalArgumentException if the safety margin is negative
+     */
+    public ExistenceFilterReplica(String name, Supplier<ExistenceFilterSnapshot> source, long safetyMargin) {
+        if (safetyMargin < 0) {
+            throw new IllegalArgumentException("Safety margin must not be negative: " + safetyMargin);
+        }
+        this.name = name;
+        this.source = source;
+        this.safetyMargin = safetyMargin;
+    }
+
+    /**
+     * Adds an identifier taken from a create event of the owning service.
+     *
+     * @param id the identifier of the created entity
+     */
+    public void add(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (this) {
+            if (pending != null) {
+                pending.add(id);
+            }
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.add(id);
+        }
+    }
+
+    /**
+     * Checks whether an identifier may exist in the owning service.
+     *
+     * @param id the identifier to check
+     * @return {@code false} only if the identifier definitely does not exist
+     */
+    public boolean mightExist(Long id) {
+        // maxId is written after filter, so reading it first never pairs a new bound with an old filter
+        long bound = maxId;
+        BloomFilter current = filter;
+        if (id == null || current == null || id > bound - safetyMargin) {
+            return true;
+        }
+        return current.mightContain(id);
+    }
+
+    /**
+     * Fetches a new snapshot and swaps it in. On failure the current filter is kept.
+     */
+    public void refresh() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        try {
+            ExistenceFilterSnapshot snapshot = source.get();
+            BloomFilter loaded = snapshot.toFilter();
+            synchronized (this) {
+                pending.forEach(loaded::add);
+                filter = loaded;
+                maxId = snapshot.getMaxId();
+            }
+            LOGGER.info("Loaded {} existence filter up to id {}", name, snapshot.getMaxId());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not load {} existence filter, keeping the current one: {}", name, e.getMessage());
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.thewhitemage13.filter;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Serialized {@link BloomFilter} of all identifiers an owning service holds.
+ * <p>
+ * The owning service builds a snapshot by scanning its identifiers in ascending order, within one
+ * repeatable-read transaction so that every page sees the same rows, and serves it to other
+ * services, which keep it as an {@link ExistenceFilterReplica}. Besides the bits the snapshot
+ * carries the highest identifier it covers: identifiers are assigned in ascending order, so a
+ * replica only trusts a "definitely absent" answer up to that identifier, less its safety margin,
+ * and asks the owning service about anything newer.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ExistenceFilterSnapshot snapshot = ExistenceFilterSnapshot.scan(userRepository.count(), 0.01,
+ *         lastId -> userRepository.findUserIdsAfter(lastId, PageRequest.of(0, 10_000)));
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ExistenceFilterSnapshot implements Serializable {
+    private Long maxId;
+    private Integer numHashes;
+    private byte[] bits;
+
+    /**
+     * Default constructor for ExistenceFilterSnapshot.
+     */
+    public ExistenceFilterSnapshot() {
+    }
+
+    /**
+     * Constructs a new {@code ExistenceFilterSnapshot} from a filter.
+     *
+     * @param maxId  the highest identifier added to the filter
+     * @param filter the filter to serialize
+     */
+    public ExistenceFilterSnapshot(Long maxId, BloomFilter filter) {
+        long[] words = filter.toWords();
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        this.maxId = maxId;
+        this.numHashes = filter.getNumHashes();
+        this.bits = buffer.array();
+    }
+
+    /**
+     * Builds a snapshot by reading all identifiers page by page in ascending order.
+     * <p>
+     * The filter is sized for twice the current number of identifiers, so it keeps its false
+     * positive rate while replicas add identifiers created after the snapshot.
+     * </p>
+     *
+     * @param count             the current number of identifiers
+     * @param falsePositiveRate the false positive rate of the filter
+     * @param idsAfter          returns the next page of identifiers greater than the given one,
+     *                          empty once all were read
+     * @return the new snapshot
+     */
+    public static ExistenceFilterSnapshot scan(long count, double falsePositiveRate, Function<Long, List<Long>> idsAfter) {
+        BloomFilter filter = BloomFilter.create(Math.max(count * 2, 1024), falsePositiveRate);
+        long lastId = 0;
+        List<Long> ids;
+        while (!(ids = idsAfter.apply(lastId)).isEmpty()) {
+            for (Long id : ids) {
+                filter.add(id);
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        return new ExistenceFilterSnapshot(lastId, filter);
+    }
+
+    /**
+     * Deserializes the filter.
+     *
+     * @return a new filter holding the bits of this snapshot
+     */
+    public BloomFilter toFilter() {
+        long[] words = new long[bits.length / Long.BYTES];
+        ByteBuffer.wrap(bits).asLongBuffer().get(words);
+        return new BloomFilter(words, numHashes);
+    }
+
+    /**
+     * Gets the highest identifier covered by the snapshot.
+     *
+     * @return the highest identifier, or 0 when the owning service holds none
+     */
+    public Long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Sets the highest identifier covered by the snapshot.
+     *
+     * @param maxId the highest identifier to set
+     */
+    public void setMaxId(Long maxId) {
+        this.maxId = maxId;
+    }
+
+    /**
+     * Gets the number of bits set per identifier.
+     *
+     * @return the number of hash functions
+     */
+    public Integer getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * Sets the number of bits set per identifier.
+     *
+     * @param numHashes the number of hash functions to set
+     */
+    public void setNumHashes(Integer numHashes) {
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Gets the bits of the filter, big-endian, 8 bytes per word.
+     *
+     * @return the serialized bits
+     */
+    public byte[] getBits() {
+        return bits;
+    }
+
+    /**
+     * Sets the bits of the filter, big-endian, 8 bytes per word.
+     *
+     * @param bits the serialized bits to set
+     */
+    public void setBits(byte[] bits) {
+        this.bits = bits;
+    }
+}
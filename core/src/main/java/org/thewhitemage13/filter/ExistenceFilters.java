@@ -0,0 +1,96 @@
+package org.thewhitemage13.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ExistenceFilterReplica replicas} a service keeps, by owning entity.
+ * <p>
+ * Validation code asks {@link #mightExist(String, Long)} before calling the owning service and
+ * only makes the remote call when the answer is "maybe". Entities without a registered replica
+ * always answer "maybe", so the remote check stays the source of truth.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * existenceFilters.register(ExistenceFilters.USERS, () -> userClient.existenceFilter().getBody());
+ * if (!existenceFilters.mightExist(ExistenceFilters.USERS, userId)
+ *         || Boolean.FALSE.equals(userClient.verifyUserExistence(userId).getBody())) {
+ *     throw new UserNotFoundException("User with id = %s not found".formatted(userId));
+ * }
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ExistenceFilters {
+    public static final String USERS = "users";
+    public static final String POSTS = "posts";
+    public static final String COMMENTS = "comments";
+    public static final long DEFAULT_SAFETY_MARGIN = 1000;
+
+    private final Map<String, ExistenceFilterReplica> replicas = new ConcurrentHashMap<>();
+    private final long safetyMargin;
+
+    /**
+     * Constructs a new {@code ExistenceFilters} with the {@link #DEFAULT_SAFETY_MARGIN default safety margin}.
+     */
+    public ExistenceFilters() {
+        this(DEFAULT_SAFETY_MARGIN);
+    }
+
+    /**
+     * Constructs a new {@code ExistenceFilters}.
+     *
+     * @param safetyMargin the number of identifiers below a snapshot's highest identifier that answer
+     *                     "maybe", see {@link ExistenceFilterReplica}
+     */
+    public ExistenceFilters(long safetyMargin) {
+        this.safetyMargin = safetyMargin;
+    }
+
+    /**
+     * Registers an empty replica for an entity. It answers "maybe" until the first {@link #refreshAll()}.
+     *
+     * @param entity the owning entity, e.g. {@link #USERS}
+     * @param source fetches the current snapshot from the owning service
+     * @return this instance
+     */
+    public ExistenceFilters register(String entity, Supplier<ExistenceFilterSnapshot> source) {
+        replicas.put(entity, new ExistenceFilterReplica(entity, source, safetyMargin));
+        return this;
+    }
+
+    /**
+     * Adds an identifier taken from a create event to the replica of the entity, if there is one.
+     *
+     * @param entity the owning entity
+     * @param id     the identifier of the created entity
+     */
+    public void add(String entity, Long id) {
+        ExistenceFilterReplica replica = replicas.get(entity);
+        if (replica != null) {
+            replica.add(id);
+        }
+    }
+
+    /**
+     * Checks whether an identifier may exist in the owning service.
+     *
+     * @param entity the owning entity
+     * @param id     the identifier to check
+     * @return {@code false} only if the identifier definitely does not exist
+     */
+    public boolean mightExist(String entity, Long id) {
+        ExistenceFilterReplica replica = replicas.get(entity);
+        return replica == null || replica.mightExist(id);
+    }
+
+    /**
+     * Fetches new snapshots for all replicas.
+     */
+    public void refreshAll() {
+        replicas.values().forEach(ExistenceFilterReplica::refresh);
+    }
+}
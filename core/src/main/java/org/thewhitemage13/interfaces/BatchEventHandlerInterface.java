@@ -0,0 +1,32 @@
+package org.thewhitemage13.interfaces;
+
+import java.util.List;
+
+/**
+ * Interface defining a handler that consumes events in batches.
+ * <p>
+ * Implementations receive all records returned by one poll of a topic and are expected
+ * to persist them in bulk, for example with a single JDBC batch insert, instead of one
+ * transaction per record. The events are in partition order.
+ * </p>
+ *
+ * <h2>Responsibilities:</h2>
+ * <ul>
+ *     <li>Process a batch of events of one type with as few round trips as possible.</li>
+ *     <li>Identify the first record that cannot be processed, so that only that record is retried
+ *     and sent to the dead letter topic.</li>
+ * </ul>
+ *
+ * @param <E> the event type
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface BatchEventHandlerInterface<E> {
+
+    /**
+     * Handles a batch of events.
+     *
+     * @param events the events of one poll, never empty
+     */
+    void handleBatch(List<E> events);
+}
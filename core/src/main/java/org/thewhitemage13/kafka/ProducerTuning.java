@@ -0,0 +1,75 @@
+package org.thewhitemage13.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Shared producer settings for services that publish domain events.
+ * <p>
+ * A bare producer sends each record as soon as it is handed over, which turns every event into
+ * its own small, uncompressed request. The throughput profile lets the producer wait a few
+ * milliseconds to fill larger batches and compresses every batch before sending it.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>{@code linger.ms}, {@code batch.size} and {@code compression.type} with throughput-oriented defaults.</li>
+ *     <li>Every value can be overridden with {@code spring.kafka.producer.properties.<name>}.</li>
+ *     <li>No dependency on the Kafka client; the result is merged into a producer configuration map.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * config.putAll(ProducerTuning.throughputProfile(environment::getProperty));
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class ProducerTuning {
+    public static final String LINGER_MS = "linger.ms";
+    public static final String BATCH_SIZE = "batch.size";
+    public static final String COMPRESSION_TYPE = "compression.type";
+
+    public static final int DEFAULT_LINGER_MS = 10;
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+    public static final String DEFAULT_COMPRESSION_TYPE = "lz4";
+
+    private static final String PROPERTY_PREFIX = "spring.kafka.producer.properties.";
+
+    private ProducerTuning() {
+    }
+
+    /**
+     * Builds the throughput profile.
+     *
+     * @param properties resolves a property name to its configured value, or {@code null} if it is not set
+     * @return the producer settings to merge into the producer configuration
+     * @throws IllegalArgumentException if a configured number cannot be parsed
+     */
+    public static Map<String, Object> throughputProfile(Function<String, String> properties) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(LINGER_MS, intValue(properties, LINGER_MS, DEFAULT_LINGER_MS));
+        config.put(BATCH_SIZE, intValue(properties, BATCH_SIZE, DEFAULT_BATCH_SIZE));
+        config.put(COMPRESSION_TYPE, stringValue(properties, COMPRESSION_TYPE, DEFAULT_COMPRESSION_TYPE));
+        return config;
+    }
+
+    private static int intValue(Function<String, String> properties, String name, int defaultValue) {
+        String value = properties.apply(PROPERTY_PREFIX + name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for %s%s: %s".formatted(PROPERTY_PREFIX, name, value), e);
+        }
+    }
+
+    private static String stringValue(Function<String, String> properties, String name, String defaultValue) {
+        String value = properties.apply(PROPERTY_PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,122 @@
+package org.thewhitemage13.kafka;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for asynchronous producer sends.
+ * <p>
+ * Sends complete on the producer's I/O thread, so the counters are lock-free adders that can be
+ * updated from send callbacks without slowing the producer down. The values are published as an
+ * MXBean, which makes them visible in any JMX console without an additional metrics library.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Acknowledged and failed send counts.</li>
+ *     <li>Average and maximum latency from send to acknowledgement.</li>
+ *     <li>Failed send counts per topic.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class SendMetrics implements SendMetricsMXBean {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+    private final Map<String, LongAdder> failedByTopic = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code SendMetrics} instance and publishes it on the platform MBean server as
+     * {@code org.thewhitemage13:type=KafkaSendMetrics,service=<service>}. An instance already
+     * published under that name is replaced.
+     *
+     * @param service the name of the publishing service
+     * @return the published instance
+     * @throws IllegalStateException if the instance cannot be published
+     */
+    public static SendMetrics registered(String service) {
+        SendMetrics sendMetrics = new SendMetrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("org.thewhitemage13:type=KafkaSendMetrics,service=" + ObjectName.quote(service));
+            try {
+                server.registerMBean(sendMetrics, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(sendMetrics, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register send metrics for " + service, e);
+        }
+        return sendMetrics;
+    }
+
+    /**
+     * Records a send acknowledged by the broker.
+     * <p>
+     * The latency is measured with {@link System#nanoTime()} from the hand-over to the producer
+     * to the acknowledgement, on the same JVM, so clock differences between producer and broker
+     * do not matter.
+     * </p>
+     *
+     * @param latencyNanos the time from send to acknowledgement, in nanoseconds
+     */
+    public void recordSuccess(long latencyNanos) {
+        long latency = Math.max(latencyNanos, 0L);
+        sent.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulate(latency);
+    }
+
+    /**
+     * Records a send that failed.
+     *
+     * @param topic the topic of the failed record
+     */
+    public void recordFailure(String topic) {
+        failed.increment();
+        failedByTopic.computeIfAbsent(topic, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public double getAverageLatencyMillis() {
+        long count = sent.sum();
+        return count == 0 ? 0.0 : (double) totalLatencyNanos.sum() / count / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    @Override
+    public Map<String, Long> getFailedCountByTopic() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        failedByTopic.forEach((topic, count) -> snapshot.put(topic, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,37 @@
+package org.thewhitemage13.kafka;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link SendMetrics}, published over JMX.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface SendMetricsMXBean {
+
+    /**
+     * @return the number of records acknowledged by the broker
+     */
+    long getSentCount();
+
+    /**
+     * @return the number of records that could not be sent
+     */
+    long getFailedCount();
+
+    /**
+     * @return the mean time from send to acknowledgement, in milliseconds
+     */
+    double getAverageLatencyMillis();
+
+    /**
+     * @return the longest time from send to acknowledgement, in milliseconds
+     */
+    long getMaxLatencyMillis();
+
+    /**
+     * @return the number of failed sends per topic
+     */
+    Map<String, Long> getFailedCountByTopic();
+}
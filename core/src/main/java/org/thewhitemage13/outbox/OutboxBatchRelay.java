@@ -0,0 +1,203 @@
+package org.thewhitemage13.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes one batch of outbox rows, keeping the order of every key.
+ * <p>
+ * The batch is sent in rounds. Each round hands the oldest pending row of every key to the
+ * producer, so different keys still share request batches, and waits for the acknowledgements
+ * before the next row of a key is sent. A key stops at its first failure: the rows recorded
+ * after it are never handed to the producer in that pass, so consumers neither see them before
+ * the failed row nor receive them twice when the pass is repeated. Rows without a key have no
+ * order to keep and are sent in the first round.
+ * </p>
+ * <p>
+ * A row whose payload cannot be decoded, or that the producer rejects, counts a failed attempt
+ * and is handed back for dead-lettering once it reaches {@code maxAttempts}, so a poison row
+ * does not hold back its key for good. A row that is still unacknowledged when the send
+ * timeout expires does not count an attempt, because that is what an unavailable broker looks
+ * like; it is sent again by a later pass, so delivery is at least once.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * OutboxBatchRelay.Result<OutboxEvent> result = outboxBatchRelay.relay(batch, this::read,
+ *         (outboxEvent, event) -> kafkaTemplate.send(outboxEvent.getTopic(), outboxEvent.getAggregateKey(), event));
+ * }</pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class OutboxBatchRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxBatchRelay.class);
+
+    private final Duration sendTimeout;
+    private final int maxAttempts;
+
+    /**
+     * Constructs a new {@code OutboxBatchRelay}.
+     *
+     * @param sendTimeout how long a batch may take to be sent and acknowledged
+     * @param maxAttempts the number of failed attempts after which a row is dead-lettered
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     */
+    public OutboxBatchRelay(Duration sendTimeout, int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive: " + maxAttempts);
+        }
+        this.sendTimeout = sendTimeout;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Sends a batch of rows.
+     *
+     * @param batch   the rows in the order they were recorded
+     * @param decoder turns a row back into its event
+     * @param sender  hands an event to the producer and returns the future of its acknowledgement
+     * @param <R>     the type of the rows
+     * @return what to do with every row that was acknowledged or failed; the other rows stay as they are
+     */
+    public <R extends OutboxRecord> Result<R> relay(List<R> batch, Decoder<R> decoder, Sender<R> sender) {
+        Map<Object, Deque<R>> pending = new LinkedHashMap<>();
+        for (R row : batch) {
+            Object key = row.getAggregateKey() != null ? row.getAggregateKey() : new Object();
+            pending.computeIfAbsent(key, ignored -> new ArrayDeque<>()).add(row);
+        }
+
+        Result<R> result = new Result<>(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            Map<Object, CompletableFuture<?>> round = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<Object, Deque<R>>> iterator = pending.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<Object, Deque<R>> entry = iterator.next();
+                R row = entry.getValue().peek();
+                Object event;
+                try {
+                    event = decoder.decode(row);
+                } catch (Exception e) {
+                    fail(row, e, result);
+                    iterator.remove();
+                    continue;
+                }
+                round.put(entry.getKey(), send(sender, row, event));
+            }
+
+            for (Map.Entry<Object, CompletableFuture<?>> sent : round.entrySet()) {
+                Deque<R> rows = pending.get(sent.getKey());
+                R row = rows.peek();
+                try {
+                    sent.getValue().get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                    result.acknowledged().add(rows.poll());
+                    if (rows.isEmpty()) {
+                        pending.remove(sent.getKey());
+                    }
+                } catch (ExecutionException e) {
+                    fail(row, e.getCause() instanceof Exception cause ? cause : e, result);
+                    pending.remove(sent.getKey());
+                } catch (TimeoutException e) {
+                    LOGGER.warn("Outbox event {} for topic {} was not acknowledged within {} and will be retried",
+                            row.getId(), row.getTopic(), sendTimeout);
+                    pending.remove(sent.getKey());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <R> CompletableFuture<?> send(Sender<R> sender, R row, Object event) {
+        try {
+            return sender.send(row, event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <R extends OutboxRecord> void fail(R row, Exception error, Result<R> result) {
+        int attempts = row.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            LOGGER.error("Outbox event {} for topic {} failed {} times and is dead-lettered",
+                    row.getId(), row.getTopic(), attempts, error);
+            result.deadLettered().add(new Failure<>(row, attempts, error));
+        } else {
+            LOGGER.warn("Outbox event {} for topic {} failed and will be retried", row.getId(), row.getTopic(), error);
+            result.retried().add(row);
+        }
+    }
+
+    /**
+     * Turns an outbox row back into its event.
+     *
+     * @param <R> the type of the rows
+     */
+    @FunctionalInterface
+    public interface Decoder<R> {
+
+        /**
+         * Decodes the payload of a row.
+         *
+         * @param row the row
+         * @return the event
+         * @throws Exception if the payload cannot be read
+         */
+        Object decode(R row) throws Exception;
+    }
+
+    /**
+     * Hands an event to the producer.
+     *
+     * @param <R> the type of the rows
+     */
+    @FunctionalInterface
+    public interface Sender<R> {
+
+        /**
+         * Sends the event of a row.
+         *
+         * @param row   the row
+         * @param event the decoded event
+         * @return the future completed when the broker acknowledges the event
+         */
+        CompletableFuture<?> send(R row, Object event);
+    }
+
+    /**
+     * The outcome of a batch.
+     *
+     * @param acknowledged the rows acknowledged by the broker, to be deleted
+     * @param retried      the rows that failed below the attempt limit, whose attempts are to be incremented
+     * @param deadLettered the rows that reached the attempt limit, to be moved to the dead letters
+     * @param <R>          the type of the rows
+     */
+    public record Result<R>(List<R> acknowledged, List<R> retried, List<Failure<R>> deadLettered) {
+    }
+
+    /**
+     * A row the relay gave up on.
+     *
+     * @param row      the row
+     * @param attempts the number of failed attempts, including the last one
+     * @param error    the reason of the last failure
+     * @param <R>      the type of the rows
+     */
+    public record Failure<R>(R row, int attempts, Exception error) {
+    }
+}
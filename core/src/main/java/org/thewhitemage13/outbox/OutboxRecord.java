@@ -0,0 +1,30 @@
+package org.thewhitemage13.outbox;
+
+/**
+ * A row of a transactional outbox, as seen by {@link OutboxBatchRelay}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface OutboxRecord {
+
+    /**
+     * @return the identifier of the row, which defines the publication order
+     */
+    Long getId();
+
+    /**
+     * @return the destination topic
+     */
+    String getTopic();
+
+    /**
+     * @return the record key; the events of one key are published in order, or {@code null} for an unordered event
+     */
+    Long getAggregateKey();
+
+    /**
+     * @return the number of failed attempts to relay the row so far
+     */
+    int getAttempts();
+}
@@ -0,0 +1,70 @@
+package org.thewhitemage13.tracing;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Lazy, size-bounded rendering of method arguments for log messages.
+ * <p>
+ * The returned object is passed to the logger as a parameter, so nothing is rendered unless the
+ * message is actually written. Collections, maps and arrays are rendered by type and size only,
+ * and every other value is cut at {@value #MAX_VALUE_LENGTH} characters, so logging a call never
+ * serializes a whole result page.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class Arguments {
+    private static final int MAX_VALUE_LENGTH = 120;
+
+    private Arguments() {
+    }
+
+    /**
+     * Wraps the arguments of a call.
+     *
+     * @param args the arguments
+     * @return an object whose {@code toString} renders the arguments
+     */
+    public static Object lazy(Object[] args) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return render(args);
+            }
+        };
+    }
+
+    static String render(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(renderValue(args[i]));
+        }
+        return builder.append(']').toString();
+    }
+
+    private static String renderValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[length=" + Array.getLength(value) + "]";
+        }
+        String text = String.valueOf(value);
+        return text.length() <= MAX_VALUE_LENGTH ? text : text.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+}
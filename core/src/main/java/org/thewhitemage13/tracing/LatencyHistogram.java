@@ -0,0 +1,95 @@
+package org.thewhitemage13.tracing;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two microsecond buckets.
+ * <p>
+ * Bucket {@code i} counts the calls that took less than {@code 2^i} microseconds, the last bucket
+ * collects everything slower. Recording a value is a few adder increments and never allocates,
+ * so every call can be recorded even on hot paths. Percentiles are reported as the upper bound
+ * of the bucket that contains them, which is accurate to within a factor of two.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS = 28;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param nanos the duration of the call in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(nanos, 0L) / 1_000L;
+        int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * @return the number of recorded calls
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Estimates a percentile.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the upper bound of the bucket containing the percentile, in microseconds, or {@code 0} if empty
+     */
+    public long percentileMicros(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return 1L << i;
+            }
+        }
+        return maxNanos.get() / 1_000L;
+    }
+
+    /**
+     * Summarizes the histogram in a single line.
+     *
+     * @return the call count, mean, p50, p99 and maximum latency
+     */
+    public String summary() {
+        long calls = count.sum();
+        long meanMicros = calls == 0 ? 0L : totalNanos.sum() / calls / 1_000L;
+        return "count=%d mean=%dus p50<=%dus p99<=%dus max=%dus".formatted
+                (
+                        calls,
+                        meanMicros,
+                        percentileMicros(50),
+                        percentileMicros(99),
+                        maxNanos.get() / 1_000L
+                );
+    }
+}
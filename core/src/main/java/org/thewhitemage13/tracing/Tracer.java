@@ -0,0 +1,169 @@
+package org.thewhitemage13.tracing;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runtime state of the method tracing of one service.
+ * <p>
+ * The tracer keeps a {@link LatencyHistogram} per traced method and decides which calls are
+ * sampled for logging. Both the on/off switch and the sample rate are volatile fields, read on
+ * every call, and can be changed over JMX while the service is running.
+ * </p>
+ * <p>
+ * Callers that intercept methods look up a {@link TracedMethod} by the {@link Method} itself.
+ * Its display name and histogram are resolved on the first call only, so the per-call cost is a
+ * hash lookup on the method instead of building the name string every time.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Runtime switch and sample rate, published as an MXBean.</li>
+ *     <li>Latency histogram per method, recorded for every call while enabled.</li>
+ *     <li>Probabilistic sampling without locks or shared random state.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class Tracer implements TracerMXBean {
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<Method, TracedMethod> methods = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile double sampleRate;
+
+    /**
+     * Constructs a new {@code Tracer}.
+     *
+     * @param enabled    whether tracing starts enabled
+     * @param sampleRate the fraction of calls that are logged, clamped to {@code [0, 1]}
+     */
+    public Tracer(boolean enabled, double sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = clamp(sampleRate);
+    }
+
+    /**
+     * Creates a {@code Tracer} and publishes it on the platform MBean server as
+     * {@code org.thewhitemage13:type=Tracer,service=<service>}. An instance already published
+     * under that name is replaced.
+     *
+     * @param service    the name of the service
+     * @param enabled    whether tracing starts enabled
+     * @param sampleRate the fraction of calls that are logged
+     * @return the published instance
+     * @throws IllegalStateException if the instance cannot be published
+     */
+    public static Tracer registered(String service, boolean enabled, double sampleRate) {
+        Tracer tracer = new Tracer(enabled, sampleRate);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("org.thewhitemage13:type=Tracer,service=" + ObjectName.quote(service));
+            try {
+                server.registerMBean(tracer, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(tracer, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register tracer for " + service, e);
+        }
+        return tracer;
+    }
+
+    /**
+     * Decides whether the current call is logged.
+     *
+     * @return {@code true} for roughly {@link #getSampleRate()} of the calls
+     */
+    public boolean sample() {
+        double rate = sampleRate;
+        return rate > 0.0 && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Records the duration of one call.
+     *
+     * @param method the traced method
+     * @param nanos  the duration in nanoseconds
+     */
+    public void record(String method, long nanos) {
+        histogram(method).record(nanos);
+    }
+
+    /**
+     * Looks up the tracing state of an intercepted method.
+     * <p>
+     * Overloads share the display name {@code Type.method(..)} and therefore one histogram.
+     * </p>
+     *
+     * @param method the intercepted method
+     * @return the display name and histogram of the method
+     */
+    public TracedMethod method(Method method) {
+        TracedMethod traced = methods.get(method);
+        if (traced == null) {
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(..)";
+            traced = methods.computeIfAbsent(method, key -> new TracedMethod(name, histogram(name)));
+        }
+        return traced;
+    }
+
+    private LatencyHistogram histogram(String method) {
+        return histograms.computeIfAbsent(method, key -> new LatencyHistogram());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = clamp(sampleRate);
+    }
+
+    @Override
+    public Map<String, String> getLatencySummaries() {
+        Map<String, String> summaries = new TreeMap<>();
+        histograms.forEach((method, histogram) -> summaries.put(method, histogram.summary()));
+        return summaries;
+    }
+
+    @Override
+    public void reset() {
+        methods.clear();
+        histograms.clear();
+    }
+
+    private static double clamp(double sampleRate) {
+        return Double.isNaN(sampleRate) ? 0.0 : Math.min(Math.max(sampleRate, 0.0), 1.0);
+    }
+
+    /**
+     * The tracing state of one intercepted method.
+     *
+     * @param name      the display name, {@code Type.method(..)}
+     * @param histogram the latency histogram of the method
+     */
+    public record TracedMethod(String name, LatencyHistogram histogram) {
+    }
+}
@@ -0,0 +1,47 @@
+package org.thewhitemage13.tracing;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link Tracer}, published over JMX so tracing can be switched and
+ * tuned at runtime without a restart.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface TracerMXBean {
+
+    /**
+     * @return {@code true} if calls are timed and sampled
+     */
+    boolean isEnabled();
+
+    /**
+     * Switches tracing on or off. When off, the tracing aspect only forwards calls.
+     *
+     * @param enabled the new state
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the fraction of calls that are logged, between {@code 0} and {@code 1}
+     */
+    double getSampleRate();
+
+    /**
+     * Changes the fraction of calls that are logged.
+     *
+     * @param sampleRate the new rate, clamped to {@code [0, 1]}
+     */
+    void setSampleRate(double sampleRate);
+
+    /**
+     * @return a one-line latency summary per traced method
+     */
+    Map<String, String> getLatencySummaries();
+
+    /**
+     * Discards all recorded latencies.
+     */
+    void reset();
+}
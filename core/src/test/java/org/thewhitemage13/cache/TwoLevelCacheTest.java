@@ -0,0 +1,170 @@
+package org.thewhitemage13.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+    private static final String CHANNEL = "cache-invalidation:test";
+
+    private final ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("posts", "users");
+    private final StringRedisTemplate firstTemplate = Mockito.mock(StringRedisTemplate.class);
+    private final StringRedisTemplate secondTemplate = Mockito.mock(StringRedisTemplate.class);
+    private TwoLevelCacheManager first;
+    private TwoLevelCacheManager second;
+
+    @BeforeEach
+    void setUp() {
+        NearCacheSpec spec = new NearCacheSpec(Duration.ofMinutes(5), 100);
+        first = new TwoLevelCacheManager(redis, firstTemplate, CHANNEL, spec, Map.of());
+        second = new TwoLevelCacheManager(redis, secondTemplate, CHANNEL, spec, Map.of());
+    }
+
+    @Test
+    void get_ShouldServeLocalEntry_WithoutSharedLevel() {
+        // given
+        Cache cache = first.getCache("posts");
+        cache.put(1L, "post");
+        redis.getCache("posts").clear();
+
+        // when
+        Cache.ValueWrapper wrapper = cache.get(1L);
+
+        // then
+        assertNotNull(wrapper);
+        assertEquals("post", wrapper.get());
+    }
+
+    @Test
+    void get_ShouldFillLocalLevel_FromSharedLevel() {
+        // given
+        redis.getCache("posts").put(1L, "post");
+        Cache cache = first.getCache("posts");
+
+        // when
+        Object loaded = cache.get(1L, Object.class);
+        redis.getCache("posts").clear();
+
+        // then
+        assertEquals("post", loaded);
+        assertEquals("post", cache.get(1L, Object.class));
+    }
+
+    @Test
+    void getWithLoader_ShouldLoadOnceAndFillBothLevels() {
+        // given
+        Cache cache = first.getCache("posts");
+
+        // when
+        String loaded = cache.get(1L, () -> "post");
+        String again = cache.get(1L, () -> "other");
+
+        // then
+        assertEquals("post", loaded);
+        assertEquals("post", again);
+        assertEquals("post", redis.getCache("posts").get(1L, Object.class));
+    }
+
+    @Test
+    void getWithLoader_ShouldNotKeepValue_EvictedWhileLoading() {
+        // given
+        Cache cache = first.getCache("posts");
+
+        // when
+        String loaded = cache.get(1L, () -> {
+            cache.evict(1L);
+            return "stale";
+        });
+
+        // then
+        assertEquals("stale", loaded);
+        assertNull(cache.get(1L));
+        assertNull(redis.getCache("posts").get(1L));
+    }
+
+    @Test
+    void evict_ShouldDropLocalEntryOnOtherInstances() {
+        // given
+        Cache firstCache = first.getCache("posts");
+        Cache secondCache = second.getCache("posts");
+        firstCache.put(1L, "post");
+        assertEquals("post", secondCache.get(1L, Object.class));
+        redis.getCache("posts").put(1L, "updated");
+
+        // when
+        firstCache.put(1L, "updated");
+        deliver(firstTemplate, second);
+
+        // then
+        assertEquals("updated", secondCache.get(1L, Object.class));
+    }
+
+    @Test
+    void clear_ShouldDropAllLocalEntriesOnOtherInstances() {
+        // given
+        Cache secondCache = second.getCache("posts");
+        secondCache.put(1L, "first");
+        secondCache.put(2L, "second");
+        redis.getCache("posts").clear();
+
+        // when
+        first.getCache("posts").clear();
+        deliver(firstTemplate, second);
+
+        // then
+        assertNull(secondCache.get(1L));
+        assertNull(secondCache.get(2L));
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreOwnMessages() {
+        // given
+        Cache cache = first.getCache("posts");
+        cache.put(1L, "post");
+        redis.getCache("posts").clear();
+
+        // when
+        cache.evict(2L);
+        deliver(firstTemplate, first);
+
+        // then
+        assertEquals("post", cache.get(1L, Object.class));
+    }
+
+    @Test
+    void getCacheNames_ShouldListCreatedCachesOnly() {
+        // when
+        first.getCache("posts");
+        first.getCache("users");
+        Cache unknown = first.getCache("unknown");
+
+        // then
+        assertNull(unknown);
+        assertEquals(2, first.getCacheNames().size());
+        assertTrue(first.getCacheNames().containsAll(List.of("posts", "users")));
+        assertTrue(second.getCacheNames().isEmpty());
+    }
+
+    /**
+     * Delivers the last message published through a template to a manager, as the Redis
+     * listener container would.
+     */
+    private static void deliver(StringRedisTemplate template, TwoLevelCacheManager receiver) {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(template, Mockito.atLeastOnce()).convertAndSend(Mockito.eq(CHANNEL), body.capture());
+        receiver.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getValue().getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
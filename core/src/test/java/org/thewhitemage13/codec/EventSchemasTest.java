@@ -0,0 +1,239 @@
+package org.thewhitemage13.codec;
+
+import org.junit.jupiter.api.Test;
+import org.thewhitemage13.BatchDeletedEvent;
+import org.thewhitemage13.CommentEvent;
+import org.thewhitemage13.LikeEvent;
+import org.thewhitemage13.MediaEvent;
+import org.thewhitemage13.PostEvent;
+import org.thewhitemage13.SubscriptionEvent;
+import org.thewhitemage13.UserEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSchemasTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 9, 14, 18, 30, 12, 345_678_000);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 9, 15, 7, 1, 2, 3_000);
+
+    private final BinaryCodec binaryCodec = EventSchemas.register(new BinaryCodec());
+
+    @Test
+    void roundTrip_ShouldPreservePostEvent() {
+        // given
+        PostEvent event = new PostEvent(1L, 2L, "Hello, мир", "https://cdn/1.png", CREATED_AT, UPDATED_AT);
+
+        // when
+        PostEvent decoded = (PostEvent) roundTrip(event, EventSchemas.POST_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveLikeEvent() {
+        // given
+        LikeEvent event = new LikeEvent(1L, 2L, 3L, 4L, CREATED_AT, 5L);
+
+        // when
+        LikeEvent decoded = (LikeEvent) roundTrip(event, EventSchemas.LIKE_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+        assertEquals(5L, decoded.getOwnerId());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveCommentEvent() {
+        // given
+        CommentEvent event = new CommentEvent(1L, 2L, 3L, "Nice post", CREATED_AT, UPDATED_AT, 4L);
+
+        // when
+        CommentEvent decoded = (CommentEvent) roundTrip(event, EventSchemas.COMMENT_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+        assertEquals(4L, decoded.getPostOwnerId());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveUserEvent() {
+        // given
+        UserEvent event = new UserEvent(1L, "white", "+998901234567", "UZ", "white@mage.org",
+                "Mukhammed", "Lolo", "", "https://cdn/avatar.png");
+
+        // when
+        UserEvent decoded = (UserEvent) roundTrip(event, EventSchemas.USER_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveMediaEvent() {
+        // given
+        MediaEvent event = new MediaEvent(1L, 2L, "https://cdn/1.mp4", "1.mp4", 12.75, "video/mp4", CREATED_AT);
+
+        // when
+        MediaEvent decoded = (MediaEvent) roundTrip(event, EventSchemas.MEDIA_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveSubscriptionEvent() {
+        // given
+        SubscriptionEvent event = new SubscriptionEvent(1L, 2L, 3L, CREATED_AT);
+
+        // when
+        SubscriptionEvent decoded = (SubscriptionEvent) roundTrip(event, EventSchemas.SUBSCRIPTION_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveBatchDeletedEvent() {
+        // given
+        BatchDeletedEvent event = new BatchDeletedEvent(1L, 3, List.of(10L, 11L, Long.MAX_VALUE), List.of(20L, 21L, 22L), 0.5, CREATED_AT);
+
+        // when
+        BatchDeletedEvent decoded = (BatchDeletedEvent) roundTrip(event, EventSchemas.BATCH_DELETED_EVENT);
+
+        // then
+        assertEquals(event.toString(), decoded.toString());
+        assertEquals(event.getIds(), decoded.getIds());
+        assertEquals(event.getParentIds(), decoded.getParentIds());
+    }
+
+    @Test
+    void roundTrip_ShouldKeepNullFieldsNull() {
+        // given
+        LikeEvent like = new LikeEvent(1L, 2L, null, 4L, null, null);
+        CommentEvent comment = new CommentEvent(1L, 2L, 3L, null, CREATED_AT, null, null);
+        BatchDeletedEvent batch = new BatchDeletedEvent(1L, null, null, null, null, null);
+
+        // when
+        LikeEvent decodedLike = (LikeEvent) binaryCodec.decode(binaryCodec.encode(like));
+        CommentEvent decodedComment = (CommentEvent) binaryCodec.decode(binaryCodec.encode(comment));
+        BatchDeletedEvent decodedBatch = (BatchDeletedEvent) binaryCodec.decode(binaryCodec.encode(batch));
+
+        // then
+        assertNull(decodedLike.getPostId());
+        assertNull(decodedLike.getCreatedAt());
+        assertNull(decodedLike.getOwnerId());
+        assertEquals(4L, decodedLike.getCommentId());
+        assertNull(decodedComment.getContent());
+        assertNull(decodedComment.getUpdatedAt());
+        assertNull(decodedComment.getPostOwnerId());
+        assertNull(decodedBatch.getChunk());
+        assertEquals(List.of(), decodedBatch.getIds());
+        assertNull(decodedBatch.getFileSize());
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveListOfEvents() {
+        // given
+        List<SubscriptionEvent> events = List.of(
+                new SubscriptionEvent(1L, 2L, 3L, CREATED_AT),
+                new SubscriptionEvent(4L, 5L, 6L, UPDATED_AT));
+
+        // when
+        Object decoded = binaryCodec.decode(binaryCodec.encode(events));
+
+        // then
+        List<?> list = assertInstanceOf(List.class, decoded);
+        assertEquals(2, list.size());
+        assertEquals(events.get(1).toString(), list.get(1).toString());
+    }
+
+    @Test
+    void decode_OldLikeReader_ShouldSkipOwnerId() {
+        // given
+        BinaryCodec oldCodec = new BinaryCodec().register(EventSchemas.LIKE_EVENT, LikeEvent.class,
+                Schema.of((event, writer) -> { }, EventSchemasTest::readLikeWithoutOwner));
+        LikeEvent event = new LikeEvent(1L, 2L, 3L, null, CREATED_AT, 5L);
+
+        // when
+        LikeEvent decoded = (LikeEvent) oldCodec.decode(binaryCodec.encode(event));
+
+        // then
+        assertEquals(1L, decoded.getLikeId());
+        assertEquals(3L, decoded.getPostId());
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+        assertNull(decoded.getOwnerId());
+    }
+
+    @Test
+    void decode_OldCommentReader_ShouldSkipPostOwnerId() {
+        // given
+        BinaryCodec oldCodec = new BinaryCodec().register(EventSchemas.COMMENT_EVENT, CommentEvent.class,
+                Schema.of((event, writer) -> { }, EventSchemasTest::readCommentWithoutPostOwner));
+        CommentEvent event = new CommentEvent(1L, 2L, 3L, "Nice post", CREATED_AT, UPDATED_AT, 4L);
+
+        // when
+        CommentEvent decoded = (CommentEvent) oldCodec.decode(binaryCodec.encode(event));
+
+        // then
+        assertEquals("Nice post", decoded.getContent());
+        assertEquals(UPDATED_AT, decoded.getUpdatedAt());
+        assertNull(decoded.getPostOwnerId());
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownTypeId() {
+        // given
+        byte[] bytes = new BinaryCodec().register(99, PostEvent.class, Schema.of((event, writer) -> { }, reader -> new PostEvent()))
+                .encode(new PostEvent());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> binaryCodec.decode(bytes));
+    }
+
+    private Object roundTrip(Object event, int typeId) {
+        byte[] bytes = binaryCodec.encode(event);
+        assertTrue(BinaryCodec.isEncoded(bytes));
+        assertEquals(typeId, bytes[1]);
+        return binaryCodec.decode(bytes);
+    }
+
+    /**
+     * The like reader as it was before field 6 ({@code ownerId}) was added.
+     */
+    private static LikeEvent readLikeWithoutOwner(BinaryReader reader) {
+        LikeEvent event = new LikeEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setLikeId(reader.readLong());
+                case 2 -> event.setUserId(reader.readLong());
+                case 3 -> event.setPostId(reader.readLong());
+                case 4 -> event.setCommentId(reader.readLong());
+                case 5 -> event.setCreatedAt(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * The comment reader as it was before field 7 ({@code postOwnerId}) was added.
+     */
+    private static CommentEvent readCommentWithoutPostOwner(BinaryReader reader) {
+        CommentEvent event = new CommentEvent();
+        for (int tag = reader.readTag(); tag != 0; tag = reader.readTag()) {
+            switch (BinaryReader.fieldNumber(tag)) {
+                case 1 -> event.setCommentId(reader.readLong());
+                case 2 -> event.setPostId(reader.readLong());
+                case 3 -> event.setUserId(reader.readLong());
+                case 4 -> event.setContent(reader.readString());
+                case 5 -> event.setCreatedAt(reader.readDateTime());
+                case 6 -> event.setUpdatedAt(reader.readDateTime());
+                default -> reader.skip(tag);
+            }
+        }
+        return event;
+    }
+}
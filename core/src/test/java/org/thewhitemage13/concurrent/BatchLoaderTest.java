@@ -0,0 +1,192 @@
+package org.thewhitemage13.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    private BatchLoader<Long, String> batchLoader;
+
+    @AfterEach
+    void tearDown() {
+        batchLoader.close();
+    }
+
+    @Test
+    void load_ShouldDispatchOnCaller_WhenBatchReachesMaxSize() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMinutes(10), 3, names());
+
+        // when
+        CompletableFuture<String> first = batchLoader.load(1L);
+        CompletableFuture<String> second = batchLoader.load(2L);
+        CompletableFuture<String> third = batchLoader.load(3L);
+
+        // then
+        assertEquals(List.of(List.of(1L, 2L, 3L)), batches);
+        assertEquals("user-1", first.getNow(null));
+        assertEquals("user-2", second.getNow(null));
+        assertEquals("user-3", third.getNow(null));
+    }
+
+    @Test
+    void load_ShouldStartNewBatch_AfterFullBatchIsDispatched() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMinutes(10), 2, names());
+
+        // when
+        batchLoader.load(1L);
+        batchLoader.load(2L);
+        batchLoader.load(3L);
+        batchLoader.load(4L);
+
+        // then
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L)), batches);
+    }
+
+    @Test
+    void load_ShouldDispatchPartialBatch_WhenWindowElapses() throws Exception {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMillis(200), 64, names());
+
+        // when
+        CompletableFuture<String> first = batchLoader.load(1L);
+        CompletableFuture<String> second = batchLoader.load(2L);
+        boolean doneBeforeWindow = first.isDone();
+
+        // then
+        assertFalse(doneBeforeWindow);
+        assertEquals("user-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("user-2", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1L, 2L)), batches);
+    }
+
+    @Test
+    void load_ShouldLoadDuplicateKeyOnce() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMinutes(10), 64, names());
+
+        // when
+        CompletableFuture<String> first = batchLoader.load(1L);
+        CompletableFuture<String> second = batchLoader.load(1L);
+        batchLoader.flush();
+
+        // then
+        assertSame(first, second);
+        assertEquals(List.of(List.of(1L)), batches);
+        assertEquals("user-1", first.join());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenKeyIsMissingFromBulkResult() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMillis(1), 64, ids -> {
+            batches.add(ids);
+            return Map.of(1L, "user-1");
+        });
+
+        // when
+        CompletableFuture<String> present = batchLoader.load(1L);
+        CompletableFuture<String> missing = batchLoader.load(2L);
+        batchLoader.flush();
+
+        // then
+        assertEquals("user-1", present.join());
+        assertNull(missing.join());
+        assertNull(batchLoader.get(3L));
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenBulkResultIsNull() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMillis(1), 64, ids -> null);
+
+        // when
+        String result = batchLoader.get(1L);
+
+        // then
+        assertNull(result);
+    }
+
+    @Test
+    void load_ShouldFailEveryKeyOfBatch_WhenBulkLoaderFails() {
+        // given
+        IllegalStateException failure = new IllegalStateException("user service unavailable");
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMinutes(10), 2, ids -> {
+            batches.add(ids);
+            throw failure;
+        });
+
+        // when
+        CompletableFuture<String> first = batchLoader.load(1L);
+        CompletableFuture<String> second = batchLoader.load(2L);
+
+        // then
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void get_ShouldRethrowBulkLoaderFailure() {
+        // given
+        IllegalStateException failure = new IllegalStateException("user service unavailable");
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMillis(1), 64, ids -> {
+            throw failure;
+        });
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> batchLoader.get(1L));
+
+        // then
+        assertSame(failure, exception);
+    }
+
+    @Test
+    void get_ShouldWrapErrorOfBulkLoader() {
+        // given
+        AssertionError error = new AssertionError("broken loader");
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMillis(1), 64, ids -> {
+            throw error;
+        });
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> batchLoader.get(1L));
+
+        // then
+        assertSame(error, exception.getCause());
+    }
+
+    @Test
+    void close_ShouldDispatchPendingBatch() {
+        // given
+        batchLoader = BatchLoader.windowed("test", 1, Duration.ofMinutes(10), 64, names());
+        CompletableFuture<String> pending = batchLoader.load(1L);
+
+        // when
+        batchLoader.close();
+
+        // then
+        assertEquals("user-1", pending.getNow(null));
+        assertEquals(List.of(List.of(1L)), batches);
+    }
+
+    private Function<List<Long>, Map<Long, String>> names() {
+        return ids -> {
+            batches.add(ids);
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "user-" + id));
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package org.thewhitemage13.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScatterGatherTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ScatterGather scatterGather = ScatterGather.bounded("test", 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scatterGather.close();
+    }
+
+    @Test
+    void fork_ShouldReturnResult() {
+        // when
+        CompletableFuture<Long> result = scatterGather.fork(() -> 42L, 0L);
+        scatterGather.await(result);
+
+        // then
+        assertEquals(42L, result.join());
+    }
+
+    @Test
+    void fork_ShouldFallBack_WhenBranchFails() {
+        // when
+        CompletableFuture<Long> result = scatterGather.fork(() -> {
+            throw new IllegalStateException("downstream unavailable");
+        }, -1L);
+        scatterGather.await(result);
+
+        // then
+        assertEquals(-1L, result.join());
+    }
+
+    @Test
+    void fork_ShouldFallBackWithoutRunningOnCaller_WhenPoolIsSaturated() {
+        // given
+        Thread caller = Thread.currentThread();
+        scatterGather.fork(this::block, 0L);
+        scatterGather.fork(this::block, 0L);
+
+        // when
+        CompletableFuture<Thread> rejected = scatterGather.fork(Thread::currentThread, null);
+
+        // then
+        assertTrue(rejected.isDone());
+        assertNull(rejected.join());
+        assertNotSame(caller, rejected.join());
+    }
+
+    @Test
+    void fork_ShouldFallBack_WhenBranchTimesOut() {
+        // given
+        ScatterGather fast = ScatterGather.bounded("fast", 1, 1, Duration.ofMillis(50));
+
+        // when
+        CompletableFuture<Long> result = fast.fork(this::block, -1L);
+        fast.await(result);
+
+        // then
+        assertEquals(-1L, result.join());
+        release.countDown();
+        fast.close();
+    }
+
+    private Long block() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 1L;
+    }
+}
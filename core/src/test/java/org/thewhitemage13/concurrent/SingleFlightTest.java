@@ -0,0 +1,172 @@
+package org.thewhitemage13.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int WAITERS = 4;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldRunLookupOnce_ForConcurrentCallersWithEqualKey() throws Exception {
+        // given
+        CompletableFuture<Long> owner = call(List.of("users", 1L), () -> block(42L));
+        started.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<Long>> waiters = callWaiters(List.of("users", 1L), () -> block(-1L));
+
+        // when
+        release.countDown();
+
+        // then
+        assertEquals(42L, owner.get(5, TimeUnit.SECONDS));
+        for (CompletableFuture<Long> waiter : waiters) {
+            assertEquals(42L, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(WAITERS + 1, singleFlight.getCallCount());
+        assertEquals(1, singleFlight.getExecutionCount());
+        assertEquals(WAITERS, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_ShouldRunLookupForEachKey_WhenKeysDiffer() {
+        // when
+        singleFlight.execute(List.of("users", 1L), () -> executions.incrementAndGet());
+        singleFlight.execute(List.of("users", 2L), () -> executions.incrementAndGet());
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_ShouldRethrowFailureToEveryWaiter() throws Exception {
+        // given
+        IllegalStateException failure = new IllegalStateException("user service unavailable");
+        CompletableFuture<Long> owner = call("users", () -> {
+            block(0L);
+            throw failure;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<Long>> waiters = callWaiters("users", () -> block(-1L));
+
+        // when
+        release.countDown();
+
+        // then
+        assertSame(failure, failureOf(owner));
+        for (CompletableFuture<Long> waiter : waiters) {
+            assertSame(failure, failureOf(waiter));
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_ShouldWrapErrorForWaiters() throws Exception {
+        // given
+        AssertionError error = new AssertionError("broken lookup");
+        CompletableFuture<Long> owner = call("users", () -> {
+            block(0L);
+            throw error;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<Long>> waiters = callWaiters("users", () -> block(-1L));
+
+        // when
+        release.countDown();
+
+        // then
+        assertSame(error, failureOf(owner));
+        for (CompletableFuture<Long> waiter : waiters) {
+            Throwable failure = failureOf(waiter);
+            assertInstanceOf(IllegalStateException.class, failure);
+            assertSame(error, failure.getCause());
+        }
+    }
+
+    @Test
+    void execute_ShouldForgetKey_WhenLookupCompletes() {
+        // given
+        singleFlight.execute("users", () -> executions.incrementAndGet());
+
+        // when
+        int result = singleFlight.execute("users", () -> executions.incrementAndGet());
+
+        // then
+        assertEquals(2, result);
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_ShouldForgetKey_WhenLookupFails() {
+        // given
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("users", () -> {
+            throw new IllegalStateException("user service unavailable");
+        }));
+
+        // when
+        int result = singleFlight.execute("users", () -> executions.incrementAndGet());
+
+        // then
+        assertEquals(1, result);
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    private <T> CompletableFuture<T> call(Object key, Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(() -> singleFlight.execute(key, lookup), callers);
+    }
+
+    private <T> List<CompletableFuture<T>> callWaiters(Object key, Supplier<T> lookup) throws InterruptedException {
+        List<CompletableFuture<T>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(call(key, lookup));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < WAITERS && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(WAITERS, singleFlight.getCoalescedCount());
+        return waiters;
+    }
+
+    private Long block(Long result) {
+        executions.incrementAndGet();
+        started.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        return exception.getCause();
+    }
+}
@@ -0,0 +1,80 @@
+package org.thewhitemage13.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void mightContain_ShouldReportEveryAddedKey() {
+        // given
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // when
+        for (long id = 1; id <= INSERTIONS; id++) {
+            filter.add(id);
+        }
+
+        // then
+        for (long id = 1; id <= INSERTIONS; id++) {
+            assertTrue(filter.mightContain(id), "id " + id);
+        }
+    }
+
+    @Test
+    void mightContain_ShouldStayWithinConfiguredFalsePositiveRate_WhenFilterIsFull() {
+        // given
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (long id = 1; id <= INSERTIONS; id++) {
+            filter.add(id);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long id = INSERTIONS + 1; id <= 3L * INSERTIONS; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double rate = (double) falsePositives / (2 * INSERTIONS);
+        assertTrue(rate <= FALSE_POSITIVE_RATE * 1.2, "measured false positive rate " + rate);
+    }
+
+    @Test
+    void constructor_ShouldRestoreFilter_FromItsWords() {
+        // given
+        BloomFilter filter = BloomFilter.create(1024, FALSE_POSITIVE_RATE);
+        for (long id = 2; id <= 2048; id += 2) {
+            filter.add(id);
+        }
+
+        // when
+        BloomFilter restored = new BloomFilter(filter.toWords(), filter.getNumHashes());
+
+        // then
+        assertEquals(filter.getNumHashes(), restored.getNumHashes());
+        assertArrayEquals(filter.toWords(), restored.toWords());
+        for (long id = 1; id <= 4096; id++) {
+            assertEquals(filter.mightContain(id), restored.mightContain(id), "id " + id);
+        }
+    }
+
+    @Test
+    void create_ShouldReject_WhenFalsePositiveRateIsOutOfRange() {
+        // then
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(INSERTIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(INSERTIONS, 1));
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenFilterHasNoBitsOrHashes() {
+        // then
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(new long[0], 3));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(new long[16], 0));
+    }
+}
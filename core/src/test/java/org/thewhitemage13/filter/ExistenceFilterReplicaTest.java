@@ -0,0 +1,114 @@
+package org.thewhitemage13.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExistenceFilterReplicaTest {
+    private static final long MAX_ID = 10_000;
+    private static final long SAFETY_MARGIN = 1_000;
+
+    private ExistenceFilterSnapshot snapshot = evenIdsUpTo(MAX_ID);
+    private Runnable duringFetch = () -> {
+    };
+    private final ExistenceFilterReplica replica = new ExistenceFilterReplica("users", () -> {
+        duringFetch.run();
+        return snapshot;
+    }, SAFETY_MARGIN);
+
+    @Test
+    void mightExist_ShouldAnswerMaybe_BeforeFirstSnapshot() {
+        // then
+        assertTrue(replica.mightExist(1L));
+        assertTrue(replica.mightExist(MAX_ID + 1));
+    }
+
+    @Test
+    void mightExist_ShouldAnswerAbsent_ForMissingIdBelowSafetyMargin() {
+        // when
+        replica.refresh();
+
+        // then
+        assertFalse(replica.mightExist(MAX_ID - SAFETY_MARGIN - 1));
+        assertTrue(replica.mightExist(MAX_ID - SAFETY_MARGIN - 2));
+    }
+
+    @Test
+    void mightExist_ShouldAnswerMaybe_ForMissingIdWithinSafetyMargin() {
+        // when
+        replica.refresh();
+
+        // then
+        assertTrue(replica.mightExist(MAX_ID - SAFETY_MARGIN + 1));
+        assertTrue(replica.mightExist(MAX_ID - 1));
+    }
+
+    @Test
+    void mightExist_ShouldAnswerMaybe_ForIdAboveHighestId() {
+        // given
+        ExistenceFilterReplica withoutMargin = new ExistenceFilterReplica("users", () -> snapshot, 0);
+
+        // when
+        withoutMargin.refresh();
+
+        // then
+        assertFalse(withoutMargin.mightExist(MAX_ID - 1));
+        assertTrue(withoutMargin.mightExist(MAX_ID));
+        assertTrue(withoutMargin.mightExist(MAX_ID + 1));
+    }
+
+    @Test
+    void add_ShouldMakeIdKnown_WhenAddedAfterSnapshot() {
+        // given
+        replica.refresh();
+
+        // when
+        replica.add(3L);
+
+        // then
+        assertTrue(replica.mightExist(3L));
+    }
+
+    @Test
+    void refresh_ShouldKeepIdsAdded_WhileSnapshotIsFetched() {
+        // given
+        duringFetch = () -> replica.add(3L);
+
+        // when
+        replica.refresh();
+
+        // then
+        assertTrue(replica.mightExist(3L));
+        assertFalse(replica.mightExist(5L));
+    }
+
+    @Test
+    void refresh_ShouldKeepCurrentFilter_WhenFetchFails() {
+        // given
+        replica.refresh();
+        duringFetch = () -> {
+            throw new IllegalStateException("user service unavailable");
+        };
+
+        // when
+        replica.refresh();
+
+        // then
+        assertFalse(replica.mightExist(5L));
+        assertTrue(replica.mightExist(4L));
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenSafetyMarginIsNegative() {
+        // then
+        assertThrows(IllegalArgumentException.class, () -> new ExistenceFilterReplica("users", () -> snapshot, -1));
+    }
+
+    private static ExistenceFilterSnapshot evenIdsUpTo(long maxId) {
+        BloomFilter filter = BloomFilter.create(maxId, 0.0001);
+        LongStream.rangeClosed(1, maxId / 2).map(i -> i * 2).forEach(filter::add);
+        return new ExistenceFilterSnapshot(maxId, filter);
+    }
+}
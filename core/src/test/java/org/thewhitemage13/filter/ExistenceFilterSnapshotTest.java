@@ -0,0 +1,85 @@
+package org.thewhitemage13.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExistenceFilterSnapshotTest {
+
+    @Test
+    void scan_ShouldCoverEveryPage_AndRecordHighestId() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 2500).map(i -> i * 3).boxed().toList();
+
+        // when
+        ExistenceFilterSnapshot snapshot = ExistenceFilterSnapshot.scan(ids.size(), 0.01, page(ids, 1000));
+
+        // then
+        assertEquals(7500L, snapshot.getMaxId());
+        BloomFilter filter = snapshot.toFilter();
+        ids.forEach(id -> assertTrue(filter.mightContain(id), "id " + id));
+    }
+
+    @Test
+    void scan_ShouldReturnEmptySnapshot_WhenOwnerHoldsNoIds() {
+        // when
+        ExistenceFilterSnapshot snapshot = ExistenceFilterSnapshot.scan(0, 0.01, lastId -> List.of());
+
+        // then
+        assertEquals(0L, snapshot.getMaxId());
+        assertFalse(snapshot.toFilter().mightContain(1L));
+    }
+
+    @Test
+    void toFilter_ShouldRestoreFilter_AfterCopyThroughAccessors() {
+        // given
+        BloomFilter filter = BloomFilter.create(1024, 0.01);
+        LongStream.rangeClosed(1, 500).forEach(filter::add);
+        ExistenceFilterSnapshot snapshot = new ExistenceFilterSnapshot(500L, filter);
+
+        // when
+        ExistenceFilterSnapshot copy = new ExistenceFilterSnapshot();
+        copy.setMaxId(snapshot.getMaxId());
+        copy.setNumHashes(snapshot.getNumHashes());
+        copy.setBits(snapshot.getBits().clone());
+
+        // then
+        assertEquals(500L, copy.getMaxId());
+        assertEquals(filter.getNumHashes(), copy.toFilter().getNumHashes());
+        assertArrayEquals(filter.toWords(), copy.toFilter().toWords());
+    }
+
+    @Test
+    void toFilter_ShouldRestoreFilter_AfterJavaSerialization() throws Exception {
+        // given
+        BloomFilter filter = BloomFilter.create(1024, 0.01);
+        LongStream.rangeClosed(1, 500).forEach(filter::add);
+        ExistenceFilterSnapshot snapshot = new ExistenceFilterSnapshot(500L, filter);
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(snapshot);
+        }
+        ExistenceFilterSnapshot copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ExistenceFilterSnapshot) in.readObject();
+        }
+
+        // then
+        assertEquals(500L, copy.getMaxId());
+        assertArrayEquals(filter.toWords(), copy.toFilter().toWords());
+    }
+
+    private static Function<Long, List<Long>> page(List<Long> ids, int size) {
+        return lastId -> ids.stream().filter(id -> id > lastId).limit(size).toList();
+    }
+}
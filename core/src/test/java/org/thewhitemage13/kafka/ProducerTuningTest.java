@@ -0,0 +1,67 @@
+package org.thewhitemage13.kafka;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProducerTuningTest {
+
+    @Test
+    void throughputProfile_ShouldUseDefaults_WhenNothingIsConfigured() {
+        // when
+        Map<String, Object> config = ProducerTuning.throughputProfile(name -> null);
+
+        // then
+        assertEquals(Map.of(
+                ProducerTuning.LINGER_MS, ProducerTuning.DEFAULT_LINGER_MS,
+                ProducerTuning.BATCH_SIZE, ProducerTuning.DEFAULT_BATCH_SIZE,
+                ProducerTuning.COMPRESSION_TYPE, ProducerTuning.DEFAULT_COMPRESSION_TYPE), config);
+    }
+
+    @Test
+    void throughputProfile_ShouldApplyConfiguredValues() {
+        // given
+        Map<String, String> properties = Map.of(
+                "spring.kafka.producer.properties.linger.ms", " 25 ",
+                "spring.kafka.producer.properties.batch.size", "131072",
+                "spring.kafka.producer.properties.compression.type", "zstd");
+
+        // when
+        Map<String, Object> config = ProducerTuning.throughputProfile(properties::get);
+
+        // then
+        assertEquals(25, config.get(ProducerTuning.LINGER_MS));
+        assertEquals(131072, config.get(ProducerTuning.BATCH_SIZE));
+        assertEquals("zstd", config.get(ProducerTuning.COMPRESSION_TYPE));
+    }
+
+    @Test
+    void throughputProfile_ShouldUseDefaults_WhenValuesAreBlank() {
+        // given
+        Map<String, String> properties = Map.of(
+                "spring.kafka.producer.properties.linger.ms", "",
+                "spring.kafka.producer.properties.compression.type", "  ");
+
+        // when
+        Map<String, Object> config = ProducerTuning.throughputProfile(properties::get);
+
+        // then
+        assertEquals(ProducerTuning.DEFAULT_LINGER_MS, config.get(ProducerTuning.LINGER_MS));
+        assertEquals(ProducerTuning.DEFAULT_COMPRESSION_TYPE, config.get(ProducerTuning.COMPRESSION_TYPE));
+    }
+
+    @Test
+    void throughputProfile_ShouldRejectInvalidNumber() {
+        // given
+        Map<String, String> properties = Map.of("spring.kafka.producer.properties.batch.size", "64k");
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ProducerTuning.throughputProfile(properties::get));
+
+        // then
+        assertEquals("Invalid value for spring.kafka.producer.properties.batch.size: 64k", exception.getMessage());
+    }
+}
@@ -0,0 +1,90 @@
+package org.thewhitemage13.kafka;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendMetricsTest {
+    private final SendMetrics sendMetrics = new SendMetrics();
+
+    @Test
+    void recordSuccess_ShouldReportLatencyInMillis() {
+        // when
+        sendMetrics.recordSuccess(TimeUnit.MILLISECONDS.toNanos(2));
+        sendMetrics.recordSuccess(TimeUnit.MICROSECONDS.toNanos(7_500));
+
+        // then
+        assertEquals(2, sendMetrics.getSentCount());
+        assertEquals(4.75, sendMetrics.getAverageLatencyMillis(), 1e-9);
+        assertEquals(7, sendMetrics.getMaxLatencyMillis());
+    }
+
+    @Test
+    void recordSuccess_ShouldKeepSubMillisecondLatency() {
+        // when
+        sendMetrics.recordSuccess(TimeUnit.MICROSECONDS.toNanos(250));
+        sendMetrics.recordSuccess(TimeUnit.MICROSECONDS.toNanos(750));
+
+        // then
+        assertEquals(0.5, sendMetrics.getAverageLatencyMillis(), 1e-9);
+        assertEquals(0, sendMetrics.getMaxLatencyMillis());
+    }
+
+    @Test
+    void recordSuccess_ShouldClampNegativeLatency() {
+        // when
+        sendMetrics.recordSuccess(-TimeUnit.MILLISECONDS.toNanos(5));
+
+        // then
+        assertEquals(1, sendMetrics.getSentCount());
+        assertEquals(0.0, sendMetrics.getAverageLatencyMillis());
+        assertEquals(0, sendMetrics.getMaxLatencyMillis());
+    }
+
+    @Test
+    void getAverageLatencyMillis_ShouldBeZero_WhenNothingWasSent() {
+        // when & then
+        assertEquals(0.0, sendMetrics.getAverageLatencyMillis());
+        assertEquals(0, sendMetrics.getMaxLatencyMillis());
+    }
+
+    @Test
+    void recordFailure_ShouldCountPerTopic() {
+        // when
+        sendMetrics.recordFailure("post.deleted");
+        sendMetrics.recordFailure("post.created");
+        sendMetrics.recordFailure("post.deleted");
+
+        // then
+        assertEquals(3, sendMetrics.getFailedCount());
+        assertEquals(0, sendMetrics.getSentCount());
+        assertEquals(Map.of("post.created", 1L, "post.deleted", 2L), sendMetrics.getFailedCountByTopic());
+    }
+
+    @Test
+    void registered_ShouldReplacePublishedInstance() throws Exception {
+        // given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.thewhitemage13:type=KafkaSendMetrics,service=" + ObjectName.quote("send-metrics-test"));
+        SendMetrics.registered("send-metrics-test").recordFailure("post.created");
+
+        // when
+        SendMetrics replacement = SendMetrics.registered("send-metrics-test");
+        replacement.recordSuccess(TimeUnit.MILLISECONDS.toNanos(3));
+
+        // then
+        try {
+            assertEquals(1L, server.getAttribute(name, "SentCount"));
+            assertEquals(0L, server.getAttribute(name, "FailedCount"));
+            assertEquals(3L, server.getAttribute(name, "MaxLatencyMillis"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.thewhitemage13.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxBatchRelayTest {
+    private final OutboxBatchRelay outboxBatchRelay = new OutboxBatchRelay(Duration.ofSeconds(5), 3);
+    private final List<Long> sent = new ArrayList<>();
+
+    @Test
+    void relay_ShouldSendEventsOfAKeyInOrder() {
+        // given
+        List<Row> batch = List.of(new Row(1L, 7L, 0), new Row(2L, 8L, 0), new Row(3L, 7L, 0), new Row(4L, 7L, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, Row::getId, acknowledgeAll());
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L), sent);
+        assertEquals(batch, result.acknowledged());
+        assertTrue(result.retried().isEmpty());
+        assertTrue(result.deadLettered().isEmpty());
+    }
+
+    @Test
+    void relay_ShouldNotSendLaterEventsOfAKey_WhenSendFails() {
+        // given
+        List<Row> batch = List.of(new Row(1L, 7L, 0), new Row(2L, 8L, 0), new Row(3L, 7L, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, Row::getId, failing(Map.of(1L, new IllegalStateException("too large"))));
+
+        // then
+        assertEquals(List.of(1L, 2L), sent);
+        assertEquals(List.of(batch.get(1)), result.acknowledged());
+        assertEquals(List.of(batch.get(0)), result.retried());
+    }
+
+    @Test
+    void relay_ShouldNotSendLaterEventsOfAKey_WhenPayloadIsUnreadable() {
+        // given
+        List<Row> batch = List.of(new Row(1L, 7L, 0), new Row(2L, 7L, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, row -> {
+            throw new ClassNotFoundException("org.thewhitemage13.RemovedEvent");
+        }, acknowledgeAll());
+
+        // then
+        assertTrue(sent.isEmpty());
+        assertTrue(result.acknowledged().isEmpty());
+        assertEquals(List.of(batch.get(0)), result.retried());
+    }
+
+    @Test
+    void relay_ShouldDeadLetterSendFailure_WhenAttemptsAreExhausted() {
+        // given
+        List<Row> batch = List.of(new Row(1L, 7L, 2), new Row(2L, 7L, 0));
+        IllegalStateException error = new IllegalStateException("too large");
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, Row::getId, failing(Map.of(1L, error)));
+
+        // then
+        assertEquals(List.of(1L), sent);
+        assertTrue(result.retried().isEmpty());
+        assertEquals(1, result.deadLettered().size());
+        assertSame(batch.get(0), result.deadLettered().get(0).row());
+        assertEquals(3, result.deadLettered().get(0).attempts());
+        assertSame(error, result.deadLettered().get(0).error());
+    }
+
+    @Test
+    void relay_ShouldCountSynchronousSendFailure() {
+        // given
+        List<Row> batch = List.of(new Row(1L, 7L, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, Row::getId, (row, event) -> {
+            throw new IllegalArgumentException("cannot serialize");
+        });
+
+        // then
+        assertEquals(List.of(batch.get(0)), result.retried());
+    }
+
+    @Test
+    void relay_ShouldNotCountAttempt_WhenAcknowledgementTimesOut() {
+        // given
+        OutboxBatchRelay fast = new OutboxBatchRelay(Duration.ofMillis(50), 1);
+        List<Row> batch = List.of(new Row(1L, 7L, 0), new Row(2L, 7L, 0), new Row(3L, 8L, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = fast.relay(batch, Row::getId, (row, event) -> {
+            sent.add(row.getId());
+            return row.getId() == 1L ? new CompletableFuture<>() : CompletableFuture.completedFuture(null);
+        });
+
+        // then
+        assertEquals(List.of(1L, 3L), sent);
+        assertEquals(List.of(batch.get(2)), result.acknowledged());
+        assertTrue(result.retried().isEmpty());
+        assertTrue(result.deadLettered().isEmpty());
+    }
+
+    @Test
+    void relay_ShouldSendEventsWithoutKeyIndependently() {
+        // given
+        List<Row> batch = List.of(new Row(1L, null, 0), new Row(2L, null, 0));
+
+        // when
+        OutboxBatchRelay.Result<Row> result = outboxBatchRelay.relay(batch, Row::getId, failing(Map.of(1L, new IllegalStateException("rejected"))));
+
+        // then
+        assertEquals(List.of(1L, 2L), sent);
+        assertEquals(List.of(batch.get(1)), result.acknowledged());
+        assertEquals(List.of(batch.get(0)), result.retried());
+    }
+
+    private OutboxBatchRelay.Sender<Row> acknowledgeAll() {
+        return failing(Map.of());
+    }
+
+    private OutboxBatchRelay.Sender<Row> failing(Map<Long, Exception> failures) {
+        return (row, event) -> {
+            sent.add(row.getId());
+            Exception failure = failures.get(row.getId());
+            return failure == null ? CompletableFuture.completedFuture(null) : CompletableFuture.failedFuture(failure);
+        };
+    }
+
+    private record Row(Long id, Long aggregateKey, int attempts) implements OutboxRecord {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTopic() {
+            return "post.created";
+        }
+
+        @Override
+        public Long getAggregateKey() {
+            return aggregateKey;
+        }
+
+        @Override
+        public int getAttempts() {
+            return attempts;
+        }
+    }
+}
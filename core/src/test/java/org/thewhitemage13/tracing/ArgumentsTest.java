@@ -0,0 +1,64 @@
+package org.thewhitemage13.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArgumentsTest {
+
+    @Test
+    void render_ShouldRenderEmptyArguments() {
+        // when & then
+        assertEquals("[]", Arguments.render(null));
+        assertEquals("[]", Arguments.render(new Object[0]));
+    }
+
+    @Test
+    void render_ShouldRenderContainersBySize() {
+        // given
+        Object[] args = {List.of(1, 2, 3), Map.of("a", 1), new long[4], null, 7L};
+
+        // when
+        String rendered = Arguments.render(args);
+
+        // then
+        assertTrue(rendered.startsWith("["));
+        assertTrue(rendered.contains("[size=3]"));
+        assertTrue(rendered.contains("[size=1]"));
+        assertTrue(rendered.contains("long[length=4]"));
+        assertTrue(rendered.endsWith(", null, 7]"));
+    }
+
+    @Test
+    void render_ShouldTruncateLongValues() {
+        // given
+        String value = "x".repeat(500);
+
+        // when
+        String rendered = Arguments.render(new Object[]{value});
+
+        // then
+        assertEquals("[" + "x".repeat(120) + "...]", rendered);
+    }
+
+    @Test
+    void lazy_ShouldNotRenderUntilToString() {
+        // given
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("rendered eagerly");
+            }
+        };
+
+        // when
+        Object lazy = Arguments.lazy(new Object[]{argument});
+
+        // then
+        assertNotNull(lazy);
+        assertThrows(AssertionError.class, lazy::toString);
+    }
+}
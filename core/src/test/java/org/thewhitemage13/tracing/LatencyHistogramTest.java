@@ -0,0 +1,66 @@
+package org.thewhitemage13.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void percentileMicros_ShouldBeZero_WhenEmpty() {
+        // when & then
+        assertEquals(0L, histogram.count());
+        assertEquals(0L, histogram.percentileMicros(50));
+        assertEquals(0L, histogram.percentileMicros(99));
+    }
+
+    @Test
+    void percentileMicros_ShouldReturnUpperBoundOfBucket() {
+        // given
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10_000L);
+        }
+        histogram.record(5_000_000L);
+
+        // when & then
+        assertEquals(100L, histogram.count());
+        assertEquals(16L, histogram.percentileMicros(50));
+        assertEquals(16L, histogram.percentileMicros(99));
+        assertEquals(8_192L, histogram.percentileMicros(100));
+    }
+
+    @Test
+    void percentileMicros_ShouldReportMaximum_ForCallsBeyondLastBucket() {
+        // given
+        histogram.record(1_000L);
+        histogram.record(1_000_000_000_000L);
+
+        // when & then
+        assertEquals(2L, histogram.percentileMicros(50));
+        assertEquals(1_000_000_000L, histogram.percentileMicros(100));
+    }
+
+    @Test
+    void record_ShouldCountNegativeDurationsAsZero() {
+        // when
+        histogram.record(-5L);
+
+        // then
+        assertEquals(1L, histogram.count());
+        assertEquals(1L, histogram.percentileMicros(100));
+    }
+
+    @Test
+    void summary_ShouldContainCountMeanPercentilesAndMax() {
+        // given
+        histogram.record(2_000L);
+        histogram.record(4_000L);
+
+        // when
+        String summary = histogram.summary();
+
+        // then
+        assertEquals("count=2 mean=3us p50<=4us p99<=8us max=4us", summary);
+    }
+}
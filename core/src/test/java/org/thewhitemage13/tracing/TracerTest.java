@@ -0,0 +1,121 @@
+package org.thewhitemage13.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracerTest {
+
+    @Test
+    void sample_ShouldNeverSample_WhenRateIsZero() {
+        // given
+        Tracer tracer = new Tracer(true, 0.0);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(tracer.sample());
+        }
+    }
+
+    @Test
+    void sample_ShouldAlwaysSample_WhenRateIsOne() {
+        // given
+        Tracer tracer = new Tracer(true, 1.0);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(tracer.sample());
+        }
+    }
+
+    @Test
+    void sample_ShouldSampleRoughlyTheConfiguredFraction() {
+        // given
+        Tracer tracer = new Tracer(true, 0.25);
+        int calls = 200_000;
+
+        // when
+        int sampled = 0;
+        for (int i = 0; i < calls; i++) {
+            if (tracer.sample()) {
+                sampled++;
+            }
+        }
+
+        // then
+        assertEquals(0.25, sampled / (double) calls, 0.01);
+    }
+
+    @Test
+    void setSampleRate_ShouldClampToUnitInterval() {
+        // given
+        Tracer tracer = new Tracer(true, 2.0);
+
+        // when & then
+        assertEquals(1.0, tracer.getSampleRate());
+        tracer.setSampleRate(-1.0);
+        assertEquals(0.0, tracer.getSampleRate());
+        tracer.setSampleRate(Double.NaN);
+        assertEquals(0.0, tracer.getSampleRate());
+    }
+
+    @Test
+    void method_ShouldResolveNameAndHistogramOnce() throws NoSuchMethodException {
+        // given
+        Tracer tracer = new Tracer(true, 0.0);
+        Method method = TracedTarget.class.getDeclaredMethod("find", Long.class);
+
+        // when
+        Tracer.TracedMethod first = tracer.method(method);
+        Tracer.TracedMethod second = tracer.method(TracedTarget.class.getDeclaredMethod("find", Long.class));
+
+        // then
+        assertSame(first, second);
+        assertEquals("TracedTarget.find(..)", first.name());
+    }
+
+    @Test
+    void method_ShouldShareHistogramBetweenOverloadsAndNamedRecords() throws NoSuchMethodException {
+        // given
+        Tracer tracer = new Tracer(true, 0.0);
+        Tracer.TracedMethod single = tracer.method(TracedTarget.class.getDeclaredMethod("find", Long.class));
+        Tracer.TracedMethod paged = tracer.method(TracedTarget.class.getDeclaredMethod("find", Long.class, int.class));
+
+        // when
+        single.histogram().record(1_000L);
+        paged.histogram().record(1_000L);
+        tracer.record("TracedTarget.find(..)", 1_000L);
+
+        // then
+        assertSame(single.histogram(), paged.histogram());
+        assertTrue(tracer.getLatencySummaries().get("TracedTarget.find(..)").startsWith("count=3 "));
+    }
+
+    @Test
+    void reset_ShouldDropHistograms() throws NoSuchMethodException {
+        // given
+        Tracer tracer = new Tracer(true, 0.0);
+        Method method = TracedTarget.class.getDeclaredMethod("find", Long.class);
+        tracer.method(method).histogram().record(1_000L);
+
+        // when
+        tracer.reset();
+
+        // then
+        assertTrue(tracer.getLatencySummaries().isEmpty());
+        assertEquals(0L, tracer.method(method).histogram().count());
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TracedTarget {
+        Object find(Long id) {
+            return id;
+        }
+
+        Object find(Long id, int page) {
+            return id;
+        }
+    }
+}